@@ -0,0 +1,95 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.num.LongMath;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overflow-checked sums and element-wise additions of {@code long[]}: {@link LongMath} against a
+ * {@link Math#addExact(long, long)} loop and an unchecked loop, the lower bound.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArithmeticBenchmark {
+	@Param({"1024", "65536"})
+	private int size;
+
+	private long[] a;
+	private long[] b;
+	private long[] out;
+
+	@Setup
+	public void setup() {
+		var random = new Random(42);
+		a = new long[size];
+		b = new long[size];
+		out = new long[size];
+		for (int i = 0; i < size; i++) {
+			a[i] = random.nextInt();
+			b[i] = random.nextInt();
+		}
+	}
+
+	@Benchmark
+	public long sum_unchecked() {
+		long s = 0;
+		for (long v : a) {
+			s += v;
+		}
+		return s;
+	}
+
+	@Benchmark
+	public long sum_addExact() {
+		long s = 0;
+		try {
+			for (long v : a) {
+				s = Math.addExact(s, v);
+			}
+		}
+		catch (ArithmeticException e) {
+			return -1;
+		}
+		return s;
+	}
+
+	@Benchmark
+	public LongResult<?> sum_checked() {
+		return LongMath.checkedSum(a);
+	}
+
+	@Benchmark
+	public long[] add_addExact() {
+		try {
+			for (int i = 0; i < size; i++) {
+				out[i] = Math.addExact(a[i], b[i]);
+			}
+		}
+		catch (ArithmeticException e) {
+			return null;
+		}
+		return out;
+	}
+
+	@Benchmark
+	public Object add_checked() {
+		return LongMath.checkedAdd(a, b, out);
+	}
+}
@@ -0,0 +1,63 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.util.Box;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Box} used as an out-parameter, against a one element array and a plain return value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoxBenchmark {
+	private int input = 17;
+	private Box<Integer> shared = Box.empty();
+
+	private static boolean squareInto(int x, Box<Integer> out) {
+		out.value = x * x;
+		return true;
+	}
+
+	private static boolean squareInto(int x, int[] out) {
+		out[0] = x * x;
+		return true;
+	}
+
+	@Benchmark
+	public Integer box_fresh() {
+		Box<Integer> out = Box.empty();
+		squareInto(input, out);
+		return out.value;
+	}
+
+	@Benchmark
+	public Integer box_reused() {
+		squareInto(input, shared);
+		return shared.value;
+	}
+
+	@Benchmark
+	public int array_fresh() {
+		var out = new int[1];
+		squareInto(input, out);
+		return out[0];
+	}
+
+	@Benchmark
+	public int plain_return() {
+		return input * input;
+	}
+}
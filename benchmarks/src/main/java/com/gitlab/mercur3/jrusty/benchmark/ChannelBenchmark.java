@@ -0,0 +1,150 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.channel.Channel;
+import com.gitlab.mercur3.jrusty.channel.Receiver;
+import com.gitlab.mercur3.jrusty.channel.Sender;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of one producer and one consumer thread passing values through a channel, against
+ * {@link ArrayBlockingQueue}. Both sides use the non-waiting operations, so a benchmark iteration
+ * can always end; {@code sent} and {@code received} count only the successful ones and are the
+ * numbers to compare.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChannelBenchmark {
+	private static final Integer VALUE = 42;
+
+	@State(Scope.Group)
+	public static class Channels {
+		@Param({"1024"})
+		public int capacity;
+
+		public ArrayBlockingQueue<Integer> queue;
+		public Sender<Integer> spscTx;
+		public Receiver<Integer> spscRx;
+		public Sender<Integer> mpscTx;
+		public Receiver<Integer> mpscRx;
+		public Sender<Integer> boundedTx;
+		public Receiver<Integer> boundedRx;
+
+		@Setup(Level.Iteration)
+		public void setup() {
+			queue = new ArrayBlockingQueue<>(capacity);
+			var spsc = Channel.<Integer>spsc(capacity);
+			spscTx = spsc._1();
+			spscRx = spsc._2();
+			var mpsc = Channel.<Integer>mpsc(capacity);
+			mpscTx = mpsc._1();
+			mpscRx = mpsc._2();
+			var bounded = Channel.<Integer>bounded(capacity);
+			boundedTx = bounded._1();
+			boundedRx = bounded._2();
+		}
+	}
+
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Sent {
+		public long sent;
+	}
+
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	@State(Scope.Thread)
+	public static class Received {
+		public long received;
+	}
+
+	@Benchmark
+	@Group("abq")
+	@GroupThreads(1)
+	public void abq_send(Channels c, Sent counter) {
+		if (c.queue.offer(VALUE)) {
+			counter.sent++;
+		}
+	}
+
+	@Benchmark
+	@Group("abq")
+	@GroupThreads(1)
+	public void abq_recv(Channels c, Received counter) {
+		if (c.queue.poll() != null) {
+			counter.received++;
+		}
+	}
+
+	@Benchmark
+	@Group("spsc")
+	@GroupThreads(1)
+	public void spsc_send(Channels c, Sent counter) {
+		if (c.spscTx.trySend(VALUE).isOk()) {
+			counter.sent++;
+		}
+	}
+
+	@Benchmark
+	@Group("spsc")
+	@GroupThreads(1)
+	public void spsc_recv(Channels c, Received counter) {
+		if (c.spscRx.tryRecv().isOk()) {
+			counter.received++;
+		}
+	}
+
+	@Benchmark
+	@Group("mpsc")
+	@GroupThreads(1)
+	public void mpsc_send(Channels c, Sent counter) {
+		if (c.mpscTx.trySend(VALUE).isOk()) {
+			counter.sent++;
+		}
+	}
+
+	@Benchmark
+	@Group("mpsc")
+	@GroupThreads(1)
+	public void mpsc_recv(Channels c, Received counter) {
+		if (c.mpscRx.tryRecv().isOk()) {
+			counter.received++;
+		}
+	}
+
+	@Benchmark
+	@Group("bounded")
+	@GroupThreads(1)
+	public void bounded_send(Channels c, Sent counter) {
+		if (c.boundedTx.trySend(VALUE).isOk()) {
+			counter.sent++;
+		}
+	}
+
+	@Benchmark
+	@Group("bounded")
+	@GroupThreads(1)
+	public void bounded_recv(Channels c, Received counter) {
+		if (c.boundedRx.tryRecv().isOk()) {
+			counter.received++;
+		}
+	}
+}
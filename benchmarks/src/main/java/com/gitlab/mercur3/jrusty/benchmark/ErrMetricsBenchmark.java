@@ -0,0 +1,73 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.ErrMetrics;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+import com.gitlab.mercur3.jrusty.result.Result;
+import com.gitlab.mercur3.jrusty.util.FromString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link ErrMetrics} on the error paths. {@code off} is the default and should match the
+ * numbers of a release without instrumentation; {@code events} runs without a Flight Recorder
+ * recording, so no event is committed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrMetricsBenchmark {
+	@Param({"off", "counting", "events"})
+	public String mode;
+
+	private ErrorKind kind = ErrorKind.FORMAT_ERROR;
+	private String malformed = "12a4";
+
+	@Setup
+	public void setup() {
+		ErrMetrics.setCounting(mode.equals("counting"));
+		ErrMetrics.setEvents(mode.equals("events"));
+	}
+
+	@TearDown
+	public void tearDown() {
+		ErrMetrics.setCounting(false);
+		ErrMetrics.setEvents(false);
+	}
+
+	@Benchmark
+	public Result<Integer, ErrorKind> err_constructor() {
+		return new Err<>(kind);
+	}
+
+	@Benchmark
+	public Result<Integer, ErrorKind> err_kind() {
+		return Result.errKind(kind);
+	}
+
+	@Benchmark
+	public Result<Integer, ErrorKind> parseInt_error() {
+		return FromString.parseInt(malformed);
+	}
+
+	@Benchmark
+	public IntResult<ErrorKind> parseIntPrimitive_error() {
+		return FromString.parseIntPrimitive(malformed);
+	}
+}
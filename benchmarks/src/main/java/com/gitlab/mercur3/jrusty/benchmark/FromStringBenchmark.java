@@ -0,0 +1,140 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.util.FromString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a column of {@value #SIZE} cells where {@code errorRatio} of them are malformed. The
+ * {@code jdk_*} benchmarks are the {@code try-catch} around {@code Integer.parseInt} that
+ * {@code FromString} used to be.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FromStringBenchmark {
+	private static final int SIZE = 1024;
+
+	@Param({"0.0", "0.2", "0.5", "1.0"})
+	private double errorRatio;
+
+	private String[] ints;
+	private String[] longs;
+	/** {@code ints} as one {@code ';'} separated ASCII buffer, as received from the network */
+	private byte[] packed;
+	private int[] offsets;
+
+	@Setup
+	public void setup() {
+		var rng = new Random(42);
+		ints = new String[SIZE];
+		longs = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			if (rng.nextDouble() < errorRatio) {
+				// half bad digits, half overflow
+				ints[i] = rng.nextBoolean() ? "12x45" : "99999999999";
+				longs[i] = rng.nextBoolean() ? "12x45" : "99999999999999999999";
+			}
+			else {
+				ints[i] = Integer.toString(rng.nextInt());
+				longs[i] = Long.toString(rng.nextLong());
+			}
+		}
+
+		var joined = String.join(";", ints) + ";";
+		packed = joined.getBytes(StandardCharsets.US_ASCII);
+		offsets = new int[SIZE + 1];
+		for (int i = 0, k = 0; i < packed.length; i++) {
+			if (packed[i] == ';') {
+				offsets[++k] = i + 1;
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseInt(Blackhole bh) {
+		for (var str : ints) {
+			bh.consume(FromString.parseInt(str));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseIntPrimitive(Blackhole bh) {
+		for (var str : ints) {
+			bh.consume(FromString.parseIntPrimitive(str).unwrapOr(0));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseIntPrimitive_bytes(Blackhole bh) {
+		for (int i = 0; i < SIZE; i++) {
+			int off = offsets[i];
+			bh.consume(FromString.parseIntPrimitive(packed, off, offsets[i + 1] - off - 1).unwrapOr(0));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseIntPrimitive_decodeFirst(Blackhole bh) {
+		for (int i = 0; i < SIZE; i++) {
+			int off = offsets[i];
+			var str = new String(packed, off, offsets[i + 1] - off - 1, StandardCharsets.US_ASCII);
+			bh.consume(FromString.parseIntPrimitive(str).unwrapOr(0));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void jdk_parseInt(Blackhole bh) {
+		for (var str : ints) {
+			try {
+				bh.consume(Integer.parseInt(str));
+			}
+			catch (NumberFormatException e) {
+				bh.consume(e);
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseLong(Blackhole bh) {
+		for (var str : longs) {
+			bh.consume(FromString.parseLong(str));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void jdk_parseLong(Blackhole bh) {
+		for (var str : longs) {
+			try {
+				bh.consume(Long.parseLong(str));
+			}
+			catch (NumberFormatException e) {
+				bh.consume(e);
+			}
+		}
+	}
+}
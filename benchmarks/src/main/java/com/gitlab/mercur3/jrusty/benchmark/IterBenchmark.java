@@ -0,0 +1,69 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.iter.IntIter;
+import com.gitlab.mercur3.jrusty.iter.Iter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A short filter/map/sum pipeline through {@link Iter} and {@link IntIter}, against
+ * {@code Stream} and {@code IntStream}. On small inputs the cost of a {@code Stream} is mostly its
+ * pipeline setup, which {@code Iter} does not have.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IterBenchmark {
+	@Param({"8", "64", "1024"})
+	private int size;
+
+	private List<Integer> boxed;
+	private int[] ints;
+
+	@Setup
+	public void setup() {
+		ints = new int[size];
+		boxed = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			ints[i] = i;
+			boxed.add(i);
+		}
+	}
+
+	@Benchmark
+	public int stream() {
+		return boxed.stream().filter(x -> (x & 1) == 0).map(x -> x * 3).reduce(0, Integer::sum);
+	}
+
+	@Benchmark
+	public int iter() {
+		return Iter.from(boxed).filter(x -> (x & 1) == 0).map(x -> x * 3).fold(0, Integer::sum);
+	}
+
+	@Benchmark
+	public int intStream() {
+		return Arrays.stream(ints).filter(x -> (x & 1) == 0).map(x -> x * 3).sum();
+	}
+
+	@Benchmark
+	public int intIter() {
+		return IntIter.of(ints).filter(x -> (x & 1) == 0).map(x -> x * 3).sum();
+	}
+}
@@ -0,0 +1,87 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.util.LazyLock;
+import com.gitlab.mercur3.jrusty.util.OnceLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads of an already initialized lazy value: {@link OnceLock} and {@link LazyLock} against a
+ * {@code synchronized} getter, volatile double-checked locking and the holder-class idiom, the
+ * lower bound since the JIT folds it to a constant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyBenchmark {
+	private static final OnceLock<int[]> ONCE = OnceLock.empty();
+	private static final LazyLock<int[]> LAZY = LazyLock.of(LazyBenchmark::table);
+
+	private static final class Holder {
+		static final int[] TABLE = table();
+	}
+
+	private int[] synced;
+	private volatile int[] checked;
+
+	private static int[] table() {
+		return new int[]{1, 2, 3};
+	}
+
+	private synchronized int[] synchronizedGet() {
+		if (synced == null) {
+			synced = table();
+		}
+		return synced;
+	}
+
+	private int[] doubleCheckedGet() {
+		var v = checked;
+		if (v == null) {
+			synchronized (this) {
+				v = checked;
+				if (v == null) {
+					checked = v = table();
+				}
+			}
+		}
+		return v;
+	}
+
+	@Benchmark
+	public int onceLock() {
+		return ONCE.getOrInit(LazyBenchmark::table)[1];
+	}
+
+	@Benchmark
+	public int lazyLock() {
+		return LAZY.get()[1];
+	}
+
+	@Benchmark
+	public int synchronizedGetter() {
+		return synchronizedGet()[1];
+	}
+
+	@Benchmark
+	public int doubleChecked() {
+		return doubleCheckedGet()[1];
+	}
+
+	@Benchmark
+	public int holder() {
+		return Holder.TABLE[1];
+	}
+}
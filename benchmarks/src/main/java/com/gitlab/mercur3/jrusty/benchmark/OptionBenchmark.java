@@ -0,0 +1,79 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Option#mapOr}/{@link Option#mapOrElse} against the equivalent
+ * {@code Optional.map(..).orElse(..)} chains, and the instance {@link Option#mapOr(Object,
+ * java.util.function.Function)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OptionBenchmark {
+	private Optional<String> some = Optional.of("alpha");
+	private Optional<String> none = Optional.empty();
+	private Option<String> jSome = Option.some("alpha");
+	private Option<String> jNone = Option.none();
+	private int fallback = 42;
+
+	@Benchmark
+	public int mapOr_some() {
+		return Option.mapOr(some, fallback, String::length);
+	}
+
+	@Benchmark
+	public int mapOr_none() {
+		return Option.mapOr(none, fallback, String::length);
+	}
+
+	@Benchmark
+	public int mapOrElse_some() {
+		return Option.mapOrElse(some, () -> fallback, String::length);
+	}
+
+	@Benchmark
+	public int mapOrElse_none() {
+		return Option.mapOrElse(none, () -> fallback, String::length);
+	}
+
+	@Benchmark
+	public int optional_some() {
+		return some.map(String::length).orElse(fallback);
+	}
+
+	@Benchmark
+	public int optional_none() {
+		return none.map(String::length).orElse(fallback);
+	}
+
+	@Benchmark
+	public int optional_orElseGet_none() {
+		return none.map(String::length).orElseGet(() -> fallback);
+	}
+
+	@Benchmark
+	public int option_some() {
+		return jSome.mapOr(fallback, String::length);
+	}
+
+	@Benchmark
+	public int option_none() {
+		return jNone.mapOr(fallback, String::length);
+	}
+}
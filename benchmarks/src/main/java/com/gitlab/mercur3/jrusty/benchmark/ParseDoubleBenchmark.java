@@ -0,0 +1,120 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.util.FromString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses a column of {@value #SIZE} numbers shaped like {@code data}:
+ * <ul>
+ *     <li>{@code csv}: prices with two decimals, like {@code 1234.56};</li>
+ *     <li>{@code json}: doubles printed in full, like {@code 0.30000000000000004} or
+ *     {@code 1.2345678901234567E-89}.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseDoubleBenchmark {
+	private static final int SIZE = 1024;
+
+	@Param({"csv", "json"})
+	private String data;
+
+	private String[] strings;
+	/** {@code strings} as one {@code ','} separated ASCII buffer */
+	private byte[] packed;
+	private int[] offsets;
+
+	@Setup
+	public void setup() {
+		var rng = new Random(42);
+		strings = new String[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			strings[i] = switch (data) {
+				case "csv" -> String.format(Locale.ROOT, "%.2f", rng.nextDouble() * 10_000);
+				case "json" -> Double.toString(rng.nextDouble() * Math.pow(10, rng.nextInt(200) - 100));
+				default -> throw new IllegalArgumentException(data);
+			};
+		}
+
+		var joined = String.join(",", strings) + ",";
+		packed = joined.getBytes(StandardCharsets.US_ASCII);
+		offsets = new int[SIZE + 1];
+		for (int i = 0, k = 0; i < packed.length; i++) {
+			if (packed[i] == ',') {
+				offsets[++k] = i + 1;
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseDoublePrimitive(Blackhole bh) {
+		for (var str : strings) {
+			bh.consume(FromString.parseDoublePrimitive(str).unwrapOr(0));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseDoublePrimitive_bytes(Blackhole bh) {
+		for (int i = 0; i < SIZE; i++) {
+			int off = offsets[i];
+			bh.consume(FromString.parseDoublePrimitive(packed, off, offsets[i + 1] - off - 1).unwrapOr(0));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void jdk_parseDouble(Blackhole bh) {
+		for (var str : strings) {
+			bh.consume(Double.parseDouble(str));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void jdk_parseDouble_decodeFirst(Blackhole bh) {
+		for (int i = 0; i < SIZE; i++) {
+			int off = offsets[i];
+			var str = new String(packed, off, offsets[i + 1] - off - 1, StandardCharsets.US_ASCII);
+			bh.consume(Double.parseDouble(str));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void parseFloat(Blackhole bh) {
+		for (var str : strings) {
+			bh.consume(FromString.parseFloat(str));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public void jdk_parseFloat(Blackhole bh) {
+		for (var str : strings) {
+			bh.consume(Float.parseFloat(str));
+		}
+	}
+}
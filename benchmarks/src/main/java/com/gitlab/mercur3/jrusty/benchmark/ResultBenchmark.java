@@ -0,0 +1,86 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code map}/{@code mapErr} chains on both sides of a {@link Result}. A chain of 4 stages is
+ * roughly what a request handler builds when it validates and converts a single field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultBenchmark {
+	private Result<Integer, ErrorKind> ok = new Ok<>(1234);
+	private Result<Integer, ErrorKind> err = new Err<>(ErrorKind.FORMAT_ERROR);
+
+	private static Result<Integer, ErrorKind> mapChain(Result<Integer, ErrorKind> res) {
+		return res
+				.map(x -> x + 1)
+				.map(x -> x * 2)
+				.map(x -> x - 3)
+				.map(x -> x / 4);
+	}
+
+	private static Result<Integer, String> mapErrChain(Result<Integer, ErrorKind> res) {
+		return res
+				.mapErr(ErrorKind::ordinal)
+				.mapErr(x -> x + 1)
+				.mapErr(String::valueOf)
+				.mapErr(String::trim);
+	}
+
+	private static Result<Integer, ErrorKind> andThenChain(Result<Integer, ErrorKind> res) {
+		return res
+				.andThen(x -> new Ok<>(x + 1))
+				.andThen(x -> new Ok<>(x * 2))
+				.andThen(x -> new Ok<>(x - 3))
+				.andThen(x -> new Ok<>(x / 4));
+	}
+
+	@Benchmark
+	public Result<Integer, ErrorKind> map_ok() {
+		return mapChain(ok);
+	}
+
+	@Benchmark
+	public Result<Integer, ErrorKind> map_err() {
+		return mapChain(err);
+	}
+
+	@Benchmark
+	public Result<Integer, String> mapErr_ok() {
+		return mapErrChain(ok);
+	}
+
+	@Benchmark
+	public Result<Integer, String> mapErr_err() {
+		return mapErrChain(err);
+	}
+
+	@Benchmark
+	public Result<Integer, ErrorKind> andThen_ok() {
+		return andThenChain(ok);
+	}
+
+	@Benchmark
+	public Result<Integer, ErrorKind> andThen_err() {
+		return andThenChain(err);
+	}
+}
@@ -0,0 +1,95 @@
+package com.gitlab.mercur3.jrusty.benchmark;
+
+import com.gitlab.mercur3.jrusty.util.Utf8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates and decodes a payload of about {@value #SIZE} bytes shaped like {@code corpus}:
+ * <ul>
+ *     <li>{@code ascii}: JSON log lines with the odd accented name;</li>
+ *     <li>{@code multilingual}: words in French, Russian, Greek, Chinese and emoji.</li>
+ * </ul>
+ * The {@code jdk_*} benchmarks are the lenient {@code new String}, which replaces malformed
+ * input, and the strict {@code CharsetDecoder} that reports it by throwing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Utf8Benchmark {
+	private static final int SIZE = 16 * 1024;
+
+	private static final String[] ASCII_WORDS = {
+			"{\"level\":\"info\",", "\"user\":\"alice\",", "\"user\":\"José\",", "\"took_ms\":12}\n",
+			"\"path\":\"/api/v1/items\",", "\"status\":200,",
+	};
+	private static final String[] MULTILINGUAL_WORDS = {
+			"déjà vu ", "garçon ", "привет ", "мир ", "αβγ ", "日本語 ", "中文 ", "🙂 ", "ok ",
+	};
+
+	@Param({"ascii", "multilingual"})
+	private String corpus;
+
+	private byte[] payload;
+	private ByteBuffer direct;
+
+	@Setup
+	public void setup() {
+		var words = corpus.equals("ascii") ? ASCII_WORDS : MULTILINGUAL_WORDS;
+		var rng = new Random(42);
+		var sb = new StringBuilder();
+		while (sb.length() < SIZE) {
+			sb.append(words[rng.nextInt(words.length)]);
+		}
+		payload = sb.toString().getBytes(StandardCharsets.UTF_8);
+		direct = ByteBuffer.allocateDirect(payload.length).put(payload).flip();
+	}
+
+	@Benchmark
+	public Object fromUtf8() {
+		return Utf8.fromUtf8(payload, 0, payload.length);
+	}
+
+	@Benchmark
+	public int validUpTo() {
+		return Utf8.validUpTo(payload, 0, payload.length);
+	}
+
+	@Benchmark
+	public int validUpTo_direct() {
+		return Utf8.validUpTo(direct, 0, payload.length);
+	}
+
+	@Benchmark
+	public String jdk_newString() {
+		return new String(payload, 0, payload.length, StandardCharsets.UTF_8);
+	}
+
+	@Benchmark
+	public Object jdk_decoderReport() {
+		try {
+			return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(payload)).toString();
+		}
+		catch (CharacterCodingException e) {
+			return e;
+		}
+	}
+}
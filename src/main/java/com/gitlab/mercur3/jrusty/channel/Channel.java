@@ -0,0 +1,85 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+
+/**
+ * Factories of channels, modeled on Rust's {@code std::sync::mpsc} and crossbeam. Every channel
+ * is a {@link Sender} and a {@link Receiver} sharing a lock-free buffer; only a thread that has to
+ * wait parks, which also works for virtual threads.
+ *
+ * {@snippet :
+ * var channel = Channel.<String>mpsc(1024);
+ * try (var tx = channel._1(); var rx = channel._2()) {
+ *     Thread.ofVirtual().start(() -> tx.send("hello"));
+ *     Result<String, ErrorKind> msg = rx.recv();
+ * }
+ * }
+ *
+ * <table>
+ *     <caption>Flavors</caption>
+ *     <tr><th>Factory</th><th>Senders</th><th>Receivers</th><th>Buffer</th></tr>
+ *     <tr><td>{@link #spsc(int)}</td><td>1</td><td>1</td><td>bounded ring, no CAS</td></tr>
+ *     <tr><td>{@link #mpsc(int)}</td><td>many</td><td>1</td><td>bounded ring</td></tr>
+ *     <tr><td>{@link #bounded(int)}</td><td>many</td><td>many</td><td>bounded ring</td></tr>
+ *     <tr><td>{@link #unbounded()}</td><td>many</td><td>many</td><td>linked queue</td></tr>
+ * </table>
+ *
+ * <p>
+ * "Single" is a contract: using a single-producer or single-consumer half from several threads at
+ * once corrupts the channel. Values must not be {@code null}.
+ * </p>
+ *
+ * @see <a href="https://doc.rust-lang.org/std/sync/mpsc/index.html"><code>std::sync::mpsc</code></a>
+ */
+public final class Channel {
+	private Channel() {}
+
+	/**
+	 * @param capacity the number of values buffered before senders wait
+	 * @return a multi-producer, multi-consumer channel
+	 * @throws IllegalArgumentException if {@code capacity < 1}
+	 */
+	public static <T> Tuple2<Sender<T>, Receiver<T>> bounded(int capacity) {
+		checkCapacity(capacity);
+		return pair(new Core<>(new MpmcRing<T>(capacity, false), true, true, true));
+	}
+
+	/**
+	 * @return a multi-producer, multi-consumer channel whose senders never wait
+	 */
+	public static <T> Tuple2<Sender<T>, Receiver<T>> unbounded() {
+		return pair(new Core<>(new LinkedRing<T>(), false, true, true));
+	}
+
+	/**
+	 * @param capacity the number of values buffered before senders wait
+	 * @return a multi-producer, single-consumer channel
+	 * @throws IllegalArgumentException if {@code capacity < 1}
+	 */
+	public static <T> Tuple2<Sender<T>, Receiver<T>> mpsc(int capacity) {
+		checkCapacity(capacity);
+		return pair(new Core<>(new MpmcRing<T>(capacity, true), true, true, false));
+	}
+
+	/**
+	 * @param capacity the number of values buffered before the sender waits
+	 * @return a single-producer, single-consumer channel
+	 * @throws IllegalArgumentException if {@code capacity < 1}
+	 */
+	public static <T> Tuple2<Sender<T>, Receiver<T>> spsc(int capacity) {
+		checkCapacity(capacity);
+		return pair(new Core<>(new SpscRing<T>(capacity), true, false, false));
+	}
+
+	/// PRIVATE
+
+	private static void checkCapacity(int capacity) {
+		if (capacity < 1 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("capacity must be in [1, 2^30]: " + capacity);
+		}
+	}
+
+	private static <T> Tuple2<Sender<T>, Receiver<T>> pair(Core<T> core) {
+		return new Tuple2<>(new Sender<>(core), new Receiver<>(core));
+	}
+}
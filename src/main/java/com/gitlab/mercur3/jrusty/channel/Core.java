@@ -0,0 +1,169 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * State shared by the senders and receivers of one channel.
+ */
+final class Core<T> {
+	/** Timeout meaning "wait forever" */
+	static final long FOREVER = -1;
+	/** Timeout meaning "do not wait" */
+	static final long NO_WAIT = 0;
+
+	final Ring<T> ring;
+	final boolean multiProducer;
+	final boolean multiConsumer;
+	final AtomicInteger senders = new AtomicInteger(1);
+	final AtomicInteger receivers = new AtomicInteger(1);
+	final WaitQueue recvWaiters = new WaitQueue();
+	/** {@code null} if unbounded, senders never wait */
+	final WaitQueue sendWaiters;
+
+	Core(Ring<T> ring, boolean bounded, boolean multiProducer, boolean multiConsumer) {
+		this.ring = ring;
+		this.multiProducer = multiProducer;
+		this.multiConsumer = multiConsumer;
+		this.sendWaiters = bounded ? new WaitQueue() : null;
+	}
+
+	Result<Empty, ErrorKind> send(T value, long timeoutNanos) {
+		Objects.requireNonNull(value);
+		long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+		WaitQueue.Waiter w = null;
+		while (true) {
+			if (receivers.get() == 0) {
+				leave(sendWaiters, w);
+				return Result.errKind(ErrorKind.CONNECTION_REFUSED);
+			}
+			if (ring.offer(value)) {
+				// the wake-up may have been meant for another slot, pass it on
+				leave(sendWaiters, w);
+				recvWaiters.wakeOne();
+				return Result.okUnit();
+			}
+			if (timeoutNanos == NO_WAIT) {
+				return Result.errKind(ErrorKind.WOULD_BLOCK);
+			}
+			if (w == null) {
+				w = new WaitQueue.Waiter();
+				sendWaiters.add(w);
+				continue;
+			}
+			var err = park(timeoutNanos, deadline);
+			if (err != null) {
+				leave(sendWaiters, w);
+				return Result.errKind(err);
+			}
+			reclaim(sendWaiters, w);
+			w = null;
+		}
+	}
+
+	Result<T, ErrorKind> recv(long timeoutNanos) {
+		long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+		WaitQueue.Waiter w = null;
+		while (true) {
+			var value = poll();
+			if (value == null && senders.get() == 0) {
+				// a value sent right before the last sender closed
+				value = poll();
+				if (value == null) {
+					leave(recvWaiters, w);
+					return Result.errKind(ErrorKind.NOT_CONNECTED);
+				}
+			}
+			if (value != null) {
+				// the wake-up may have been meant for another value, pass it on
+				leave(recvWaiters, w);
+				return new Ok<>(value);
+			}
+			if (timeoutNanos == NO_WAIT) {
+				return Result.errKind(ErrorKind.WOULD_BLOCK);
+			}
+			if (w == null) {
+				w = new WaitQueue.Waiter();
+				recvWaiters.add(w);
+				continue;
+			}
+			var err = park(timeoutNanos, deadline);
+			if (err != null) {
+				leave(recvWaiters, w);
+				return Result.errKind(err);
+			}
+			reclaim(recvWaiters, w);
+			w = null;
+		}
+	}
+
+	/**
+	 * @return the next value, waking a blocked sender if one was taken
+	 */
+	T poll() {
+		var value = ring.poll();
+		if (value != null && sendWaiters != null) {
+			sendWaiters.wakeOne();
+		}
+		return value;
+	}
+
+	void dropSender() {
+		if (senders.decrementAndGet() == 0) {
+			recvWaiters.wakeAll();
+		}
+	}
+
+	void dropReceiver() {
+		if (receivers.decrementAndGet() == 0 && sendWaiters != null) {
+			sendWaiters.wakeAll();
+		}
+	}
+
+	/**
+	 * Parks the current thread.
+	 *
+	 * @return {@code null} once woken, or why waiting should stop
+	 */
+	static ErrorKind park(long timeoutNanos, long deadline) {
+		if (timeoutNanos == FOREVER) {
+			LockSupport.park();
+		}
+		else {
+			long left = deadline - System.nanoTime();
+			if (left <= 0) {
+				return ErrorKind.TIMED_OUT;
+			}
+			LockSupport.parkNanos(left);
+		}
+		return Thread.currentThread().isInterrupted() ? ErrorKind.INTERRUPTED : null;
+	}
+
+	/**
+	 * Takes {@code w} back after waking up.
+	 *
+	 * @return {@code true} if {@code w} had been notified
+	 */
+	static boolean reclaim(WaitQueue queue, WaitQueue.Waiter w) {
+		if (w.claim()) {
+			queue.remove(w);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Takes {@code w} back when giving up, passing on a notification it would otherwise swallow.
+	 */
+	static void leave(WaitQueue queue, WaitQueue.Waiter w) {
+		if (w != null && reclaim(queue, w)) {
+			queue.wakeOne();
+		}
+	}
+}
@@ -0,0 +1,20 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Unbounded, lock-free buffer backed by a {@link ConcurrentLinkedQueue}.
+ */
+final class LinkedRing<T> implements Ring<T> {
+	private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+
+	@Override
+	public boolean offer(T value) {
+		return queue.offer(value);
+	}
+
+	@Override
+	public T poll() {
+		return queue.poll();
+	}
+}
@@ -0,0 +1,132 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded ring for several producers, after Dmitry Vyukov's bounded MPMC queue. Every slot
+ * carries a sequence number telling whose turn it is, so producers only contend on one CAS of
+ * the tail and never on the consumers' head. With a single consumer the head is advanced without
+ * a CAS.
+ *
+ * <p>
+ * Sequence numbers are doubled: a slot is free for position {@code pos} at {@code 2 * pos} and
+ * holds its value at {@code 2 * pos + 1}. With Vyukov's {@code pos} and {@code pos + 1} a ring of
+ * one slot cannot tell "full at {@code pos}" from "free at {@code pos + 1}", and a second sender
+ * would overwrite the value.
+ * </p>
+ *
+ * @see <a href="https://www.1024cores.net/home/lock-free-algorithms/queues/bounded-mpmc-queue">Bounded MPMC queue</a>
+ */
+final class MpmcRing<T> extends MpmcHeadFields implements Ring<T> {
+	private static final VarHandle TAIL;
+	private static final VarHandle HEAD;
+	private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+	static {
+		try {
+			var lookup = MethodHandles.lookup();
+			TAIL = lookup.findVarHandle(MpmcTailFields.class, "tail", long.class);
+			HEAD = lookup.findVarHandle(MpmcHeadFields.class, "head", long.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Object[] buffer;
+	private final long[] sequences;
+	private final int capacity;
+	/** {@code capacity - 1} if it is a power of two, {@code -1} otherwise */
+	private final int mask;
+	private final boolean singleConsumer;
+	@SuppressWarnings("unused")
+	private long p00, p01, p02, p03, p04, p05, p06, p07;
+
+	MpmcRing(int capacity, boolean singleConsumer) {
+		this.capacity = capacity;
+		this.buffer = new Object[capacity];
+		this.sequences = new long[capacity];
+		this.mask = Integer.bitCount(capacity) == 1 ? capacity - 1 : -1;
+		this.singleConsumer = singleConsumer;
+		for (int i = 0; i < capacity; i++) {
+			sequences[i] = 2L * i;
+		}
+	}
+
+	@Override
+	public boolean offer(T value) {
+		long pos = (long) TAIL.getVolatile(this);
+		while (true) {
+			int i = index(pos);
+			long dif = (long) SEQUENCE.getAcquire(sequences, i) - 2 * pos;
+			if (dif == 0) {
+				if (TAIL.compareAndSet(this, pos, pos + 1)) {
+					buffer[i] = value;
+					SEQUENCE.setRelease(sequences, i, 2 * pos + 1);
+					return true;
+				}
+				pos = (long) TAIL.getVolatile(this);
+			}
+			else if (dif < 0) {
+				return false;
+			}
+			else {
+				pos = (long) TAIL.getVolatile(this);
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T poll() {
+		long pos = (long) HEAD.getVolatile(this);
+		while (true) {
+			int i = index(pos);
+			long dif = (long) SEQUENCE.getAcquire(sequences, i) - (2 * pos + 1);
+			if (dif == 0) {
+				if (singleConsumer) {
+					HEAD.setOpaque(this, pos + 1);
+				}
+				else if (!HEAD.compareAndSet(this, pos, pos + 1)) {
+					pos = (long) HEAD.getVolatile(this);
+					continue;
+				}
+				var value = (T) buffer[i];
+				buffer[i] = null;
+				SEQUENCE.setRelease(sequences, i, 2 * (pos + capacity));
+				return value;
+			}
+			else if (dif < 0) {
+				return null;
+			}
+			else {
+				pos = (long) HEAD.getVolatile(this);
+			}
+		}
+	}
+
+	/// PRIVATE
+
+	private int index(long pos) {
+		return mask >= 0 ? (int) pos & mask : (int) (pos % capacity);
+	}
+}
+
+abstract class MpmcPad0 {
+	@SuppressWarnings("unused")
+	private long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+abstract class MpmcTailFields extends MpmcPad0 {
+	long tail;
+}
+
+abstract class MpmcPad1 extends MpmcTailFields {
+	@SuppressWarnings("unused")
+	private long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+abstract class MpmcHeadFields extends MpmcPad1 {
+	long head;
+}
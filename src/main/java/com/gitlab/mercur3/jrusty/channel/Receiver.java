@@ -0,0 +1,84 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The receiving half of a channel. Closing the last receiver disconnects the channel: senders get
+ * <code>Err(CONNECTION_REFUSED)</code>.
+ *
+ * @param <T> the type of the values
+ * @see Channel
+ * @see Select
+ */
+public final class Receiver<T> implements AutoCloseable {
+	final Core<T> core;
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	Receiver(Core<T> core) {
+		this.core = core;
+	}
+
+	/**
+	 * Waits for the next value.
+	 *
+	 * @return <code>Ok(value)</code>, <code>Err(NOT_CONNECTED)</code> once every sender is closed
+	 * and the channel is drained, or <code>Err(INTERRUPTED)</code> with the interrupt flag kept
+	 * @throws IllegalStateException if this receiver is closed
+	 */
+	public Result<T, ErrorKind> recv() {
+		return open().recv(Core.FOREVER);
+	}
+
+	/**
+	 * @return as {@link #recv()}, or <code>Err(WOULD_BLOCK)</code> instead of waiting
+	 */
+	public Result<T, ErrorKind> tryRecv() {
+		return open().recv(Core.NO_WAIT);
+	}
+
+	/**
+	 * @param timeout how long to wait for a value
+	 * @return as {@link #recv()}, or <code>Err(TIMED_OUT)</code>
+	 */
+	public Result<T, ErrorKind> recvTimeout(Duration timeout) {
+		return open().recv(Math.max(1, timeout.toNanos()));
+	}
+
+	/**
+	 * @return another receiver of the same channel, to be closed separately. Every value still
+	 * goes to exactly one receiver.
+	 * @throws UnsupportedOperationException if the channel has a single consumer
+	 * @throws IllegalStateException         if this receiver is closed
+	 */
+	public Receiver<T> duplicate() {
+		var c = open();
+		if (!c.multiConsumer) {
+			throw new UnsupportedOperationException("The channel has a single consumer");
+		}
+		c.receivers.incrementAndGet();
+		return new Receiver<>(c);
+	}
+
+	/**
+	 * Closes this receiver. Closing twice does nothing.
+	 */
+	@Override
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			core.dropReceiver();
+		}
+	}
+
+	/// PRIVATE
+
+	Core<T> open() {
+		if (closed.get()) {
+			throw new IllegalStateException("Trying to receive through a receiver that is closed");
+		}
+		return core;
+	}
+}
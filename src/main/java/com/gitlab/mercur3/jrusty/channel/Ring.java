@@ -0,0 +1,16 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+/**
+ * The non-blocking buffer under a channel. Elements are never {@code null}.
+ */
+interface Ring<T> {
+	/**
+	 * @return {@code false} if full
+	 */
+	boolean offer(T value);
+
+	/**
+	 * @return the oldest element, or {@code null} if empty
+	 */
+	T poll();
+}
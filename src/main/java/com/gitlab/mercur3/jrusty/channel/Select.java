@@ -0,0 +1,159 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Receives from whichever of several receivers has a value first, like crossbeam's
+ * {@code select!}. Receivers are polled from a random starting point, so a busy channel cannot
+ * starve the others. While waiting, the thread parks once on all of the channels.
+ *
+ * {@snippet :
+ * switch (Select.recv(List.of(jobs, shutdown))) {
+ *     case Ok<Tuple2<Integer, Msg>, ErrorKind> ok when ok.unwrap()._1() == 0 -> run(ok.unwrap()._2());
+ *     case Ok<Tuple2<Integer, Msg>, ErrorKind> ok -> stop();
+ *     case Err<ErrorKind, Tuple2<Integer, Msg>> err -> log(err.unwrapErr());
+ * }
+ * }
+ */
+public final class Select {
+	private Select() {}
+
+	/**
+	 * Waits for a value from any of {@code receivers}.
+	 *
+	 * @param receivers the receivers, none of them closed
+	 * @return <code>Ok((index in receivers, value))</code>, <code>Err(NOT_CONNECTED)</code> once
+	 * every channel is disconnected and drained, or <code>Err(INTERRUPTED)</code>
+	 * @throws IllegalArgumentException if {@code receivers} is empty
+	 */
+	public static <T> Result<Tuple2<Integer, T>, ErrorKind> recv(List<? extends Receiver<? extends T>> receivers) {
+		return select(receivers, Core.FOREVER);
+	}
+
+	/**
+	 * @return as {@link #recv(List)}, or <code>Err(WOULD_BLOCK)</code> instead of waiting
+	 */
+	public static <T> Result<Tuple2<Integer, T>, ErrorKind> tryRecv(List<? extends Receiver<? extends T>> receivers) {
+		return select(receivers, Core.NO_WAIT);
+	}
+
+	/**
+	 * @param timeout how long to wait for a value
+	 * @return as {@link #recv(List)}, or <code>Err(TIMED_OUT)</code>
+	 */
+	public static <T> Result<Tuple2<Integer, T>, ErrorKind> recvTimeout(
+			List<? extends Receiver<? extends T>> receivers,
+			Duration timeout
+	) {
+		return select(receivers, Math.max(1, timeout.toNanos()));
+	}
+
+	/// PRIVATE
+
+	private static <T> Result<Tuple2<Integer, T>, ErrorKind> select(
+			List<? extends Receiver<? extends T>> receivers,
+			long timeoutNanos
+	) {
+		int n = receivers.size();
+		if (n == 0) {
+			throw new IllegalArgumentException("Nothing to select from");
+		}
+		var cores = new Core<?>[n];
+		for (int i = 0; i < n; i++) {
+			cores[i] = receivers.get(i).open();
+		}
+		long deadline = timeoutNanos > 0 ? System.nanoTime() + timeoutNanos : 0;
+		int start = ThreadLocalRandom.current().nextInt(n);
+		WaitQueue.Waiter w = null;
+		// notified by some channel since the last pass that found nothing
+		boolean woken = false;
+		while (true) {
+			boolean connected = false;
+			for (int k = 0; k < n; k++) {
+				int i = (start + k) % n;
+				var core = cores[i];
+				Object value = core.poll();
+				if (value == null && core.senders.get() == 0) {
+					value = core.poll();
+				}
+				else if (value == null) {
+					connected = true;
+				}
+				if (value != null) {
+					// the wake-up may have been meant for another value, pass it on
+					leave(cores, w);
+					if (woken) {
+						// it may have come from another channel, whose value would wait for nobody
+						wakeOthers(cores, i);
+					}
+					@SuppressWarnings("unchecked")
+					var res = new Ok<Tuple2<Integer, T>, ErrorKind>(new Tuple2<>(i, (T) value));
+					return res;
+				}
+			}
+			woken = false;
+			if (!connected) {
+				leave(cores, w);
+				return Result.errKind(ErrorKind.NOT_CONNECTED);
+			}
+			if (timeoutNanos == Core.NO_WAIT) {
+				return Result.errKind(ErrorKind.WOULD_BLOCK);
+			}
+			if (w == null) {
+				w = new WaitQueue.Waiter();
+				for (var core : cores) {
+					core.recvWaiters.add(w);
+				}
+				continue;
+			}
+			var err = Core.park(timeoutNanos, deadline);
+			if (err != null) {
+				leave(cores, w);
+				return Result.errKind(err);
+			}
+			woken = reclaim(cores, w);
+			w = null;
+		}
+	}
+
+	/**
+	 * @return {@code true} if {@code w} had been notified by one of the channels
+	 */
+	private static boolean reclaim(Core<?>[] cores, WaitQueue.Waiter w) {
+		if (w.claim()) {
+			for (var core : cores) {
+				core.recvWaiters.remove(w);
+			}
+			return false;
+		}
+		// already polled by the notifier, stale entries elsewhere are skipped by their claim
+		for (var core : cores) {
+			core.recvWaiters.remove(w);
+		}
+		return true;
+	}
+
+	private static void wakeOthers(Core<?>[] cores, int taken) {
+		for (int i = 0; i < cores.length; i++) {
+			if (i != taken) {
+				cores[i].recvWaiters.wakeOne();
+			}
+		}
+	}
+
+	private static void leave(Core<?>[] cores, WaitQueue.Waiter w) {
+		if (w != null && reclaim(cores, w)) {
+			// the notifying channel is unknown, wake one waiter on each
+			for (var core : cores) {
+				core.recvWaiters.wakeOne();
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The sending half of a channel. Closing the last sender disconnects the channel: receivers get
+ * the values still buffered, then <code>Err(NOT_CONNECTED)</code>.
+ *
+ * @param <T> the type of the values
+ * @see Channel
+ */
+public final class Sender<T> implements AutoCloseable {
+	private final Core<T> core;
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	Sender(Core<T> core) {
+		this.core = core;
+	}
+
+	/**
+	 * Sends {@code value}, waiting while a bounded channel is full.
+	 *
+	 * @param value the value
+	 * @return <code>Ok(UNIT)</code>, <code>Err(CONNECTION_REFUSED)</code> if every receiver is
+	 * closed, or <code>Err(INTERRUPTED)</code> with the interrupt flag kept
+	 * @throws NullPointerException  if {@code value} is {@code null}
+	 * @throws IllegalStateException if this sender is closed
+	 */
+	public Result<Empty, ErrorKind> send(T value) {
+		return open().send(value, Core.FOREVER);
+	}
+
+	/**
+	 * @param value the value
+	 * @return as {@link #send(Object)}, or <code>Err(WOULD_BLOCK)</code> instead of waiting
+	 */
+	public Result<Empty, ErrorKind> trySend(T value) {
+		return open().send(value, Core.NO_WAIT);
+	}
+
+	/**
+	 * @param value   the value
+	 * @param timeout how long to wait for room
+	 * @return as {@link #send(Object)}, or <code>Err(TIMED_OUT)</code>
+	 */
+	public Result<Empty, ErrorKind> sendTimeout(T value, Duration timeout) {
+		return open().send(value, Math.max(1, timeout.toNanos()));
+	}
+
+	/**
+	 * The equivalent of cloning a Rust {@code Sender}.
+	 *
+	 * @return another sender of the same channel, to be closed separately
+	 * @throws UnsupportedOperationException if the channel has a single producer
+	 * @throws IllegalStateException         if this sender is closed
+	 */
+	public Sender<T> duplicate() {
+		var c = open();
+		if (!c.multiProducer) {
+			throw new UnsupportedOperationException("The channel has a single producer");
+		}
+		c.senders.incrementAndGet();
+		return new Sender<>(c);
+	}
+
+	/**
+	 * Closes this sender. Closing twice does nothing.
+	 */
+	@Override
+	public void close() {
+		if (closed.compareAndSet(false, true)) {
+			core.dropSender();
+		}
+	}
+
+	/// PRIVATE
+
+	private Core<T> open() {
+		if (closed.get()) {
+			throw new IllegalStateException("Trying to send through a sender that is closed");
+		}
+		return core;
+	}
+}
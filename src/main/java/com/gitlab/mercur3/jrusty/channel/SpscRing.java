@@ -0,0 +1,97 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Bounded ring for exactly one producer and one consumer thread. Each side owns its index and
+ * publishes it with a release store; the other side's index is cached and re-read only when the
+ * ring looks full or empty. The indexes live in separately padded superclasses so producer and
+ * consumer do not share a cache line.
+ */
+final class SpscRing<T> extends SpscConsumerFields implements Ring<T> {
+	private static final VarHandle PRODUCER_INDEX;
+	private static final VarHandle CONSUMER_INDEX;
+
+	static {
+		try {
+			var lookup = MethodHandles.lookup();
+			PRODUCER_INDEX = lookup.findVarHandle(SpscProducerFields.class, "producerIndex", long.class);
+			CONSUMER_INDEX = lookup.findVarHandle(SpscConsumerFields.class, "consumerIndex", long.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final Object[] buffer;
+	private final int mask;
+	private final int capacity;
+	@SuppressWarnings("unused")
+	private long p00, p01, p02, p03, p04, p05, p06, p07;
+
+	SpscRing(int capacity) {
+		this.capacity = capacity;
+		this.buffer = new Object[ceilPowerOfTwo(capacity)];
+		this.mask = buffer.length - 1;
+	}
+
+	@Override
+	public boolean offer(T value) {
+		long p = producerIndex;
+		if (p - consumerCache >= capacity) {
+			consumerCache = (long) CONSUMER_INDEX.getAcquire(this);
+			if (p - consumerCache >= capacity) {
+				return false;
+			}
+		}
+		buffer[(int) p & mask] = value;
+		PRODUCER_INDEX.setRelease(this, p + 1);
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T poll() {
+		long c = consumerIndex;
+		if (c >= producerCache) {
+			producerCache = (long) PRODUCER_INDEX.getAcquire(this);
+			if (c >= producerCache) {
+				return null;
+			}
+		}
+		int i = (int) c & mask;
+		var value = (T) buffer[i];
+		buffer[i] = null;
+		CONSUMER_INDEX.setRelease(this, c + 1);
+		return value;
+	}
+
+	/// PRIVATE
+
+	private static int ceilPowerOfTwo(int n) {
+		return n <= 1 ? 1 : Integer.highestOneBit(n - 1) << 1;
+	}
+}
+
+abstract class SpscPad0 {
+	@SuppressWarnings("unused")
+	private long p00, p01, p02, p03, p04, p05, p06, p07;
+}
+
+/** Written by the producer only */
+abstract class SpscProducerFields extends SpscPad0 {
+	long producerIndex;
+	long consumerCache;
+}
+
+abstract class SpscPad1 extends SpscProducerFields {
+	@SuppressWarnings("unused")
+	private long p10, p11, p12, p13, p14, p15, p16, p17;
+}
+
+/** Written by the consumer only */
+abstract class SpscConsumerFields extends SpscPad1 {
+	long consumerIndex;
+	long producerCache;
+}
@@ -0,0 +1,93 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Threads parked on one side of a channel. Parking goes through {@link LockSupport}, so a waiting
+ * virtual thread releases its carrier.
+ *
+ * <p>
+ * A waiter registers <i>before</i> re-checking the ring and a notifier checks for waiters
+ * <i>after</i> changing the ring, each separated by a full fence, so a wake-up cannot be lost
+ * in between. A {@link Waiter} is claimed exactly once, either by a notifier or by its own
+ * thread cancelling, which also lets one waiter sit in several queues for {@code Select}.
+ * </p>
+ */
+final class WaitQueue {
+	private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * A parked thread. Claiming it is the only transition, hence the flag.
+	 */
+	static final class Waiter {
+		private static final VarHandle CLAIMED;
+
+		static {
+			try {
+				CLAIMED = MethodHandles.lookup().findVarHandle(Waiter.class, "claimed", boolean.class);
+			}
+			catch (ReflectiveOperationException e) {
+				throw new ExceptionInInitializerError(e);
+			}
+		}
+
+		final Thread thread = Thread.currentThread();
+		@SuppressWarnings("unused")
+		private volatile boolean claimed;
+
+		/**
+		 * @return {@code true} if this call claimed the waiter
+		 */
+		boolean claim() {
+			return CLAIMED.compareAndSet(this, false, true);
+		}
+	}
+
+	/**
+	 * Adds {@code w}. The caller must re-check its condition before parking.
+	 */
+	void add(Waiter w) {
+		waiters.offer(w);
+		VarHandle.fullFence();
+	}
+
+	/**
+	 * Removes {@code w}, which the caller has claimed itself.
+	 */
+	void remove(Waiter w) {
+		waiters.remove(w);
+	}
+
+	/**
+	 * Wakes the oldest waiter, if any. The caller has just changed the ring.
+	 */
+	void wakeOne() {
+		VarHandle.fullFence();
+		if (waiters.isEmpty()) {
+			return;
+		}
+		Waiter w;
+		while ((w = waiters.poll()) != null) {
+			if (w.claim()) {
+				LockSupport.unpark(w.thread);
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Wakes every waiter, after a disconnect.
+	 */
+	void wakeAll() {
+		VarHandle.fullFence();
+		Waiter w;
+		while ((w = waiters.poll()) != null) {
+			if (w.claim()) {
+				LockSupport.unpark(w.thread);
+			}
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.gitlab.mercur3.jrusty.function;
+
+/**
+ * A function that accepts a {@code boolean} and produces a result. The {@code boolean}
+ * specialization of {@link java.util.function.Function}, which the JDK lacks.
+ *
+ * @param <R> the type of the result
+ * @see java.util.function.IntFunction
+ */
+@FunctionalInterface
+public interface BooleanFunction<R> {
+	R apply(boolean value);
+}
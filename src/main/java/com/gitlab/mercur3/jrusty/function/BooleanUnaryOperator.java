@@ -0,0 +1,12 @@
+package com.gitlab.mercur3.jrusty.function;
+
+/**
+ * An operation on a single {@code boolean} operand that produces a {@code boolean}. The
+ * {@code boolean} specialization of {@link java.util.function.UnaryOperator}, which the JDK lacks.
+ *
+ * @see java.util.function.IntUnaryOperator
+ */
+@FunctionalInterface
+public interface BooleanUnaryOperator {
+	boolean applyAsBoolean(boolean operand);
+}
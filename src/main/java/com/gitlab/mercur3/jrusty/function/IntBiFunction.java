@@ -0,0 +1,13 @@
+package com.gitlab.mercur3.jrusty.function;
+
+/**
+ * A function that accepts two {@code int}s and produces a result. The {@code int}
+ * specialization of {@link java.util.function.BiFunction}, which the JDK lacks.
+ *
+ * @param <R> the type of the result
+ * @see java.util.function.IntBinaryOperator
+ */
+@FunctionalInterface
+public interface IntBiFunction<R> {
+	R apply(int a, int b);
+}
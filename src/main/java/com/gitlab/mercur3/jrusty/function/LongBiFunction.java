@@ -0,0 +1,13 @@
+package com.gitlab.mercur3.jrusty.function;
+
+/**
+ * A function that accepts two {@code long}s and produces a result. The {@code long}
+ * specialization of {@link java.util.function.BiFunction}, which the JDK lacks.
+ *
+ * @param <R> the type of the result
+ * @see java.util.function.LongBinaryOperator
+ */
+@FunctionalInterface
+public interface LongBiFunction<R> {
+	R apply(long a, long b);
+}
@@ -0,0 +1,304 @@
+package com.gitlab.mercur3.jrusty.io;
+
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import com.gitlab.mercur3.jrusty.util.Utf8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.ReadOnlyFileSystemException;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Representation of Rust's {@code std::fs}: whole-file operations that return a {@link Result}
+ * instead of throwing. Every {@code IOException} is mapped by {@link IoErrors#kind(IOException)},
+ * so a missing file is <code>Err(NOT_FOUND)</code>, a forbidden one
+ * <code>Err(PERMISSION_DENIED)</code>, and so on.
+ *
+ * {@snippet :
+ * var config = Fs.readToString(path).unwrapOr("");
+ * switch (Fs.copy(from, to)) {
+ *     case Ok<Long, ErrorKind> ok -> System.out.println(ok.unwrap() + " bytes copied");
+ *     case Err<ErrorKind, Long> err -> System.out.println("copy failed: " + err.unwrapErr());
+ * }
+ * }
+ *
+ * <p>
+ * Files of at least {@value #MAP_THRESHOLD} bytes are memory mapped to be read, which copies them
+ * once from the page cache instead of through a temporary direct buffer. {@link #copy(Path, Path)}
+ * uses {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which
+ * the OS usually performs without copying the data to the JVM at all.
+ * </p>
+ *
+ * @see LineReader
+ * @see <a href="https://doc.rust-lang.org/std/fs/index.html"><code>std::fs</code></a>
+ */
+public final class Fs {
+	/** Files at least this large are memory mapped by the read operations */
+	static final long MAP_THRESHOLD = 1 << 20;
+	/** Some VMs reserve header words in arrays */
+	private static final long MAX_ARRAY = Integer.MAX_VALUE - 8;
+
+	private Fs() {}
+
+	/**
+	 * Metadata of a file, following symbolic links.
+	 *
+	 * @param len      the size in bytes
+	 * @param isFile   whether it is a regular file
+	 * @param isDir    whether it is a directory
+	 * @param modified the last modification time
+	 * @param accessed the last access time, as precise as the file system keeps it
+	 * @param created  the creation time, or the modification time where the file system does not
+	 *                 keep it
+	 */
+	public record Metadata(
+			long len,
+			boolean isFile,
+			boolean isDir,
+			FileTime modified,
+			FileTime accessed,
+			FileTime created
+	) {}
+
+	/**
+	 * @param path the file
+	 * @return <code>Ok(contents)</code>, <code>Err(OVERFLOW)</code> if the file does not fit in
+	 * an array, or the kind of the I/O error
+	 */
+	public static Result<byte[], ErrorKind> read(Path path) {
+		return io(() -> {
+			try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				long size = channel.size();
+				if (size > MAX_ARRAY) {
+					return Result.errKind(ErrorKind.OVERFLOW);
+				}
+				if (size >= MAP_THRESHOLD) {
+					var out = new byte[(int) size];
+					channel.map(FileChannel.MapMode.READ_ONLY, 0, size).get(out);
+					return new Ok<>(out);
+				}
+				return new Ok<>(readSmall(channel, (int) size));
+			}
+		});
+	}
+
+	/**
+	 * Maps the whole file read-only, without copying it. The mapping stays valid after the file
+	 * is closed, until it is garbage collected.
+	 *
+	 * @param path the file
+	 * @return <code>Ok(mapped contents)</code>, <code>Err(OVERFLOW)</code> if the file is larger
+	 * than a {@code ByteBuffer} can address, or the kind of the I/O error
+	 */
+	public static Result<MappedByteBuffer, ErrorKind> map(Path path) {
+		return io(() -> {
+			try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				long size = channel.size();
+				if (size > Integer.MAX_VALUE) {
+					return Result.errKind(ErrorKind.OVERFLOW);
+				}
+				return new Ok<>(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+			}
+		});
+	}
+
+	/**
+	 * Large files are copied once from the mapped file, then validated with
+	 * {@link Utf8#fromUtf8(ByteBuffer, int, int)}.
+	 *
+	 * @param path a UTF-8 file
+	 * @return <code>Ok(contents)</code>, <code>Err(FORMAT_ERROR)</code> if it is not valid UTF-8,
+	 * <code>Err(OVERFLOW)</code> if it does not fit in a {@code String}, or the kind of the I/O
+	 * error
+	 */
+	public static Result<String, ErrorKind> readToString(Path path) {
+		return io(() -> {
+			try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				long size = channel.size();
+				if (size > MAX_ARRAY) {
+					return Result.errKind(ErrorKind.OVERFLOW);
+				}
+				ByteBuffer bytes = size >= MAP_THRESHOLD
+						? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+						: ByteBuffer.wrap(readSmall(channel, (int) size));
+				return Utf8.fromUtf8(bytes, 0, bytes.remaining());
+			}
+		});
+	}
+
+	/**
+	 * Creates the file if it does not exist, and replaces its contents.
+	 *
+	 * @param path     the file
+	 * @param contents the new contents
+	 * @return <code>Ok(UNIT)</code> or the kind of the I/O error
+	 */
+	public static Result<Empty, ErrorKind> write(Path path, byte[] contents) {
+		return ioWriting(() -> {
+			Files.write(path, contents);
+			return Result.okUnit();
+		});
+	}
+
+	/**
+	 * Creates the file if it does not exist, and replaces its contents with {@code contents}
+	 * encoded in UTF-8.
+	 *
+	 * @param path     the file
+	 * @param contents the new contents
+	 * @return <code>Ok(UNIT)</code>, <code>Err(FORMAT_ERROR)</code> if {@code contents} has a
+	 * lone surrogate, or the kind of the I/O error
+	 */
+	public static Result<Empty, ErrorKind> write(Path path, CharSequence contents) {
+		return ioWriting(() -> {
+			Files.writeString(path, contents);
+			return Result.okUnit();
+		});
+	}
+
+	/**
+	 * Copies the contents of {@code from} to {@code to}, creating {@code to} if it does not exist
+	 * and truncating it otherwise. Attributes are not copied. Like
+	 * {@link Files#copy(Path, Path, java.nio.file.CopyOption...)}, copying a file onto itself
+	 * leaves it untouched.
+	 *
+	 * @param from the source file
+	 * @param to   the destination file
+	 * @return <code>Ok(number of bytes copied)</code> or the kind of the I/O error
+	 */
+	public static Result<Long, ErrorKind> copy(Path from, Path to) {
+		return ioWriting(() -> {
+			try (var in = FileChannel.open(from, StandardOpenOption.READ)) {
+				if (Files.exists(to) && Files.isSameFile(from, to)) {
+					// truncating the destination would empty the source
+					return new Ok<>(in.size());
+				}
+				try (
+						var out = FileChannel.open(
+								to,
+								StandardOpenOption.WRITE,
+								StandardOpenOption.CREATE,
+								StandardOpenOption.TRUNCATE_EXISTING
+						)
+				) {
+					long size = in.size();
+					long pos = 0;
+					while (pos < size) {
+						long n = in.transferTo(pos, size - pos, out);
+						if (n <= 0) {
+							break;
+						}
+						pos += n;
+					}
+					return new Ok<>(pos);
+				}
+			}
+		});
+	}
+
+	/**
+	 * @param path the file or directory, symbolic links are followed
+	 * @return <code>Ok(metadata)</code> or the kind of the I/O error
+	 */
+	public static Result<Metadata, ErrorKind> metadata(Path path) {
+		return io(() -> {
+			var attrs = Files.readAttributes(path, BasicFileAttributes.class);
+			return new Ok<>(new Metadata(
+					attrs.size(),
+					attrs.isRegularFile(),
+					attrs.isDirectory(),
+					attrs.lastModifiedTime(),
+					attrs.lastAccessTime(),
+					attrs.creationTime()
+			));
+		});
+	}
+
+	/**
+	 * @param dir the directory
+	 * @return <code>Ok(entries)</code> in no particular order, without {@code .} and {@code ..};
+	 * <code>Err(INVALID_INPUT)</code> if {@code dir} is not a directory, or the kind of the I/O
+	 * error
+	 */
+	public static Result<List<Path>, ErrorKind> readDir(Path dir) {
+		return io(() -> {
+			try (var stream = Files.newDirectoryStream(dir)) {
+				var entries = new ArrayList<Path>();
+				for (var entry : stream) {
+					entries.add(entry);
+				}
+				return new Ok<>(entries);
+			}
+			catch (DirectoryIteratorException e) {
+				throw e.getCause();
+			}
+		});
+	}
+
+	/// PRIVATE
+
+	@FunctionalInterface
+	interface IoSupplier<T> {
+		T get() throws IOException;
+	}
+
+	/**
+	 * Runs {@code op}, mapping what the {@code java.nio.file} API throws to an {@link ErrorKind}:
+	 * an {@code IOException}, or a {@link SecurityException} from a security manager.
+	 */
+	static <T> Result<T, ErrorKind> io(IoSupplier<Result<T, ErrorKind>> op) {
+		try {
+			return op.get();
+		}
+		catch (IOException e) {
+			return Result.errKind(IoErrors.kind(e));
+		}
+		catch (SecurityException e) {
+			return Result.errKind(IoErrors.kind(e));
+		}
+	}
+
+	/** Like {@link #io(IoSupplier)}, for an {@code op} that a read-only file system refuses */
+	private static <T> Result<T, ErrorKind> ioWriting(IoSupplier<Result<T, ErrorKind>> op) {
+		try {
+			return io(op);
+		}
+		catch (ReadOnlyFileSystemException e) {
+			return Result.errKind(IoErrors.kind(e));
+		}
+	}
+
+	/**
+	 * Reads {@code channel} to the end. {@code size} is only a hint: files such as those of
+	 * {@code /proc} report a size of {@code 0}, and a file may change while it is read.
+	 */
+	private static byte[] readSmall(FileChannel channel, int size) throws IOException {
+		var buf = ByteBuffer.allocate(size);
+		while (buf.hasRemaining()) {
+			if (channel.read(buf) < 0) {
+				return Arrays.copyOf(buf.array(), buf.position());
+			}
+		}
+		var rest = Channels.newInputStream(channel).readAllBytes();
+		if (rest.length == 0) {
+			return buf.array();
+		}
+		var out = Arrays.copyOf(buf.array(), size + rest.length);
+		System.arraycopy(rest, 0, out, size, rest.length);
+		return out;
+	}
+}
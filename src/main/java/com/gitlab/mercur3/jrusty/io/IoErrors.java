@@ -0,0 +1,72 @@
+package com.gitlab.mercur3.jrusty.io;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileLockInterruptionException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.ReadOnlyFileSystemException;
+
+/**
+ * Maps the exceptions of {@code java.io} and {@code java.nio} to an {@link ErrorKind}, the
+ * counterpart of Rust's {@code std::io::Error::kind}. Only the type of the exception is looked
+ * at, its message is never built.
+ */
+public final class IoErrors {
+	private IoErrors() {}
+
+	/**
+	 * @param e any exception of an I/O operation
+	 * @return the closest {@code ErrorKind}, <code>IO_ERROR</code> if none is closer
+	 */
+	public static ErrorKind kind(IOException e) {
+		if (e instanceof NoSuchFileException || e instanceof FileNotFoundException) {
+			return ErrorKind.NOT_FOUND;
+		}
+		if (e instanceof AccessDeniedException) {
+			return ErrorKind.PERMISSION_DENIED;
+		}
+		if (e instanceof FileAlreadyExistsException) {
+			return ErrorKind.ALREADY_EXISTS;
+		}
+		if (e instanceof NotDirectoryException) {
+			return ErrorKind.INVALID_INPUT;
+		}
+		if (e instanceof CharacterCodingException) {
+			return ErrorKind.FORMAT_ERROR;
+		}
+		if (e instanceof SocketTimeoutException) {
+			return ErrorKind.TIMED_OUT;
+		}
+		if (
+				e instanceof ClosedByInterruptException
+						|| e instanceof FileLockInterruptionException
+						|| e instanceof InterruptedIOException
+		) {
+			return ErrorKind.INTERRUPTED;
+		}
+		if (e instanceof ConnectException) {
+			return ErrorKind.CONNECTION_REFUSED;
+		}
+		return ErrorKind.IO_ERROR;
+	}
+
+	/** A file system opened read-only refuses to write with this unchecked exception */
+	static ErrorKind kind(ReadOnlyFileSystemException e) {
+		return ErrorKind.READONLY;
+	}
+
+	/** A security manager denies an operation with this unchecked exception */
+	static ErrorKind kind(SecurityException e) {
+		return ErrorKind.PERMISSION_DENIED;
+	}
+}
@@ -0,0 +1,207 @@
+package com.gitlab.mercur3.jrusty.io;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Reads lines into a single {@code char[]} that is reused from line to line, so walking a file
+ * creates no {@code String} per line. Lines end at {@code "\n"} or {@code "\r\n"}, the last line
+ * does not need to, like Rust's {@code BufRead::lines}.
+ *
+ * {@snippet :
+ * try (var reader = LineReader.open(path).expect("cannot open")) {
+ *     while (reader.next().expect("cannot read")) {
+ *         var line = reader.line();   // valid until the next call to next()
+ *         FromString.parseIntPrimitive(line, 0, line.length());
+ *     }
+ * }
+ * }
+ *
+ * <p>
+ * The buffer starts at {@value #DEFAULT_CAPACITY} chars and doubles when a line does not fit. Not
+ * thread-safe.
+ * </p>
+ *
+ * @see Fs
+ */
+public final class LineReader implements AutoCloseable {
+	static final int DEFAULT_CAPACITY = 8192;
+
+	private final Reader in;
+	private final Line line = new Line();
+	private char[] buf;
+	/** The unread chars are {@code buf[start, end)} */
+	private int start;
+	private int end;
+	private boolean eof;
+
+	private LineReader(Reader in, int capacity) {
+		this.in = in;
+		this.buf = new char[capacity];
+	}
+
+	/**
+	 * @param path a UTF-8 file
+	 * @return the reader, or the kind of the I/O error
+	 */
+	public static Result<LineReader, ErrorKind> open(Path path) {
+		return Fs.io(() -> {
+			// a new decoder reports malformed input instead of replacing it
+			var decoder = StandardCharsets.UTF_8.newDecoder();
+			return new Ok<>(of(new InputStreamReader(Files.newInputStream(path), decoder)));
+		});
+	}
+
+	/**
+	 * @param in read in chunks, no need to wrap it in a {@code BufferedReader}
+	 * @return a reader of the lines of {@code in}, closing it when closed
+	 */
+	public static LineReader of(Reader in) {
+		return of(in, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param in       read in chunks, no need to wrap it in a {@code BufferedReader}
+	 * @param capacity the initial size of the buffer
+	 * @return a reader of the lines of {@code in}, closing it when closed
+	 * @throws IllegalArgumentException if {@code capacity < 1}
+	 */
+	public static LineReader of(Reader in, int capacity) {
+		Objects.requireNonNull(in);
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Error: capacity must be >= 1, was " + capacity);
+		}
+		return new LineReader(in, capacity);
+	}
+
+	/**
+	 * Moves to the next line.
+	 *
+	 * @return <code>Ok(true)</code> if there is one, <code>Ok(false)</code> at the end, or the
+	 * kind of the I/O error, e.g. <code>FORMAT_ERROR</code> for malformed UTF-8. Nothing is read
+	 * after an error.
+	 */
+	public Result<Boolean, ErrorKind> next() {
+		int scan = start;
+		while (true) {
+			for (int i = scan; i < end; i++) {
+				if (buf[i] == '\n') {
+					int lineEnd = i > start && buf[i - 1] == '\r' ? i - 1 : i;
+					line.set(start, lineEnd);
+					start = i + 1;
+					return Result.okBoolean(true);
+				}
+			}
+			if (eof) {
+				if (start < end) {
+					line.set(start, end);
+					start = end;
+					return Result.okBoolean(true);
+				}
+				line.set(0, 0);
+				return Result.okBoolean(false);
+			}
+
+			scan = end - start;
+			try {
+				fill();
+			}
+			catch (IOException e) {
+				eof = true;
+				start = end;
+				line.set(0, 0);
+				return Result.errKind(IoErrors.kind(e));
+			}
+		}
+	}
+
+	/**
+	 * @return the current line without its line ending. It is a view of the buffer, which the
+	 * next call to {@link #next()} overwrites; use {@code toString()} to keep it.
+	 */
+	public CharSequence line() {
+		return line;
+	}
+
+	@Override
+	public void close() {
+		try {
+			in.close();
+		}
+		catch (IOException ignored) {
+			// nothing left to release
+		}
+	}
+
+	/// PRIVATE
+
+	/**
+	 * Moves the unread chars to the front of the buffer, doubling it if they fill it, then reads
+	 * more after them.
+	 */
+	private void fill() throws IOException {
+		int unread = end - start;
+		if (unread == buf.length) {
+			var bigger = new char[Math.max(buf.length << 1, buf.length + 1)];
+			System.arraycopy(buf, start, bigger, 0, unread);
+			buf = bigger;
+		}
+		else if (start > 0) {
+			System.arraycopy(buf, start, buf, 0, unread);
+		}
+		start = 0;
+		end = unread;
+
+		int n = in.read(buf, end, buf.length - end);
+		if (n < 0) {
+			eof = true;
+		}
+		else {
+			end += n;
+		}
+	}
+
+	/**
+	 * The current line, {@code buf[from, to)}.
+	 */
+	private final class Line implements CharSequence {
+		private int from;
+		private int to;
+
+		void set(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public int length() {
+			return to - from;
+		}
+
+		@Override
+		public char charAt(int index) {
+			Objects.checkIndex(index, to - from);
+			return buf[from + index];
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			Objects.checkFromToIndex(start, end, to - from);
+			return new String(buf, from + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return new String(buf, from, to - from);
+		}
+	}
+}
@@ -0,0 +1,294 @@
+package com.gitlab.mercur3.jrusty.iter;
+
+import com.gitlab.mercur3.jrusty.function.IntBiFunction;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The {@code int} specialization of {@link Iter}. Elements are never boxed between adapters, so a
+ * pipeline over {@code int}s allocates nothing but the adapters themselves.
+ *
+ * <p>
+ * Same contract as {@link Iter}: single-use, not thread-safe, and fused, i.e. once
+ * {@link #hasNext()} returned {@code false} it keeps returning {@code false}.
+ * </p>
+ *
+ * @see Iter
+ */
+public interface IntIter extends PrimitiveIterator.OfInt {
+	/// FACTORIES
+
+	/**
+	 * @return an {@code IntIter} over nothing
+	 */
+	static IntIter empty() {
+		return of();
+	}
+
+	/**
+	 * @param values the elements; the array is not copied
+	 * @return an {@code IntIter} over {@code values}
+	 */
+	static IntIter of(int... values) {
+		return from(values, 0, values.length);
+	}
+
+	/**
+	 * @param values the elements; the array is not copied
+	 * @param from the first index, inclusive
+	 * @param to the last index, exclusive
+	 * @return an {@code IntIter} over {@code values[from..to)}
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	static IntIter from(int[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		return new IntIter() {
+			private int i = from;
+
+			@Override
+			public boolean hasNext() {
+				return i < to;
+			}
+
+			@Override
+			public int nextInt() {
+				if (i >= to) {
+					throw new NoSuchElementException();
+				}
+				return values[i++];
+			}
+		};
+	}
+
+	/**
+	 * @param from the first value, inclusive
+	 * @param to the last value, exclusive
+	 * @return an {@code IntIter} over {@code from, from + 1, ..., to - 1}, nothing if
+	 * {@code from >= to}
+	 */
+	static IntIter range(int from, int to) {
+		return new IntIter() {
+			private int i = from;
+
+			@Override
+			public boolean hasNext() {
+				return i < to;
+			}
+
+			@Override
+			public int nextInt() {
+				if (i >= to) {
+					throw new NoSuchElementException();
+				}
+				return i++;
+			}
+		};
+	}
+
+	/// ADAPTERS
+
+	default IntIter map(IntUnaryOperator mapper) {
+		Objects.requireNonNull(mapper);
+		var source = this;
+		return new IntIter() {
+			@Override
+			public boolean hasNext() {
+				return source.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				return mapper.applyAsInt(source.nextInt());
+			}
+		};
+	}
+
+	/**
+	 * @param mapper must not return {@code null}
+	 */
+	default <R> Iter<R> mapToObj(IntFunction<R> mapper) {
+		Objects.requireNonNull(mapper);
+		var source = this;
+		return () -> source.hasNext() ? Objects.requireNonNull(mapper.apply(source.nextInt())) : null;
+	}
+
+	default Iter<Integer> boxed() {
+		var source = this;
+		return () -> source.hasNext() ? source.nextInt() : null;
+	}
+
+	default IntIter filter(IntPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		var source = this;
+		return new IntIter() {
+			private boolean ready;
+			private int next;
+
+			@Override
+			public boolean hasNext() {
+				while (!ready && source.hasNext()) {
+					var v = source.nextInt();
+					if (predicate.test(v)) {
+						next = v;
+						ready = true;
+					}
+				}
+				return ready;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				ready = false;
+				return next;
+			}
+		};
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code n < 0}
+	 */
+	default IntIter take(long n) {
+		IterAdapters.checkCount(n);
+		var source = this;
+		return new IntIter() {
+			private long remaining = n;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0 && source.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				if (remaining <= 0) {
+					throw new NoSuchElementException();
+				}
+				var v = source.nextInt();
+				remaining--;
+				return v;
+			}
+		};
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code n < 0}
+	 */
+	default IntIter skip(long n) {
+		IterAdapters.checkCount(n);
+		var source = this;
+		return new IntIter() {
+			private long toSkip = n;
+
+			@Override
+			public boolean hasNext() {
+				for (; toSkip > 0 && source.hasNext(); toSkip--) {
+					source.nextInt();
+				}
+				return source.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return source.nextInt();
+			}
+		};
+	}
+
+	/**
+	 * @return the elements of this, then those of {@code other}
+	 */
+	default IntIter chain(IntIter other) {
+		Objects.requireNonNull(other);
+		var first = this;
+		return new IntIter() {
+			@Override
+			public boolean hasNext() {
+				return first.hasNext() || other.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				return first.hasNext() ? first.nextInt() : other.nextInt();
+			}
+		};
+	}
+
+	/// TERMINAL OPERATIONS
+
+	default int fold(int init, IntBinaryOperator f) {
+		var acc = init;
+		while (hasNext()) {
+			acc = f.applyAsInt(acc, nextInt());
+		}
+		return acc;
+	}
+
+	/**
+	 * Like {@link #fold(int, IntBinaryOperator)}, but stops at the first <code>Err</code>. The rest
+	 * of this {@code IntIter} is left unconsumed.
+	 *
+	 * @return <code>Ok(accumulated value)</code> or the first <code>Err</code> of {@code f}
+	 */
+	default <E> IntResult<E> tryFold(int init, IntBiFunction<IntResult<E>> f) {
+		var acc = init;
+		while (hasNext()) {
+			var res = f.apply(acc, nextInt());
+			if (res.isErr()) {
+				return res;
+			}
+			acc = res.unwrap();
+		}
+		return IntResult.ok(acc);
+	}
+
+	/**
+	 * @return the sum of the remaining elements, wrapping on overflow like {@code +}
+	 */
+	default int sum() {
+		int acc = 0;
+		while (hasNext()) {
+			acc += nextInt();
+		}
+		return acc;
+	}
+
+	/**
+	 * @return the number of remaining elements, consuming them
+	 */
+	default long count() {
+		long n = 0;
+		for (; hasNext(); n++) {
+			nextInt();
+		}
+		return n;
+	}
+
+	/**
+	 * @return the remaining elements
+	 */
+	default int[] toArray() {
+		var out = new int[16];
+		int n = 0;
+		while (hasNext()) {
+			if (n == out.length) {
+				out = Arrays.copyOf(out, n << 1);
+			}
+			out[n++] = nextInt();
+		}
+		return n == out.length ? out : Arrays.copyOf(out, n);
+	}
+}
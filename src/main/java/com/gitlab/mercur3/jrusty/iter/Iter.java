@@ -0,0 +1,324 @@
+package com.gitlab.mercur3.jrusty.iter;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * Representation of Rust's {@code std::iter::Iterator}: a lazy sequence whose adapters are fused
+ * into a chain of small {@link #nextOrNull()} calls, with no pipeline to set up. A short pipeline
+ * ends up as a handful of calls the JIT can inline into the terminal loop.
+ *
+ * {@snippet :
+ * Result<Integer, ErrorKind> total = Iter.from(lines)
+ *         .filter(line -> !line.isBlank())
+ *         .map(String::strip)
+ *         .tryFold(0, (acc, line) -> FromString.parseInt(line).map(x -> acc + x));
+ * }
+ *
+ * <h2>Contract</h2>
+ * <ul>
+ *     <li>Elements are never {@code null}; {@code null} from {@link #nextOrNull()} means the end.</li>
+ *     <li>Iterators are <i>fused</i>: once exhausted they keep returning {@code null}. Every
+ *     adapter preserves this, and an {@code Iter} written by hand must too.</li>
+ *     <li>An {@code Iter} is single-use and not thread-safe. Adapters consume their source.</li>
+ * </ul>
+ *
+ * @param <T> the type of the elements
+ * @see IntIter
+ * @see LongIter
+ * @see <a href="https://doc.rust-lang.org/std/iter/trait.Iterator.html"><code>std::iter::Iterator</code></a>
+ */
+@FunctionalInterface
+public interface Iter<T> extends Iterable<T> {
+	/**
+	 * @return the next element, or {@code null} once exhausted
+	 */
+	T nextOrNull();
+
+	/**
+	 * @return <code>Some(next element)</code>, or <code>None</code> once exhausted
+	 */
+	default Option<T> next() {
+		return Option.ofNullable(nextOrNull());
+	}
+
+	/// FACTORIES
+
+	/**
+	 * @return an {@code Iter} over nothing
+	 */
+	static <T> Iter<T> empty() {
+		return () -> null;
+	}
+
+	/**
+	 * @param values the elements, none of them {@code null}
+	 * @return an {@code Iter} over {@code values}
+	 */
+	@SafeVarargs
+	static <T> Iter<T> of(T... values) {
+		// copied like List.of would, later writes to the array are not seen
+		var copy = new Object[values.length];
+		for (int i = 0; i < values.length; i++) {
+			copy[i] = Objects.requireNonNull(values[i]);
+		}
+		return new IterAdapters.OfArray<>(copy);
+	}
+
+	/**
+	 * @param iterable the source; its elements must not be {@code null}
+	 * @return an {@code Iter} over {@code iterable}
+	 */
+	static <T> Iter<T> from(Iterable<T> iterable) {
+		if (iterable instanceof Iter<T> iter) {
+			return iter;
+		}
+		if (iterable instanceof List<T> list && list instanceof RandomAccess) {
+			return new IterAdapters.OfList<>(list);
+		}
+		return from(iterable.iterator());
+	}
+
+	/**
+	 * @param iterator the source; its elements must not be {@code null}
+	 * @return an {@code Iter} over {@code iterator}
+	 */
+	static <T> Iter<T> from(Iterator<T> iterator) {
+		Objects.requireNonNull(iterator);
+		return () -> iterator.hasNext() ? Objects.requireNonNull(iterator.next()) : null;
+	}
+
+	/// ADAPTERS
+
+	/**
+	 * @param mapper must not return {@code null}, see {@link #filterMap(Function)} to drop elements
+	 */
+	default <R> Iter<R> map(Function<T, R> mapper) {
+		return new IterAdapters.Map<>(this, Objects.requireNonNull(mapper));
+	}
+
+	default Iter<T> filter(Predicate<T> predicate) {
+		return new IterAdapters.Filter<>(this, Objects.requireNonNull(predicate));
+	}
+
+	/**
+	 * @param mapper <code>Some(x)</code> to keep {@code x}, <code>None</code> to drop the element
+	 */
+	default <R> Iter<R> filterMap(Function<T, Option<R>> mapper) {
+		return new IterAdapters.FilterMap<>(this, Objects.requireNonNull(mapper));
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code n < 0}
+	 */
+	default Iter<T> take(long n) {
+		return new IterAdapters.Take<>(this, IterAdapters.checkCount(n));
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code n < 0}
+	 */
+	default Iter<T> skip(long n) {
+		return new IterAdapters.Skip<>(this, IterAdapters.checkCount(n));
+	}
+
+	/**
+	 * @return the elements of this, then those of {@code other}
+	 */
+	default Iter<T> chain(Iter<T> other) {
+		return new IterAdapters.Chain<>(this, Objects.requireNonNull(other));
+	}
+
+	/**
+	 * @return pairs of elements, as long as both have one
+	 */
+	default <U> Iter<Tuple2<T, U>> zip(Iter<U> other) {
+		return new IterAdapters.Zip<>(this, Objects.requireNonNull(other));
+	}
+
+	/**
+	 * @return pairs of (index from 0, element)
+	 */
+	default Iter<Tuple2<Long, T>> enumerate() {
+		return new IterAdapters.Enumerate<>(this);
+	}
+
+	/**
+	 * @param size the size of every chunk but the last, which may be shorter
+	 * @return consecutive, non-overlapping chunks as unmodifiable lists
+	 * @throws IllegalArgumentException if {@code size < 1}
+	 */
+	default Iter<List<T>> chunks(int size) {
+		return new IterAdapters.Chunks<>(this, IterAdapters.checkSize(size));
+	}
+
+	/**
+	 * @param size the size of every window
+	 * @return every run of {@code size} consecutive elements as an unmodifiable list, nothing if
+	 * there are fewer elements
+	 * @throws IllegalArgumentException if {@code size < 1}
+	 */
+	default Iter<List<T>> windows(int size) {
+		return new IterAdapters.Windows<>(this, IterAdapters.checkSize(size));
+	}
+
+	default IntIter mapToInt(ToIntFunction<T> mapper) {
+		Objects.requireNonNull(mapper);
+		return new IntIter() {
+			private T next;
+
+			@Override
+			public boolean hasNext() {
+				if (next == null) {
+					next = Iter.this.nextOrNull();
+				}
+				return next != null;
+			}
+
+			@Override
+			public int nextInt() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				var v = next;
+				next = null;
+				return mapper.applyAsInt(v);
+			}
+		};
+	}
+
+	default LongIter mapToLong(ToLongFunction<T> mapper) {
+		Objects.requireNonNull(mapper);
+		return new LongIter() {
+			private T next;
+
+			@Override
+			public boolean hasNext() {
+				if (next == null) {
+					next = Iter.this.nextOrNull();
+				}
+				return next != null;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				var v = next;
+				next = null;
+				return mapper.applyAsLong(v);
+			}
+		};
+	}
+
+	/// TERMINAL OPERATIONS
+
+	default <U> U fold(U init, BiFunction<U, T, U> f) {
+		U acc = init;
+		T v;
+		while ((v = nextOrNull()) != null) {
+			acc = f.apply(acc, v);
+		}
+		return acc;
+	}
+
+	/**
+	 * Like {@link #fold(Object, BiFunction)}, but stops at the first <code>Err</code>. The rest of
+	 * this {@code Iter} is left unconsumed.
+	 *
+	 * @return <code>Ok(accumulated value)</code> or the first <code>Err</code> of {@code f}
+	 */
+	default <U, E> Result<U, E> tryFold(U init, BiFunction<U, T, Result<U, E>> f) {
+		U acc = init;
+		T v;
+		while ((v = nextOrNull()) != null) {
+			var res = f.apply(acc, v);
+			if (res.isErr()) {
+				return res;
+			}
+			acc = res.unwrap();
+		}
+		return new Ok<>(acc);
+	}
+
+	/**
+	 * @param collector e.g. one of {@link java.util.stream.Collectors}
+	 * @return the result of {@code collector}
+	 */
+	default <A, R> R collect(Collector<? super T, A, R> collector) {
+		A container = collector.supplier().get();
+		var accumulator = collector.accumulator();
+		T v;
+		while ((v = nextOrNull()) != null) {
+			accumulator.accept(container, v);
+		}
+		return collector.finisher().apply(container);
+	}
+
+	/**
+	 * @return the remaining elements in a new, modifiable list
+	 */
+	default List<T> toList() {
+		var list = new ArrayList<T>();
+		T v;
+		while ((v = nextOrNull()) != null) {
+			list.add(v);
+		}
+		return list;
+	}
+
+	/**
+	 * @return the number of remaining elements, consuming them
+	 */
+	default long count() {
+		long n = 0;
+		while (nextOrNull() != null) {
+			n++;
+		}
+		return n;
+	}
+
+	/**
+	 * @return a view for {@code for} loops, consuming this {@code Iter}
+	 */
+	@Override
+	default Iterator<T> iterator() {
+		return new Iterator<>() {
+			private T next;
+
+			@Override
+			public boolean hasNext() {
+				if (next == null) {
+					next = nextOrNull();
+				}
+				return next != null;
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				var v = next;
+				next = null;
+				return v;
+			}
+		};
+	}
+}
@@ -0,0 +1,283 @@
+package com.gitlab.mercur3.jrusty.iter;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The adapters behind {@link Iter}. Each is a small final class holding its source and nothing
+ * else, so a chain of them is a chain of monomorphic calls.
+ */
+final class IterAdapters {
+	private IterAdapters() {
+	}
+
+	static long checkCount(long n) {
+		if (n < 0) {
+			throw new IllegalArgumentException("Error: count must be >= 0, was " + n);
+		}
+		return n;
+	}
+
+	static int checkSize(int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Error: size must be >= 1, was " + size);
+		}
+		return size;
+	}
+
+	static final class OfList<T> implements Iter<T> {
+		private final List<T> list;
+		private int i;
+
+		OfList(List<T> list) {
+			this.list = list;
+		}
+
+		@Override
+		public T nextOrNull() {
+			if (i < list.size()) {
+				return Objects.requireNonNull(list.get(i++));
+			}
+			return null;
+		}
+	}
+
+	/** Only holds {@code T}s, an {@code Object[]} keeps {@code T...} arguments from escaping */
+	static final class OfArray<T> implements Iter<T> {
+		private final Object[] array;
+		private int i;
+
+		OfArray(Object[] array) {
+			this.array = array;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T nextOrNull() {
+			return i < array.length ? (T) array[i++] : null;
+		}
+	}
+
+	static final class Map<T, R> implements Iter<R> {
+		private final Iter<T> source;
+		private final Function<T, R> mapper;
+
+		Map(Iter<T> source, Function<T, R> mapper) {
+			this.source = source;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public R nextOrNull() {
+			var v = source.nextOrNull();
+			return v == null ? null : Objects.requireNonNull(mapper.apply(v));
+		}
+	}
+
+	static final class Filter<T> implements Iter<T> {
+		private final Iter<T> source;
+		private final Predicate<T> predicate;
+
+		Filter(Iter<T> source, Predicate<T> predicate) {
+			this.source = source;
+			this.predicate = predicate;
+		}
+
+		@Override
+		public T nextOrNull() {
+			T v;
+			while ((v = source.nextOrNull()) != null) {
+				if (predicate.test(v)) {
+					return v;
+				}
+			}
+			return null;
+		}
+	}
+
+	static final class FilterMap<T, R> implements Iter<R> {
+		private final Iter<T> source;
+		private final Function<T, Option<R>> mapper;
+
+		FilterMap(Iter<T> source, Function<T, Option<R>> mapper) {
+			this.source = source;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public R nextOrNull() {
+			T v;
+			while ((v = source.nextOrNull()) != null) {
+				var opt = mapper.apply(v);
+				if (opt.isSome()) {
+					return opt.unwrap();
+				}
+			}
+			return null;
+		}
+	}
+
+	static final class Take<T> implements Iter<T> {
+		private final Iter<T> source;
+		private long remaining;
+
+		Take(Iter<T> source, long n) {
+			this.source = source;
+			this.remaining = n;
+		}
+
+		@Override
+		public T nextOrNull() {
+			if (remaining == 0) {
+				return null;
+			}
+			var v = source.nextOrNull();
+			remaining = v == null ? 0 : remaining - 1;
+			return v;
+		}
+	}
+
+	static final class Skip<T> implements Iter<T> {
+		private final Iter<T> source;
+		private long toSkip;
+
+		Skip(Iter<T> source, long n) {
+			this.source = source;
+			this.toSkip = n;
+		}
+
+		@Override
+		public T nextOrNull() {
+			while (toSkip > 0) {
+				toSkip--;
+				if (source.nextOrNull() == null) {
+					toSkip = 0;
+					return null;
+				}
+			}
+			return source.nextOrNull();
+		}
+	}
+
+	static final class Chain<T> implements Iter<T> {
+		private Iter<T> first;
+		private final Iter<T> second;
+
+		Chain(Iter<T> first, Iter<T> second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public T nextOrNull() {
+			if (first != null) {
+				var v = first.nextOrNull();
+				if (v != null) {
+					return v;
+				}
+				first = null;
+			}
+			return second.nextOrNull();
+		}
+	}
+
+	static final class Zip<T, U> implements Iter<Tuple2<T, U>> {
+		private final Iter<T> first;
+		private final Iter<U> second;
+		private boolean done;
+
+		Zip(Iter<T> first, Iter<U> second) {
+			this.first = first;
+			this.second = second;
+		}
+
+		@Override
+		public Tuple2<T, U> nextOrNull() {
+			if (done) {
+				return null;
+			}
+			var a = first.nextOrNull();
+			var b = a == null ? null : second.nextOrNull();
+			if (b == null) {
+				done = true;
+				return null;
+			}
+			return new Tuple2<>(a, b);
+		}
+	}
+
+	static final class Enumerate<T> implements Iter<Tuple2<Long, T>> {
+		private final Iter<T> source;
+		private long index;
+
+		Enumerate(Iter<T> source) {
+			this.source = source;
+		}
+
+		@Override
+		public Tuple2<Long, T> nextOrNull() {
+			var v = source.nextOrNull();
+			return v == null ? null : new Tuple2<>(index++, v);
+		}
+	}
+
+	static final class Chunks<T> implements Iter<List<T>> {
+		private final Iter<T> source;
+		private final int size;
+
+		Chunks(Iter<T> source, int size) {
+			this.source = source;
+			this.size = size;
+		}
+
+		@Override
+		public List<T> nextOrNull() {
+			var v = source.nextOrNull();
+			if (v == null) {
+				return null;
+			}
+			var chunk = new ArrayList<T>(Math.min(size, 16));
+			chunk.add(v);
+			while (chunk.size() < size && (v = source.nextOrNull()) != null) {
+				chunk.add(v);
+			}
+			return Collections.unmodifiableList(chunk);
+		}
+	}
+
+	static final class Windows<T> implements Iter<List<T>> {
+		private final Iter<T> source;
+		private final int size;
+		private final ArrayDeque<T> window;
+
+		Windows(Iter<T> source, int size) {
+			this.source = source;
+			this.size = size;
+			this.window = new ArrayDeque<>(Math.min(size, 16));
+		}
+
+		@Override
+		public List<T> nextOrNull() {
+			if (window.size() == size) {
+				window.removeFirst();
+			}
+			while (window.size() < size) {
+				var v = source.nextOrNull();
+				if (v == null) {
+					window.clear();
+					return null;
+				}
+				window.addLast(v);
+			}
+			return List.copyOf(window);
+		}
+	}
+}
@@ -0,0 +1,294 @@
+package com.gitlab.mercur3.jrusty.iter;
+
+import com.gitlab.mercur3.jrusty.function.LongBiFunction;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The {@code long} specialization of {@link Iter}. Elements are never boxed between adapters, so a
+ * pipeline over {@code long}s allocates nothing but the adapters themselves.
+ *
+ * <p>
+ * Same contract as {@link Iter}: single-use, not thread-safe, and fused, i.e. once
+ * {@link #hasNext()} returned {@code false} it keeps returning {@code false}.
+ * </p>
+ *
+ * @see Iter
+ */
+public interface LongIter extends PrimitiveIterator.OfLong {
+	/// FACTORIES
+
+	/**
+	 * @return an {@code LongIter} over nothing
+	 */
+	static LongIter empty() {
+		return of();
+	}
+
+	/**
+	 * @param values the elements; the array is not copied
+	 * @return an {@code LongIter} over {@code values}
+	 */
+	static LongIter of(long... values) {
+		return from(values, 0, values.length);
+	}
+
+	/**
+	 * @param values the elements; the array is not copied
+	 * @param from the first index, inclusive
+	 * @param to the last index, exclusive
+	 * @return an {@code LongIter} over {@code values[from..to)}
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	static LongIter from(long[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		return new LongIter() {
+			private int i = from;
+
+			@Override
+			public boolean hasNext() {
+				return i < to;
+			}
+
+			@Override
+			public long nextLong() {
+				if (i >= to) {
+					throw new NoSuchElementException();
+				}
+				return values[i++];
+			}
+		};
+	}
+
+	/**
+	 * @param from the first value, inclusive
+	 * @param to the last value, exclusive
+	 * @return an {@code LongIter} over {@code from, from + 1, ..., to - 1}, nothing if
+	 * {@code from >= to}
+	 */
+	static LongIter range(long from, long to) {
+		return new LongIter() {
+			private long i = from;
+
+			@Override
+			public boolean hasNext() {
+				return i < to;
+			}
+
+			@Override
+			public long nextLong() {
+				if (i >= to) {
+					throw new NoSuchElementException();
+				}
+				return i++;
+			}
+		};
+	}
+
+	/// ADAPTERS
+
+	default LongIter map(LongUnaryOperator mapper) {
+		Objects.requireNonNull(mapper);
+		var source = this;
+		return new LongIter() {
+			@Override
+			public boolean hasNext() {
+				return source.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				return mapper.applyAsLong(source.nextLong());
+			}
+		};
+	}
+
+	/**
+	 * @param mapper must not return {@code null}
+	 */
+	default <R> Iter<R> mapToObj(LongFunction<R> mapper) {
+		Objects.requireNonNull(mapper);
+		var source = this;
+		return () -> source.hasNext() ? Objects.requireNonNull(mapper.apply(source.nextLong())) : null;
+	}
+
+	default Iter<Long> boxed() {
+		var source = this;
+		return () -> source.hasNext() ? source.nextLong() : null;
+	}
+
+	default LongIter filter(LongPredicate predicate) {
+		Objects.requireNonNull(predicate);
+		var source = this;
+		return new LongIter() {
+			private boolean ready;
+			private long next;
+
+			@Override
+			public boolean hasNext() {
+				while (!ready && source.hasNext()) {
+					var v = source.nextLong();
+					if (predicate.test(v)) {
+						next = v;
+						ready = true;
+					}
+				}
+				return ready;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				ready = false;
+				return next;
+			}
+		};
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code n < 0}
+	 */
+	default LongIter take(long n) {
+		IterAdapters.checkCount(n);
+		var source = this;
+		return new LongIter() {
+			private long remaining = n;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0 && source.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				if (remaining <= 0) {
+					throw new NoSuchElementException();
+				}
+				var v = source.nextLong();
+				remaining--;
+				return v;
+			}
+		};
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code n < 0}
+	 */
+	default LongIter skip(long n) {
+		IterAdapters.checkCount(n);
+		var source = this;
+		return new LongIter() {
+			private long toSkip = n;
+
+			@Override
+			public boolean hasNext() {
+				for (; toSkip > 0 && source.hasNext(); toSkip--) {
+					source.nextLong();
+				}
+				return source.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return source.nextLong();
+			}
+		};
+	}
+
+	/**
+	 * @return the elements of this, then those of {@code other}
+	 */
+	default LongIter chain(LongIter other) {
+		Objects.requireNonNull(other);
+		var first = this;
+		return new LongIter() {
+			@Override
+			public boolean hasNext() {
+				return first.hasNext() || other.hasNext();
+			}
+
+			@Override
+			public long nextLong() {
+				return first.hasNext() ? first.nextLong() : other.nextLong();
+			}
+		};
+	}
+
+	/// TERMINAL OPERATIONS
+
+	default long fold(long init, LongBinaryOperator f) {
+		var acc = init;
+		while (hasNext()) {
+			acc = f.applyAsLong(acc, nextLong());
+		}
+		return acc;
+	}
+
+	/**
+	 * Like {@link #fold(long, LongBinaryOperator)}, but stops at the first <code>Err</code>. The rest
+	 * of this {@code LongIter} is left unconsumed.
+	 *
+	 * @return <code>Ok(accumulated value)</code> or the first <code>Err</code> of {@code f}
+	 */
+	default <E> LongResult<E> tryFold(long init, LongBiFunction<LongResult<E>> f) {
+		var acc = init;
+		while (hasNext()) {
+			var res = f.apply(acc, nextLong());
+			if (res.isErr()) {
+				return res;
+			}
+			acc = res.unwrap();
+		}
+		return LongResult.ok(acc);
+	}
+
+	/**
+	 * @return the sum of the remaining elements, wrapping on overflow like {@code +}
+	 */
+	default long sum() {
+		long acc = 0;
+		while (hasNext()) {
+			acc += nextLong();
+		}
+		return acc;
+	}
+
+	/**
+	 * @return the number of remaining elements, consuming them
+	 */
+	default long count() {
+		long n = 0;
+		for (; hasNext(); n++) {
+			nextLong();
+		}
+		return n;
+	}
+
+	/**
+	 * @return the remaining elements
+	 */
+	default long[] toArray() {
+		var out = new long[16];
+		int n = 0;
+		while (hasNext()) {
+			if (n == out.length) {
+				out = Arrays.copyOf(out, n << 1);
+			}
+			out[n++] = nextLong();
+		}
+		return n == out.length ? out : Arrays.copyOf(out, n);
+	}
+}
@@ -0,0 +1,464 @@
+package com.gitlab.mercur3.jrusty.num;
+
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.util.Objects;
+
+/**
+ * Rust's {@code checked_*}, {@code wrapping_*}, {@code saturating_*} and {@code overflowing_*}
+ * arithmetic of {@code i32} for {@code int}. None of them throws on overflow, unlike
+ * {@link Math#addExact(int, int)} and friends, which makes them cheap to use in a hot loop where
+ * overflow is a possible outcome rather than a bug.
+ *
+ * {@snippet :
+ * IntMath.checkedAdd(Integer.MAX_VALUE, 1);      // Err(OVERFLOW)
+ * IntMath.wrappingAdd(Integer.MAX_VALUE, 1);     // Integer.MIN_VALUE
+ * IntMath.saturatingAdd(Integer.MAX_VALUE, 1);   // Integer.MAX_VALUE
+ * IntMath.overflowingAdd(Integer.MAX_VALUE, 1);  // Overflowing[value=Integer.MIN_VALUE, overflowed=true]
+ * }
+ *
+ * <p>
+ * The checked variants return <code>Err(OVERFLOW)</code> when the result does not fit, and
+ * <code>Err(INVALID_INPUT)</code> for a division by zero or a negative exponent. Every
+ * <code>Err</code> is the canonical instance of its {@code ErrorKind}, so failing allocates
+ * nothing. The bulk methods at the end loop without branching on overflow, so the JIT can
+ * vectorize them.
+ * </p>
+ *
+ * @see <a href="https://doc.rust-lang.org/std/primitive.i32.html"><code>i32</code></a>
+ */
+public final class IntMath {
+	private IntMath() {}
+
+	/**
+	 * The result of an {@code overflowing_*} operation: the wrapped value and whether it wrapped.
+	 * Once inlined, the JIT usually scalar-replaces it.
+	 *
+	 * @param value      the result, wrapped around on overflow
+	 * @param overflowed whether the exact result did not fit
+	 */
+	public record Overflowing(int value, boolean overflowed) {}
+
+	/// CHECKED
+
+	/**
+	 * @return <code>Ok(a + b)</code>, or <code>Err(OVERFLOW)</code>
+	 */
+	public static IntResult<ErrorKind> checkedAdd(int a, int b) {
+		int r = a + b;
+		if (((a ^ r) & (b ^ r)) < 0) {
+			return overflow();
+		}
+		return IntResult.ok(r);
+	}
+
+	/**
+	 * @return <code>Ok(a - b)</code>, or <code>Err(OVERFLOW)</code>
+	 */
+	public static IntResult<ErrorKind> checkedSub(int a, int b) {
+		int r = a - b;
+		if (((a ^ b) & (a ^ r)) < 0) {
+			return overflow();
+		}
+		return IntResult.ok(r);
+	}
+
+	/**
+	 * @return <code>Ok(a * b)</code>, or <code>Err(OVERFLOW)</code>
+	 */
+	public static IntResult<ErrorKind> checkedMul(int a, int b) {
+		if (mulOverflows(a, b)) {
+			return overflow();
+		}
+		return IntResult.ok(a * b);
+	}
+
+	/**
+	 * @return <code>Ok(a / b)</code>, <code>Err(INVALID_INPUT)</code> if {@code b == 0}, or
+	 * <code>Err(OVERFLOW)</code> for {@code Integer.MIN_VALUE / -1}
+	 */
+	public static IntResult<ErrorKind> checkedDiv(int a, int b) {
+		if (b == 0) {
+			return IntResult.errKind(ErrorKind.INVALID_INPUT);
+		}
+		if (a == Integer.MIN_VALUE && b == -1) {
+			return overflow();
+		}
+		return IntResult.ok(a / b);
+	}
+
+	/**
+	 * @return <code>Ok(-a)</code>, or <code>Err(OVERFLOW)</code> for {@code Integer.MIN_VALUE}
+	 */
+	public static IntResult<ErrorKind> checkedNeg(int a) {
+		if (a == Integer.MIN_VALUE) {
+			return overflow();
+		}
+		return IntResult.ok(-a);
+	}
+
+	/**
+	 * Like Rust, only the shift amount is checked, not the bits shifted out.
+	 *
+	 * @return <code>Ok(a &lt;&lt; shift)</code>, or <code>Err(OVERFLOW)</code> if {@code shift} is
+	 * out of {@code [0, 32)}
+	 */
+	public static IntResult<ErrorKind> checkedShl(int a, int shift) {
+		if (shift < 0 || shift >= Integer.SIZE) {
+			return overflow();
+		}
+		return IntResult.ok(a << shift);
+	}
+
+	/**
+	 * @return <code>Ok(a &gt;&gt; shift)</code>, an arithmetic shift, or <code>Err(OVERFLOW)</code>
+	 * if {@code shift} is out of {@code [0, 32)}
+	 */
+	public static IntResult<ErrorKind> checkedShr(int a, int shift) {
+		if (shift < 0 || shift >= Integer.SIZE) {
+			return overflow();
+		}
+		return IntResult.ok(a >> shift);
+	}
+
+	/**
+	 * @return <code>Ok(base<sup>exp</sup>)</code>, <code>Err(INVALID_INPUT)</code> if
+	 * {@code exp < 0}, or <code>Err(OVERFLOW)</code>
+	 */
+	public static IntResult<ErrorKind> checkedPow(int base, int exp) {
+		if (exp < 0) {
+			return IntResult.errKind(ErrorKind.INVALID_INPUT);
+		}
+		var r = overflowingPow(base, exp);
+		if (r.overflowed()) {
+			return overflow();
+		}
+		return IntResult.ok(r.value());
+	}
+
+	/// WRAPPING
+
+	/**
+	 * @return {@code a + b}, wrapping around on overflow, same as Java's {@code +}
+	 */
+	public static int wrappingAdd(int a, int b) {
+		return a + b;
+	}
+
+	/**
+	 * @return {@code a - b}, wrapping around on overflow, same as Java's {@code -}
+	 */
+	public static int wrappingSub(int a, int b) {
+		return a - b;
+	}
+
+	/**
+	 * @return {@code a * b}, wrapping around on overflow, same as Java's {@code *}
+	 */
+	public static int wrappingMul(int a, int b) {
+		return a * b;
+	}
+
+	/**
+	 * @return {@code a / b}; {@code Integer.MIN_VALUE / -1} wraps to {@code Integer.MIN_VALUE}
+	 * @throws ArithmeticException if {@code b == 0}, like Rust panics
+	 */
+	public static int wrappingDiv(int a, int b) {
+		return a / b;
+	}
+
+	/**
+	 * @return {@code -a}; {@code Integer.MIN_VALUE} wraps to itself
+	 */
+	public static int wrappingNeg(int a) {
+		return -a;
+	}
+
+	/**
+	 * @return {@code a << (shift mod 32)}, same as Java's {@code <<}
+	 */
+	public static int wrappingShl(int a, int shift) {
+		return a << shift;
+	}
+
+	/**
+	 * @return {@code a >> (shift mod 32)}, same as Java's {@code >>}
+	 */
+	public static int wrappingShr(int a, int shift) {
+		return a >> shift;
+	}
+
+	/**
+	 * @return <code>base<sup>exp</sup></code>, wrapping around on overflow
+	 * @throws IllegalArgumentException if {@code exp < 0}
+	 */
+	public static int wrappingPow(int base, int exp) {
+		checkExp(exp);
+		return overflowingPow(base, exp).value();
+	}
+
+	/// SATURATING
+
+	/**
+	 * @return {@code a + b}, clamped to {@code [Integer.MIN_VALUE, Integer.MAX_VALUE]}
+	 */
+	public static int saturatingAdd(int a, int b) {
+		int r = a + b;
+		if (((a ^ r) & (b ^ r)) < 0) {
+			return a < 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		}
+		return r;
+	}
+
+	/**
+	 * @return {@code a - b}, clamped to {@code [Integer.MIN_VALUE, Integer.MAX_VALUE]}
+	 */
+	public static int saturatingSub(int a, int b) {
+		int r = a - b;
+		if (((a ^ b) & (a ^ r)) < 0) {
+			return a < 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		}
+		return r;
+	}
+
+	/**
+	 * @return {@code a * b}, clamped to {@code [Integer.MIN_VALUE, Integer.MAX_VALUE]}
+	 */
+	public static int saturatingMul(int a, int b) {
+		if (mulOverflows(a, b)) {
+			return (a ^ b) < 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		}
+		return a * b;
+	}
+
+	/**
+	 * @return {@code a / b}; {@code Integer.MIN_VALUE / -1} saturates to {@code Integer.MAX_VALUE}
+	 * @throws ArithmeticException if {@code b == 0}, like Rust panics
+	 */
+	public static int saturatingDiv(int a, int b) {
+		if (a == Integer.MIN_VALUE && b == -1) {
+			return Integer.MAX_VALUE;
+		}
+		return a / b;
+	}
+
+	/**
+	 * @return {@code -a}; {@code Integer.MIN_VALUE} saturates to {@code Integer.MAX_VALUE}
+	 */
+	public static int saturatingNeg(int a) {
+		return a == Integer.MIN_VALUE ? Integer.MAX_VALUE : -a;
+	}
+
+	/**
+	 * @return <code>base<sup>exp</sup></code>, clamped to
+	 * {@code [Integer.MIN_VALUE, Integer.MAX_VALUE]}
+	 * @throws IllegalArgumentException if {@code exp < 0}
+	 */
+	public static int saturatingPow(int base, int exp) {
+		checkExp(exp);
+		var r = overflowingPow(base, exp);
+		if (r.overflowed()) {
+			return base < 0 && (exp & 1) == 1 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+		}
+		return r.value();
+	}
+
+	/// OVERFLOWING
+
+	public static Overflowing overflowingAdd(int a, int b) {
+		int r = a + b;
+		return new Overflowing(r, ((a ^ r) & (b ^ r)) < 0);
+	}
+
+	public static Overflowing overflowingSub(int a, int b) {
+		int r = a - b;
+		return new Overflowing(r, ((a ^ b) & (a ^ r)) < 0);
+	}
+
+	public static Overflowing overflowingMul(int a, int b) {
+		return new Overflowing(a * b, mulOverflows(a, b));
+	}
+
+	/**
+	 * @throws ArithmeticException if {@code b == 0}, like Rust panics
+	 */
+	public static Overflowing overflowingDiv(int a, int b) {
+		return new Overflowing(a / b, a == Integer.MIN_VALUE && b == -1);
+	}
+
+	public static Overflowing overflowingNeg(int a) {
+		return new Overflowing(-a, a == Integer.MIN_VALUE);
+	}
+
+	/**
+	 * @return {@code a << (shift mod 32)}, overflowed if {@code shift} is out of
+	 * {@code [0, 32)}
+	 */
+	public static Overflowing overflowingShl(int a, int shift) {
+		return new Overflowing(a << shift, shift < 0 || shift >= Integer.SIZE);
+	}
+
+	/**
+	 * @return {@code a >> (shift mod 32)}, overflowed if {@code shift} is out of
+	 * {@code [0, 32)}
+	 */
+	public static Overflowing overflowingShr(int a, int shift) {
+		return new Overflowing(a >> shift, shift < 0 || shift >= Integer.SIZE);
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code exp < 0}
+	 */
+	public static Overflowing overflowingPow(int base, int exp) {
+		checkExp(exp);
+		int r = 1;
+		boolean overflowed = false;
+		while (exp > 0) {
+			if ((exp & 1) == 1) {
+				overflowed |= mulOverflows(r, base);
+				r *= base;
+			}
+			exp >>>= 1;
+			if (exp > 0) {
+				overflowed |= mulOverflows(base, base);
+				base *= base;
+			}
+		}
+		return new Overflowing(r, overflowed);
+	}
+
+	/// BULK
+
+	/**
+	 * @return the exact sum of {@code values}; a {@code long} cannot overflow here
+	 */
+	public static long sum(int[] values) {
+		long s = 0;
+		for (int v : values) {
+			s += v;
+		}
+		return s;
+	}
+
+	/**
+	 * @return <code>Ok(sum of values)</code>, or <code>Err(OVERFLOW)</code> if it does not fit
+	 * in an {@code int}. Partial sums may overflow as long as the total fits.
+	 */
+	public static IntResult<ErrorKind> checkedSum(int[] values) {
+		return checkedSum(values, 0, values.length);
+	}
+
+	/**
+	 * @param from first index, inclusive
+	 * @param to   last index, exclusive
+	 * @return <code>Ok(sum of values[from..to))</code>, or <code>Err(OVERFLOW)</code> if it does
+	 * not fit in an {@code int}. Partial sums may overflow as long as the total fits.
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static IntResult<ErrorKind> checkedSum(int[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		long s = 0;
+		for (int i = from; i < to; i++) {
+			s += values[i];
+		}
+		if ((int) s != s) {
+			return overflow();
+		}
+		return IntResult.ok((int) s);
+	}
+
+	/**
+	 * {@code out[i] = a[i] + b[i]} for every {@code i}. {@code out} may be {@code a} or
+	 * {@code b}.
+	 *
+	 * @return <code>Ok(UNIT)</code>, or <code>Err(OVERFLOW)</code> if any element overflowed.
+	 * Every element is written either way, wrapped around where it overflowed.
+	 * @throws IllegalArgumentException if the lengths differ
+	 */
+	public static Result<Empty, ErrorKind> checkedAdd(int[] a, int[] b, int[] out) {
+		int n = checkLengths(a, b, out);
+		int overflow = 0;
+		for (int i = 0; i < n; i++) {
+			int x = a[i];
+			int y = b[i];
+			int r = x + y;
+			overflow |= (x ^ r) & (y ^ r);
+			out[i] = r;
+		}
+		return bulkResult(overflow < 0);
+	}
+
+	/**
+	 * {@code out[i] = a[i] - b[i]} for every {@code i}. {@code out} may be {@code a} or
+	 * {@code b}.
+	 *
+	 * @return <code>Ok(UNIT)</code>, or <code>Err(OVERFLOW)</code> if any element overflowed.
+	 * Every element is written either way, wrapped around where it overflowed.
+	 * @throws IllegalArgumentException if the lengths differ
+	 */
+	public static Result<Empty, ErrorKind> checkedSub(int[] a, int[] b, int[] out) {
+		int n = checkLengths(a, b, out);
+		int overflow = 0;
+		for (int i = 0; i < n; i++) {
+			int x = a[i];
+			int y = b[i];
+			int r = x - y;
+			overflow |= (x ^ y) & (x ^ r);
+			out[i] = r;
+		}
+		return bulkResult(overflow < 0);
+	}
+
+	/**
+	 * {@code out[i] = a[i] * b[i]} for every {@code i}. {@code out} may be {@code a} or
+	 * {@code b}.
+	 *
+	 * @return <code>Ok(UNIT)</code>, or <code>Err(OVERFLOW)</code> if any element overflowed.
+	 * Every element is written either way, wrapped around where it overflowed.
+	 * @throws IllegalArgumentException if the lengths differ
+	 */
+	public static Result<Empty, ErrorKind> checkedMul(int[] a, int[] b, int[] out) {
+		int n = checkLengths(a, b, out);
+		boolean overflow = false;
+		for (int i = 0; i < n; i++) {
+			int x = a[i];
+			int y = b[i];
+			overflow |= mulOverflows(x, y);
+			out[i] = x * y;
+		}
+		return bulkResult(overflow);
+	}
+
+	/// PRIVATE
+
+	private static boolean mulOverflows(int a, int b) {
+		long r = (long) a * b;
+		return (int) r != r;
+	}
+
+	private static IntResult<ErrorKind> overflow() {
+		return IntResult.errKind(ErrorKind.OVERFLOW);
+	}
+
+	private static void checkExp(int exp) {
+		if (exp < 0) {
+			throw new IllegalArgumentException("Error: exponent must be >= 0, was " + exp);
+		}
+	}
+
+	private static int checkLengths(int[] a, int[] b, int[] out) {
+		if (a.length != b.length || a.length != out.length) {
+			throw new IllegalArgumentException(
+					"Error: arrays of different lengths " + a.length + ", " + b.length + ", " + out.length
+			);
+		}
+		return a.length;
+	}
+
+	private static Result<Empty, ErrorKind> bulkResult(boolean overflow) {
+		return overflow ? Result.<Empty>errKind(ErrorKind.OVERFLOW) : Result.<ErrorKind>okUnit();
+	}
+}
@@ -0,0 +1,460 @@
+package com.gitlab.mercur3.jrusty.num;
+
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.util.Objects;
+
+/**
+ * Rust's {@code checked_*}, {@code wrapping_*}, {@code saturating_*} and {@code overflowing_*}
+ * arithmetic of {@code i64} for {@code long}. None of them throws on overflow, unlike
+ * {@link Math#addExact(long, long)} and friends, which makes them cheap to use in a hot loop where
+ * overflow is a possible outcome rather than a bug.
+ *
+ * {@snippet :
+ * LongMath.checkedAdd(Long.MAX_VALUE, 1);      // Err(OVERFLOW)
+ * LongMath.wrappingAdd(Long.MAX_VALUE, 1);     // Long.MIN_VALUE
+ * LongMath.saturatingAdd(Long.MAX_VALUE, 1);   // Long.MAX_VALUE
+ * LongMath.overflowingAdd(Long.MAX_VALUE, 1);  // Overflowing[value=Long.MIN_VALUE, overflowed=true]
+ * }
+ *
+ * <p>
+ * The checked variants return <code>Err(OVERFLOW)</code> when the result does not fit, and
+ * <code>Err(INVALID_INPUT)</code> for a division by zero or a negative exponent. Every
+ * <code>Err</code> is the canonical instance of its {@code ErrorKind}, so failing allocates
+ * nothing. The bulk methods at the end loop without branching on overflow, so the JIT can
+ * vectorize them.
+ * </p>
+ *
+ * @see <a href="https://doc.rust-lang.org/std/primitive.i64.html"><code>i64</code></a>
+ */
+public final class LongMath {
+	private LongMath() {}
+
+	/**
+	 * The result of an {@code overflowing_*} operation: the wrapped value and whether it wrapped.
+	 * Once inlined, the JIT usually scalar-replaces it.
+	 *
+	 * @param value      the result, wrapped around on overflow
+	 * @param overflowed whether the exact result did not fit
+	 */
+	public record Overflowing(long value, boolean overflowed) {}
+
+	/// CHECKED
+
+	/**
+	 * @return <code>Ok(a + b)</code>, or <code>Err(OVERFLOW)</code>
+	 */
+	public static LongResult<ErrorKind> checkedAdd(long a, long b) {
+		long r = a + b;
+		if (((a ^ r) & (b ^ r)) < 0) {
+			return overflow();
+		}
+		return LongResult.ok(r);
+	}
+
+	/**
+	 * @return <code>Ok(a - b)</code>, or <code>Err(OVERFLOW)</code>
+	 */
+	public static LongResult<ErrorKind> checkedSub(long a, long b) {
+		long r = a - b;
+		if (((a ^ b) & (a ^ r)) < 0) {
+			return overflow();
+		}
+		return LongResult.ok(r);
+	}
+
+	/**
+	 * @return <code>Ok(a * b)</code>, or <code>Err(OVERFLOW)</code>
+	 */
+	public static LongResult<ErrorKind> checkedMul(long a, long b) {
+		if (mulOverflows(a, b)) {
+			return overflow();
+		}
+		return LongResult.ok(a * b);
+	}
+
+	/**
+	 * @return <code>Ok(a / b)</code>, <code>Err(INVALID_INPUT)</code> if {@code b == 0}, or
+	 * <code>Err(OVERFLOW)</code> for {@code Long.MIN_VALUE / -1}
+	 */
+	public static LongResult<ErrorKind> checkedDiv(long a, long b) {
+		if (b == 0) {
+			return LongResult.errKind(ErrorKind.INVALID_INPUT);
+		}
+		if (a == Long.MIN_VALUE && b == -1) {
+			return overflow();
+		}
+		return LongResult.ok(a / b);
+	}
+
+	/**
+	 * @return <code>Ok(-a)</code>, or <code>Err(OVERFLOW)</code> for {@code Long.MIN_VALUE}
+	 */
+	public static LongResult<ErrorKind> checkedNeg(long a) {
+		if (a == Long.MIN_VALUE) {
+			return overflow();
+		}
+		return LongResult.ok(-a);
+	}
+
+	/**
+	 * Like Rust, only the shift amount is checked, not the bits shifted out.
+	 *
+	 * @return <code>Ok(a &lt;&lt; shift)</code>, or <code>Err(OVERFLOW)</code> if {@code shift} is
+	 * out of {@code [0, 64)}
+	 */
+	public static LongResult<ErrorKind> checkedShl(long a, int shift) {
+		if (shift < 0 || shift >= Long.SIZE) {
+			return overflow();
+		}
+		return LongResult.ok(a << shift);
+	}
+
+	/**
+	 * @return <code>Ok(a &gt;&gt; shift)</code>, an arithmetic shift, or <code>Err(OVERFLOW)</code>
+	 * if {@code shift} is out of {@code [0, 64)}
+	 */
+	public static LongResult<ErrorKind> checkedShr(long a, int shift) {
+		if (shift < 0 || shift >= Long.SIZE) {
+			return overflow();
+		}
+		return LongResult.ok(a >> shift);
+	}
+
+	/**
+	 * @return <code>Ok(base<sup>exp</sup>)</code>, <code>Err(INVALID_INPUT)</code> if
+	 * {@code exp < 0}, or <code>Err(OVERFLOW)</code>
+	 */
+	public static LongResult<ErrorKind> checkedPow(long base, int exp) {
+		if (exp < 0) {
+			return LongResult.errKind(ErrorKind.INVALID_INPUT);
+		}
+		var r = overflowingPow(base, exp);
+		if (r.overflowed()) {
+			return overflow();
+		}
+		return LongResult.ok(r.value());
+	}
+
+	/// WRAPPING
+
+	/**
+	 * @return {@code a + b}, wrapping around on overflow, same as Java's {@code +}
+	 */
+	public static long wrappingAdd(long a, long b) {
+		return a + b;
+	}
+
+	/**
+	 * @return {@code a - b}, wrapping around on overflow, same as Java's {@code -}
+	 */
+	public static long wrappingSub(long a, long b) {
+		return a - b;
+	}
+
+	/**
+	 * @return {@code a * b}, wrapping around on overflow, same as Java's {@code *}
+	 */
+	public static long wrappingMul(long a, long b) {
+		return a * b;
+	}
+
+	/**
+	 * @return {@code a / b}; {@code Long.MIN_VALUE / -1} wraps to {@code Long.MIN_VALUE}
+	 * @throws ArithmeticException if {@code b == 0}, like Rust panics
+	 */
+	public static long wrappingDiv(long a, long b) {
+		return a / b;
+	}
+
+	/**
+	 * @return {@code -a}; {@code Long.MIN_VALUE} wraps to itself
+	 */
+	public static long wrappingNeg(long a) {
+		return -a;
+	}
+
+	/**
+	 * @return {@code a << (shift mod 64)}, same as Java's {@code <<}
+	 */
+	public static long wrappingShl(long a, int shift) {
+		return a << shift;
+	}
+
+	/**
+	 * @return {@code a >> (shift mod 64)}, same as Java's {@code >>}
+	 */
+	public static long wrappingShr(long a, int shift) {
+		return a >> shift;
+	}
+
+	/**
+	 * @return <code>base<sup>exp</sup></code>, wrapping around on overflow
+	 * @throws IllegalArgumentException if {@code exp < 0}
+	 */
+	public static long wrappingPow(long base, int exp) {
+		checkExp(exp);
+		return overflowingPow(base, exp).value();
+	}
+
+	/// SATURATING
+
+	/**
+	 * @return {@code a + b}, clamped to {@code [Long.MIN_VALUE, Long.MAX_VALUE]}
+	 */
+	public static long saturatingAdd(long a, long b) {
+		long r = a + b;
+		if (((a ^ r) & (b ^ r)) < 0) {
+			return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+		return r;
+	}
+
+	/**
+	 * @return {@code a - b}, clamped to {@code [Long.MIN_VALUE, Long.MAX_VALUE]}
+	 */
+	public static long saturatingSub(long a, long b) {
+		long r = a - b;
+		if (((a ^ b) & (a ^ r)) < 0) {
+			return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+		return r;
+	}
+
+	/**
+	 * @return {@code a * b}, clamped to {@code [Long.MIN_VALUE, Long.MAX_VALUE]}
+	 */
+	public static long saturatingMul(long a, long b) {
+		if (mulOverflows(a, b)) {
+			return (a ^ b) < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+		return a * b;
+	}
+
+	/**
+	 * @return {@code a / b}; {@code Long.MIN_VALUE / -1} saturates to {@code Long.MAX_VALUE}
+	 * @throws ArithmeticException if {@code b == 0}, like Rust panics
+	 */
+	public static long saturatingDiv(long a, long b) {
+		if (a == Long.MIN_VALUE && b == -1) {
+			return Long.MAX_VALUE;
+		}
+		return a / b;
+	}
+
+	/**
+	 * @return {@code -a}; {@code Long.MIN_VALUE} saturates to {@code Long.MAX_VALUE}
+	 */
+	public static long saturatingNeg(long a) {
+		return a == Long.MIN_VALUE ? Long.MAX_VALUE : -a;
+	}
+
+	/**
+	 * @return <code>base<sup>exp</sup></code>, clamped to
+	 * {@code [Long.MIN_VALUE, Long.MAX_VALUE]}
+	 * @throws IllegalArgumentException if {@code exp < 0}
+	 */
+	public static long saturatingPow(long base, int exp) {
+		checkExp(exp);
+		var r = overflowingPow(base, exp);
+		if (r.overflowed()) {
+			return base < 0 && (exp & 1) == 1 ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+		return r.value();
+	}
+
+	/// OVERFLOWING
+
+	public static Overflowing overflowingAdd(long a, long b) {
+		long r = a + b;
+		return new Overflowing(r, ((a ^ r) & (b ^ r)) < 0);
+	}
+
+	public static Overflowing overflowingSub(long a, long b) {
+		long r = a - b;
+		return new Overflowing(r, ((a ^ b) & (a ^ r)) < 0);
+	}
+
+	public static Overflowing overflowingMul(long a, long b) {
+		return new Overflowing(a * b, mulOverflows(a, b));
+	}
+
+	/**
+	 * @throws ArithmeticException if {@code b == 0}, like Rust panics
+	 */
+	public static Overflowing overflowingDiv(long a, long b) {
+		return new Overflowing(a / b, a == Long.MIN_VALUE && b == -1);
+	}
+
+	public static Overflowing overflowingNeg(long a) {
+		return new Overflowing(-a, a == Long.MIN_VALUE);
+	}
+
+	/**
+	 * @return {@code a << (shift mod 64)}, overflowed if {@code shift} is out of
+	 * {@code [0, 64)}
+	 */
+	public static Overflowing overflowingShl(long a, int shift) {
+		return new Overflowing(a << shift, shift < 0 || shift >= Long.SIZE);
+	}
+
+	/**
+	 * @return {@code a >> (shift mod 64)}, overflowed if {@code shift} is out of
+	 * {@code [0, 64)}
+	 */
+	public static Overflowing overflowingShr(long a, int shift) {
+		return new Overflowing(a >> shift, shift < 0 || shift >= Long.SIZE);
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code exp < 0}
+	 */
+	public static Overflowing overflowingPow(long base, int exp) {
+		checkExp(exp);
+		long r = 1;
+		boolean overflowed = false;
+		while (exp > 0) {
+			if ((exp & 1) == 1) {
+				overflowed |= mulOverflows(r, base);
+				r *= base;
+			}
+			exp >>>= 1;
+			if (exp > 0) {
+				overflowed |= mulOverflows(base, base);
+				base *= base;
+			}
+		}
+		return new Overflowing(r, overflowed);
+	}
+
+	/// BULK
+
+	/**
+	 * @return <code>Ok(sum of values)</code>, or <code>Err(OVERFLOW)</code> if it does not fit
+	 * in a {@code long}. Partial sums may overflow as long as the total fits.
+	 */
+	public static LongResult<ErrorKind> checkedSum(long[] values) {
+		return checkedSum(values, 0, values.length);
+	}
+
+	/**
+	 * Sums the high and the low 32 bits of the elements separately: neither sum can overflow for
+	 * fewer than 2<sup>31</sup> elements, and both are plain reductions the JIT can vectorize.
+	 *
+	 * @param from first index, inclusive
+	 * @param to   last index, exclusive
+	 * @return <code>Ok(sum of values[from..to))</code>, or <code>Err(OVERFLOW)</code> if it does
+	 * not fit in a {@code long}. Partial sums may overflow as long as the total fits.
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static LongResult<ErrorKind> checkedSum(long[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		long hi = 0;
+		long lo = 0;
+		for (int i = from; i < to; i++) {
+			long v = values[i];
+			hi += v >> 32;
+			lo += v & 0xFFFF_FFFFL;
+		}
+		// sum = hi * 2^32 + lo, carry the high half of lo over to hi
+		hi += lo >>> 32;
+		if ((int) hi != hi) {
+			return overflow();
+		}
+		return LongResult.ok((hi << 32) | (lo & 0xFFFF_FFFFL));
+	}
+
+	/**
+	 * {@code out[i] = a[i] + b[i]} for every {@code i}. {@code out} may be {@code a} or
+	 * {@code b}.
+	 *
+	 * @return <code>Ok(UNIT)</code>, or <code>Err(OVERFLOW)</code> if any element overflowed.
+	 * Every element is written either way, wrapped around where it overflowed.
+	 * @throws IllegalArgumentException if the lengths differ
+	 */
+	public static Result<Empty, ErrorKind> checkedAdd(long[] a, long[] b, long[] out) {
+		int n = checkLengths(a, b, out);
+		long overflow = 0;
+		for (int i = 0; i < n; i++) {
+			long x = a[i];
+			long y = b[i];
+			long r = x + y;
+			overflow |= (x ^ r) & (y ^ r);
+			out[i] = r;
+		}
+		return bulkResult(overflow < 0);
+	}
+
+	/**
+	 * {@code out[i] = a[i] - b[i]} for every {@code i}. {@code out} may be {@code a} or
+	 * {@code b}.
+	 *
+	 * @return <code>Ok(UNIT)</code>, or <code>Err(OVERFLOW)</code> if any element overflowed.
+	 * Every element is written either way, wrapped around where it overflowed.
+	 * @throws IllegalArgumentException if the lengths differ
+	 */
+	public static Result<Empty, ErrorKind> checkedSub(long[] a, long[] b, long[] out) {
+		int n = checkLengths(a, b, out);
+		long overflow = 0;
+		for (int i = 0; i < n; i++) {
+			long x = a[i];
+			long y = b[i];
+			long r = x - y;
+			overflow |= (x ^ y) & (x ^ r);
+			out[i] = r;
+		}
+		return bulkResult(overflow < 0);
+	}
+
+	/**
+	 * {@code out[i] = a[i] * b[i]} for every {@code i}. {@code out} may be {@code a} or
+	 * {@code b}.
+	 *
+	 * @return <code>Ok(UNIT)</code>, or <code>Err(OVERFLOW)</code> if any element overflowed.
+	 * Every element is written either way, wrapped around where it overflowed.
+	 * @throws IllegalArgumentException if the lengths differ
+	 */
+	public static Result<Empty, ErrorKind> checkedMul(long[] a, long[] b, long[] out) {
+		int n = checkLengths(a, b, out);
+		boolean overflow = false;
+		for (int i = 0; i < n; i++) {
+			long x = a[i];
+			long y = b[i];
+			overflow |= mulOverflows(x, y);
+			out[i] = x * y;
+		}
+		return bulkResult(overflow);
+	}
+
+	/// PRIVATE
+
+	private static boolean mulOverflows(long a, long b) {
+		return Math.multiplyHigh(a, b) != (a * b) >> 63;
+	}
+
+	private static LongResult<ErrorKind> overflow() {
+		return LongResult.errKind(ErrorKind.OVERFLOW);
+	}
+
+	private static void checkExp(int exp) {
+		if (exp < 0) {
+			throw new IllegalArgumentException("Error: exponent must be >= 0, was " + exp);
+		}
+	}
+
+	private static int checkLengths(long[] a, long[] b, long[] out) {
+		if (a.length != b.length || a.length != out.length) {
+			throw new IllegalArgumentException(
+					"Error: arrays of different lengths " + a.length + ", " + b.length + ", " + out.length
+			);
+		}
+		return a.length;
+	}
+
+	private static Result<Empty, ErrorKind> bulkResult(boolean overflow) {
+		return overflow ? Result.<Empty>errKind(ErrorKind.OVERFLOW) : Result.<ErrorKind>okUnit();
+	}
+}
@@ -0,0 +1,34 @@
+package com.gitlab.mercur3.jrusty.option;
+
+/**
+ * An {@code Option} without a value. There is a single instance, obtained through
+ * {@link Option#none()}, and it is equal only to itself.
+ *
+ * @see com.gitlab.mercur3.jrusty.option.Option
+ */
+public final class None<T> extends Option<T> {
+	static final None<?> INSTANCE = new None<>();
+
+	private None() {}
+
+	@Override
+	T someValue() {
+		return null;
+	}
+
+	/**
+	 * @return {@code false}
+	 */
+	@Override
+	public boolean isSome() {
+		return false;
+	}
+
+	/**
+	 * @return {@code true}
+	 */
+	@Override
+	public boolean isNone() {
+		return true;
+	}
+}
@@ -1,11 +1,95 @@
 package com.gitlab.mercur3.jrusty.option;
 
+import com.gitlab.mercur3.jrusty.panic.UnwrapException;
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import com.gitlab.mercur3.jrusty.util.Box;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-public final class Option {
-	private Option() {}
+/**
+ * Representation of Rust's {@code std::option::Option}. The only allowed subclasses are
+ * {@code Some} and {@code None}. There is exactly one {@code None} instance, shared by every type
+ * parameter, so {@link #none()} and every combinator that returns {@code None} never allocate.
+ *
+ * <p>
+ * The static helpers {@link #mapOr(Optional, Object, Function)} and
+ * {@link #mapOrElse(Optional, Supplier, Function)} operate on {@code java.util.Optional} for code
+ * that has not migrated yet. Use {@link #fromOptional(Optional)} and {@link #toOptional()} to
+ * convert between both.
+ * </p>
+ *
+ * <h2>Pattern matching (Java >= 21)</h2>
+ * {@snippet :
+ * public static handleOpt(Option<Integer> opt) {
+ *     switch (opt) {
+ *         case Some<Integer> some -> System.out.println("Received number = " + some.unwrap());
+ *         case None<Integer> none -> System.err.println("Nothing");
+ *     }
+ * }}
+ *
+ * @param <T> the type of the contained value
+ * @see <a href="https://doc.rust-lang.org/std/option/enum.Option.html"><code>std::option::Option</code></a>
+ */
+public sealed abstract class Option<T> permits Some, None {
+	Option() {}
+
+	/**
+	 * @param value the value
+	 * @return <code>Some(value)</code>
+	 * @throws NullPointerException if {@code null}
+	 */
+	public static <T> Option<T> some(T value) {
+		return new Some<>(value);
+	}
+
+	/**
+	 * @return the shared <code>None</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Option<T> none() {
+		return (Option<T>) None.INSTANCE;
+	}
+
+	/**
+	 * @param value a possibly {@code null} value
+	 * @return <code>None</code> if {@code null}, <code>Some(value)</code> otherwise
+	 */
+	public static <T> Option<T> ofNullable(T value) {
+		if (value == null) {
+			return none();
+		}
+		return new Some<>(value);
+	}
+
+	/**
+	 * @param option an {@code Optional}
+	 * @return the equivalent {@code Option}
+	 */
+	public static <T> Option<T> fromOptional(Optional<T> option) {
+		return ofNullable(option.orElse(null));
+	}
+
+	/**
+	 * Takes the value out of the slot, leaving <code>None</code> in its place. Since an
+	 * {@code Option} is immutable, the slot plays the role of Rust's {@code &mut Option<T>}.
+	 *
+	 * @param slot the slot, its value must not be {@code null}
+	 * @return the previous value of the slot
+	 * @see <a href="https://doc.rust-lang.org/std/option/enum.Option.html#method.take"><code>Option::take</code></a>
+	 */
+	public static <T> Option<T> take(Box<Option<T>> slot) {
+		var prev = slot.value;
+		slot.value = none();
+		return prev;
+	}
 
 	/**
 	 * @return the default value {@code defaultVal} if empty, or applies the function {@code f} to
@@ -31,4 +115,215 @@ public final class Option {
 		}
 		return f.apply(option.get());
 	}
+
+	/**
+	 * @return the contained value if <code>Some</code>, <code>null</code> if <code>None</code>
+	 */
+	abstract T someValue();
+
+	/**
+	 * @return <code>true</code> if <code>Some</code>, <code>false</code> if <code>None</code>
+	 */
+	public abstract boolean isSome();
+
+	/**
+	 * @return <code>false</code> if <code>Some</code>, <code>true</code> if <code>None</code>
+	 */
+	public abstract boolean isNone();
+
+	/**
+	 * @param f a predicate on <code>T</code>
+	 * @return <code>true</code> if <code>Some</code> and the value matches {@code f}
+	 */
+	public boolean isSomeAnd(Predicate<T> f) {
+		return isSome() && f.test(someValue());
+	}
+
+	/**
+	 * @param msg message
+	 * @return the value if <code>Some</code>
+	 * @throws IllegalStateException with the specific message if <code>None</code>
+	 */
+	public T expect(String msg) {
+		if (isSome()) {
+			return someValue();
+		}
+		throw new UnwrapException(msg);
+	}
+
+	/**
+	 * @return the value if <code>Some</code>
+	 * @throws IllegalStateException if <code>None</code>
+	 */
+	public T unwrap() {
+		if (isNone()) {
+			throw new UnwrapException("Trying to access value from an option that is none");
+		}
+		return someValue();
+	}
+
+	/**
+	 * @param other the return value if <code>None</code>
+	 * @return the value if <code>Some</code> or <code>other</code> if <code>None</code>
+	 */
+	public T unwrapOr(T other) {
+		if (isNone()) {
+			return other;
+		}
+		return someValue();
+	}
+
+	/**
+	 * @param f a supplier
+	 * @return the value if <code>Some</code> or the supplied value if <code>None</code>
+	 */
+	public T unwrapOrElse(Supplier<T> f) {
+		if (isNone()) {
+			return f.get();
+		}
+		return someValue();
+	}
+
+	/**
+	 * Maps an <code>Option&lt;T&gt;</code> to <code>Option&lt;U&gt;</code>, leaving a
+	 * <code>None</code> untouched.
+	 *
+	 * @param mapper a function <code>T -> U</code>
+	 * @param <U>    the new type
+	 * @return mapping result
+	 */
+	public <U> Option<U> map(Function<T, U> mapper) {
+		if (isSome()) {
+			return new Some<>(mapper.apply(someValue()));
+		}
+		return none();
+	}
+
+	/**
+	 * @param defaultValue the default value
+	 * @param f            a function <code>T -> U</code>
+	 * @param <U>          the associated type
+	 * @return the default value if <code>None</code>, applies the function <code>f</code>
+	 * otherwise
+	 */
+	public <U> U mapOr(U defaultValue, Function<T, U> f) {
+		if (isSome()) {
+			return f.apply(someValue());
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * @param defaultFunc a supplier of <code>U</code>
+	 * @param f           a function <code>T -> U</code>
+	 * @param <U>         the associated type
+	 * @return the supplied value if <code>None</code>, applies the function <code>f</code>
+	 * otherwise
+	 */
+	public <U> U mapOrElse(Supplier<U> defaultFunc, Function<T, U> f) {
+		if (isSome()) {
+			return f.apply(someValue());
+		}
+		return defaultFunc.get();
+	}
+
+	/**
+	 * @param op  a function <code>T -> Option&lt;U&gt;</code>
+	 * @param <U> the new type
+	 * @return the result of {@code op} if <code>Some</code>, <code>None</code> otherwise
+	 */
+	public <U> Option<U> andThen(Function<T, Option<U>> op) {
+		if (isSome()) {
+			return op.apply(someValue());
+		}
+		return none();
+	}
+
+	/**
+	 * @param predicate a predicate on <code>T</code>
+	 * @return {@code this} if <code>Some</code> and the value matches {@code predicate},
+	 * <code>None</code> otherwise
+	 */
+	public Option<T> filter(Predicate<T> predicate) {
+		if (isSome() && predicate.test(someValue())) {
+			return this;
+		}
+		return none();
+	}
+
+	/**
+	 * @param other the option returned if {@code this} is <code>None</code>
+	 * @return {@code this} if <code>Some</code>, {@code other} otherwise
+	 */
+	public Option<T> or(Option<T> other) {
+		if (isSome()) {
+			return this;
+		}
+		return other;
+	}
+
+	/**
+	 * @param f a supplier of the option returned if {@code this} is <code>None</code>
+	 * @return {@code this} if <code>Some</code>, the supplied option otherwise
+	 */
+	public Option<T> orElse(Supplier<Option<T>> f) {
+		if (isSome()) {
+			return this;
+		}
+		return f.get();
+	}
+
+	/**
+	 * @param other another option
+	 * @param <U>   the type of the other option
+	 * @return <code>Some((a, b))</code> if both are <code>Some</code>, <code>None</code> otherwise
+	 */
+	public <U> Option<Tuple2<T, U>> zip(Option<U> other) {
+		if (isSome() && other.isSome()) {
+			return new Some<>(new Tuple2<>(someValue(), other.someValue()));
+		}
+		return none();
+	}
+
+	/**
+	 * @param err the error if <code>None</code>
+	 * @param <E> the error type
+	 * @return <code>Ok(value)</code> if <code>Some</code>, <code>Err(err)</code> otherwise
+	 */
+	public <E> Result<T, E> okOr(E err) {
+		if (isSome()) {
+			return new Ok<>(someValue());
+		}
+		return new Err<>(err);
+	}
+
+	/**
+	 * @param f   a supplier of the error if <code>None</code>
+	 * @param <E> the error type
+	 * @return <code>Ok(value)</code> if <code>Some</code>, <code>Err(f.get())</code> otherwise
+	 */
+	public <E> Result<T, E> okOrElse(Supplier<E> f) {
+		if (isSome()) {
+			return new Ok<>(someValue());
+		}
+		return new Err<>(f.get());
+	}
+
+	/**
+	 * @return an iterator over the possibly contained value. The empty iterator is a shared
+	 * instance.
+	 */
+	public Iterator<T> iter() {
+		if (isSome()) {
+			return Collections.singleton(someValue()).iterator();
+		}
+		return Collections.emptyIterator();
+	}
+
+	/**
+	 * @return the equivalent {@code Optional}
+	 */
+	public Optional<T> toOptional() {
+		return Optional.ofNullable(someValue());
+	}
 }
@@ -0,0 +1,54 @@
+package com.gitlab.mercur3.jrusty.option;
+
+import java.util.Objects;
+
+/**
+ * An {@code Option} holding a value.
+ *
+ * @see com.gitlab.mercur3.jrusty.option.Option
+ */
+public final class Some<T> extends Option<T> {
+	private final T value;
+
+	/**
+	 * @param value the contained value
+	 * @throws NullPointerException if {@code null}
+	 */
+	public Some(T value) {
+		this.value = Objects.requireNonNull(value);
+	}
+
+	@Override
+	T someValue() {
+		return value;
+	}
+
+	/**
+	 * @return {@code true}
+	 */
+	@Override
+	public boolean isSome() {
+		return true;
+	}
+
+	/**
+	 * @return {@code false}
+	 */
+	@Override
+	public boolean isNone() {
+		return false;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof Some<?> other) {
+			return value.equals(other.value);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return value.hashCode();
+	}
+}
@@ -0,0 +1,99 @@
+package com.gitlab.mercur3.jrusty.panic;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Whether a panic captures its stack trace, like Rust's {@code RUST_BACKTRACE}. Filling in a
+ * stack trace is by far the most expensive part of throwing, so code using panics as expected
+ * signals in hot loops can turn it {@link #OFF} or {@link #sampled(int) sample} it.
+ *
+ * @see Panic#setBacktrace(BacktracePolicy)
+ * @see Panic#setThreadBacktrace(BacktracePolicy)
+ */
+public final class BacktracePolicy {
+	/** Never capture a stack trace */
+	public static final BacktracePolicy OFF = new BacktracePolicy(0);
+	/** Always capture a stack trace, the default */
+	public static final BacktracePolicy ON = new BacktracePolicy(1);
+
+	private final int every;
+
+	private BacktracePolicy(int every) {
+		this.every = every;
+	}
+
+	/**
+	 * @param n the sampling rate
+	 * @return a policy capturing the stack trace of about 1 in {@code n} panics
+	 * @throws IllegalArgumentException if {@code n < 1}
+	 */
+	public static BacktracePolicy sampled(int n) {
+		if (n < 1) {
+			throw new IllegalArgumentException("n must be positive: " + n);
+		}
+		return n == 1 ? ON : new BacktracePolicy(n);
+	}
+
+	/**
+	 * Parses {@code off}/{@code 0}, {@code on}/{@code 1}/{@code full} or {@code sampled:N}.
+	 *
+	 * @param s the policy
+	 * @return the policy, or {@code null} if {@code s} is {@code null} or not recognized
+	 */
+	public static BacktracePolicy parse(String s) {
+		if (s == null) {
+			return null;
+		}
+		var v = s.trim();
+		return switch (v) {
+			case "0", "off" -> OFF;
+			case "1", "on", "full" -> ON;
+			default -> parseSampled(v);
+		};
+	}
+
+	/**
+	 * @return {@code true} if the next panic should capture its stack trace
+	 */
+	public boolean shouldCapture() {
+		return switch (every) {
+			case 0 -> false;
+			case 1 -> true;
+			default -> ThreadLocalRandom.current().nextInt(every) == 0;
+		};
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof BacktracePolicy other && every == other.every;
+	}
+
+	@Override
+	public int hashCode() {
+		return every;
+	}
+
+	@Override
+	public String toString() {
+		return switch (every) {
+			case 0 -> "off";
+			case 1 -> "on";
+			default -> "sampled:" + every;
+		};
+	}
+
+	/// PRIVATE
+
+	private static BacktracePolicy parseSampled(String v) {
+		if (!v.startsWith("sampled:")) {
+			return null;
+		}
+		try {
+			int n = Integer.parseInt(v, "sampled:".length(), v.length(), 10);
+			return n < 1 ? null : sampled(n);
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.gitlab.mercur3.jrusty.panic;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Global configuration and statistics of the panics thrown by this library:
+ * {@link UnimplementedException}, {@link UnreachableException} and {@link UnwrapException}.
+ *
+ * <h2>Backtraces</h2>
+ * The {@link BacktracePolicy} decides whether a panic fills in its stack trace. A policy set for
+ * the current thread wins over the global one. The global policy starts as the value of the
+ * {@code jrusty.backtrace} system property (see {@link BacktracePolicy#parse(String)}), or
+ * {@link BacktracePolicy#ON} if it is missing.
+ *
+ * {@snippet :
+ * Panic.setBacktrace(BacktracePolicy.sampled(1000));
+ * Panic.setHook((kind, panic) -> log.warn("panic: {}", kind, panic));
+ * }
+ *
+ * <h2>Counters</h2>
+ * Every panic is counted by {@link PanicKind}, whatever the policy. The counters are striped, so
+ * counting does not contend between threads.
+ *
+ * @see <a href="https://doc.rust-lang.org/std/panic/index.html"><code>std::panic</code></a>
+ */
+public final class Panic {
+	private static final PanicKind[] KINDS = PanicKind.values();
+	private static final LongAdder[] COUNTS = new LongAdder[KINDS.length];
+	private static final ThreadLocal<BacktracePolicy> THREAD_POLICY = new ThreadLocal<>();
+
+	private static volatile BacktracePolicy policy = Objects.requireNonNullElse(
+			BacktracePolicy.parse(System.getProperty("jrusty.backtrace")),
+			BacktracePolicy.ON
+	);
+	private static volatile PanicHook hook;
+
+	static {
+		for (int i = 0; i < COUNTS.length; i++) {
+			COUNTS[i] = new LongAdder();
+		}
+	}
+
+	private Panic() {}
+
+	/**
+	 * @return the global policy
+	 */
+	public static BacktracePolicy backtrace() {
+		return policy;
+	}
+
+	/**
+	 * @param policy the new global policy
+	 * @throws NullPointerException if {@code null}
+	 */
+	public static void setBacktrace(BacktracePolicy policy) {
+		Panic.policy = Objects.requireNonNull(policy);
+	}
+
+	/**
+	 * Overrides the global policy on the current thread.
+	 *
+	 * @param policy the policy, or {@code null} to fall back to the global one
+	 * @return the previous policy of the current thread, possibly {@code null}
+	 */
+	public static BacktracePolicy setThreadBacktrace(BacktracePolicy policy) {
+		var previous = THREAD_POLICY.get();
+		if (policy == null) {
+			THREAD_POLICY.remove();
+		}
+		else {
+			THREAD_POLICY.set(policy);
+		}
+		return previous;
+	}
+
+	/**
+	 * @param hook the hook called for every panic, or {@code null} to remove it
+	 * @return the previous hook, possibly {@code null}
+	 */
+	public static PanicHook setHook(PanicHook hook) {
+		var previous = Panic.hook;
+		Panic.hook = hook;
+		return previous;
+	}
+
+	/**
+	 * @param kind the kind of panic
+	 * @return how many panics of {@code kind} were thrown so far
+	 */
+	public static long count(PanicKind kind) {
+		return COUNTS[kind.ordinal()].sum();
+	}
+
+	/**
+	 * @return a snapshot of all counters
+	 */
+	public static Map<PanicKind, Long> counts() {
+		var map = new EnumMap<PanicKind, Long>(PanicKind.class);
+		for (var kind : KINDS) {
+			map.put(kind, count(kind));
+		}
+		return map;
+	}
+
+	/**
+	 * Sets all counters to 0.
+	 */
+	public static void resetCounts() {
+		for (var count : COUNTS) {
+			count.reset();
+		}
+	}
+
+	/// PRIVATE
+
+	/**
+	 * @return whether the panic being constructed on this thread captures its stack trace
+	 */
+	static boolean captureBacktrace() {
+		var threadPolicy = THREAD_POLICY.get();
+		return (threadPolicy != null ? threadPolicy : policy).shouldCapture();
+	}
+
+	/**
+	 * Counts {@code panic} and passes it to the hook. Called at the end of every panic
+	 * constructor.
+	 */
+	static void raised(PanicKind kind, RuntimeException panic) {
+		COUNTS[kind.ordinal()].increment();
+		var h = hook;
+		if (h == null) {
+			return;
+		}
+		try {
+			h.onPanic(kind, panic);
+		}
+		catch (Throwable t) {
+			panic.addSuppressed(t);
+		}
+	}
+}
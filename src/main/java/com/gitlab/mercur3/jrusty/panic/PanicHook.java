@@ -0,0 +1,20 @@
+package com.gitlab.mercur3.jrusty.panic;
+
+/**
+ * Called for every panic, before it is thrown. The equivalent of Rust's
+ * {@code std::panic::set_hook}.
+ *
+ * @see Panic#setHook(PanicHook)
+ */
+@FunctionalInterface
+public interface PanicHook {
+	/**
+	 * Runs on the panicking thread. Anything thrown from here is added to {@code panic} as a
+	 * suppressed exception.
+	 *
+	 * @param kind  the kind of panic
+	 * @param panic the exception about to be thrown. Its stack trace is empty unless the
+	 *              {@link BacktracePolicy} captured one.
+	 */
+	void onPanic(PanicKind kind, RuntimeException panic);
+}
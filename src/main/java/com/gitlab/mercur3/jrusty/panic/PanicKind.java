@@ -0,0 +1,13 @@
+package com.gitlab.mercur3.jrusty.panic;
+
+/**
+ * The panics counted by {@link Panic}.
+ */
+public enum PanicKind {
+	/** {@link UnimplementedException} */
+	UNIMPLEMENTED,
+	/** {@link UnreachableException} */
+	UNREACHABLE,
+	/** {@link UnwrapException}, thrown by <code>expect</code>, <code>unwrap</code> and friends */
+	UNWRAP,
+}
@@ -1,5 +1,7 @@
 package com.gitlab.mercur3.jrusty.panic;
 
+import java.io.Serial;
+
 /**
  * Indicates that code is <b>unimplemented</b>.
  * {@snippet :
@@ -14,14 +16,22 @@ package com.gitlab.mercur3.jrusty.panic;
  * but as soon as the function is called it should throw an {@code UnimplementedException}.
  * </p>
  *
+ * <p>
+ * The stack trace is captured according to the {@link BacktracePolicy} of {@link Panic}.
+ * </p>
+ *
  * @see <a href="https://doc.rust-lang.org/std/macro.unimplemented.html"><code>unimplemented!()</code></a>
  */
 public final class UnimplementedException extends UnsupportedOperationException {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	/**
 	 * Throws an {@code UnimplementedException} with the message <i>TODO</i>.
 	 */
 	public UnimplementedException() {
 		super("TODO");
+		Panic.raised(PanicKind.UNIMPLEMENTED, this);
 	}
 
 	/**
@@ -29,5 +39,14 @@ public final class UnimplementedException extends UnsupportedOperationException
 	 */
 	public UnimplementedException(String message) {
 		super(message);
+		Panic.raised(PanicKind.UNIMPLEMENTED, this);
+	}
+
+	/**
+	 * Fills in the stack trace only if the {@link BacktracePolicy} asks for it.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return Panic.captureBacktrace() ? super.fillInStackTrace() : this;
 	}
 }
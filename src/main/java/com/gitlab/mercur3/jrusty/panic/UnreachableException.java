@@ -1,23 +1,42 @@
 package com.gitlab.mercur3.jrusty.panic;
 
+import java.io.Serial;
+
 /**
  * Indicates that the following {@code if-else} or {@code switch-case} branch is logically
- * <b>unreachable</b>.
+ * <b>unreachable</b>. The stack trace is captured according to the {@link BacktracePolicy} of
+ * {@link Panic}. An instance of a subclass reaches the {@link PanicHook} before the constructor of
+ * the subclass has run.
  *
  * @see <a href="https://doc.rust-lang.org/std/macro.unreachable.html">std::unreachable</a>
  */
 public class UnreachableException extends IllegalStateException {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
 	/**
 	 * @see IllegalStateException#IllegalStateException()
 	 */
+	@SuppressWarnings("this-escape")
 	public UnreachableException() {
 		super();
+		Panic.raised(PanicKind.UNREACHABLE, this);
 	}
 
 	/**
 	 * @param s custom message
 	 */
+	@SuppressWarnings("this-escape")
 	public UnreachableException(String s) {
 		super(s);
+		Panic.raised(PanicKind.UNREACHABLE, this);
+	}
+
+	/**
+	 * Fills in the stack trace only if the {@link BacktracePolicy} asks for it.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return Panic.captureBacktrace() ? super.fillInStackTrace() : this;
 	}
 }
@@ -0,0 +1,30 @@
+package com.gitlab.mercur3.jrusty.panic;
+
+import java.io.Serial;
+
+/**
+ * Thrown by <code>expect</code>, <code>unwrap</code> and their variants when the result holds the
+ * other side. Its stack trace follows the {@link BacktracePolicy} of {@link Panic}.
+ *
+ * @see <a href="https://doc.rust-lang.org/std/result/enum.Result.html#method.unwrap"><code>Result::unwrap</code></a>
+ */
+public final class UnwrapException extends IllegalStateException {
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * @param message the message
+	 */
+	public UnwrapException(String message) {
+		super(message);
+		Panic.raised(PanicKind.UNWRAP, this);
+	}
+
+	/**
+	 * Fills in the stack trace only if the {@link BacktracePolicy} asks for it.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return Panic.captureBacktrace() ? super.fillInStackTrace() : this;
+	}
+}
@@ -0,0 +1,283 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import com.gitlab.mercur3.jrusty.function.BooleanFunction;
+import com.gitlab.mercur3.jrusty.function.BooleanUnaryOperator;
+import com.gitlab.mercur3.jrusty.panic.UnwrapException;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link Result} specialized for {@code boolean} values. The {@code Ok} value is stored
+ * unboxed, so creating an {@code Ok} costs a single allocation instead of an {@code Ok} plus a
+ * {@code Boolean}.
+ *
+ * <p>
+ * The instance is {@code Ok} if and only if {@code err} is {@code null}.
+ * </p>
+ *
+ * <h2>Equality</h2>
+ * 2 <code>BooleanResult</code>'s are equal if and only if both are <code>Ok</code> with the same
+ * value, or both are <code>Err</code> with equal errors.
+ *
+ * @param <E> the type operation returns if it is <code>Err</code>
+ * @see Result
+ */
+public final class BooleanResult<E> {
+	private static final BooleanResult<?> OK_TRUE = new BooleanResult<>(true, null);
+	private static final BooleanResult<?> OK_FALSE = new BooleanResult<>(false, null);
+	private static final BooleanResult<?>[] ERR_KIND;
+
+	static {
+		var kinds = ErrorKind.values();
+		ERR_KIND = new BooleanResult<?>[kinds.length];
+		for (var kind : kinds) {
+			ERR_KIND[kind.ordinal()] = new BooleanResult<>(false, kind);
+		}
+	}
+
+	private final boolean value;
+	private final E err;
+
+	private BooleanResult(boolean value, E err) {
+		this.value = value;
+		this.err = err;
+	}
+
+	/**
+	 * @param value the <code>Ok</code> value
+	 * @return the canonical <code>Ok</code> holding {@code value}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> BooleanResult<E> ok(boolean value) {
+		return (BooleanResult<E>) (value ? OK_TRUE : OK_FALSE);
+	}
+
+	/**
+	 * @param err the <code>Err</code> value
+	 * @return an <code>Err</code> holding {@code err}
+	 * @throws NullPointerException if {@code null}
+	 */
+	public static <E> BooleanResult<E> err(E err) {
+		Objects.requireNonNull(err);
+		if (ErrMetrics.active && err instanceof ErrorKind kind) {
+			ErrMetrics.record(kind);
+		}
+		return new BooleanResult<>(false, err);
+	}
+
+	/**
+	 * @param kind the error kind
+	 * @return the canonical <code>Err</code> holding {@code kind}
+	 * @throws NullPointerException if {@code null}
+	 * @see Result#errKind(ErrorKind)
+	 */
+	@SuppressWarnings("unchecked")
+	public static BooleanResult<ErrorKind> errKind(ErrorKind kind) {
+		var res = (BooleanResult<ErrorKind>) ERR_KIND[kind.ordinal()];
+		if (ErrMetrics.active) {
+			ErrMetrics.record(kind);
+		}
+		return res;
+	}
+
+	/**
+	 * @param res a boxed result
+	 * @return the unboxed equivalent of {@code res}
+	 */
+	public static <E> BooleanResult<E> fromResult(Result<Boolean, E> res) {
+		if (res.isOk()) {
+			return ok(res.unwrap());
+		}
+		// a conversion, not a new error, so it is not recorded by ErrMetrics
+		return new BooleanResult<>(false, res.unwrapErr());
+	}
+
+	/**
+	 * @return the boxed equivalent of this result, a canonical instance where {@link Result} has
+	 * one
+	 */
+	@SuppressWarnings("unchecked")
+	public Result<Boolean, E> toResult() {
+		if (isOk()) {
+			return Result.okBoolean(value);
+		}
+		if (err instanceof ErrorKind kind) {
+			return (Result<Boolean, E>) Flyweights.ERR_KIND[kind.ordinal()];
+		}
+		return new Err<>(err);
+	}
+
+	/**
+	 * @return <code>true</code> if <code>Ok</code>, <code>false</code> if <code>Err</code>
+	 */
+	public boolean isOk() {
+		return err == null;
+	}
+
+	/**
+	 * @return <code>false</code> if <code>Ok</code>, <code>true</code> if <code>Err</code>
+	 */
+	public boolean isErr() {
+		return err != null;
+	}
+
+	/**
+	 * @param msg message
+	 * @return the value if <code>Ok</code>
+	 * @throws IllegalStateException with the specific message if <code>Err</code>
+	 */
+	public boolean expect(String msg) {
+		if (isOk()) {
+			return value;
+		}
+		throw new UnwrapException(msg);
+	}
+
+	/**
+	 * @param msg message
+	 * @return the error if <code>Err</code>
+	 * @throws IllegalStateException with the specific message if <code>Ok</code>
+	 */
+	public E expectErr(String msg) {
+		if (isErr()) {
+			return err;
+		}
+		throw new UnwrapException(msg);
+	}
+
+	/**
+	 * @return the value if <code>Ok</code>
+	 * @throws IllegalStateException if <code>Err</code>
+	 */
+	public boolean unwrap() {
+		if (isErr()) {
+			throw new UnwrapException("Trying to access value from a result that is error");
+		}
+		return value;
+	}
+
+	/**
+	 * @return the error if <code>Err</code>
+	 * @throws IllegalStateException if <code>Ok</code>
+	 */
+	public E unwrapErr() {
+		if (isErr()) {
+			return err;
+		}
+		throw new UnwrapException("Trying to access value from a result that is ok");
+	}
+
+	/**
+	 * @param other the return value if <code>Err</code>
+	 * @return the value if <code>Ok</code> or <code>other</code> if <code>Err</code>
+	 */
+	public boolean unwrapOr(boolean other) {
+		if (isErr()) {
+			return other;
+		}
+		return value;
+	}
+
+	/**
+	 * @param mapper a function <code>E -> boolean</code>
+	 * @return the value if <code>Ok</code> or the mapping of the error if <code>Err</code>
+	 */
+	public boolean unwrapOrElse(Predicate<E> mapper) {
+		if (isErr()) {
+			return mapper.test(err);
+		}
+		return value;
+	}
+
+	/**
+	 * Maps the <code>Ok</code> value, leaving an <code>Err</code> untouched.
+	 *
+	 * @param mapper a function <code>boolean -> boolean</code>
+	 * @return mapping result
+	 */
+	public BooleanResult<E> map(BooleanUnaryOperator mapper) {
+		if (isOk()) {
+			return ok(mapper.applyAsBoolean(value));
+		}
+		return this;
+	}
+
+	/**
+	 * Maps the <code>Ok</code> value to an object, leaving an <code>Err</code> untouched.
+	 *
+	 * @param mapper a function <code>boolean -> U</code>
+	 * @param <U>    the new <code>ok</code> type
+	 * @return mapping result
+	 */
+	public <U> Result<U, E> mapToObj(BooleanFunction<U> mapper) {
+		if (isOk()) {
+			return new Ok<>(mapper.apply(value));
+		}
+		return new Err<>(err);
+	}
+
+	/**
+	 * Maps the <code>Err</code> value, leaving an <code>Ok</code> untouched.
+	 *
+	 * @param f   a function <code>E -> O</code>
+	 * @param <O> the new <code>err</code> type
+	 * @return mapping result
+	 */
+	@SuppressWarnings("unchecked")
+	public <O> BooleanResult<O> mapErr(Function<E, O> f) {
+		if (isErr()) {
+			return err(f.apply(err));
+		}
+		// an Ok never touches its error type, so it can be shared
+		return (BooleanResult<O>) this;
+	}
+
+	/**
+	 * @param defaultValue the default value
+	 * @param f            a function <code>boolean -> U</code>
+	 * @param <U>          the associated type
+	 * @return the default value if <code>Err</code>, applies the function <code>f</code>
+	 * otherwise
+	 */
+	public <U> U mapOr(U defaultValue, BooleanFunction<U> f) {
+		if (isOk()) {
+			return f.apply(value);
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * @param defaultFunc a function <code>E -> U</code>
+	 * @param f           a function <code>boolean -> U</code>
+	 * @param <U>         the associated type
+	 * @return <code>f</code> applied to the <code>Ok</code> value or <code>defaultFunc</code>
+	 * applied to the <code>Err</code> value
+	 */
+	public <U> U mapOrElse(Function<E, U> defaultFunc, BooleanFunction<U> f) {
+		if (isOk()) {
+			return f.apply(value);
+		}
+		return defaultFunc.apply(err);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof BooleanResult<?> other) {
+			if (isOk()) {
+				return other.isOk() && value == other.value;
+			}
+			return err.equals(other.err);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		if (isOk()) {
+			return Boolean.hashCode(value);
+		}
+		return ~err.hashCode();
+	}
+}
@@ -25,13 +25,38 @@ import java.util.Objects;
  * @see com.gitlab.mercur3.jrusty.result.Result
  */
 public final class Err<E, T> extends Result<T, E> {
+	private final E err;
+
 	/**
 	 * @param err initialize with this error type
 	 * @throws NullPointerException if <code>null</code>
 	 */
 	public Err(E err) {
-		super(null, err);
-		Objects.requireNonNull(err);
+		this.err = Objects.requireNonNull(err);
+		if (ErrMetrics.active && err instanceof ErrorKind kind) {
+			ErrMetrics.record(kind);
+		}
+	}
+
+	/**
+	 * Not recorded by {@link ErrMetrics}, for canonical instances created once.
+	 */
+	private Err(E err, boolean uncounted) {
+		this.err = err;
+	}
+
+	static <E, T> Err<E, T> uncounted(E err) {
+		return new Err<>(err, true);
+	}
+
+	@Override
+	T okValue() {
+		return null;
+	}
+
+	@Override
+	E errValue() {
+		return err;
 	}
 
 	/**
@@ -53,8 +78,17 @@ public final class Err<E, T> extends Result<T, E> {
 	@Override
 	public boolean equals(Object o) {
 		if (o instanceof Err<?, ?> other) {
-			return err().equals(other.err());
+			return err.equals(other.err);
 		}
 		return false;
 	}
+
+	/**
+	 * @return the complement of the hash of the error, so <code>Ok(x)</code> and <code>Err(x)</code>
+	 * differ
+	 */
+	@Override
+	public int hashCode() {
+		return ~err.hashCode();
+	}
 }
@@ -0,0 +1,29 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for an <code>Err</code> holding an {@code ErrorKind}. The stack trace is
+ * off by default; enable it with the {@code stackTrace} setting of the recording.
+ *
+ * @see ErrMetrics#setEvents(boolean)
+ */
+@Name(ErrEvent.NAME)
+@Label("Err Created")
+@Category("jrusty")
+@Description("An Err holding an ErrorKind was created")
+@StackTrace(false)
+final class ErrEvent extends jdk.jfr.Event {
+	static final String NAME = "com.gitlab.mercur3.jrusty.ErrCreated";
+
+	@Label("Kind")
+	String kind;
+
+	@Label("Call Site")
+	@Description("The first class on the stack outside of jrusty")
+	Class<?> callSite;
+}
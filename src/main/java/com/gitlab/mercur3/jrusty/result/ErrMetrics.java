@@ -0,0 +1,157 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of the <code>Err</code>s holding an {@link ErrorKind}. Recorded are the
+ * {@code Err} constructor, the {@code err} and {@code errKind} factories of {@code Result} and of
+ * the primitive results, and therefore every error returned by
+ * {@link com.gitlab.mercur3.jrusty.util.FromString}. Conversions
+ * between a {@code Result} and its primitive equivalent are not recorded.
+ *
+ * <h2>Counters</h2>
+ * Striped counters per {@code ErrorKind}, read with {@link #snapshot()} to export them to another
+ * metrics system.
+ *
+ * <h2>Flight Recorder</h2>
+ * An event named {@value ErrEvent#NAME} with the kind and the call site, i.e. the first class on
+ * the stack outside of jrusty. Events are emitted only while {@link #setEvents(boolean) enabled}
+ * here <i>and</i> in a running recording, optionally for 1 in {@link #setEventSampling(int) N}
+ * errors.
+ *
+ * <p>
+ * Both are off by default, which costs a single volatile read per error. They can be turned on
+ * at startup with the system properties {@code jrusty.errMetrics.counting} and
+ * {@code jrusty.errMetrics.events}, or at any time with the setters.
+ * </p>
+ */
+public final class ErrMetrics {
+	private static final ErrorKind[] KINDS = ErrorKind.values();
+	private static final LongAdder[] COUNTS = new LongAdder[KINDS.length];
+	/** Classes of this package prefix are skipped when looking for the call site */
+	private static final String INTERNAL = "com.gitlab.mercur3.jrusty.";
+	private static final StackWalker WALKER =
+			StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+	private static volatile boolean counting;
+	private static volatile boolean events;
+	private static volatile int sampling = 1;
+	/** {@code counting || events}, the only field read on the hot path */
+	static volatile boolean active;
+
+	static {
+		for (int i = 0; i < COUNTS.length; i++) {
+			COUNTS[i] = new LongAdder();
+		}
+		counting = Boolean.getBoolean("jrusty.errMetrics.counting");
+		events = Boolean.getBoolean("jrusty.errMetrics.events");
+		active = counting || events;
+	}
+
+	private ErrMetrics() {}
+
+	/**
+	 * @param on whether to count errors by kind
+	 */
+	public static synchronized void setCounting(boolean on) {
+		counting = on;
+		active = counting || events;
+	}
+
+	/**
+	 * @return whether errors are counted
+	 */
+	public static boolean isCounting() {
+		return counting;
+	}
+
+	/**
+	 * @param on whether to emit Flight Recorder events. They are committed only if a running
+	 *           recording enables them too.
+	 */
+	public static synchronized void setEvents(boolean on) {
+		events = on;
+		active = counting || events;
+	}
+
+	/**
+	 * @return whether Flight Recorder events are emitted
+	 */
+	public static boolean isEvents() {
+		return events;
+	}
+
+	/**
+	 * @param n emit an event for about 1 in {@code n} errors, 1 to emit one for every error
+	 * @throws IllegalArgumentException if {@code n < 1}
+	 */
+	public static void setEventSampling(int n) {
+		if (n < 1) {
+			throw new IllegalArgumentException("n must be positive: " + n);
+		}
+		sampling = n;
+	}
+
+	/**
+	 * @param kind the error kind
+	 * @return how many errors of {@code kind} were counted
+	 */
+	public static long count(ErrorKind kind) {
+		return COUNTS[kind.ordinal()].sum();
+	}
+
+	/**
+	 * @return a snapshot of the counters of every kind, not atomic across kinds
+	 */
+	public static Map<ErrorKind, Long> snapshot() {
+		var map = new EnumMap<ErrorKind, Long>(ErrorKind.class);
+		for (var kind : KINDS) {
+			map.put(kind, count(kind));
+		}
+		return map;
+	}
+
+	/**
+	 * Sets all counters to 0.
+	 */
+	public static void reset() {
+		for (var count : COUNTS) {
+			count.reset();
+		}
+	}
+
+	/// PRIVATE
+
+	/**
+	 * Called when {@link #active}.
+	 */
+	static void record(ErrorKind kind) {
+		if (counting) {
+			COUNTS[kind.ordinal()].increment();
+		}
+		if (events) {
+			emit(kind);
+		}
+	}
+
+	private static void emit(ErrorKind kind) {
+		int n = sampling;
+		if (n > 1 && ThreadLocalRandom.current().nextInt(n) != 0) {
+			return;
+		}
+		var event = new ErrEvent();
+		if (!event.isEnabled()) {
+			return;
+		}
+		event.kind = kind.name();
+		event.callSite = WALKER.walk(frames -> frames
+				.<Class<?>>map(StackWalker.StackFrame::getDeclaringClass)
+				.filter(c -> !c.getName().startsWith(INTERNAL))
+				.findFirst()
+				.orElse(null));
+		event.commit();
+	}
+}
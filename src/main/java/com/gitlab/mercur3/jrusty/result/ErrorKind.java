@@ -26,4 +26,10 @@ public enum ErrorKind {
 	READONLY,
 	/** Invalid input */
 	INVALID_INPUT,
+	/** Timed out */
+	TIMED_OUT,
+	/** The operation would block */
+	WOULD_BLOCK,
+	/** The thread was interrupted */
+	INTERRUPTED,
 }
@@ -0,0 +1,36 @@
+package com.gitlab.mercur3.jrusty.result;
+
+/**
+ * Canonical {@code Ok} and {@code Err} instances for small, fixed sets of values. Sharing them is
+ * safe because both variants are immutable and the type parameter of the side they do not hold is
+ * a phantom.
+ *
+ * @see Result#errKind(ErrorKind)
+ */
+final class Flyweights {
+	static final int LOW = -128;
+	static final int HIGH = 127;
+
+	static final Err<?, ?>[] ERR_KIND;
+	static final Ok<?, ?> OK_TRUE = new Ok<>(Boolean.TRUE);
+	static final Ok<?, ?> OK_FALSE = new Ok<>(Boolean.FALSE);
+	static final Ok<?, ?> OK_UNIT = new Ok<>(Empty.UNIT);
+	static final Ok<?, ?>[] OK_BYTE = new Ok<?, ?>[HIGH - LOW + 1];
+	static final Ok<?, ?>[] OK_INT = new Ok<?, ?>[HIGH - LOW + 1];
+	static final Ok<?, ?>[] OK_LONG = new Ok<?, ?>[HIGH - LOW + 1];
+
+	static {
+		var kinds = ErrorKind.values();
+		ERR_KIND = new Err<?, ?>[kinds.length];
+		for (var kind : kinds) {
+			ERR_KIND[kind.ordinal()] = Err.uncounted(kind);
+		}
+		for (int i = LOW; i <= HIGH; i++) {
+			OK_BYTE[i - LOW] = new Ok<>((byte) i);
+			OK_INT[i - LOW] = new Ok<>(i);
+			OK_LONG[i - LOW] = new Ok<>((long) i);
+		}
+	}
+
+	private Flyweights() {}
+}
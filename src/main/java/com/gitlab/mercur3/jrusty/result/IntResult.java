@@ -0,0 +1,280 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import com.gitlab.mercur3.jrusty.panic.UnwrapException;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Result} specialized for {@code int} values. The {@code Ok} value is stored
+ * unboxed, so creating an {@code Ok} costs a single allocation instead of an {@code Ok} plus a
+ * {@code Integer}.
+ *
+ * <p>
+ * The instance is {@code Ok} if and only if {@code err} is {@code null}.
+ * </p>
+ *
+ * <h2>Equality</h2>
+ * 2 <code>IntResult</code>'s are equal if and only if both are <code>Ok</code> with the same
+ * value, or both are <code>Err</code> with equal errors.
+ *
+ * @param <E> the type operation returns if it is <code>Err</code>
+ * @see Result
+ */
+public final class IntResult<E> {
+	private static final IntResult<?>[] ERR_KIND;
+
+	static {
+		var kinds = ErrorKind.values();
+		ERR_KIND = new IntResult<?>[kinds.length];
+		for (var kind : kinds) {
+			ERR_KIND[kind.ordinal()] = new IntResult<>(0, kind);
+		}
+	}
+
+	private final int value;
+	private final E err;
+
+	private IntResult(int value, E err) {
+		this.value = value;
+		this.err = err;
+	}
+
+	/**
+	 * @param value the <code>Ok</code> value
+	 * @return an <code>Ok</code> holding {@code value}
+	 */
+	public static <E> IntResult<E> ok(int value) {
+		return new IntResult<>(value, null);
+	}
+
+	/**
+	 * @param err the <code>Err</code> value
+	 * @return an <code>Err</code> holding {@code err}
+	 * @throws NullPointerException if {@code null}
+	 */
+	public static <E> IntResult<E> err(E err) {
+		Objects.requireNonNull(err);
+		if (ErrMetrics.active && err instanceof ErrorKind kind) {
+			ErrMetrics.record(kind);
+		}
+		return new IntResult<>(0, err);
+	}
+
+	/**
+	 * @param kind the error kind
+	 * @return the canonical <code>Err</code> holding {@code kind}
+	 * @throws NullPointerException if {@code null}
+	 * @see Result#errKind(ErrorKind)
+	 */
+	@SuppressWarnings("unchecked")
+	public static IntResult<ErrorKind> errKind(ErrorKind kind) {
+		var res = (IntResult<ErrorKind>) ERR_KIND[kind.ordinal()];
+		if (ErrMetrics.active) {
+			ErrMetrics.record(kind);
+		}
+		return res;
+	}
+
+	/**
+	 * @param res a boxed result
+	 * @return the unboxed equivalent of {@code res}
+	 */
+	public static <E> IntResult<E> fromResult(Result<Integer, E> res) {
+		if (res.isOk()) {
+			return ok(res.unwrap());
+		}
+		// a conversion, not a new error, so it is not recorded by ErrMetrics
+		return new IntResult<>(0, res.unwrapErr());
+	}
+
+	/**
+	 * @return the boxed equivalent of this result, a canonical instance where {@link Result} has
+	 * one
+	 */
+	@SuppressWarnings("unchecked")
+	public Result<Integer, E> toResult() {
+		if (isOk()) {
+			return Result.okInt(value);
+		}
+		if (err instanceof ErrorKind kind) {
+			return (Result<Integer, E>) Flyweights.ERR_KIND[kind.ordinal()];
+		}
+		return new Err<>(err);
+	}
+
+	/**
+	 * @return <code>true</code> if <code>Ok</code>, <code>false</code> if <code>Err</code>
+	 */
+	public boolean isOk() {
+		return err == null;
+	}
+
+	/**
+	 * @return <code>false</code> if <code>Ok</code>, <code>true</code> if <code>Err</code>
+	 */
+	public boolean isErr() {
+		return err != null;
+	}
+
+	/**
+	 * @param msg message
+	 * @return the value if <code>Ok</code>
+	 * @throws IllegalStateException with the specific message if <code>Err</code>
+	 */
+	public int expect(String msg) {
+		if (isOk()) {
+			return value;
+		}
+		throw new UnwrapException(msg);
+	}
+
+	/**
+	 * @param msg message
+	 * @return the error if <code>Err</code>
+	 * @throws IllegalStateException with the specific message if <code>Ok</code>
+	 */
+	public E expectErr(String msg) {
+		if (isErr()) {
+			return err;
+		}
+		throw new UnwrapException(msg);
+	}
+
+	/**
+	 * @return the value if <code>Ok</code>
+	 * @throws IllegalStateException if <code>Err</code>
+	 */
+	public int unwrap() {
+		if (isErr()) {
+			throw new UnwrapException("Trying to access value from a result that is error");
+		}
+		return value;
+	}
+
+	/**
+	 * @return the error if <code>Err</code>
+	 * @throws IllegalStateException if <code>Ok</code>
+	 */
+	public E unwrapErr() {
+		if (isErr()) {
+			return err;
+		}
+		throw new UnwrapException("Trying to access value from a result that is ok");
+	}
+
+	/**
+	 * @param other the return value if <code>Err</code>
+	 * @return the value if <code>Ok</code> or <code>other</code> if <code>Err</code>
+	 */
+	public int unwrapOr(int other) {
+		if (isErr()) {
+			return other;
+		}
+		return value;
+	}
+
+	/**
+	 * @param mapper a function <code>E -> int</code>
+	 * @return the value if <code>Ok</code> or the mapping of the error if <code>Err</code>
+	 */
+	public int unwrapOrElse(ToIntFunction<E> mapper) {
+		if (isErr()) {
+			return mapper.applyAsInt(err);
+		}
+		return value;
+	}
+
+	/**
+	 * Maps the <code>Ok</code> value, leaving an <code>Err</code> untouched.
+	 *
+	 * @param mapper a function <code>int -> int</code>
+	 * @return mapping result
+	 */
+	public IntResult<E> map(IntUnaryOperator mapper) {
+		if (isOk()) {
+			return ok(mapper.applyAsInt(value));
+		}
+		return this;
+	}
+
+	/**
+	 * Maps the <code>Ok</code> value to an object, leaving an <code>Err</code> untouched.
+	 *
+	 * @param mapper a function <code>int -> U</code>
+	 * @param <U>    the new <code>ok</code> type
+	 * @return mapping result
+	 */
+	public <U> Result<U, E> mapToObj(IntFunction<U> mapper) {
+		if (isOk()) {
+			return new Ok<>(mapper.apply(value));
+		}
+		return new Err<>(err);
+	}
+
+	/**
+	 * Maps the <code>Err</code> value, leaving an <code>Ok</code> untouched.
+	 *
+	 * @param f   a function <code>E -> O</code>
+	 * @param <O> the new <code>err</code> type
+	 * @return mapping result
+	 */
+	@SuppressWarnings("unchecked")
+	public <O> IntResult<O> mapErr(Function<E, O> f) {
+		if (isErr()) {
+			return err(f.apply(err));
+		}
+		// an Ok never touches its error type, so it can be shared
+		return (IntResult<O>) this;
+	}
+
+	/**
+	 * @param defaultValue the default value
+	 * @param f            a function <code>int -> U</code>
+	 * @param <U>          the associated type
+	 * @return the default value if <code>Err</code>, applies the function <code>f</code>
+	 * otherwise
+	 */
+	public <U> U mapOr(U defaultValue, IntFunction<U> f) {
+		if (isOk()) {
+			return f.apply(value);
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * @param defaultFunc a function <code>E -> U</code>
+	 * @param f           a function <code>int -> U</code>
+	 * @param <U>         the associated type
+	 * @return <code>f</code> applied to the <code>Ok</code> value or <code>defaultFunc</code>
+	 * applied to the <code>Err</code> value
+	 */
+	public <U> U mapOrElse(Function<E, U> defaultFunc, IntFunction<U> f) {
+		if (isOk()) {
+			return f.apply(value);
+		}
+		return defaultFunc.apply(err);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof IntResult<?> other) {
+			if (isOk()) {
+				return other.isOk() && value == other.value;
+			}
+			return err.equals(other.err);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		if (isOk()) {
+			return Integer.hashCode(value);
+		}
+		return ~err.hashCode();
+	}
+}
@@ -14,13 +14,24 @@ import java.util.Objects;
  * @see com.gitlab.mercur3.jrusty.result.Result
  */
 public final class Ok<T, E> extends Result<T, E> {
+	private final T ok;
+
 	/**
 	 * @param ok <code>Ok</code> type
 	 * @throws NullPointerException if {@code null}
 	 */
 	public Ok(T ok) {
-		super(ok, null);
-		Objects.requireNonNull(ok);
+		this.ok = Objects.requireNonNull(ok);
+	}
+
+	@Override
+	T okValue() {
+		return ok;
+	}
+
+	@Override
+	E errValue() {
+		return null;
 	}
 
 	/**
@@ -42,8 +53,13 @@ public final class Ok<T, E> extends Result<T, E> {
 	@Override
 	public boolean equals(Object o) {
 		if (o instanceof Ok<?, ?> other) {
-			return ok().equals(other.ok());
+			return ok.equals(other.ok);
 		}
 		return false;
 	}
+
+	@Override
+	public int hashCode() {
+		return ok.hashCode();
+	}
 }
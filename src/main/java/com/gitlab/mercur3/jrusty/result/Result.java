@@ -1,12 +1,19 @@
 package com.gitlab.mercur3.jrusty.result;
 
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.panic.UnwrapException;
+
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Representation of Rust's {@code std::result::Result}. The only allowed subclasses are {@code Ok}
- * and {@code Err}. If the instance is {@code Ok}, {@code err} is set to {@code null}. If the
- * instance is {@code Err}, {@code ok} is set to {@code null}.
+ * and {@code Err}. An {@code Ok} stores only its value and an {@code Err} stores only its error,
+ * so neither carries a {@code null} field for the other side.
  *
  * <h2>Equality</h2>
  * 2 <code>Result</code>'s are equal if and only if one of the following is true:
@@ -15,6 +22,19 @@ import java.util.function.Function;
  *     <li>Both are <code>Err&lt;?&gt;</code> and the content inside are also equal</li>
  * </ol>
  *
+ * <h2>Allocation</h2>
+ * Both variants are immutable, and the type parameter of the side a variant does not hold is a
+ * phantom. Combinators therefore return {@code this} instead of allocating a copy whenever they
+ * pass a value through untouched, e.g. {@link #map(Function)} on an {@code Err} or
+ * {@link #mapErr(Function)} on an {@code Ok}.
+ *
+ * <p>
+ * For the same reason the static factories {@link #errKind(ErrorKind)},
+ * {@link #okBoolean(boolean)}, {@link #okUnit()}, {@link #okByte(byte)}, {@link #okInt(int)} and
+ * {@link #okLong(long)} hand out canonical instances instead of allocating. Do not compare results
+ * by identity.
+ * </p>
+ *
  * <h2>Examples</h2>
  * <h3>Working around {@code try-catch}</h3>
  * {@snippet :
@@ -43,14 +63,86 @@ import java.util.function.Function;
  * @see <a href="https://doc.rust-lang.org/std/result/enum.Result.html"><code>std::result::Result</code></a>
  */
 public sealed abstract class Result<T, E> permits Ok, Err {
-	private final T ok;
-	private final E err;
+	Result() {}
 
-	public Result(T ok, E err) {
-		this.ok = ok;
-		this.err = err;
+	/**
+	 * @param kind the error kind
+	 * @return the canonical <code>Err</code> holding {@code kind}
+	 * @throws NullPointerException if {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Result<T, ErrorKind> errKind(ErrorKind kind) {
+		var res = (Result<T, ErrorKind>) Flyweights.ERR_KIND[kind.ordinal()];
+		if (ErrMetrics.active) {
+			ErrMetrics.record(kind);
+		}
+		return res;
 	}
 
+	/**
+	 * @param value the value
+	 * @return the canonical <code>Ok(true)</code> or <code>Ok(false)</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> Result<Boolean, E> okBoolean(boolean value) {
+		return (Result<Boolean, E>) (value ? Flyweights.OK_TRUE : Flyweights.OK_FALSE);
+	}
+
+	/**
+	 * @return the canonical <code>Ok(Empty.UNIT)</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> Result<Empty, E> okUnit() {
+		return (Result<Empty, E>) Flyweights.OK_UNIT;
+	}
+
+	/**
+	 * @param value the value
+	 * @return the canonical <code>Ok</code> holding {@code value}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> Result<Byte, E> okByte(byte value) {
+		return (Result<Byte, E>) Flyweights.OK_BYTE[value - Flyweights.LOW];
+	}
+
+	/**
+	 * @param value the value
+	 * @return an <code>Ok</code> holding {@code value}, canonical if in
+	 * <code>[-128, 127]</code>
+	 * @see Integer#valueOf(int)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> Result<Integer, E> okInt(int value) {
+		if (value >= Flyweights.LOW && value <= Flyweights.HIGH) {
+			return (Result<Integer, E>) Flyweights.OK_INT[value - Flyweights.LOW];
+		}
+		return new Ok<>(value);
+	}
+
+	/**
+	 * @param value the value
+	 * @return an <code>Ok</code> holding {@code value}, canonical if in
+	 * <code>[-128, 127]</code>
+	 * @see Long#valueOf(long)
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> Result<Long, E> okLong(long value) {
+		if (value >= Flyweights.LOW && value <= Flyweights.HIGH) {
+			return (Result<Long, E>) Flyweights.OK_LONG[(int) value - Flyweights.LOW];
+		}
+		return new Ok<>(value);
+	}
+
+	/**
+	 * @return the contained value if <code>Ok</code>, <code>null</code> if <code>Err</code>
+	 */
+	abstract T okValue();
+
+	/**
+	 * @return the contained error if <code>Err</code>, <code>null</code> if <code>Ok</code>
+	 */
+	abstract E errValue();
+
 	/**
 	 * @return <code>true</code> if <code>Ok</code>, <code>false</code> if <code>Err</code>
 	 */
@@ -62,11 +154,38 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	public abstract boolean isErr();
 
 	public Optional<T> ok() {
-		return Optional.ofNullable(ok);
+		return Optional.ofNullable(okValue());
 	}
 
 	public Optional<E> err() {
-		return Optional.ofNullable(err);
+		return Optional.ofNullable(errValue());
+	}
+
+	/**
+	 * Rust's {@code Result::ok}. Unlike {@link #ok()} the <code>Err</code> path returns the shared
+	 * <code>None</code>, and the <code>Some</code> of the <code>Ok</code> path is a candidate for
+	 * scalar replacement once the call is inlined.
+	 *
+	 * @return <code>Some(value)</code> if <code>Ok</code>, <code>None</code> if <code>Err</code>
+	 */
+	public Option<T> okOption() {
+		if (isOk()) {
+			return Option.some(okValue());
+		}
+		return Option.none();
+	}
+
+	/**
+	 * Rust's {@code Result::err}.
+	 *
+	 * @return <code>Some(error)</code> if <code>Err</code>, <code>None</code> if <code>Ok</code>
+	 * @see #okOption()
+	 */
+	public Option<E> errOption() {
+		if (isErr()) {
+			return Option.some(errValue());
+		}
+		return Option.none();
 	}
 
 	/**
@@ -76,9 +195,9 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public T expect(String msg) {
 		if (isOk()) {
-			return ok;
+			return okValue();
 		}
-		throw new IllegalStateException(msg);
+		throw new UnwrapException(msg);
 	}
 
 	/**
@@ -88,9 +207,9 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public E expectErr(String msg) {
 		if (isErr()) {
-			return err;
+			return errValue();
 		}
-		throw new IllegalStateException(msg);
+		throw new UnwrapException(msg);
 	}
 
 	/**
@@ -102,7 +221,7 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 * @return flattening result
 	 */
 	public Result<T, E> flatten() {
-		if (ok instanceof Result<?, ?> innerRes) {
+		if (okValue() instanceof Result<?, ?> innerRes) {
 			return (Result<T, E>) innerRes;
 		}
 		return this;
@@ -118,9 +237,9 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public <U> Result<U, E> map(Function<T, U> mapper) {
 		if (isOk()) {
-			return new Ok<>(mapper.apply(ok));
+			return new Ok<>(mapper.apply(okValue()));
 		}
-		return new Err<>(err);
+		return castOk();
 	}
 
 	/**
@@ -133,9 +252,116 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public <O> Result<T, O> mapErr(Function<E, O> f) {
 		if (isErr()) {
-			return new Err<>(f.apply(err));
+			return new Err<>(f.apply(errValue()));
+		}
+		return castErr();
+	}
+
+	/**
+	 * Calls {@code op} if the result is <code>Ok</code>, otherwise returns the <code>Err</code>
+	 * value of {@code this}.
+	 *
+	 * @param op  a function <code>T -> Result&lt;U, E&gt;</code>
+	 * @param <U> the new <code>ok</code> type
+	 * @return the result of {@code op} or {@code this}
+	 */
+	public <U> Result<U, E> andThen(Function<T, Result<U, E>> op) {
+		if (isOk()) {
+			return op.apply(okValue());
 		}
-		return new Ok<>(ok);
+		return castOk();
+	}
+
+	/**
+	 * Calls {@code op} if the result is <code>Err</code>, otherwise returns the <code>Ok</code>
+	 * value of {@code this}.
+	 *
+	 * @param op  a function <code>E -> Result&lt;T, F&gt;</code>
+	 * @param <F> the new <code>err</code> type
+	 * @return the result of {@code op} or {@code this}
+	 */
+	public <F> Result<T, F> orElse(Function<E, Result<T, F>> op) {
+		if (isErr()) {
+			return op.apply(errValue());
+		}
+		return castErr();
+	}
+
+	/**
+	 * @param res the result returned if {@code this} is <code>Ok</code>
+	 * @param <U> the new <code>ok</code> type
+	 * @return {@code res} if <code>Ok</code>, {@code this} if <code>Err</code>
+	 */
+	public <U> Result<U, E> and(Result<U, E> res) {
+		if (isOk()) {
+			return res;
+		}
+		return castOk();
+	}
+
+	/**
+	 * @param res the result returned if {@code this} is <code>Err</code>
+	 * @param <F> the new <code>err</code> type
+	 * @return {@code this} if <code>Ok</code>, {@code res} if <code>Err</code>
+	 */
+	public <F> Result<T, F> or(Result<T, F> res) {
+		if (isErr()) {
+			return res;
+		}
+		return castErr();
+	}
+
+	/**
+	 * Calls {@code f} with the contained value if <code>Ok</code>.
+	 *
+	 * @param f a consumer of <code>T</code>
+	 * @return {@code this}
+	 */
+	public Result<T, E> inspect(Consumer<T> f) {
+		if (isOk()) {
+			f.accept(okValue());
+		}
+		return this;
+	}
+
+	/**
+	 * Calls {@code f} with the contained error if <code>Err</code>.
+	 *
+	 * @param f a consumer of <code>E</code>
+	 * @return {@code this}
+	 */
+	public Result<T, E> inspectErr(Consumer<E> f) {
+		if (isErr()) {
+			f.accept(errValue());
+		}
+		return this;
+	}
+
+	/**
+	 * @param f a predicate on <code>T</code>
+	 * @return <code>true</code> if <code>Ok</code> and the value matches {@code f}
+	 */
+	public boolean isOkAnd(Predicate<T> f) {
+		return isOk() && f.test(okValue());
+	}
+
+	/**
+	 * @param f a predicate on <code>E</code>
+	 * @return <code>true</code> if <code>Err</code> and the error matches {@code f}
+	 */
+	public boolean isErrAnd(Predicate<E> f) {
+		return isErr() && f.test(errValue());
+	}
+
+	/**
+	 * @return an iterator over the possibly contained value: one element if <code>Ok</code>, none
+	 * if <code>Err</code>. The empty iterator is a shared instance.
+	 */
+	public Iterator<T> iter() {
+		if (isOk()) {
+			return Collections.singleton(okValue()).iterator();
+		}
+		return Collections.emptyIterator();
 	}
 
 	/**
@@ -150,9 +376,9 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public <U> U mapOrElse(Function<E, U> defaultFunc, Function<T, U> f) {
 		if (isOk()) {
-			return f.apply(ok);
+			return f.apply(okValue());
 		}
-		return defaultFunc.apply(err);
+		return defaultFunc.apply(errValue());
 	}
 
 	/**
@@ -168,7 +394,7 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public <U> U mapOr(U defaultValue, Function<T, U> f) {
 		if (isOk()) {
-			return f.apply(ok);
+			return f.apply(okValue());
 		}
 		return defaultValue;
 	}
@@ -179,9 +405,9 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public T unwrap() {
 		if (isErr()) {
-			throw new IllegalStateException("Trying to access value from a result that is error");
+			throw new UnwrapException("Trying to access value from a result that is error");
 		}
-		return ok;
+		return okValue();
 	}
 
 	/**
@@ -190,9 +416,9 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public E unwrapErr() {
 		if (isErr()) {
-			return err;
+			return errValue();
 		}
-		throw new IllegalStateException("Trying to access value from a result that is ok");
+		throw new UnwrapException("Trying to access value from a result that is ok");
 	}
 
 	/**
@@ -204,7 +430,7 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 		if (isErr()) {
 			return other;
 		}
-		return ok;
+		return okValue();
 	}
 
 	/**
@@ -214,8 +440,28 @@ public sealed abstract class Result<T, E> permits Ok, Err {
 	 */
 	public T unwrapOrElse(Function<E, T> mapper) {
 		if (isErr()) {
-			return mapper.apply(err);
+			return mapper.apply(errValue());
 		}
-		return ok;
+		return okValue();
+	}
+
+	/// PRIVATE
+
+	/**
+	 * Reinterprets an <code>Err</code> with another <code>ok</code> type. Safe since an
+	 * <code>Err</code> never holds a <code>T</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	private <U> Result<U, E> castOk() {
+		return (Result<U, E>) this;
+	}
+
+	/**
+	 * Reinterprets an <code>Ok</code> with another <code>err</code> type. Safe since an
+	 * <code>Ok</code> never holds an <code>E</code>.
+	 */
+	@SuppressWarnings("unchecked")
+	private <F> Result<T, F> castErr() {
+		return (Result<T, F>) this;
 	}
 }
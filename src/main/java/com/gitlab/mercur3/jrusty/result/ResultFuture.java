@@ -0,0 +1,201 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@code Result} that is not available yet. Errors travel as <code>Err</code> values through
+ * the combinators, so unlike {@code CompletableFuture} nothing is wrapped in a
+ * {@code CompletionException}. Only a task that throws, i.e. panics, completes exceptionally, and
+ * {@link #join()} rethrows that exception as is.
+ *
+ * {@snippet :
+ * ResultFuture<User, ErrorKind> user = ResultFuture.spawn(() -> fetchUser(id))
+ *         .andThen(User::validate);
+ * Result<User, ErrorKind> res = user.join(Duration.ofSeconds(2), ErrorKind.TIMED_OUT);
+ * }
+ *
+ * @param <T> the type of the value
+ * @param <E> the type of the error
+ * @see Results#parallelTraverse(java.util.Collection, Function)
+ */
+public final class ResultFuture<T, E> {
+	private final CompletableFuture<Result<T, E>> future;
+	private final Thread worker;
+
+	private ResultFuture(CompletableFuture<Result<T, E>> future, Thread worker) {
+		this.future = future;
+		this.worker = worker;
+	}
+
+	/**
+	 * Runs {@code task} on a new virtual thread.
+	 *
+	 * @param task the task
+	 * @return the pending result of {@code task}
+	 * @throws NullPointerException if {@code task} is {@code null}
+	 */
+	public static <T, E> ResultFuture<T, E> spawn(Supplier<Result<T, E>> task) {
+		Objects.requireNonNull(task);
+		var future = new CompletableFuture<Result<T, E>>();
+		var worker = Thread.ofVirtual().unstarted(() -> {
+			try {
+				future.complete(Objects.requireNonNull(task.get()));
+			}
+			catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+		var res = new ResultFuture<>(future, worker);
+		worker.start();
+		return res;
+	}
+
+	/**
+	 * @param res the result
+	 * @return an already completed future holding {@code res}
+	 * @throws NullPointerException if {@code res} is {@code null}
+	 */
+	public static <T, E> ResultFuture<T, E> completed(Result<T, E> res) {
+		return new ResultFuture<>(CompletableFuture.completedFuture(Objects.requireNonNull(res)), null);
+	}
+
+	/**
+	 * @see Result#map(Function)
+	 */
+	public <U> ResultFuture<U, E> map(Function<T, U> mapper) {
+		Objects.requireNonNull(mapper);
+		return derive(future.thenApply(res -> res.map(mapper)));
+	}
+
+	/**
+	 * @see Result#mapErr(Function)
+	 */
+	public <F> ResultFuture<T, F> mapErr(Function<E, F> mapper) {
+		Objects.requireNonNull(mapper);
+		return derive(future.thenApply(res -> res.mapErr(mapper)));
+	}
+
+	/**
+	 * @see Result#andThen(Function)
+	 */
+	public <U> ResultFuture<U, E> andThen(Function<T, Result<U, E>> fn) {
+		Objects.requireNonNull(fn);
+		return derive(future.thenApply(res -> res.andThen(fn)));
+	}
+
+	/**
+	 * Like {@link #andThen(Function)}, but {@code fn} starts another asynchronous step.
+	 */
+	@SuppressWarnings("unchecked")
+	public <U> ResultFuture<U, E> andThenAsync(Function<T, ResultFuture<U, E>> fn) {
+		Objects.requireNonNull(fn);
+		return derive(future.thenCompose(res -> {
+			if (res.isErr()) {
+				return CompletableFuture.completedFuture((Result<U, E>) (Result<?, E>) res);
+			}
+			return fn.apply(res.okValue()).future;
+		}));
+	}
+
+	/**
+	 * @see Result#orElse(Function)
+	 */
+	public <F> ResultFuture<T, F> orElse(Function<E, Result<T, F>> fn) {
+		Objects.requireNonNull(fn);
+		return derive(future.thenApply(res -> res.orElse(fn)));
+	}
+
+	/**
+	 * Waits for the result without being interruptible, like {@link CompletableFuture#join()}.
+	 *
+	 * @return the result
+	 * @throws CancellationException if this future was cancelled
+	 */
+	public Result<T, E> join() {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			throw rethrow(e.getCause());
+		}
+	}
+
+	/**
+	 * @param timeout      how long to wait
+	 * @param timeoutError the error to return if {@code timeout} passes first
+	 * @return the result, or <code>Err(timeoutError)</code>
+	 * @throws CancellationException if this future was cancelled or the calling thread was
+	 *                               interrupted. The interrupt flag is restored in the latter case.
+	 * @throws NullPointerException  if {@code timeout} or {@code timeoutError} is {@code null}
+	 */
+	public Result<T, E> join(Duration timeout, E timeoutError) {
+		Objects.requireNonNull(timeout);
+		Objects.requireNonNull(timeoutError);
+		try {
+			return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+			return new Err<>(timeoutError);
+		}
+		catch (ExecutionException e) {
+			throw rethrow(e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while waiting for a result");
+		}
+	}
+
+	/**
+	 * @return {@code true} if a result or a panic is available
+	 */
+	public boolean isDone() {
+		return future.isDone();
+	}
+
+	/**
+	 * Cancels this future and interrupts the virtual thread running it, if any. Futures derived
+	 * from this one complete with a {@code CancellationException}.
+	 *
+	 * @return {@code true} if this call cancelled the future
+	 */
+	public boolean cancel() {
+		boolean cancelled = future.cancel(false);
+		if (cancelled && worker != null) {
+			worker.interrupt();
+		}
+		return cancelled;
+	}
+
+	/**
+	 * @return a view of this future. Completing it does not affect this future.
+	 */
+	public CompletableFuture<Result<T, E>> toCompletableFuture() {
+		return future.copy();
+	}
+
+	/// PRIVATE
+
+	private static <U, F> ResultFuture<U, F> derive(CompletableFuture<Result<U, F>> next) {
+		return new ResultFuture<>(next, null);
+	}
+
+	static RuntimeException rethrow(Throwable t) {
+		if (t instanceof RuntimeException e) {
+			throw e;
+		}
+		if (t instanceof Error e) {
+			throw e;
+		}
+		throw new CompletionException(t);
+	}
+}
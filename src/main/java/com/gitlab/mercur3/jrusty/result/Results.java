@@ -0,0 +1,403 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utilities over many {@code Result}s, the equivalent of Rust's
+ * {@code collect::<Result<Vec<_>, _>>()}.
+ *
+ * {@snippet :
+ * Result<List<Integer>, ErrorKind> ids = Results.collect(lines.stream().map(FromString::parseInt));
+ * }
+ *
+ * <p>
+ * A {@code Collector} cannot stop its stream, so {@link #toList()} still consumes every element.
+ * {@link #collect(Stream)} and {@link #untilErr(Stream)} wrap the source spliterator instead: they
+ * stop pulling input at the first {@code Err}, and in parallel streams the other splits stop as
+ * soon as one of them sees an {@code Err}.
+ * </p>
+ */
+public final class Results {
+	private Results() {}
+
+	/**
+	 * @return a collector to <code>Ok(list of values)</code> or the first <code>Err</code> in
+	 * encounter order
+	 * @see #collect(Stream)
+	 */
+	public static <T, E> Collector<Result<T, E>, ?, Result<List<T>, E>> toList() {
+		return Collector.of(
+				ListAccumulator<T, E>::new,
+				ListAccumulator::add,
+				ListAccumulator::combine,
+				ListAccumulator::finish
+		);
+	}
+
+	/**
+	 * Collects {@code stream} to <code>Ok(list of values)</code>, or returns the first
+	 * <code>Err</code> without pulling the rest of the input. If {@code stream} is parallel and
+	 * holds several errors, any of them may be returned.
+	 *
+	 * @param stream the results
+	 * @return all values or an error
+	 */
+	public static <T, E> Result<List<T>, E> collect(Stream<Result<T, E>> stream) {
+		try (var s = untilErr(stream)) {
+			return s.collect(toList());
+		}
+	}
+
+	/**
+	 * @param stream the results
+	 * @return a stream of the elements of {@code stream} up to and including the first
+	 * <code>Err</code>. In parallel, every split stops once any split has seen an
+	 * <code>Err</code>.
+	 */
+	public static <T, E> Stream<Result<T, E>> untilErr(Stream<Result<T, E>> stream) {
+		var split = new UntilErr<>(stream.spliterator(), new AtomicBoolean());
+		return StreamSupport.stream(split, stream.isParallel()).onClose(stream::close);
+	}
+
+	/**
+	 * @return a collector splitting the values and errors in one pass, both in encounter order
+	 */
+	public static <T, E> Collector<Result<T, E>, ?, Tuple2<List<T>, List<E>>> partitioning() {
+		return Collector.of(
+				Partition<T, E>::new,
+				Partition::add,
+				Partition::combine,
+				p -> new Tuple2<>(p.oks, p.errs)
+		);
+	}
+
+	/**
+	 * Applies {@code f} to every element, stopping at the first <code>Err</code>.
+	 *
+	 * @param items the inputs
+	 * @param f     a function <code>A -> Result&lt;B, E&gt;</code>
+	 * @return <code>Ok(list of outputs)</code> presized to {@code items}, or the first
+	 * <code>Err</code>
+	 */
+	@SuppressWarnings("unchecked")
+	public static <A, B, E> Result<List<B>, E> traverse(
+			Collection<A> items,
+			Function<A, Result<B, E>> f
+	) {
+		var out = new ArrayList<B>(items.size());
+		for (var item : items) {
+			var res = f.apply(item);
+			if (res.isErr()) {
+				// Err never holds a B, so it can be passed through as is
+				return (Result<List<B>, E>) (Result<?, E>) res;
+			}
+			out.add(res.okValue());
+		}
+		return new Ok<>(out);
+	}
+
+	/**
+	 * Like {@link #traverse(Collection, Function)}, but every call of {@code f} runs on its own
+	 * virtual thread. The first <code>Err</code> to arrive is returned and the threads still
+	 * running are interrupted; their results are discarded. If {@code f} throws, the other threads
+	 * are interrupted the same way and the exception is rethrown.
+	 *
+	 * @param items the inputs
+	 * @param f     a function <code>A -> Result&lt;B, E&gt;</code>, usually blocking on I/O
+	 * @return <code>Ok(fixed-size list of outputs)</code> in the order of {@code items}, or the
+	 * first <code>Err</code> to complete
+	 * @throws CancellationException if the calling thread is interrupted while waiting. The
+	 *                               interrupt flag is restored.
+	 */
+	public static <A, B, E> Result<List<B>, E> parallelTraverse(
+			Collection<A> items,
+			Function<A, Result<B, E>> f
+	) {
+		return new ParallelTraversal<A, B, E>(f, Integer.MAX_VALUE, null, null).run(items);
+	}
+
+	/**
+	 * Like {@link #parallelTraverse(Collection, Function)}, with at most {@code maxConcurrency}
+	 * calls of {@code f} running at once. Threads are started only when a slot is free.
+	 *
+	 * @throws IllegalArgumentException if {@code maxConcurrency < 1}
+	 */
+	public static <A, B, E> Result<List<B>, E> parallelTraverse(
+			Collection<A> items,
+			Function<A, Result<B, E>> f,
+			int maxConcurrency
+	) {
+		return new ParallelTraversal<A, B, E>(f, maxConcurrency, null, null).run(items);
+	}
+
+	/**
+	 * Like {@link #parallelTraverse(Collection, Function, int)}, giving up once {@code timeout}
+	 * has passed. The threads still running are then interrupted.
+	 *
+	 * @param timeout      the time allowed for all of {@code items}
+	 * @param timeoutError the error returned when {@code timeout} passes, e.g.
+	 *                     {@link ErrorKind#TIMED_OUT}
+	 * @return as {@link #parallelTraverse(Collection, Function)}, or <code>Err(timeoutError)</code>
+	 * @throws IllegalArgumentException if {@code maxConcurrency < 1}
+	 */
+	public static <A, B, E> Result<List<B>, E> parallelTraverse(
+			Collection<A> items,
+			Function<A, Result<B, E>> f,
+			int maxConcurrency,
+			Duration timeout,
+			E timeoutError
+	) {
+		Objects.requireNonNull(timeout);
+		Objects.requireNonNull(timeoutError);
+		return new ParallelTraversal<A, B, E>(f, maxConcurrency, timeout, timeoutError).run(items);
+	}
+
+	/// PRIVATE
+
+	private static final class ParallelTraversal<A, B, E> {
+		private final Function<A, Result<B, E>> f;
+		private final Semaphore permits;
+		private final Duration timeout;
+		private final E timeoutError;
+		/** Counted down once every task succeeded or one of them failed */
+		private final CountDownLatch finished = new CountDownLatch(1);
+		/** The first failure, either an {@code Err} or a {@code Throwable} */
+		private final AtomicReference<Object> failure = new AtomicReference<>();
+		private AtomicInteger pending;
+		private Object[] out;
+		private Thread[] threads;
+
+		ParallelTraversal(
+				Function<A, Result<B, E>> f,
+				int maxConcurrency,
+				Duration timeout,
+				E timeoutError
+		) {
+			if (maxConcurrency < 1) {
+				throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+			}
+			this.f = Objects.requireNonNull(f);
+			this.permits = maxConcurrency == Integer.MAX_VALUE ? null : new Semaphore(maxConcurrency);
+			this.timeout = timeout;
+			this.timeoutError = timeoutError;
+		}
+
+		@SuppressWarnings("unchecked")
+		Result<List<B>, E> run(Collection<A> items) {
+			int n = items.size();
+			if (n == 0) {
+				return new Ok<>(new ArrayList<>());
+			}
+			out = new Object[n];
+			threads = new Thread[n];
+			pending = new AtomicInteger(n);
+			long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+			try {
+				int i = 0;
+				for (var item : items) {
+					if (finished.getCount() == 0) {
+						break;
+					}
+					if (permits != null && !acquire(deadline)) {
+						return timedOut();
+					}
+					int index = i++;
+					threads[index] = Thread.ofVirtual().start(() -> runTask(index, item));
+				}
+				if (timeout == null) {
+					finished.await();
+				}
+				else if (!finished.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+					return timedOut();
+				}
+			}
+			catch (InterruptedException e) {
+				cancel();
+				Thread.currentThread().interrupt();
+				throw new CancellationException("Interrupted while waiting for the tasks");
+			}
+
+			var failed = failure.get();
+			if (failed == null) {
+				return new Ok<>((List<B>) Arrays.asList(out));
+			}
+			cancel();
+			if (failed instanceof Result<?, ?> err) {
+				return (Result<List<B>, E>) err;
+			}
+			throw ResultFuture.rethrow((Throwable) failed);
+		}
+
+		private boolean acquire(long deadline) throws InterruptedException {
+			if (timeout == null) {
+				permits.acquire();
+				return true;
+			}
+			return permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+		}
+
+		private void runTask(int index, A item) {
+			try {
+				if (finished.getCount() == 0) {
+					return;
+				}
+				var res = f.apply(item);
+				if (res.isErr()) {
+					fail(res);
+					return;
+				}
+				out[index] = res.okValue();
+				// the decrement publishes out[index] to the thread counting down
+				if (pending.decrementAndGet() == 0) {
+					finished.countDown();
+				}
+			}
+			catch (Throwable t) {
+				fail(t);
+			}
+			finally {
+				if (permits != null) {
+					permits.release();
+				}
+			}
+		}
+
+		private void fail(Object cause) {
+			if (failure.compareAndSet(null, cause)) {
+				finished.countDown();
+			}
+		}
+
+		private Result<List<B>, E> timedOut() {
+			cancel();
+			return new Err<>(timeoutError);
+		}
+
+		private void cancel() {
+			for (var thread : threads) {
+				if (thread != null) {
+					thread.interrupt();
+				}
+			}
+		}
+	}
+
+	private static final class ListAccumulator<T, E> {
+		private final ArrayList<T> oks = new ArrayList<>();
+		private Result<T, E> err;
+
+		void add(Result<T, E> res) {
+			if (err != null) {
+				return;
+			}
+			if (res.isErr()) {
+				err = res;
+				return;
+			}
+			oks.add(res.okValue());
+		}
+
+		ListAccumulator<T, E> combine(ListAccumulator<T, E> right) {
+			if (err == null) {
+				err = right.err;
+				oks.addAll(right.oks);
+			}
+			return this;
+		}
+
+		@SuppressWarnings("unchecked")
+		Result<List<T>, E> finish() {
+			if (err != null) {
+				return (Result<List<T>, E>) (Result<?, E>) err;
+			}
+			return new Ok<>(oks);
+		}
+	}
+
+	private static final class Partition<T, E> {
+		private final ArrayList<T> oks = new ArrayList<>();
+		private final ArrayList<E> errs = new ArrayList<>();
+
+		void add(Result<T, E> res) {
+			if (res.isOk()) {
+				oks.add(res.okValue());
+			}
+			else {
+				errs.add(res.errValue());
+			}
+		}
+
+		Partition<T, E> combine(Partition<T, E> right) {
+			oks.addAll(right.oks);
+			errs.addAll(right.errs);
+			return this;
+		}
+	}
+
+	/**
+	 * Passes elements through up to and including the first {@code Err}. The flag is shared by
+	 * every split, so one split seeing an {@code Err} stops all of them.
+	 */
+	private static final class UntilErr<T, E> implements Spliterator<Result<T, E>> {
+		private final Spliterator<Result<T, E>> source;
+		private final AtomicBoolean stop;
+
+		UntilErr(Spliterator<Result<T, E>> source, AtomicBoolean stop) {
+			this.source = source;
+			this.stop = stop;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Result<T, E>> action) {
+			if (stop.get()) {
+				return false;
+			}
+			return source.tryAdvance(res -> {
+				if (res.isErr()) {
+					stop.set(true);
+				}
+				action.accept(res);
+			});
+		}
+
+		@Override
+		public Spliterator<Result<T, E>> trySplit() {
+			if (stop.get()) {
+				return null;
+			}
+			var prefix = source.trySplit();
+			return prefix == null ? null : new UntilErr<>(prefix, stop);
+		}
+
+		@Override
+		public long estimateSize() {
+			return stop.get() ? 0 : source.estimateSize();
+		}
+
+		@Override
+		public int characteristics() {
+			// the number of elements depends on where the first Err is
+			return source.characteristics() & ~(SIZED | SUBSIZED);
+		}
+	}
+}
@@ -0,0 +1,179 @@
+package com.gitlab.mercur3.jrusty.sync;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Representation of Rust's {@code std::sync::Mutex}: a lock that owns the value it protects, so
+ * the value can only be reached through a {@link Guard} while the lock is held.
+ *
+ * {@snippet :
+ * var counts = Mutex.withDefault(new HashMap<String, Integer>());
+ *
+ * try (var guard = counts.lock()) {
+ *     guard.get().merge(key, 1, Integer::sum);
+ * }
+ * int size = counts.withLock(guard -> guard.get().size());
+ * }
+ *
+ * <p>
+ * Unlike Rust's, this mutex is reentrant and is never poisoned: an exception thrown while holding
+ * the guard just releases the lock when the guard is closed. Do not let a reference to the value
+ * escape the guard.
+ * </p>
+ *
+ * @param <T> the type of the protected value
+ * @see <a href="https://doc.rust-lang.org/std/sync/struct.Mutex.html"><code>std::sync::Mutex</code></a>
+ */
+public final class Mutex<T> {
+	private final ReentrantLock lock = new ReentrantLock();
+	private T value;
+
+	private Mutex(T value) {
+		this.value = value;
+	}
+
+	/**
+	 * Create a {@code Mutex} with the inner value set to {@code null}
+	 */
+	public static <T> Mutex<T> empty() {
+		return new Mutex<>(null);
+	}
+
+	/**
+	 * Create a {@code Mutex} with the given default {@code value}
+	 *
+	 * @throws NullPointerException if {@code value} is {@code null}
+	 */
+	public static <T> Mutex<T> withDefault(T value) {
+		Objects.requireNonNull(
+				value,
+				"Error: Initializing a =Mutex= with =null= inner content. Use =Mutex.empty()= instead"
+		);
+		return new Mutex<>(value);
+	}
+
+	/**
+	 * Blocks until the lock is acquired.
+	 *
+	 * @return the guard, to be closed to release the lock
+	 */
+	public Guard<T> lock() {
+		lock.lock();
+		return new Guard<>(this);
+	}
+
+	/**
+	 * @return <code>Ok(guard)</code> if the lock was free, <code>Err(WOULD_BLOCK)</code> otherwise
+	 */
+	public Result<Guard<T>, ErrorKind> tryLock() {
+		if (lock.tryLock()) {
+			return new Ok<>(new Guard<>(this));
+		}
+		return Result.errKind(ErrorKind.WOULD_BLOCK);
+	}
+
+	/**
+	 * @param timeout how long to wait for the lock
+	 * @return <code>Ok(guard)</code>, <code>Err(TIMED_OUT)</code>, or <code>Err(INTERRUPTED)</code>
+	 * with the interrupt flag restored
+	 */
+	public Result<Guard<T>, ErrorKind> tryLock(Duration timeout) {
+		try {
+			if (lock.tryLock(timeout.toNanos(), TimeUnit.NANOSECONDS)) {
+				return new Ok<>(new Guard<>(this));
+			}
+			return Result.errKind(ErrorKind.TIMED_OUT);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Result.errKind(ErrorKind.INTERRUPTED);
+		}
+	}
+
+	/**
+	 * Runs {@code f} while holding the lock.
+	 *
+	 * @param f receives the guard, which is closed once {@code f} returns or throws
+	 * @return the result of {@code f}
+	 */
+	public <R> R withLock(Function<Guard<T>, R> f) {
+		try (var guard = lock()) {
+			return f.apply(guard);
+		}
+	}
+
+	/**
+	 * @return {@code true} if any thread holds the lock, for monitoring only
+	 */
+	public boolean isLocked() {
+		return lock.isLocked();
+	}
+
+	/**
+	 * Access to the value of a locked {@link Mutex}. Closing it releases the lock, after which
+	 * every method throws {@code IllegalStateException}.
+	 *
+	 * @param <T> the type of the protected value
+	 */
+	public static final class Guard<T> implements AutoCloseable {
+		private Mutex<T> mutex;
+
+		private Guard(Mutex<T> mutex) {
+			this.mutex = mutex;
+		}
+
+		/**
+		 * @return the protected value
+		 */
+		public T get() {
+			return held().value;
+		}
+
+		/**
+		 * @param value the new protected value
+		 */
+		public void set(T value) {
+			held().value = value;
+		}
+
+		/**
+		 * @param value the new protected value
+		 * @return the previous value
+		 */
+		public T replace(T value) {
+			var m = held();
+			var prev = m.value;
+			m.value = value;
+			return prev;
+		}
+
+		/**
+		 * Releases the lock. Closing twice does nothing.
+		 */
+		@Override
+		public void close() {
+			if (mutex != null) {
+				var m = mutex;
+				mutex = null;
+				m.lock.unlock();
+			}
+		}
+
+		/// PRIVATE
+
+		private Mutex<T> held() {
+			if (mutex == null) {
+				throw new IllegalStateException("Trying to access value through a guard that is closed");
+			}
+			return mutex;
+		}
+	}
+}
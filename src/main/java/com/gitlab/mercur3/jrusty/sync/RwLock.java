@@ -0,0 +1,281 @@
+package com.gitlab.mercur3.jrusty.sync;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+
+/**
+ * Representation of Rust's {@code std::sync::RwLock}: a reader-writer lock that owns the value it
+ * protects. Built on {@link StampedLock}, so {@link #withRead(Function)} first tries an optimistic
+ * read that writes nothing to shared memory and only takes the read lock if a writer interfered.
+ * Read-mostly values are read from many cores without contending on the lock's cache line.
+ *
+ * {@snippet :
+ * var config = RwLock.withDefault(Config.load());
+ *
+ * Duration timeout = config.withRead(Config::timeout);   // optimistic, no lock taken
+ * try (var guard = config.write()) {
+ *     guard.set(guard.get().withTimeout(Duration.ofSeconds(5)));
+ * }
+ * }
+ *
+ * <p>
+ * The lock is <b>not</b> reentrant: taking it again on a thread that holds the write guard
+ * deadlocks. It is never poisoned.
+ * </p>
+ *
+ * @param <T> the type of the protected value, ideally immutable and replaced on write
+ * @see <a href="https://doc.rust-lang.org/std/sync/struct.RwLock.html"><code>std::sync::RwLock</code></a>
+ */
+public final class RwLock<T> {
+	private final StampedLock lock = new StampedLock();
+	private T value;
+
+	private RwLock(T value) {
+		this.value = value;
+	}
+
+	/**
+	 * Create a {@code RwLock} with the inner value set to {@code null}
+	 */
+	public static <T> RwLock<T> empty() {
+		return new RwLock<>(null);
+	}
+
+	/**
+	 * Create a {@code RwLock} with the given default {@code value}
+	 *
+	 * @throws NullPointerException if {@code value} is {@code null}
+	 */
+	public static <T> RwLock<T> withDefault(T value) {
+		Objects.requireNonNull(
+				value,
+				"Error: Initializing a =RwLock= with =null= inner content. Use =RwLock.empty()= instead"
+		);
+		return new RwLock<>(value);
+	}
+
+	/**
+	 * Applies {@code f} to the value, optimistically at first. If a writer interferes the result
+	 * is discarded and {@code f} runs again under the read lock.
+	 *
+	 * <p>
+	 * {@code f} may therefore run twice, and the first time it may observe a value that a writer
+	 * is modifying in place. It must be free of side effects and must not fail on such a value.
+	 * Both hold trivially when writers replace the value instead of mutating it.
+	 * </p>
+	 *
+	 * @param f reads the value
+	 * @return the result of {@code f}
+	 */
+	public <R> R withRead(Function<? super T, R> f) {
+		long stamp = lock.tryOptimisticRead();
+		if (stamp != 0) {
+			R res = f.apply(value);
+			if (lock.validate(stamp)) {
+				return res;
+			}
+		}
+		stamp = lock.readLock();
+		try {
+			return f.apply(value);
+		}
+		finally {
+			lock.unlockRead(stamp);
+		}
+	}
+
+	/**
+	 * Runs {@code f} while holding the write lock.
+	 *
+	 * @param f receives the guard, which is closed once {@code f} returns or throws
+	 * @return the result of {@code f}
+	 */
+	public <R> R withWrite(Function<WriteGuard<T>, R> f) {
+		try (var guard = write()) {
+			return f.apply(guard);
+		}
+	}
+
+	/**
+	 * Blocks until the read lock is acquired.
+	 *
+	 * @return the guard, to be closed to release the lock
+	 */
+	public ReadGuard<T> read() {
+		return new ReadGuard<>(this, lock.readLock());
+	}
+
+	/**
+	 * @return <code>Ok(guard)</code> if no writer holds the lock, <code>Err(WOULD_BLOCK)</code>
+	 * otherwise
+	 */
+	public Result<ReadGuard<T>, ErrorKind> tryRead() {
+		long stamp = lock.tryReadLock();
+		if (stamp == 0) {
+			return Result.errKind(ErrorKind.WOULD_BLOCK);
+		}
+		return new Ok<>(new ReadGuard<>(this, stamp));
+	}
+
+	/**
+	 * @param timeout how long to wait for the read lock
+	 * @return <code>Ok(guard)</code>, <code>Err(TIMED_OUT)</code>, or <code>Err(INTERRUPTED)</code>
+	 * with the interrupt flag restored
+	 */
+	public Result<ReadGuard<T>, ErrorKind> tryRead(Duration timeout) {
+		try {
+			long stamp = lock.tryReadLock(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			if (stamp == 0) {
+				return Result.errKind(ErrorKind.TIMED_OUT);
+			}
+			return new Ok<>(new ReadGuard<>(this, stamp));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Result.errKind(ErrorKind.INTERRUPTED);
+		}
+	}
+
+	/**
+	 * Blocks until the write lock is acquired.
+	 *
+	 * @return the guard, to be closed to release the lock
+	 */
+	public WriteGuard<T> write() {
+		return new WriteGuard<>(this, lock.writeLock());
+	}
+
+	/**
+	 * @return <code>Ok(guard)</code> if the lock was free, <code>Err(WOULD_BLOCK)</code> otherwise
+	 */
+	public Result<WriteGuard<T>, ErrorKind> tryWrite() {
+		long stamp = lock.tryWriteLock();
+		if (stamp == 0) {
+			return Result.errKind(ErrorKind.WOULD_BLOCK);
+		}
+		return new Ok<>(new WriteGuard<>(this, stamp));
+	}
+
+	/**
+	 * @param timeout how long to wait for the write lock
+	 * @return <code>Ok(guard)</code>, <code>Err(TIMED_OUT)</code>, or <code>Err(INTERRUPTED)</code>
+	 * with the interrupt flag restored
+	 */
+	public Result<WriteGuard<T>, ErrorKind> tryWrite(Duration timeout) {
+		try {
+			long stamp = lock.tryWriteLock(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			if (stamp == 0) {
+				return Result.errKind(ErrorKind.TIMED_OUT);
+			}
+			return new Ok<>(new WriteGuard<>(this, stamp));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Result.errKind(ErrorKind.INTERRUPTED);
+		}
+	}
+
+	/**
+	 * Shared access to the value of a {@link RwLock}. Closing it releases the read lock, after
+	 * which {@link #get()} throws {@code IllegalStateException}.
+	 *
+	 * @param <T> the type of the protected value
+	 */
+	public static final class ReadGuard<T> implements AutoCloseable {
+		private RwLock<T> rwLock;
+		private final long stamp;
+
+		private ReadGuard(RwLock<T> rwLock, long stamp) {
+			this.rwLock = rwLock;
+			this.stamp = stamp;
+		}
+
+		/**
+		 * @return the protected value
+		 */
+		public T get() {
+			return held(rwLock).value;
+		}
+
+		/**
+		 * Releases the read lock. Closing twice does nothing.
+		 */
+		@Override
+		public void close() {
+			if (rwLock != null) {
+				var l = rwLock;
+				rwLock = null;
+				l.lock.unlockRead(stamp);
+			}
+		}
+	}
+
+	/**
+	 * Exclusive access to the value of a {@link RwLock}. Closing it releases the write lock, after
+	 * which every method throws {@code IllegalStateException}.
+	 *
+	 * @param <T> the type of the protected value
+	 */
+	public static final class WriteGuard<T> implements AutoCloseable {
+		private RwLock<T> rwLock;
+		private final long stamp;
+
+		private WriteGuard(RwLock<T> rwLock, long stamp) {
+			this.rwLock = rwLock;
+			this.stamp = stamp;
+		}
+
+		/**
+		 * @return the protected value
+		 */
+		public T get() {
+			return held(rwLock).value;
+		}
+
+		/**
+		 * @param value the new protected value
+		 */
+		public void set(T value) {
+			held(rwLock).value = value;
+		}
+
+		/**
+		 * @param value the new protected value
+		 * @return the previous value
+		 */
+		public T replace(T value) {
+			var l = held(rwLock);
+			var prev = l.value;
+			l.value = value;
+			return prev;
+		}
+
+		/**
+		 * Releases the write lock. Closing twice does nothing.
+		 */
+		@Override
+		public void close() {
+			if (rwLock != null) {
+				var l = rwLock;
+				rwLock = null;
+				l.lock.unlockWrite(stamp);
+			}
+		}
+	}
+
+	/// PRIVATE
+
+	private static <T> RwLock<T> held(RwLock<T> rwLock) {
+		if (rwLock == null) {
+			throw new IllegalStateException("Trying to access value through a guard that is closed");
+		}
+		return rwLock;
+	}
+}
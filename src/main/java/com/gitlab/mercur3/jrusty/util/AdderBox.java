@@ -0,0 +1,81 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@code long} accumulator for many writers. Updates are spread over several cells when threads
+ * contend, so {@link #add(long)} scales where {@link LongBox#addAndGet(long)} would retry. Reading
+ * sums the cells and is neither cheap nor an atomic snapshot under concurrent updates.
+ *
+ * @see LongBox
+ * @see LongAdder
+ */
+public final class AdderBox {
+	private final LongAdder adder = new LongAdder();
+
+	private AdderBox() {}
+
+	/**
+	 * Create an {@code AdderBox} with the inner value set to {@code 0}
+	 */
+	public static AdderBox empty() {
+		return new AdderBox();
+	}
+
+	/**
+	 * Create an {@code AdderBox} with the given default {@code value}
+	 */
+	public static AdderBox withDefault(long value) {
+		var box = new AdderBox();
+		box.adder.add(value);
+		return box;
+	}
+
+	/**
+	 * @param delta the value to add
+	 */
+	public void add(long delta) {
+		adder.add(delta);
+	}
+
+	/**
+	 * Adds 1.
+	 */
+	public void increment() {
+		adder.increment();
+	}
+
+	/**
+	 * Subtracts 1.
+	 */
+	public void decrement() {
+		adder.decrement();
+	}
+
+	/**
+	 * @return the current sum
+	 */
+	public long sum() {
+		return adder.sum();
+	}
+
+	/**
+	 * Sets the sum to 0. Updates running concurrently may be lost.
+	 */
+	public void reset() {
+		adder.reset();
+	}
+
+	/**
+	 * @return the sum before resetting it to 0
+	 * @see #reset()
+	 */
+	public long sumThenReset() {
+		return adder.sumThenReset();
+	}
+
+	@Override
+	public String toString() {
+		return "AdderBox[" + sum() + "]";
+	}
+}
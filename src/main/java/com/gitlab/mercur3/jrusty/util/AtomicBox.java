@@ -0,0 +1,190 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link Box} that can be shared between threads. The value is accessed through a
+ * {@code VarHandle}, so every access mode is available: {@link #get()}/{@link #set(Object)} are
+ * volatile, the {@code Acquire}/{@code Release} and {@code Opaque} variants are cheaper when full
+ * ordering is not needed.
+ *
+ * <p>
+ * {@link #compareAndSet(Object, Object)} compares by identity, like
+ * {@link java.util.concurrent.atomic.AtomicReference}. The functions given to
+ * {@link #getAndUpdate(UnaryOperator)} and friends may be called several times under contention,
+ * so they should be side-effect free.
+ * </p>
+ *
+ * @param <T> the type of the value
+ * @see IntBox
+ * @see LongBox
+ * @see AdderBox
+ */
+public final class AtomicBox<T> {
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(AtomicBox.class, "value", Object.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private T value;
+
+	private AtomicBox(T value) {
+		this.value = value;
+	}
+
+	/**
+	 * Create an {@code AtomicBox} with the inner value set to {@code null}
+	 */
+	public static <T> AtomicBox<T> empty() {
+		return new AtomicBox<>(null);
+	}
+
+	/**
+	 * Create an {@code AtomicBox} with the given default {@code value}
+	 *
+	 * @throws NullPointerException if {@code value} is {@code null}
+	 */
+	public static <T> AtomicBox<T> withDefault(T value) {
+		Objects.requireNonNull(
+				value,
+				"Error: Initializing an =AtomicBox= with =null= inner content. Use =AtomicBox.empty()= instead"
+		);
+		return new AtomicBox<>(value);
+	}
+
+	/**
+	 * @return the value, with volatile semantics
+	 */
+	@SuppressWarnings("unchecked")
+	public T get() {
+		return (T) VALUE.getVolatile(this);
+	}
+
+	/**
+	 * @param value the new value, set with volatile semantics
+	 */
+	public void set(T value) {
+		VALUE.setVolatile(this, value);
+	}
+
+	/**
+	 * @return the value, no later loads or stores are reordered before this read
+	 */
+	@SuppressWarnings("unchecked")
+	public T getAcquire() {
+		return (T) VALUE.getAcquire(this);
+	}
+
+	/**
+	 * @param value the new value, no earlier loads or stores are reordered after this write
+	 */
+	public void setRelease(T value) {
+		VALUE.setRelease(this, value);
+	}
+
+	/**
+	 * @return the value, atomically but without ordering guarantees towards other variables
+	 */
+	@SuppressWarnings("unchecked")
+	public T getOpaque() {
+		return (T) VALUE.getOpaque(this);
+	}
+
+	/**
+	 * @param value the new value, set atomically but without ordering guarantees towards other
+	 *              variables
+	 */
+	public void setOpaque(T value) {
+		VALUE.setOpaque(this, value);
+	}
+
+	/**
+	 * @param value the new value
+	 * @return the previous value
+	 */
+	@SuppressWarnings("unchecked")
+	public T getAndSet(T value) {
+		return (T) VALUE.getAndSet(this, value);
+	}
+
+	/**
+	 * @param expected the value expected, compared by identity
+	 * @param value    the new value
+	 * @return {@code true} if the value was {@code expected} and is now {@code value}
+	 */
+	public boolean compareAndSet(T expected, T value) {
+		return VALUE.compareAndSet(this, expected, value);
+	}
+
+	/**
+	 * Like {@link #compareAndSet(Object, Object)}, but may fail spuriously. Cheaper in a retry
+	 * loop on some platforms.
+	 */
+	public boolean weakCompareAndSet(T expected, T value) {
+		return VALUE.weakCompareAndSet(this, expected, value);
+	}
+
+	/**
+	 * @param f the update
+	 * @return the value before the update
+	 */
+	public T getAndUpdate(UnaryOperator<T> f) {
+		T prev = get();
+		while (true) {
+			T next = f.apply(prev);
+			T witness = compareAndExchange(prev, next);
+			if (witness == prev) {
+				return prev;
+			}
+			prev = witness;
+		}
+	}
+
+	/**
+	 * @param f the update
+	 * @return the value after the update
+	 */
+	public T updateAndGet(UnaryOperator<T> f) {
+		T prev = get();
+		while (true) {
+			T next = f.apply(prev);
+			T witness = compareAndExchange(prev, next);
+			if (witness == prev) {
+				return next;
+			}
+			prev = witness;
+		}
+	}
+
+	/**
+	 * @param x the second argument of {@code f}
+	 * @param f combines the current value with {@code x}
+	 * @return the value after the update
+	 */
+	public T accumulateAndGet(T x, BinaryOperator<T> f) {
+		return updateAndGet(prev -> f.apply(prev, x));
+	}
+
+	@Override
+	public String toString() {
+		return "AtomicBox[" + get() + "]";
+	}
+
+	/// PRIVATE
+
+	@SuppressWarnings("unchecked")
+	private T compareAndExchange(T expected, T value) {
+		return (T) VALUE.compareAndExchange(this, expected, value);
+	}
+}
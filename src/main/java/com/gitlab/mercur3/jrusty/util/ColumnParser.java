@@ -0,0 +1,317 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parses whole columns of strings into primitive arrays. Unlike calling {@link FromString} per
+ * cell, no object is created per cell: failures are collected in a {@link ParseReport}.
+ *
+ * {@snippet :
+ * var column = ColumnParser.parseInts(List.of("1", "x", "3"));
+ * column.values();                                 // [1, 0, 3]
+ * column.report().failed();                        // {1}
+ * column.report().count(ErrorKind.FORMAT_ERROR);   // 1
+ * }
+ *
+ * <p>
+ * The overloads taking a {@code ForkJoinPool} split the column into chunks of
+ * {@value #CHUNK} cells parsed in parallel. Cells are parsed the same way as the single value
+ * parsers of {@link FromString}; a {@code null} cell is a {@code FORMAT_ERROR}.
+ * </p>
+ */
+public final class ColumnParser {
+	/** Cells per parallel chunk, a multiple of 64 so chunks never share a word of the bitmap */
+	static final int CHUNK = 1 << 14;
+
+	private ColumnParser() {}
+
+	/**
+	 * @param column the cells
+	 * @return the parsed {@code int}s and the failed cells
+	 */
+	public static ParsedColumn<int[]> parseInts(CharSequence[] column) {
+		return parseInts(Arrays.asList(column));
+	}
+
+	/**
+	 * @param column the cells
+	 * @return the parsed {@code int}s and the failed cells
+	 */
+	public static ParsedColumn<int[]> parseInts(List<? extends CharSequence> column) {
+		return parseInts(column, null);
+	}
+
+	/**
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the parsed {@code int}s and the failed cells
+	 */
+	public static ParsedColumn<int[]> parseInts(CharSequence[] column, ForkJoinPool pool) {
+		return parseInts(Arrays.asList(column), pool);
+	}
+
+	/**
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the parsed {@code int}s and the failed cells
+	 */
+	public static ParsedColumn<int[]> parseInts(
+			List<? extends CharSequence> column,
+			ForkJoinPool pool
+	) {
+		var cells = randomAccess(column);
+		var out = new int[cells.size()];
+		return new ParsedColumn<>(out, parseIntsInto(cells, out, 0, pool));
+	}
+
+	/**
+	 * Parses {@code column} into {@code out[offset..offset + column.size())}. The indices in the
+	 * report are relative to {@code column}.
+	 */
+	static ParseReport parseIntsInto(
+			List<? extends CharSequence> column,
+			int[] out,
+			int offset,
+			ForkJoinPool pool
+	) {
+		var cells = randomAccess(column);
+		return parse(cells.size(), pool, (from, to, failed, counts) -> {
+			for (int i = from; i < to; i++) {
+				var cell = cells.get(i);
+				if (cell == null) {
+					fail(i, ErrorKind.FORMAT_ERROR, failed, counts);
+					continue;
+				}
+				long value = Digits.scanInt(cell, 0, cell.length(), 10);
+				if (Digits.isIntError(value)) {
+					fail(i, Digits.intError(value), failed, counts);
+					continue;
+				}
+				out[offset + i] = (int) value;
+			}
+		});
+	}
+
+	/**
+	 * @param column the cells
+	 * @return the parsed {@code long}s and the failed cells
+	 */
+	public static ParsedColumn<long[]> parseLongs(CharSequence[] column) {
+		return parseLongs(Arrays.asList(column));
+	}
+
+	/**
+	 * @param column the cells
+	 * @return the parsed {@code long}s and the failed cells
+	 */
+	public static ParsedColumn<long[]> parseLongs(List<? extends CharSequence> column) {
+		return parseLongs(column, null);
+	}
+
+	/**
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the parsed {@code long}s and the failed cells
+	 */
+	public static ParsedColumn<long[]> parseLongs(CharSequence[] column, ForkJoinPool pool) {
+		return parseLongs(Arrays.asList(column), pool);
+	}
+
+	/**
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the parsed {@code long}s and the failed cells
+	 */
+	public static ParsedColumn<long[]> parseLongs(
+			List<? extends CharSequence> column,
+			ForkJoinPool pool
+	) {
+		var cells = randomAccess(column);
+		var out = new long[cells.size()];
+		return new ParsedColumn<>(out, parseLongsInto(cells, out, 0, pool));
+	}
+
+	/**
+	 * Parses {@code column} into {@code out[offset..offset + column.size())}. The indices in the
+	 * report are relative to {@code column}.
+	 */
+	static ParseReport parseLongsInto(
+			List<? extends CharSequence> column,
+			long[] out,
+			int offset,
+			ForkJoinPool pool
+	) {
+		var cells = randomAccess(column);
+		return parse(cells.size(), pool, (from, to, failed, counts) -> {
+			for (int i = from; i < to; i++) {
+				var cell = cells.get(i);
+				if (cell == null) {
+					fail(i, ErrorKind.FORMAT_ERROR, failed, counts);
+					continue;
+				}
+				long value = Digits.scanLong(cell, 0, cell.length(), 10);
+				if (value == Long.MIN_VALUE) {
+					var err = Digits.longError(cell, 0, cell.length(), 10);
+					if (err != null) {
+						fail(i, err, failed, counts);
+						continue;
+					}
+				}
+				out[offset + i] = value;
+			}
+		});
+	}
+
+	/**
+	 * @param column the cells
+	 * @return the parsed {@code double}s and the failed cells
+	 */
+	public static ParsedColumn<double[]> parseDoubles(CharSequence[] column) {
+		return parseDoubles(Arrays.asList(column));
+	}
+
+	/**
+	 * @param column the cells
+	 * @return the parsed {@code double}s and the failed cells
+	 */
+	public static ParsedColumn<double[]> parseDoubles(List<? extends CharSequence> column) {
+		return parseDoubles(column, null);
+	}
+
+	/**
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the parsed {@code double}s and the failed cells
+	 */
+	public static ParsedColumn<double[]> parseDoubles(CharSequence[] column, ForkJoinPool pool) {
+		return parseDoubles(Arrays.asList(column), pool);
+	}
+
+	/**
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the parsed {@code double}s and the failed cells
+	 * @see FromString#parseDouble(CharSequence, int, int)
+	 */
+	public static ParsedColumn<double[]> parseDoubles(
+			List<? extends CharSequence> column,
+			ForkJoinPool pool
+	) {
+		var cells = randomAccess(column);
+		var out = new double[cells.size()];
+		return new ParsedColumn<>(out, parseDoublesInto(cells, out, 0, pool));
+	}
+
+	/**
+	 * Parses {@code column} into {@code out[offset..offset + column.size())}. The indices in the
+	 * report are relative to {@code column}.
+	 */
+	static ParseReport parseDoublesInto(
+			List<? extends CharSequence> column,
+			double[] out,
+			int offset,
+			ForkJoinPool pool
+	) {
+		var cells = randomAccess(column);
+		return parse(cells.size(), pool, (from, to, failed, counts) -> {
+			for (int i = from; i < to; i++) {
+				var cell = cells.get(i);
+				if (cell == null) {
+					fail(i, ErrorKind.FORMAT_ERROR, failed, counts);
+					continue;
+				}
+				long bits = FloatDigits.scanDouble(cell, 0, cell.length());
+				if (bits == FloatDigits.ERROR) {
+					fail(i, ErrorKind.FORMAT_ERROR, failed, counts);
+					continue;
+				}
+				out[offset + i] = Double.longBitsToDouble(bits);
+			}
+		});
+	}
+
+	/// PRIVATE
+
+	/**
+	 * Parses the cells {@code [from, to)}, recording failures in the bitmap {@code failed} and
+	 * in {@code counts} by {@code ErrorKind} ordinal.
+	 */
+	@FunctionalInterface
+	private interface RangeParser {
+		void parse(int from, int to, long[] failed, int[] counts);
+	}
+
+	/** Never serialized, {@code ForkJoinTask} only makes it {@code Serializable} */
+	private static final class ChunkTask extends RecursiveAction {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final transient RangeParser parser;
+		private final int from;
+		private final int to;
+		private final long[] failed;
+		final int[] counts = new int[ErrorKind.values().length];
+
+		ChunkTask(RangeParser parser, int from, int to, long[] failed) {
+			this.parser = parser;
+			this.from = from;
+			this.to = to;
+			this.failed = failed;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= CHUNK) {
+				parser.parse(from, to, failed, counts);
+				return;
+			}
+			// from is always aligned, so aligning mid keeps both halves on separate words
+			int mid = (from + (to - from) / 2) & ~63;
+			var left = new ChunkTask(parser, from, mid, failed);
+			var right = new ChunkTask(parser, mid, to, failed);
+			invokeAll(left, right);
+			for (int k = 0; k < counts.length; k++) {
+				counts[k] = left.counts[k] + right.counts[k];
+			}
+		}
+	}
+
+	private static ParseReport parse(int size, ForkJoinPool pool, RangeParser parser) {
+		var failed = new long[(size + 63) >>> 6];
+		var task = new ChunkTask(parser, 0, size, failed);
+		if (pool == null || size <= CHUNK) {
+			parser.parse(0, size, failed, task.counts);
+		}
+		else {
+			pool.invoke(task);
+		}
+
+		for (int c : task.counts) {
+			if (c != 0) {
+				return new ParseReport(BitSet.valueOf(failed), task.counts);
+			}
+		}
+		return new ParseReport(new BitSet(), task.counts);
+	}
+
+	private static void fail(int i, ErrorKind kind, long[] failed, int[] counts) {
+		failed[i >>> 6] |= 1L << i;
+		counts[kind.ordinal()]++;
+	}
+
+	private static <T> List<T> randomAccess(List<T> list) {
+		if (list instanceof RandomAccess) {
+			return list;
+		}
+		return new ArrayList<>(list);
+	}
+}
@@ -0,0 +1,388 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Allocation-free integer scanning shared by the single value parsers in {@link FromString} and
+ * the bulk parsers. Errors are reported through the return value instead of an object, so a
+ * caller parsing millions of cells never allocates per cell.
+ *
+ * <p>
+ * Errors are reported in the order they are encountered: {@code "99999999999x"} is an
+ * {@code OVERFLOW}, {@code "12x45"} a {@code FORMAT_ERROR}.
+ * </p>
+ *
+ * <p>
+ * Every scanner exists for a {@code CharSequence}, which accepts any Unicode digit like
+ * {@link Character#digit(char, int)}, and for a {@code ByteBuffer} and a {@code byte[]}, which
+ * accept ASCII digits and letters only. Byte ranges are read with absolute gets, so heap, direct
+ * and mapped buffers are scanned in place, and arrays are scanned without being wrapped.
+ * </p>
+ */
+final class Digits {
+	private static final ErrorKind[] KINDS = ErrorKind.values();
+	private static final long ERROR = Long.MIN_VALUE;
+	private static final long FORMAT = ERROR + ErrorKind.FORMAT_ERROR.ordinal();
+	private static final long OVERFLOW = ERROR + ErrorKind.OVERFLOW.ordinal();
+
+	private Digits() {}
+
+	/**
+	 * @return the {@code int} value of {@code s[start, end)}, or an error code if
+	 * {@link #isIntError(long)}
+	 */
+	static long scanInt(CharSequence s, int start, int end, int radix) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || start >= end) {
+			return FORMAT;
+		}
+
+		// accumulate negatively, since |Integer.MIN_VALUE| > Integer.MAX_VALUE
+		int i = start;
+		boolean negative = false;
+		int limit = -Integer.MAX_VALUE;
+		char first = s.charAt(i);
+		if (first == '-' || first == '+') {
+			if (end - start == 1) {
+				return FORMAT;
+			}
+			if (first == '-') {
+				negative = true;
+				limit = Integer.MIN_VALUE;
+			}
+			i++;
+		}
+
+		int multmin = limit / radix;
+		int acc = 0;
+		for (; i < end; i++) {
+			int digit = Character.digit(s.charAt(i), radix);
+			if (digit < 0) {
+				return FORMAT;
+			}
+			if (acc < multmin) {
+				return OVERFLOW;
+			}
+			acc *= radix;
+			if (acc < limit + digit) {
+				return OVERFLOW;
+			}
+			acc -= digit;
+		}
+		return negative ? acc : -acc;
+	}
+
+	/**
+	 * @see #scanInt(CharSequence, int, int, int)
+	 */
+	static long scanInt(ByteBuffer s, int start, int end, int radix) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || start >= end) {
+			return FORMAT;
+		}
+
+		// accumulate negatively, since |Integer.MIN_VALUE| > Integer.MAX_VALUE
+		int i = start;
+		boolean negative = false;
+		int limit = -Integer.MAX_VALUE;
+		int first = s.get(i);
+		if (first == '-' || first == '+') {
+			if (end - start == 1) {
+				return FORMAT;
+			}
+			if (first == '-') {
+				negative = true;
+				limit = Integer.MIN_VALUE;
+			}
+			i++;
+		}
+
+		int multmin = limit / radix;
+		int acc = 0;
+		for (; i < end; i++) {
+			int digit = asciiDigit(s.get(i), radix);
+			if (digit < 0) {
+				return FORMAT;
+			}
+			if (acc < multmin) {
+				return OVERFLOW;
+			}
+			acc *= radix;
+			if (acc < limit + digit) {
+				return OVERFLOW;
+			}
+			acc -= digit;
+		}
+		return negative ? acc : -acc;
+	}
+
+	/**
+	 * @see #scanInt(CharSequence, int, int, int)
+	 */
+	static long scanInt(byte[] s, int start, int end, int radix) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || start >= end) {
+			return FORMAT;
+		}
+
+		// accumulate negatively, since |Integer.MIN_VALUE| > Integer.MAX_VALUE
+		int i = start;
+		boolean negative = false;
+		int limit = -Integer.MAX_VALUE;
+		int first = s[i];
+		if (first == '-' || first == '+') {
+			if (end - start == 1) {
+				return FORMAT;
+			}
+			if (first == '-') {
+				negative = true;
+				limit = Integer.MIN_VALUE;
+			}
+			i++;
+		}
+
+		int multmin = limit / radix;
+		int acc = 0;
+		for (; i < end; i++) {
+			int digit = asciiDigit(s[i], radix);
+			if (digit < 0) {
+				return FORMAT;
+			}
+			if (acc < multmin) {
+				return OVERFLOW;
+			}
+			acc *= radix;
+			if (acc < limit + digit) {
+				return OVERFLOW;
+			}
+			acc -= digit;
+		}
+		return negative ? acc : -acc;
+	}
+
+	/**
+	 * @param scanned the return value of {@link #scanInt}
+	 * @return whether {@code scanned} is an error code
+	 */
+	static boolean isIntError(long scanned) {
+		return scanned < Integer.MIN_VALUE;
+	}
+
+	/**
+	 * @param scanned an error code returned by {@link #scanInt}
+	 * @return the error it stands for
+	 */
+	static ErrorKind intError(long scanned) {
+		return KINDS[(int) (scanned - ERROR)];
+	}
+
+	/**
+	 * Since every {@code long} is a valid value, errors are folded into {@code Long.MIN_VALUE}.
+	 * Call {@link #longError} to tell them apart from a genuine {@code Long.MIN_VALUE}.
+	 *
+	 * @return the {@code long} value of {@code s[start, end)}, {@code Long.MIN_VALUE} if invalid
+	 */
+	static long scanLong(CharSequence s, int start, int end, int radix) {
+		return scanLong(s, start, end, radix, false);
+	}
+
+	/**
+	 * @see #scanLong(CharSequence, int, int, int)
+	 */
+	static long scanLong(ByteBuffer s, int start, int end, int radix) {
+		return scanLong(s, start, end, radix, false);
+	}
+
+	/**
+	 * @see #scanLong(CharSequence, int, int, int)
+	 */
+	static long scanLong(byte[] s, int start, int end, int radix) {
+		return scanLong(s, start, end, radix, false);
+	}
+
+	/**
+	 * Only needed on the rare path where {@link #scanLong} returned {@code Long.MIN_VALUE}.
+	 *
+	 * @return the error of {@code s[start, end)}, {@code null} if it is a valid {@code long}
+	 */
+	static ErrorKind longError(CharSequence s, int start, int end, int radix) {
+		long code = scanLong(s, start, end, radix, true);
+		return code == 0 ? null : KINDS[(int) (code - ERROR)];
+	}
+
+	/**
+	 * @see #longError(CharSequence, int, int, int)
+	 */
+	static ErrorKind longError(ByteBuffer s, int start, int end, int radix) {
+		long code = scanLong(s, start, end, radix, true);
+		return code == 0 ? null : KINDS[(int) (code - ERROR)];
+	}
+
+	/**
+	 * @see #longError(CharSequence, int, int, int)
+	 */
+	static ErrorKind longError(byte[] s, int start, int end, int radix) {
+		long code = scanLong(s, start, end, radix, true);
+		return code == 0 ? null : KINDS[(int) (code - ERROR)];
+	}
+
+	/// PRIVATE
+
+	/**
+	 * @param diagnose if set, returns an error code or {@code 0} instead of the value
+	 */
+	private static long scanLong(CharSequence s, int start, int end, int radix, boolean diagnose) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || start >= end) {
+			return diagnose ? FORMAT : ERROR;
+		}
+
+		// accumulate negatively, since |Long.MIN_VALUE| > Long.MAX_VALUE
+		int i = start;
+		boolean negative = false;
+		long limit = -Long.MAX_VALUE;
+		char first = s.charAt(i);
+		if (first == '-' || first == '+') {
+			if (end - start == 1) {
+				return diagnose ? FORMAT : ERROR;
+			}
+			if (first == '-') {
+				negative = true;
+				limit = Long.MIN_VALUE;
+			}
+			i++;
+		}
+
+		long multmin = limit / radix;
+		long acc = 0;
+		for (; i < end; i++) {
+			int digit = Character.digit(s.charAt(i), radix);
+			if (digit < 0) {
+				return diagnose ? FORMAT : ERROR;
+			}
+			if (acc < multmin) {
+				return diagnose ? OVERFLOW : ERROR;
+			}
+			acc *= radix;
+			if (acc < limit + digit) {
+				return diagnose ? OVERFLOW : ERROR;
+			}
+			acc -= digit;
+		}
+		if (diagnose) {
+			return 0;
+		}
+		return negative ? acc : -acc;
+	}
+
+	/**
+	 * @see #scanLong(CharSequence, int, int, int, boolean)
+	 */
+	private static long scanLong(ByteBuffer s, int start, int end, int radix, boolean diagnose) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || start >= end) {
+			return diagnose ? FORMAT : ERROR;
+		}
+
+		// accumulate negatively, since |Long.MIN_VALUE| > Long.MAX_VALUE
+		int i = start;
+		boolean negative = false;
+		long limit = -Long.MAX_VALUE;
+		int first = s.get(i);
+		if (first == '-' || first == '+') {
+			if (end - start == 1) {
+				return diagnose ? FORMAT : ERROR;
+			}
+			if (first == '-') {
+				negative = true;
+				limit = Long.MIN_VALUE;
+			}
+			i++;
+		}
+
+		long multmin = limit / radix;
+		long acc = 0;
+		for (; i < end; i++) {
+			int digit = asciiDigit(s.get(i), radix);
+			if (digit < 0) {
+				return diagnose ? FORMAT : ERROR;
+			}
+			if (acc < multmin) {
+				return diagnose ? OVERFLOW : ERROR;
+			}
+			acc *= radix;
+			if (acc < limit + digit) {
+				return diagnose ? OVERFLOW : ERROR;
+			}
+			acc -= digit;
+		}
+		if (diagnose) {
+			return 0;
+		}
+		return negative ? acc : -acc;
+	}
+
+	/**
+	 * @see #scanLong(CharSequence, int, int, int, boolean)
+	 */
+	private static long scanLong(byte[] s, int start, int end, int radix, boolean diagnose) {
+		if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || start >= end) {
+			return diagnose ? FORMAT : ERROR;
+		}
+
+		// accumulate negatively, since |Long.MIN_VALUE| > Long.MAX_VALUE
+		int i = start;
+		boolean negative = false;
+		long limit = -Long.MAX_VALUE;
+		int first = s[i];
+		if (first == '-' || first == '+') {
+			if (end - start == 1) {
+				return diagnose ? FORMAT : ERROR;
+			}
+			if (first == '-') {
+				negative = true;
+				limit = Long.MIN_VALUE;
+			}
+			i++;
+		}
+
+		long multmin = limit / radix;
+		long acc = 0;
+		for (; i < end; i++) {
+			int digit = asciiDigit(s[i], radix);
+			if (digit < 0) {
+				return diagnose ? FORMAT : ERROR;
+			}
+			if (acc < multmin) {
+				return diagnose ? OVERFLOW : ERROR;
+			}
+			acc *= radix;
+			if (acc < limit + digit) {
+				return diagnose ? OVERFLOW : ERROR;
+			}
+			acc -= digit;
+		}
+		if (diagnose) {
+			return 0;
+		}
+		return negative ? acc : -acc;
+	}
+
+	/**
+	 * @return the value of the ASCII digit or letter {@code b} in {@code radix}, {@code -1} if it
+	 * is not a digit in {@code radix}
+	 */
+	private static int asciiDigit(int b, int radix) {
+		int digit;
+		if (b >= '0' && b <= '9') {
+			digit = b - '0';
+		}
+		else if (b >= 'a' && b <= 'z') {
+			digit = b - 'a' + 10;
+		}
+		else if (b >= 'A' && b <= 'Z') {
+			digit = b - 'A' + 10;
+		}
+		else {
+			return -1;
+		}
+		return digit < radix ? digit : -1;
+	}
+}
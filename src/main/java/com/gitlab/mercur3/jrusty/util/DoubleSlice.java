@@ -0,0 +1,160 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.DoubleResult;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Representation of Rust's {@code &mut [f64]}: a fixed-length window into a {@code double[]},
+ * usually from {@link DoubleVec#slice(int, int)}. Nothing is copied; writes go to the underlying
+ * array.
+ *
+ * @see DoubleVec
+ */
+public final class DoubleSlice {
+	private final double[] array;
+	private final int offset;
+	private final int len;
+
+	DoubleSlice(double[] array, int offset, int len) {
+		this.array = array;
+		this.offset = offset;
+		this.len = len;
+	}
+
+	/**
+	 * @return a view of the whole of {@code array}
+	 */
+	public static DoubleSlice of(double[] array) {
+		return new DoubleSlice(array, 0, array.length);
+	}
+
+	/**
+	 * @return the number of elements
+	 */
+	public int len() {
+		return len;
+	}
+
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	/**
+	 * @return <code>Ok(element)</code>, or <code>Err(NOT_FOUND)</code> if {@code index} is out
+	 * of {@code [0, len())}. Neither allocates.
+	 */
+	public DoubleResult<ErrorKind> get(int index) {
+		if (index >= 0 && index < len) {
+			return DoubleResult.ok(array[offset + index]);
+		}
+		return DoubleResult.errKind(ErrorKind.NOT_FOUND);
+	}
+
+	/**
+	 * The fast path of {@link #get(int)}: no check against {@link #len()}, only the array bounds
+	 * check of the JVM, so an index past the end reads the elements after the slice.
+	 */
+	public double getUnchecked(int index) {
+		return array[offset + index];
+	}
+
+	/**
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if {@code index} is out of {@code [0, len())}
+	 */
+	public double set(int index, double value) {
+		Objects.checkIndex(index, len);
+		var old = array[offset + index];
+		array[offset + index] = value;
+		return old;
+	}
+
+	/**
+	 * @return a view of {@code [from, to)} of this slice, sharing its array
+	 * @throws IndexOutOfBoundsException if the range is out of {@code [0, len()]}
+	 */
+	public DoubleSlice slice(int from, int to) {
+		Objects.checkFromToIndex(from, to, len);
+		return new DoubleSlice(array, offset + from, to - from);
+	}
+
+	/**
+	 * Sorts the elements in ascending order, in place.
+	 */
+	public void sort() {
+		Arrays.sort(array, offset, offset + len);
+	}
+
+	/**
+	 * Searches a sorted slice, like Rust's {@code binary_search}.
+	 *
+	 * @return <code>Ok(index)</code> of a matching element, or <code>Err(index)</code> where
+	 * {@code value} could be inserted keeping the order. Unspecified if not sorted.
+	 */
+	public IntResult<Integer> binarySearch(double value) {
+		int i = Arrays.binarySearch(array, offset, offset + len, value);
+		if (i >= 0) {
+			return IntResult.ok(i - offset);
+		}
+		return IntResult.err(-(i + 1) - offset);
+	}
+
+	/**
+	 * @return a new array holding the elements
+	 */
+	public double[] toArray() {
+		return Arrays.copyOfRange(array, offset, offset + len);
+	}
+
+	/**
+	 * 2 slices are equal if they hold the same elements, wherever they are.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof DoubleSlice other) {
+			return Arrays.equals(
+					array, offset, offset + len,
+					other.array, other.offset, other.offset + other.len
+			);
+		}
+		return false;
+	}
+
+	/**
+	 * @return the same hash as {@link Arrays#hashCode(double[])} of {@link #toArray()}
+	 */
+	@Override
+	public int hashCode() {
+		int h = 1;
+		for (int i = offset, end = offset + len; i < end; i++) {
+			h = 31 * h + Double.hashCode(array[i]);
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder(2 + len * 3).append('[');
+		for (int i = 0; i < len; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(array[offset + i]);
+		}
+		return sb.append(']').toString();
+	}
+
+	/// PACKAGE
+
+	double[] array() {
+		return array;
+	}
+
+	int offset() {
+		return offset;
+	}
+}
@@ -0,0 +1,622 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free decimal floating-point scanning, the {@code double} and {@code float}
+ * counterpart of {@link Digits}. The accepted syntax is Rust's {@code f64::from_str}:
+ *
+ * <pre>
+ * [+-]? (digits [. digits?]? | . digits) ([eE] [+-]? digits)?
+ * [+-]? (inf | infinity | nan)              (case-insensitive)
+ * </pre>
+ *
+ * <p>
+ * Unlike {@link Double#parseDouble(String)}, surrounding whitespace, hexadecimal significands
+ * and the {@code d}/{@code f} suffixes are rejected. Digits are ASCII only.
+ * </p>
+ *
+ * <p>
+ * The value is rounded to nearest, ties to even, like the JDK:
+ * </p>
+ * <ol>
+ *     <li>up to 19 significant digits are read into a {@code long} {@code w}, so the value is
+ *     {@code w * 10^q};</li>
+ *     <li>if {@code w} and {@code 10^|q|} are exact {@code double}s, one multiplication or
+ *     division rounds correctly (Clinger's fast path);</li>
+ *     <li>otherwise {@code w} is multiplied by a 128-bit approximation of {@code 10^q}, which
+ *     is enough to round all but a few inputs (Eisel-Lemire);</li>
+ *     <li>those few, and subnormal results, are handed to the JDK.</li>
+ * </ol>
+ *
+ * <p>
+ * The scanners return the raw bits of the value, or {@link #ERROR}, which is a NaN bit pattern
+ * none of them produces.
+ * </p>
+ *
+ * @see <a href="https://arxiv.org/abs/2101.11408">D. Lemire, Number Parsing at a Gigabyte per
+ * Second</a>
+ */
+final class FloatDigits {
+	static final long ERROR = 0x7ff0_0000_0000_0001L;
+	/** The Eisel-Lemire step cannot decide, the JDK has to */
+	private static final long FALLBACK = 0x7ff0_0000_0000_0002L;
+
+	/** Significant digits read into {@code w}, as many as always fit in an unsigned {@code long} */
+	private static final int MAX_DIGITS = 19;
+	/** Exponents are not accumulated past this, the value is already 0 or infinite */
+	private static final int MAX_EXPONENT = 100_000;
+	/** The range of powers of ten in {@link Powers} */
+	private static final int MIN_POW10 = -348;
+	private static final int MAX_POW10 = 347;
+
+	private static final double[] DOUBLE_POW10 = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22,
+	};
+	private static final float[] FLOAT_POW10 = {
+			1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f,
+	};
+
+	private FloatDigits() {}
+
+	/**
+	 * @return the raw bits of the {@code double} value of {@code s[start, end)}, or
+	 * {@link #ERROR}
+	 */
+	static long scanDouble(CharSequence s, int start, int end) {
+		return scan(s, start, end, false);
+	}
+
+	/**
+	 * @see #scanDouble(CharSequence, int, int)
+	 */
+	static long scanDouble(ByteBuffer s, int start, int end) {
+		return scan(s, start, end, false);
+	}
+
+	/**
+	 * @see #scanDouble(CharSequence, int, int)
+	 */
+	static long scanDouble(byte[] s, int start, int end) {
+		return scan(s, start, end, false);
+	}
+
+	/**
+	 * @return the raw bits of the {@code float} value of {@code s[start, end)} as an unsigned
+	 * {@code int}, or {@link #ERROR}
+	 */
+	static long scanFloat(CharSequence s, int start, int end) {
+		return scan(s, start, end, true);
+	}
+
+	/**
+	 * @see #scanFloat(CharSequence, int, int)
+	 */
+	static long scanFloat(ByteBuffer s, int start, int end) {
+		return scan(s, start, end, true);
+	}
+
+	/**
+	 * @see #scanFloat(CharSequence, int, int)
+	 */
+	static long scanFloat(byte[] s, int start, int end) {
+		return scan(s, start, end, true);
+	}
+
+	/// PRIVATE
+
+	/**
+	 * The upper and lower 64 bits of {@code 10^e} for {@code MIN_POW10 <= e <= MAX_POW10},
+	 * normalized so the highest bit is set and rounded down. In a holder, so inputs taking the
+	 * fast path never compute it.
+	 */
+	private static final class Powers {
+		static final long[] HI = new long[MAX_POW10 - MIN_POW10 + 1];
+		static final long[] LO = new long[MAX_POW10 - MIN_POW10 + 1];
+
+		static {
+			for (int e = MIN_POW10; e <= MAX_POW10; e++) {
+				var pow = BigInteger.TEN.pow(Math.abs(e));
+				int bits = pow.bitLength();
+				BigInteger m;
+				if (e >= 0) {
+					m = bits >= 128 ? pow.shiftRight(bits - 128) : pow.shiftLeft(128 - bits);
+				}
+				else {
+					// 2^(bits + 127) / 10^-e lies in (2^127, 2^128), 10^-e not being a power of 2
+					m = BigInteger.ONE.shiftLeft(bits + 127).divide(pow);
+				}
+				HI[e - MIN_POW10] = m.shiftRight(64).longValue();
+				LO[e - MIN_POW10] = m.longValue();
+			}
+		}
+	}
+
+	private static long scan(CharSequence s, int start, int end, boolean single) {
+		if (start >= end) {
+			return ERROR;
+		}
+		int i = start;
+		char c = s.charAt(i);
+		boolean negative = c == '-';
+		if (negative || c == '+') {
+			if (++i == end) {
+				return ERROR;
+			}
+			c = s.charAt(i);
+		}
+		if (c != '.' && !isDigit(c)) {
+			return special(s, i, end, negative, single);
+		}
+
+		// unsigned, the value is w * 10^exp
+		long w = 0;
+		int digits = 0;
+		long exp = 0;
+		boolean truncated = false;
+		boolean any = false;
+
+		for (; i < end && isDigit(c = s.charAt(i)); i++) {
+			any = true;
+			if (digits < MAX_DIGITS) {
+				w = 10 * w + (c - '0');
+				digits += w == 0 ? 0 : 1;
+			}
+			else {
+				exp++;
+				truncated |= c != '0';
+			}
+		}
+		if (i < end && c == '.') {
+			for (i++; i < end && isDigit(c = s.charAt(i)); i++) {
+				any = true;
+				if (digits < MAX_DIGITS) {
+					w = 10 * w + (c - '0');
+					digits += w == 0 ? 0 : 1;
+					exp--;
+				}
+				else {
+					truncated |= c != '0';
+				}
+			}
+		}
+		if (!any) {
+			return ERROR;
+		}
+
+		if (i < end && (c == 'e' || c == 'E')) {
+			if (++i == end) {
+				return ERROR;
+			}
+			c = s.charAt(i);
+			boolean negativeExp = c == '-';
+			if (negativeExp || c == '+') {
+				if (++i == end) {
+					return ERROR;
+				}
+			}
+			int e = 0;
+			for (; i < end && isDigit(c = s.charAt(i)); i++) {
+				e = e < MAX_EXPONENT ? 10 * e + (c - '0') : e;
+			}
+			if (i < end) {
+				return ERROR;
+			}
+			exp += negativeExp ? -e : e;
+		}
+		else if (i < end) {
+			return ERROR;
+		}
+
+		long bits = single
+				? floatBits(w, exp, negative, truncated)
+				: doubleBits(w, exp, negative, truncated);
+		if (bits == FALLBACK) {
+			var str = s.subSequence(start, end).toString();
+			bits = single
+					? floatToBits(Float.parseFloat(str))
+					: Double.doubleToRawLongBits(Double.parseDouble(str));
+		}
+		return bits;
+	}
+
+	/**
+	 * @see #scan(CharSequence, int, int, boolean)
+	 */
+	private static long scan(ByteBuffer s, int start, int end, boolean single) {
+		if (start >= end) {
+			return ERROR;
+		}
+		int i = start;
+		int c = s.get(i);
+		boolean negative = c == '-';
+		if (negative || c == '+') {
+			if (++i == end) {
+				return ERROR;
+			}
+			c = s.get(i);
+		}
+		if (c != '.' && !isDigit(c)) {
+			return special(s, i, end, negative, single);
+		}
+
+		// unsigned, the value is w * 10^exp
+		long w = 0;
+		int digits = 0;
+		long exp = 0;
+		boolean truncated = false;
+		boolean any = false;
+
+		for (; i < end && isDigit(c = s.get(i)); i++) {
+			any = true;
+			if (digits < MAX_DIGITS) {
+				w = 10 * w + (c - '0');
+				digits += w == 0 ? 0 : 1;
+			}
+			else {
+				exp++;
+				truncated |= c != '0';
+			}
+		}
+		if (i < end && c == '.') {
+			for (i++; i < end && isDigit(c = s.get(i)); i++) {
+				any = true;
+				if (digits < MAX_DIGITS) {
+					w = 10 * w + (c - '0');
+					digits += w == 0 ? 0 : 1;
+					exp--;
+				}
+				else {
+					truncated |= c != '0';
+				}
+			}
+		}
+		if (!any) {
+			return ERROR;
+		}
+
+		if (i < end && (c == 'e' || c == 'E')) {
+			if (++i == end) {
+				return ERROR;
+			}
+			c = s.get(i);
+			boolean negativeExp = c == '-';
+			if (negativeExp || c == '+') {
+				if (++i == end) {
+					return ERROR;
+				}
+			}
+			int e = 0;
+			for (; i < end && isDigit(c = s.get(i)); i++) {
+				e = e < MAX_EXPONENT ? 10 * e + (c - '0') : e;
+			}
+			if (i < end) {
+				return ERROR;
+			}
+			exp += negativeExp ? -e : e;
+		}
+		else if (i < end) {
+			return ERROR;
+		}
+
+		long bits = single
+				? floatBits(w, exp, negative, truncated)
+				: doubleBits(w, exp, negative, truncated);
+		if (bits == FALLBACK) {
+			var chars = new char[end - start];
+			for (int k = 0; k < chars.length; k++) {
+				chars[k] = (char) s.get(start + k);
+			}
+			var str = new String(chars);
+			bits = single
+					? floatToBits(Float.parseFloat(str))
+					: Double.doubleToRawLongBits(Double.parseDouble(str));
+		}
+		return bits;
+	}
+
+	/**
+	 * @see #scan(CharSequence, int, int, boolean)
+	 */
+	private static long scan(byte[] s, int start, int end, boolean single) {
+		if (start >= end) {
+			return ERROR;
+		}
+		int i = start;
+		int c = s[i];
+		boolean negative = c == '-';
+		if (negative || c == '+') {
+			if (++i == end) {
+				return ERROR;
+			}
+			c = s[i];
+		}
+		if (c != '.' && !isDigit(c)) {
+			return special(s, i, end, negative, single);
+		}
+
+		// unsigned, the value is w * 10^exp
+		long w = 0;
+		int digits = 0;
+		long exp = 0;
+		boolean truncated = false;
+		boolean any = false;
+
+		for (; i < end && isDigit(c = s[i]); i++) {
+			any = true;
+			if (digits < MAX_DIGITS) {
+				w = 10 * w + (c - '0');
+				digits += w == 0 ? 0 : 1;
+			}
+			else {
+				exp++;
+				truncated |= c != '0';
+			}
+		}
+		if (i < end && c == '.') {
+			for (i++; i < end && isDigit(c = s[i]); i++) {
+				any = true;
+				if (digits < MAX_DIGITS) {
+					w = 10 * w + (c - '0');
+					digits += w == 0 ? 0 : 1;
+					exp--;
+				}
+				else {
+					truncated |= c != '0';
+				}
+			}
+		}
+		if (!any) {
+			return ERROR;
+		}
+
+		if (i < end && (c == 'e' || c == 'E')) {
+			if (++i == end) {
+				return ERROR;
+			}
+			c = s[i];
+			boolean negativeExp = c == '-';
+			if (negativeExp || c == '+') {
+				if (++i == end) {
+					return ERROR;
+				}
+			}
+			int e = 0;
+			for (; i < end && isDigit(c = s[i]); i++) {
+				e = e < MAX_EXPONENT ? 10 * e + (c - '0') : e;
+			}
+			if (i < end) {
+				return ERROR;
+			}
+			exp += negativeExp ? -e : e;
+		}
+		else if (i < end) {
+			return ERROR;
+		}
+
+		long bits = single
+				? floatBits(w, exp, negative, truncated)
+				: doubleBits(w, exp, negative, truncated);
+		if (bits == FALLBACK) {
+			var str = new String(s, start, end - start, StandardCharsets.ISO_8859_1);
+			bits = single
+					? floatToBits(Float.parseFloat(str))
+					: Double.doubleToRawLongBits(Double.parseDouble(str));
+		}
+		return bits;
+	}
+
+	private static boolean isDigit(int c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * {@code inf}, {@code infinity} or {@code nan}, in any case, making up all of
+	 * {@code s[i, end)}.
+	 */
+	private static long special(CharSequence s, int i, int end, boolean negative, boolean single) {
+		int n = end - i;
+		if (n == 3 && matches(s, i, "nan")) {
+			return single ? floatToBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+		}
+		if (n == 3 && matches(s, i, "inf") || n == 8 && matches(s, i, "infinity")) {
+			return infinity(negative, single);
+		}
+		return ERROR;
+	}
+
+	/**
+	 * @see #special(CharSequence, int, int, boolean, boolean)
+	 */
+	private static long special(ByteBuffer s, int i, int end, boolean negative, boolean single) {
+		int n = end - i;
+		if (n == 3 && matches(s, i, "nan")) {
+			return single ? floatToBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+		}
+		if (n == 3 && matches(s, i, "inf") || n == 8 && matches(s, i, "infinity")) {
+			return infinity(negative, single);
+		}
+		return ERROR;
+	}
+
+	/**
+	 * @see #special(CharSequence, int, int, boolean, boolean)
+	 */
+	private static long special(byte[] s, int i, int end, boolean negative, boolean single) {
+		int n = end - i;
+		if (n == 3 && matches(s, i, "nan")) {
+			return single ? floatToBits(Float.NaN) : Double.doubleToRawLongBits(Double.NaN);
+		}
+		if (n == 3 && matches(s, i, "inf") || n == 8 && matches(s, i, "infinity")) {
+			return infinity(negative, single);
+		}
+		return ERROR;
+	}
+
+	/**
+	 * @param word lower case ASCII letters
+	 */
+	private static boolean matches(CharSequence s, int i, String word) {
+		for (int k = 0; k < word.length(); k++) {
+			// only the case bit differs between ASCII letters
+			if ((s.charAt(i + k) | 0x20) != word.charAt(k)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @see #matches(CharSequence, int, String)
+	 */
+	private static boolean matches(ByteBuffer s, int i, String word) {
+		for (int k = 0; k < word.length(); k++) {
+			if ((s.get(i + k) | 0x20) != word.charAt(k)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @see #matches(CharSequence, int, String)
+	 */
+	private static boolean matches(byte[] s, int i, String word) {
+		for (int k = 0; k < word.length(); k++) {
+			if ((s[i + k] | 0x20) != word.charAt(k)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long infinity(boolean negative, boolean single) {
+		if (single) {
+			return floatToBits(negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY);
+		}
+		return Double.doubleToRawLongBits(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+	}
+
+	private static long floatToBits(float f) {
+		return Float.floatToRawIntBits(f) & 0xffff_ffffL;
+	}
+
+	/**
+	 * @param w         unsigned significand
+	 * @param q         decimal exponent
+	 * @param truncated whether nonzero digits were dropped after {@code w}
+	 * @return the raw bits of the {@code double} nearest to {@code w * 10^q}, or
+	 * {@link #FALLBACK}
+	 */
+	private static long doubleBits(long w, long q, boolean negative, boolean truncated) {
+		long sign = negative ? Long.MIN_VALUE : 0;
+		// w < 10^19, so past the table the value rounds to 0 or to infinity
+		if (w == 0 || q < MIN_POW10) {
+			return sign;
+		}
+		if (q > MAX_POW10) {
+			return sign | Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+		}
+		int e = (int) q;
+		if (!truncated && w >= 0 && w <= 1L << 53 && e >= -22 && e <= 22) {
+			double d = e < 0 ? w / DOUBLE_POW10[-e] : w * DOUBLE_POW10[e];
+			return sign | Double.doubleToRawLongBits(d);
+		}
+
+		long bits = eiselLemire(w, e, 52, 0x7ff);
+		if (truncated && bits != FALLBACK && eiselLemire(w + 1, e, 52, 0x7ff) != bits) {
+			// the digits dropped may change the rounding
+			bits = FALLBACK;
+		}
+		return bits == FALLBACK ? FALLBACK : sign | bits;
+	}
+
+	/**
+	 * @return the raw bits of the {@code float} nearest to {@code w * 10^q} as an unsigned
+	 * {@code int}, or {@link #FALLBACK}
+	 * @see #doubleBits(long, long, boolean, boolean)
+	 */
+	private static long floatBits(long w, long q, boolean negative, boolean truncated) {
+		long sign = negative ? 0x8000_0000L : 0;
+		if (w == 0 || q < MIN_POW10) {
+			return sign;
+		}
+		if (q > MAX_POW10) {
+			return sign | floatToBits(Float.POSITIVE_INFINITY);
+		}
+		int e = (int) q;
+		if (!truncated && w >= 0 && w <= 1L << 24 && e >= -10 && e <= 10) {
+			float f = e < 0 ? w / FLOAT_POW10[-e] : w * FLOAT_POW10[e];
+			return sign | floatToBits(f);
+		}
+
+		long bits = eiselLemire(w, e, 23, 0xff);
+		if (truncated && bits != FALLBACK && eiselLemire(w + 1, e, 23, 0xff) != bits) {
+			bits = FALLBACK;
+		}
+		return bits == FALLBACK ? FALLBACK : sign | bits;
+	}
+
+	/**
+	 * Rounds {@code w * 10^e} to a binary floating-point number without its sign bit.
+	 *
+	 * @param w            unsigned significand, not {@code 0}
+	 * @param e            decimal exponent, within the table
+	 * @param mantissaBits explicit mantissa bits, {@code 52} or {@code 23}
+	 * @param maxExp       the biased exponent of infinity, {@code 0x7ff} or {@code 0xff}
+	 * @return the bits, or {@link #FALLBACK} if 128 bits of {@code 10^e} cannot decide the
+	 * rounding, or the result is subnormal or infinite
+	 */
+	private static long eiselLemire(long w, int e, int mantissaBits, int maxExp) {
+		int clz = Long.numberOfLeadingZeros(w);
+		w <<= clz;
+		// 217706 / 2^16 ~ log2(10)
+		long exp2 = ((217706L * e) >> 16) + 64 + (maxExp >> 1) - clz;
+
+		long hi = Powers.HI[e - MIN_POW10];
+		long xHi = Math.unsignedMultiplyHigh(w, hi);
+		long xLo = w * hi;
+
+		// the bits below the mantissa plus its rounding bit
+		int shift = 64 - mantissaBits - 3;
+		long mask = (1L << shift) - 1;
+		if ((xHi & mask) == mask && Long.compareUnsigned(xLo + w, w) < 0) {
+			// the truncation of 10^e may carry into the mantissa, add its lower 64 bits
+			long lo = Powers.LO[e - MIN_POW10];
+			long yHi = Math.unsignedMultiplyHigh(w, lo);
+			long yLo = w * lo;
+			long mergedHi = xHi;
+			long mergedLo = xLo + yHi;
+			if (Long.compareUnsigned(mergedLo, xLo) < 0) {
+				mergedHi++;
+			}
+			if ((mergedHi & mask) == mask && mergedLo == -1 && Long.compareUnsigned(yLo + w, w) < 0) {
+				return FALLBACK;
+			}
+			xHi = mergedHi;
+			xLo = mergedLo;
+		}
+
+		long msb = xHi >>> 63;
+		long mantissa = xHi >>> (msb + shift);
+		exp2 -= 1 ^ msb;
+		if (xLo == 0 && (xHi & mask) == 0 && (mantissa & 3) == 1) {
+			// exactly halfway between two numbers, maybe
+			return FALLBACK;
+		}
+
+		mantissa += mantissa & 1;
+		mantissa >>>= 1;
+		if (mantissa >>> (mantissaBits + 1) != 0) {
+			mantissa >>>= 1;
+			exp2++;
+		}
+		if (Long.compareUnsigned(exp2 - 1, maxExp - 1) >= 0) {
+			return FALLBACK;
+		}
+		return exp2 << mantissaBits | mantissa & ((1L << mantissaBits) - 1);
+	}
+}
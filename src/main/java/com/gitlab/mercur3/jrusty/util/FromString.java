@@ -1,12 +1,50 @@
 package com.gitlab.mercur3.jrusty.util;
 
-import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.BooleanResult;
+import com.gitlab.mercur3.jrusty.result.DoubleResult;
 import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+import com.gitlab.mercur3.jrusty.result.LongResult;
 import com.gitlab.mercur3.jrusty.result.Ok;
 import com.gitlab.mercur3.jrusty.result.Result;
 
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
 /**
  * From {@code String} conversion utils.
+ *
+ * <p>
+ * The parsers never throw. Invalid input is detected while scanning the digits, so the error
+ * path costs about as much as the happy path instead of building a
+ * {@code NumberFormatException} with a full stack trace.
+ * </p>
+ *
+ * <p>
+ * Every parser but {@code parseFloat} has a {@code *Primitive} variant returning an
+ * {@link IntResult}, {@link LongResult}, {@link DoubleResult} or {@link BooleanResult}, which
+ * keeps the value unboxed. Prefer those in hot loops.
+ * </p>
+ *
+ * <p>
+ * Errors and small values are returned as canonical instances (see {@link Result#errKind}), so
+ * rejecting malformed input allocates nothing.
+ * </p>
+ *
+ * <p>
+ * The number parsers also accept a range of a {@code CharSequence}, a {@code byte[]} or a
+ * {@code ByteBuffer}, so fields can be parsed straight from a receive buffer without decoding or
+ * {@code substring}. Byte ranges must hold ASCII digits.
+ * </p>
+ *
+ * <p>
+ * {@code parseDouble} and {@code parseFloat} follow Rust's {@code f64::from_str}: a decimal
+ * number with an optional exponent, or {@code inf}, {@code infinity} and {@code nan} in any case.
+ * They round like {@link Double#parseDouble(String)}, but reject the whitespace, hexadecimal
+ * numbers and {@code d}/{@code f} suffixes it accepts. Most inputs are converted with a
+ * multiplication by a 128-bit power of ten; the rare ones that need more precision, and
+ * subnormal values, go through the JDK.
+ * </p>
  */
 public class FromString {
 	private FromString() {}
@@ -19,12 +57,18 @@ public class FromString {
 	 * @see Boolean#parseBoolean(String)
 	 */
 	public static Result<Boolean, ErrorKind> parseBoolean(String str) {
-		try {
-			return new Ok<>(Boolean.parseBoolean(str));
-		}
-		catch (NumberFormatException e) {
-			return new Err<>(ErrorKind.FORMAT_ERROR);
-		}
+		return Result.okBoolean(Boolean.parseBoolean(str));
+	}
+
+	/**
+	 * Parse a {@code String} to an unboxed {@code boolean}.
+	 *
+	 * @param str string
+	 * @return the parsed value, never an error
+	 * @see #parseBoolean(String)
+	 */
+	public static BooleanResult<ErrorKind> parseBooleanPrimitive(String str) {
+		return BooleanResult.ok(Boolean.parseBoolean(str));
 	}
 
 	/**
@@ -32,16 +76,20 @@ public class FromString {
 	 *
 	 * @param str   string
 	 * @param radix radix
-	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in a {@code byte}
 	 * @see Byte#parseByte(String, int)
 	 */
 	public static Result<Byte, ErrorKind> parseByteWithRadix(String str, int radix) {
-		try {
-			return new Ok<>(Byte.parseByte(str, radix));
+		var res = parseIntPrimitiveWithRadix(str, radix);
+		if (res.isErr()) {
+			return Result.errKind(res.unwrapErr());
 		}
-		catch (NumberFormatException e) {
-			return new Err<>(ErrorKind.FORMAT_ERROR);
+		int value = res.unwrap();
+		if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+			return Result.errKind(ErrorKind.OVERFLOW);
 		}
+		return Result.okByte((byte) value);
 	}
 
 	/**
@@ -60,16 +108,39 @@ public class FromString {
 	 *
 	 * @param str   string
 	 * @param radix radix
-	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in an {@code int}
 	 * @see Integer#parseInt(String, int)
 	 */
 	public static Result<Integer, ErrorKind> parseIntWithRadix(String str, int radix) {
-		try {
-			return new Ok<>(Integer.parseInt(str, radix));
-		}
-		catch (NumberFormatException e) {
-			return new Err<>(ErrorKind.FORMAT_ERROR);
+		return parseIntPrimitiveWithRadix(str, radix).toResult();
+	}
+
+	/**
+	 * Parse a {@code String} to an unboxed {@code int} with the given radix
+	 *
+	 * @param str   string
+	 * @param radix radix
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in an {@code int}
+	 * @see #parseIntWithRadix(String, int)
+	 */
+	public static IntResult<ErrorKind> parseIntPrimitiveWithRadix(String str, int radix) {
+		if (str == null) {
+			return IntResult.errKind(ErrorKind.FORMAT_ERROR);
 		}
+		return toIntResult(Digits.scanInt(str, 0, str.length(), radix));
+	}
+
+	/**
+	 * Parse a {@code String} to an unboxed {@code int} base 10
+	 *
+	 * @param str string
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number
+	 * @see #parseIntPrimitiveWithRadix(String, int)
+	 */
+	public static IntResult<ErrorKind> parseIntPrimitive(String str) {
+		return parseIntPrimitiveWithRadix(str, 10);
 	}
 
 	/**
@@ -83,21 +154,126 @@ public class FromString {
 		return parseIntWithRadix(str, 10);
 	}
 
+	/**
+	 * Parse {@code s[start, end)} to {@code int} base 10, without copying it.
+	 *
+	 * @param s     characters
+	 * @param start first index, inclusive
+	 * @param end   last index, exclusive
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in an {@code int}
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static Result<Integer, ErrorKind> parseInt(CharSequence s, int start, int end) {
+		return parseIntPrimitive(s, start, end).toResult();
+	}
+
+	/**
+	 * @see #parseInt(CharSequence, int, int)
+	 */
+	public static IntResult<ErrorKind> parseIntPrimitive(CharSequence s, int start, int end) {
+		if (s == null) {
+			return IntResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromToIndex(start, end, s.length());
+		return toIntResult(Digits.scanInt(s, start, end, 10));
+	}
+
+	/**
+	 * Parse the ASCII digits {@code buf[off, off + len)} to {@code int} base 10, without decoding
+	 * them to a {@code String}.
+	 *
+	 * @param buf bytes
+	 * @param off first index
+	 * @param len number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in an {@code int}
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static Result<Integer, ErrorKind> parseInt(byte[] buf, int off, int len) {
+		return parseIntPrimitive(buf, off, len).toResult();
+	}
+
+	/**
+	 * @see #parseInt(byte[], int, int)
+	 */
+	public static IntResult<ErrorKind> parseIntPrimitive(byte[] buf, int off, int len) {
+		if (buf == null) {
+			return IntResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(off, len, buf.length);
+		return toIntResult(Digits.scanInt(buf, off, off + len, 10));
+	}
+
+	/**
+	 * Parse the ASCII digits at the absolute indices {@code [index, index + len)} of {@code buf}
+	 * to {@code int} base 10. Works in place for heap and direct buffers and does not move the
+	 * position of {@code buf}.
+	 *
+	 * @param buf   bytes
+	 * @param index first absolute index
+	 * @param len   number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in an {@code int}
+	 * @throws IndexOutOfBoundsException if the range exceeds the limit of {@code buf}
+	 */
+	public static Result<Integer, ErrorKind> parseInt(ByteBuffer buf, int index, int len) {
+		return parseIntPrimitive(buf, index, len).toResult();
+	}
+
+	/**
+	 * @see #parseInt(ByteBuffer, int, int)
+	 */
+	public static IntResult<ErrorKind> parseIntPrimitive(ByteBuffer buf, int index, int len) {
+		if (buf == null) {
+			return IntResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(index, len, buf.limit());
+		return toIntResult(Digits.scanInt(buf, index, index + len, 10));
+	}
+
 	/**
 	 * Parse a {@code String} to {@code long} with the given radix
 	 *
 	 * @param str   string
 	 * @param radix radix
-	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in a {@code long}
 	 * @see Long#parseLong(String, int)
 	 */
 	public static Result<Long, ErrorKind> parseLongWithRadix(String str, int radix) {
-		try {
-			return new Ok<>(Long.parseLong(str, radix));
+		return parseLongPrimitiveWithRadix(str, radix).toResult();
+	}
+
+	/**
+	 * Parse a {@code String} to an unboxed {@code long} with the given radix
+	 *
+	 * @param str   string
+	 * @param radix radix
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in a {@code long}
+	 * @see #parseLongWithRadix(String, int)
+	 */
+	public static LongResult<ErrorKind> parseLongPrimitiveWithRadix(String str, int radix) {
+		if (str == null) {
+			return LongResult.errKind(ErrorKind.FORMAT_ERROR);
 		}
-		catch (NumberFormatException e) {
-			return new Err<>(ErrorKind.FORMAT_ERROR);
+		long value = Digits.scanLong(str, 0, str.length(), radix);
+		if (value == Long.MIN_VALUE) {
+			return toLongResult(Digits.longError(str, 0, str.length(), radix));
 		}
+		return LongResult.ok(value);
+	}
+
+	/**
+	 * Parse a {@code String} to an unboxed {@code long} base 10
+	 *
+	 * @param str string
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number
+	 * @see #parseLongPrimitiveWithRadix(String, int)
+	 */
+	public static LongResult<ErrorKind> parseLongPrimitive(String str) {
+		return parseLongPrimitiveWithRadix(str, 10);
 	}
 
 	/**
@@ -110,4 +286,323 @@ public class FromString {
 	public static Result<Long, ErrorKind> parseLong(String str) {
 		return parseLongWithRadix(str, 10);
 	}
+
+	/**
+	 * Parse {@code s[start, end)} to {@code long} base 10, without copying it.
+	 *
+	 * @param s     characters
+	 * @param start first index, inclusive
+	 * @param end   last index, exclusive
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in a {@code long}
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static Result<Long, ErrorKind> parseLong(CharSequence s, int start, int end) {
+		return parseLongPrimitive(s, start, end).toResult();
+	}
+
+	/**
+	 * @see #parseLong(CharSequence, int, int)
+	 */
+	public static LongResult<ErrorKind> parseLongPrimitive(CharSequence s, int start, int end) {
+		if (s == null) {
+			return LongResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromToIndex(start, end, s.length());
+		return toLongResult(Digits.scanLong(s, start, end, 10), s, start, end);
+	}
+
+	/**
+	 * Parse the ASCII digits {@code buf[off, off + len)} to {@code long} base 10, without decoding
+	 * them to a {@code String}.
+	 *
+	 * @param buf bytes
+	 * @param off first index
+	 * @param len number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in a {@code long}
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static Result<Long, ErrorKind> parseLong(byte[] buf, int off, int len) {
+		return parseLongPrimitive(buf, off, len).toResult();
+	}
+
+	/**
+	 * @see #parseLong(byte[], int, int)
+	 */
+	public static LongResult<ErrorKind> parseLongPrimitive(byte[] buf, int off, int len) {
+		if (buf == null) {
+			return LongResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(off, len, buf.length);
+		return toLongResult(Digits.scanLong(buf, off, off + len, 10), buf, off, off + len);
+	}
+
+	/**
+	 * Parse the ASCII digits at the absolute indices {@code [index, index + len)} of {@code buf}
+	 * to {@code long} base 10. Works in place for heap and direct buffers and does not move the
+	 * position of {@code buf}.
+	 *
+	 * @param buf   bytes
+	 * @param index first absolute index
+	 * @param len   number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number,
+	 * <code>ErrorKind.OVERFLOW</code> if it does not fit in a {@code long}
+	 * @throws IndexOutOfBoundsException if the range exceeds the limit of {@code buf}
+	 */
+	public static Result<Long, ErrorKind> parseLong(ByteBuffer buf, int index, int len) {
+		return parseLongPrimitive(buf, index, len).toResult();
+	}
+
+	/**
+	 * @see #parseLong(ByteBuffer, int, int)
+	 */
+	public static LongResult<ErrorKind> parseLongPrimitive(ByteBuffer buf, int index, int len) {
+		if (buf == null) {
+			return LongResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(index, len, buf.limit());
+		return toLongResult(Digits.scanLong(buf, index, index + len, 10), buf, index, index + len);
+	}
+
+	/**
+	 * Parse a {@code String} to {@code double}
+	 *
+	 * @param str string
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number. Out of
+	 * range values round to an infinity or a zero, they are not errors
+	 * @see Double#parseDouble(String)
+	 */
+	public static Result<Double, ErrorKind> parseDouble(String str) {
+		return parseDoublePrimitive(str).toResult();
+	}
+
+	/**
+	 * Parse a {@code String} to an unboxed {@code double}
+	 *
+	 * @param str string
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number
+	 * @see #parseDouble(String)
+	 */
+	public static DoubleResult<ErrorKind> parseDoublePrimitive(String str) {
+		if (str == null) {
+			return DoubleResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		return toDoubleResult(FloatDigits.scanDouble(str, 0, str.length()));
+	}
+
+	/**
+	 * Parse {@code s[start, end)} to {@code double}, without copying it.
+	 *
+	 * @param s     characters
+	 * @param start first index, inclusive
+	 * @param end   last index, exclusive
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static Result<Double, ErrorKind> parseDouble(CharSequence s, int start, int end) {
+		return parseDoublePrimitive(s, start, end).toResult();
+	}
+
+	/**
+	 * @see #parseDouble(CharSequence, int, int)
+	 */
+	public static DoubleResult<ErrorKind> parseDoublePrimitive(CharSequence s, int start, int end) {
+		if (s == null) {
+			return DoubleResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromToIndex(start, end, s.length());
+		return toDoubleResult(FloatDigits.scanDouble(s, start, end));
+	}
+
+	/**
+	 * Parse the ASCII characters {@code buf[off, off + len)} to {@code double}, without decoding
+	 * them to a {@code String}.
+	 *
+	 * @param buf bytes
+	 * @param off first index
+	 * @param len number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static Result<Double, ErrorKind> parseDouble(byte[] buf, int off, int len) {
+		return parseDoublePrimitive(buf, off, len).toResult();
+	}
+
+	/**
+	 * @see #parseDouble(byte[], int, int)
+	 */
+	public static DoubleResult<ErrorKind> parseDoublePrimitive(byte[] buf, int off, int len) {
+		if (buf == null) {
+			return DoubleResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(off, len, buf.length);
+		return toDoubleResult(FloatDigits.scanDouble(buf, off, off + len));
+	}
+
+	/**
+	 * Parse the ASCII characters at the absolute indices {@code [index, index + len)} of
+	 * {@code buf} to {@code double}. Works in place for heap and direct buffers and does not move
+	 * the position of {@code buf}.
+	 *
+	 * @param buf   bytes
+	 * @param index first absolute index
+	 * @param len   number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number
+	 * @throws IndexOutOfBoundsException if the range exceeds the limit of {@code buf}
+	 */
+	public static Result<Double, ErrorKind> parseDouble(ByteBuffer buf, int index, int len) {
+		return parseDoublePrimitive(buf, index, len).toResult();
+	}
+
+	/**
+	 * @see #parseDouble(ByteBuffer, int, int)
+	 */
+	public static DoubleResult<ErrorKind> parseDoublePrimitive(ByteBuffer buf, int index, int len) {
+		if (buf == null) {
+			return DoubleResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(index, len, buf.limit());
+		return toDoubleResult(FloatDigits.scanDouble(buf, index, index + len));
+	}
+
+	/**
+	 * Parse a {@code String} to {@code float}. The decimal value is rounded to a {@code float}
+	 * directly, not through a {@code double}, so it is never rounded twice.
+	 *
+	 * @param str string
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the string is not a valid number
+	 * @see Float#parseFloat(String)
+	 */
+	public static Result<Float, ErrorKind> parseFloat(String str) {
+		if (str == null) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		return toFloatResult(FloatDigits.scanFloat(str, 0, str.length()));
+	}
+
+	/**
+	 * Parse {@code s[start, end)} to {@code float}, without copying it.
+	 *
+	 * @param s     characters
+	 * @param start first index, inclusive
+	 * @param end   last index, exclusive
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 * @see #parseFloat(String)
+	 */
+	public static Result<Float, ErrorKind> parseFloat(CharSequence s, int start, int end) {
+		if (s == null) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromToIndex(start, end, s.length());
+		return toFloatResult(FloatDigits.scanFloat(s, start, end));
+	}
+
+	/**
+	 * Parse the ASCII characters {@code buf[off, off + len)} to {@code float}, without decoding
+	 * them to a {@code String}.
+	 *
+	 * @param buf bytes
+	 * @param off first index
+	 * @param len number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 * @see #parseFloat(String)
+	 */
+	public static Result<Float, ErrorKind> parseFloat(byte[] buf, int off, int len) {
+		if (buf == null) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(off, len, buf.length);
+		return toFloatResult(FloatDigits.scanFloat(buf, off, off + len));
+	}
+
+	/**
+	 * Parse the ASCII characters at the absolute indices {@code [index, index + len)} of
+	 * {@code buf} to {@code float}. Does not move the position of {@code buf}.
+	 *
+	 * @param buf   bytes
+	 * @param index first absolute index
+	 * @param len   number of bytes
+	 * @return <code>ErrorKind.FORMAT_ERROR</code> if the range is not a valid number
+	 * @throws IndexOutOfBoundsException if the range exceeds the limit of {@code buf}
+	 * @see #parseFloat(String)
+	 */
+	public static Result<Float, ErrorKind> parseFloat(ByteBuffer buf, int index, int len) {
+		if (buf == null) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(index, len, buf.limit());
+		return toFloatResult(FloatDigits.scanFloat(buf, index, index + len));
+	}
+
+	/// PRIVATE
+
+	private static IntResult<ErrorKind> toIntResult(long scanned) {
+		if (Digits.isIntError(scanned)) {
+			return IntResult.errKind(Digits.intError(scanned));
+		}
+		return IntResult.ok((int) scanned);
+	}
+
+	private static LongResult<ErrorKind> toLongResult(
+			long scanned,
+			CharSequence s,
+			int start,
+			int end
+	) {
+		if (scanned == Long.MIN_VALUE) {
+			return toLongResult(Digits.longError(s, start, end, 10));
+		}
+		return LongResult.ok(scanned);
+	}
+
+	private static LongResult<ErrorKind> toLongResult(
+			long scanned,
+			ByteBuffer buf,
+			int start,
+			int end
+	) {
+		if (scanned == Long.MIN_VALUE) {
+			return toLongResult(Digits.longError(buf, start, end, 10));
+		}
+		return LongResult.ok(scanned);
+	}
+
+	private static LongResult<ErrorKind> toLongResult(
+			long scanned,
+			byte[] buf,
+			int start,
+			int end
+	) {
+		if (scanned == Long.MIN_VALUE) {
+			return toLongResult(Digits.longError(buf, start, end, 10));
+		}
+		return LongResult.ok(scanned);
+	}
+
+	/**
+	 * @param err the diagnosis of a scan that returned {@code Long.MIN_VALUE}
+	 */
+	private static LongResult<ErrorKind> toLongResult(ErrorKind err) {
+		if (err == null) {
+			return LongResult.ok(Long.MIN_VALUE);
+		}
+		return LongResult.errKind(err);
+	}
+
+	private static DoubleResult<ErrorKind> toDoubleResult(long scanned) {
+		if (scanned == FloatDigits.ERROR) {
+			return DoubleResult.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		return DoubleResult.ok(Double.longBitsToDouble(scanned));
+	}
+
+	private static Result<Float, ErrorKind> toFloatResult(long scanned) {
+		if (scanned == FloatDigits.ERROR) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		return new Ok<>(Float.intBitsToFloat((int) scanned));
+	}
 }
@@ -0,0 +1,194 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An {@link AtomicBox} for an {@code int}, without boxing. {@link #empty()} starts at {@code 0}, the
+ * primitive counterpart of {@code null}.
+ *
+ * @see AtomicBox
+ * @see AdderBox
+ */
+public final class IntBox {
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(IntBox.class, "value", int.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private int value;
+
+	private IntBox(int value) {
+		this.value = value;
+	}
+
+	/**
+	 * Create an {@code IntBox} with the inner value set to {@code 0}
+	 */
+	public static IntBox empty() {
+		return new IntBox(0);
+	}
+
+	/**
+	 * Create an {@code IntBox} with the given default {@code value}
+	 */
+	public static IntBox withDefault(int value) {
+		return new IntBox(value);
+	}
+
+	/**
+	 * @return the value, with volatile semantics
+	 */
+	public int get() {
+		return (int) VALUE.getVolatile(this);
+	}
+
+	/**
+	 * @param value the new value, set with volatile semantics
+	 */
+	public void set(int value) {
+		VALUE.setVolatile(this, value);
+	}
+
+	/**
+	 * @see AtomicBox#getAcquire()
+	 */
+	public int getAcquire() {
+		return (int) VALUE.getAcquire(this);
+	}
+
+	/**
+	 * @see AtomicBox#setRelease(Object)
+	 */
+	public void setRelease(int value) {
+		VALUE.setRelease(this, value);
+	}
+
+	/**
+	 * @see AtomicBox#getOpaque()
+	 */
+	public int getOpaque() {
+		return (int) VALUE.getOpaque(this);
+	}
+
+	/**
+	 * @see AtomicBox#setOpaque(Object)
+	 */
+	public void setOpaque(int value) {
+		VALUE.setOpaque(this, value);
+	}
+
+	/**
+	 * @param value the new value
+	 * @return the previous value
+	 */
+	public int getAndSet(int value) {
+		return (int) VALUE.getAndSet(this, value);
+	}
+
+	/**
+	 * @param expected the value expected
+	 * @param value    the new value
+	 * @return {@code true} if the value was {@code expected} and is now {@code value}
+	 */
+	public boolean compareAndSet(int expected, int value) {
+		return VALUE.compareAndSet(this, expected, value);
+	}
+
+	/**
+	 * @see AtomicBox#weakCompareAndSet(Object, Object)
+	 */
+	public boolean weakCompareAndSet(int expected, int value) {
+		return VALUE.weakCompareAndSet(this, expected, value);
+	}
+
+	/**
+	 * @param delta the value to add
+	 * @return the value before the addition
+	 */
+	public int getAndAdd(int delta) {
+		return (int) VALUE.getAndAdd(this, delta);
+	}
+
+	/**
+	 * @param delta the value to add
+	 * @return the value after the addition
+	 */
+	public int addAndGet(int delta) {
+		return (int) VALUE.getAndAdd(this, delta) + delta;
+	}
+
+	/**
+	 * @return the value after incrementing it
+	 */
+	public int incrementAndGet() {
+		return addAndGet(1);
+	}
+
+	/**
+	 * @return the value after decrementing it
+	 */
+	public int decrementAndGet() {
+		return addAndGet(-1);
+	}
+
+	/**
+	 * @param f the update, possibly called several times under contention
+	 * @return the value before the update
+	 */
+	public int getAndUpdate(IntUnaryOperator f) {
+		int prev = get();
+		while (true) {
+			int witness = compareAndExchange(prev, f.applyAsInt(prev));
+			if (witness == prev) {
+				return prev;
+			}
+			prev = witness;
+		}
+	}
+
+	/**
+	 * @param f the update, possibly called several times under contention
+	 * @return the value after the update
+	 */
+	public int updateAndGet(IntUnaryOperator f) {
+		int prev = get();
+		while (true) {
+			int next = f.applyAsInt(prev);
+			int witness = compareAndExchange(prev, next);
+			if (witness == prev) {
+				return next;
+			}
+			prev = witness;
+		}
+	}
+
+	/**
+	 * @param x the second argument of {@code f}
+	 * @param f combines the current value with {@code x}, possibly called several times
+	 * @return the value after the update
+	 */
+	public int accumulateAndGet(int x, IntBinaryOperator f) {
+		return updateAndGet(prev -> f.applyAsInt(prev, x));
+	}
+
+	@Override
+	public String toString() {
+		return "IntBox[" + get() + "]";
+	}
+
+	/// PRIVATE
+
+	private int compareAndExchange(int expected, int value) {
+		return (int) VALUE.compareAndExchange(this, expected, value);
+	}
+}
@@ -0,0 +1,167 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.iter.IntIter;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Representation of Rust's {@code &mut [i32]}: a fixed-length window into a {@code int[]},
+ * usually from {@link IntVec#slice(int, int)}. Nothing is copied; writes go to the underlying
+ * array.
+ *
+ * @see IntVec
+ */
+public final class IntSlice {
+	private final int[] array;
+	private final int offset;
+	private final int len;
+
+	IntSlice(int[] array, int offset, int len) {
+		this.array = array;
+		this.offset = offset;
+		this.len = len;
+	}
+
+	/**
+	 * @return a view of the whole of {@code array}
+	 */
+	public static IntSlice of(int[] array) {
+		return new IntSlice(array, 0, array.length);
+	}
+
+	/**
+	 * @return the number of elements
+	 */
+	public int len() {
+		return len;
+	}
+
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	/**
+	 * @return <code>Ok(element)</code>, or <code>Err(NOT_FOUND)</code> if {@code index} is out
+	 * of {@code [0, len())}. Neither allocates.
+	 */
+	public IntResult<ErrorKind> get(int index) {
+		if (index >= 0 && index < len) {
+			return IntResult.ok(array[offset + index]);
+		}
+		return IntResult.errKind(ErrorKind.NOT_FOUND);
+	}
+
+	/**
+	 * The fast path of {@link #get(int)}: no check against {@link #len()}, only the array bounds
+	 * check of the JVM, so an index past the end reads the elements after the slice.
+	 */
+	public int getUnchecked(int index) {
+		return array[offset + index];
+	}
+
+	/**
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if {@code index} is out of {@code [0, len())}
+	 */
+	public int set(int index, int value) {
+		Objects.checkIndex(index, len);
+		var old = array[offset + index];
+		array[offset + index] = value;
+		return old;
+	}
+
+	/**
+	 * @return a view of {@code [from, to)} of this slice, sharing its array
+	 * @throws IndexOutOfBoundsException if the range is out of {@code [0, len()]}
+	 */
+	public IntSlice slice(int from, int to) {
+		Objects.checkFromToIndex(from, to, len);
+		return new IntSlice(array, offset + from, to - from);
+	}
+
+	/**
+	 * Sorts the elements in ascending order, in place.
+	 */
+	public void sort() {
+		Arrays.sort(array, offset, offset + len);
+	}
+
+	/**
+	 * Searches a sorted slice, like Rust's {@code binary_search}.
+	 *
+	 * @return <code>Ok(index)</code> of a matching element, or <code>Err(index)</code> where
+	 * {@code value} could be inserted keeping the order. Unspecified if not sorted.
+	 */
+	public IntResult<Integer> binarySearch(int value) {
+		int i = Arrays.binarySearch(array, offset, offset + len, value);
+		if (i >= 0) {
+			return IntResult.ok(i - offset);
+		}
+		return IntResult.err(-(i + 1) - offset);
+	}
+
+	/**
+	 * @return an {@code IntIter} over the elements, without copying them
+	 */
+	public IntIter iter() {
+		return IntIter.from(array, offset, offset + len);
+	}
+
+	/**
+	 * @return a new array holding the elements
+	 */
+	public int[] toArray() {
+		return Arrays.copyOfRange(array, offset, offset + len);
+	}
+
+	/**
+	 * 2 slices are equal if they hold the same elements, wherever they are.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof IntSlice other) {
+			return Arrays.equals(
+					array, offset, offset + len,
+					other.array, other.offset, other.offset + other.len
+			);
+		}
+		return false;
+	}
+
+	/**
+	 * @return the same hash as {@link Arrays#hashCode(int[])} of {@link #toArray()}
+	 */
+	@Override
+	public int hashCode() {
+		int h = 1;
+		for (int i = offset, end = offset + len; i < end; i++) {
+			h = 31 * h + Integer.hashCode(array[i]);
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder(2 + len * 3).append('[');
+		for (int i = 0; i < len; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(array[offset + i]);
+		}
+		return sb.append(']').toString();
+	}
+
+	/// PACKAGE
+
+	int[] array() {
+		return array;
+	}
+
+	int offset() {
+		return offset;
+	}
+}
@@ -0,0 +1,366 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.iter.IntIter;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Representation of Rust's {@code Vec<i32>}: a growable array of unboxed {@code int}s. Where an
+ * {@code ArrayList<Integer>} costs a reference plus an {@code Integer} object per element, this costs
+ * {@value #BYTES} bytes per element of capacity, and the GC sees a single array.
+ *
+ * {@snippet :
+ * var column = IntVec.withCapacity(lines.size());
+ * var report = column.extendParsed(lines);   // no object per cell
+ * column.sort();
+ * column.get(0);                             // Ok(smallest) or Err(NOT_FOUND) if empty
+ * }
+ *
+ * <p>
+ * Capacity grows by half when full. {@link #withCapacity(int)} and {@link #reserve(int)} avoid the
+ * copies when the size is known, {@link #shrinkToFit()} releases the slack afterwards.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * @see IntSlice
+ * @see <a href="https://doc.rust-lang.org/std/vec/struct.Vec.html"><code>std::vec::Vec</code></a>
+ */
+public final class IntVec {
+	static final int BYTES = Integer.BYTES;
+	/** Some VMs reserve header words in arrays, see {@code jdk.internal.util.ArraysSupport} */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+	private static final int[] EMPTY = {};
+
+	private int[] data;
+	private int len;
+
+	private IntVec(int[] data, int len) {
+		this.data = data;
+		this.len = len;
+	}
+
+	/**
+	 * @return an empty {@code IntVec}; it does not allocate until the first push
+	 */
+	public static IntVec empty() {
+		return new IntVec(EMPTY, 0);
+	}
+
+	/**
+	 * @param capacity the number of elements that fit before the first reallocation
+	 * @return an empty {@code IntVec}
+	 * @throws IllegalArgumentException if {@code capacity < 0}
+	 */
+	public static IntVec withCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Error: capacity must be >= 0, was " + capacity);
+		}
+		return new IntVec(capacity == 0 ? EMPTY : new int[capacity], 0);
+	}
+
+	/**
+	 * @param values the elements, copied
+	 * @return an {@code IntVec} holding {@code values}
+	 */
+	public static IntVec of(int... values) {
+		return new IntVec(values.clone(), values.length);
+	}
+
+	/// CAPACITY
+
+	/**
+	 * @return the number of elements
+	 */
+	public int len() {
+		return len;
+	}
+
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	/**
+	 * @return the number of elements that fit without reallocating
+	 */
+	public int capacity() {
+		return data.length;
+	}
+
+	/**
+	 * Makes room for at least {@code additional} more elements.
+	 *
+	 * @throws IllegalArgumentException if {@code additional < 0}
+	 * @throws OutOfMemoryError         if the capacity would exceed the maximum array length
+	 */
+	public void reserve(int additional) {
+		if (additional < 0) {
+			throw new IllegalArgumentException("Error: additional must be >= 0, was " + additional);
+		}
+		if (additional > data.length - len) {
+			grow(additional);
+		}
+	}
+
+	/**
+	 * Reallocates to exactly {@link #len()} elements.
+	 */
+	public void shrinkToFit() {
+		if (len < data.length) {
+			data = len == 0 ? EMPTY : Arrays.copyOf(data, len);
+		}
+	}
+
+	/// ACCESS
+
+	/**
+	 * @return <code>Ok(element)</code>, or <code>Err(NOT_FOUND)</code> if {@code index} is out
+	 * of {@code [0, len())}. Neither allocates.
+	 */
+	public IntResult<ErrorKind> get(int index) {
+		if (index >= 0 && index < len) {
+			return IntResult.ok(data[index]);
+		}
+		return IntResult.errKind(ErrorKind.NOT_FOUND);
+	}
+
+	/**
+	 * The fast path of {@link #get(int)}: no check against {@link #len()}, only the array bounds
+	 * check of the JVM. An index in {@code [len(), capacity())} returns a stale or {@code 0}
+	 * value instead of failing.
+	 *
+	 * @throws ArrayIndexOutOfBoundsException if {@code index} is out of {@code [0, capacity())}
+	 */
+	public int getUnchecked(int index) {
+		return data[index];
+	}
+
+	/**
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if {@code index} is out of {@code [0, len())}
+	 */
+	public int set(int index, int value) {
+		Objects.checkIndex(index, len);
+		var old = data[index];
+		data[index] = value;
+		return old;
+	}
+
+	/// MODIFICATION
+
+	public void push(int value) {
+		if (len == data.length) {
+			grow(1);
+		}
+		data[len++] = value;
+	}
+
+	/**
+	 * @return <code>Ok(last element)</code>, removing it, or <code>Err(NOT_FOUND)</code> if empty
+	 */
+	public IntResult<ErrorKind> pop() {
+		if (len == 0) {
+			return IntResult.errKind(ErrorKind.NOT_FOUND);
+		}
+		return IntResult.ok(data[--len]);
+	}
+
+	/**
+	 * Keeps the first {@code newLen} elements; does nothing if there are not more. The capacity
+	 * is unchanged.
+	 *
+	 * @throws IllegalArgumentException if {@code newLen < 0}
+	 */
+	public void truncate(int newLen) {
+		if (newLen < 0) {
+			throw new IllegalArgumentException("Error: length must be >= 0, was " + newLen);
+		}
+		len = Math.min(len, newLen);
+	}
+
+	/**
+	 * Removes every element. The capacity is unchanged.
+	 */
+	public void clear() {
+		len = 0;
+	}
+
+	/**
+	 * @param values appended in order
+	 */
+	public void extend(int[] values) {
+		extend(values, 0, values.length);
+	}
+
+	/**
+	 * @param values appended in order from index {@code from}, inclusive, to {@code to},
+	 *               exclusive
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public void extend(int[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		int n = to - from;
+		reserve(n);
+		System.arraycopy(values, from, data, len, n);
+		len += n;
+	}
+
+	/**
+	 * @param values appended in order; may be a slice of this {@code IntVec}
+	 */
+	public void extend(IntSlice values) {
+		extend(values.array(), values.offset(), values.offset() + values.len());
+	}
+
+	/**
+	 * Parses every cell of {@code column} straight into this {@code IntVec}, the same way as
+	 * {@link ColumnParser#parseInts(List)}. A cell that fails is appended as {@code 0}.
+	 *
+	 * @param column the cells
+	 * @return the failed cells, with indices relative to {@code column}
+	 */
+	public ParseReport extendParsed(List<? extends CharSequence> column) {
+		return extendParsed(column, null);
+	}
+
+	/**
+	 * Like {@link #extendParsed(List)}, but parses chunks of {@code column} in parallel on
+	 * {@code pool}.
+	 *
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the failed cells, with indices relative to {@code column}
+	 */
+	public ParseReport extendParsed(List<? extends CharSequence> column, ForkJoinPool pool) {
+		int n = column.size();
+		reserve(n);
+		// truncate() and pop() leave stale values behind, failed cells must read as 0
+		Arrays.fill(data, len, len + n, 0);
+		var report = ColumnParser.parseIntsInto(column, data, len, pool);
+		len += n;
+		return report;
+	}
+
+	/**
+	 * Parses {@code s[start..end)} with {@link FromString#parseIntPrimitive(CharSequence, int, int)}
+	 * and appends the value if it parsed.
+	 *
+	 * @return the result of the parse; nothing is appended if it is an <code>Err</code>
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public IntResult<ErrorKind> pushParsed(CharSequence s, int start, int end) {
+		var res = FromString.parseIntPrimitive(s, start, end);
+		if (res.isOk()) {
+			push(res.unwrap());
+		}
+		return res;
+	}
+
+	/// SLICES
+
+	/**
+	 * @return a view of every element
+	 * @see #slice(int, int)
+	 */
+	public IntSlice asSlice() {
+		return new IntSlice(data, 0, len);
+	}
+
+	/**
+	 * A view of {@code [from, to)} that shares this {@code IntVec}'s array: writes through either
+	 * are seen by both, and nothing is copied. A push that reallocates detaches the vector from
+	 * the slices taken before, which keep seeing the old array.
+	 *
+	 * @throws IndexOutOfBoundsException if the range is out of {@code [0, len()]}
+	 */
+	public IntSlice slice(int from, int to) {
+		Objects.checkFromToIndex(from, to, len);
+		return new IntSlice(data, from, to - from);
+	}
+
+	/// ALGORITHMS
+
+	/**
+	 * Sorts the elements in ascending order.
+	 *
+	 * @see Arrays#sort(int[], int, int)
+	 */
+	public void sort() {
+		Arrays.sort(data, 0, len);
+	}
+
+	/**
+	 * Like {@link #sort()}, on the common pool for large vectors.
+	 *
+	 * @see Arrays#parallelSort(int[], int, int)
+	 */
+	public void parallelSort() {
+		Arrays.parallelSort(data, 0, len);
+	}
+
+	/**
+	 * Searches a sorted {@code IntVec}, like Rust's {@code binary_search}.
+	 *
+	 * @return <code>Ok(index)</code> of a matching element, or <code>Err(index)</code> where
+	 * {@code value} could be inserted keeping the order. Unspecified if not sorted.
+	 */
+	public IntResult<Integer> binarySearch(int value) {
+		return asSlice().binarySearch(value);
+	}
+
+	/**
+	 * @return an {@code IntIter} over the elements, without copying them
+	 */
+	public IntIter iter() {
+		return IntIter.from(data, 0, len);
+	}
+
+	/**
+	 * @return a new array holding the elements
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(data, len);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof IntVec other) {
+			return Arrays.equals(data, 0, len, other.data, 0, other.len);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return asSlice().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return asSlice().toString();
+	}
+
+	/// PRIVATE
+
+	private void grow(int additional) {
+		int min = len + additional;
+		if (min < 0 || min > MAX_CAPACITY) {
+			throw new OutOfMemoryError(
+					"Required array length " + len + " + " + additional + " is too large"
+			);
+		}
+		int old = data.length;
+		int capacity = old + Math.max(old >> 1, 8);
+		if (capacity < 0 || capacity > MAX_CAPACITY) {
+			capacity = MAX_CAPACITY;
+		}
+		data = Arrays.copyOf(data, Math.max(capacity, min));
+	}
+}
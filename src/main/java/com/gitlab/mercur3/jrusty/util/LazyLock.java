@@ -0,0 +1,102 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Representation of Rust's {@code std::sync::LazyLock}: a value computed by its initializer on
+ * first access, safely shared between threads.
+ *
+ * {@snippet :
+ * private static final LazyLock<Pattern> EMAIL = LazyLock.of(() -> Pattern.compile("[^@]+@[^@]+"));
+ *
+ * boolean isEmail(String s) {
+ *     return EMAIL.get().matcher(s).matches();
+ * }
+ * }
+ *
+ * <p>
+ * It costs the same as a {@link OnceLock}: an acquire load once initialized, and one initializer
+ * run at a time before. The initializer is dropped once it has run, releasing what it captured.
+ * If it throws, the exception reaches the caller and the next {@link #get()} runs it again; Rust
+ * would poison the lock instead.
+ * </p>
+ *
+ * @param <T> the type of the value
+ * @see OnceLock
+ * @see <a href="https://doc.rust-lang.org/std/sync/struct.LazyLock.html"><code>std::sync::LazyLock</code></a>
+ */
+public final class LazyLock<T> {
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(LazyLock.class, "value", Object.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private Supplier<T> init;
+	@SuppressWarnings("unused")
+	private T value;
+
+	private LazyLock(Supplier<T> init) {
+		this.init = init;
+	}
+
+	/**
+	 * @param init computes the value on first access; must not return {@code null}
+	 */
+	public static <T> LazyLock<T> of(Supplier<T> init) {
+		return new LazyLock<>(Objects.requireNonNull(init));
+	}
+
+	/**
+	 * @return the value, computing it first if needed
+	 * @throws NullPointerException  if the initializer returns {@code null}
+	 * @throws IllegalStateException if the initializer reads this {@code LazyLock}
+	 */
+	@SuppressWarnings("unchecked")
+	public T get() {
+		var v = (T) VALUE.getAcquire(this);
+		if (v != null) {
+			return v;
+		}
+		return initSlow();
+	}
+
+	/**
+	 * @return whether the value has been computed, without computing it
+	 */
+	public boolean isInitialized() {
+		return VALUE.getAcquire(this) != null;
+	}
+
+	/// PRIVATE
+
+	@SuppressWarnings("unchecked")
+	private T initSlow() {
+		if (lock.isHeldByCurrentThread()) {
+			throw new IllegalStateException("Trying to access a =LazyLock= from its own initializer");
+		}
+		lock.lock();
+		try {
+			var v = (T) VALUE.getAcquire(this);
+			if (v == null) {
+				v = Objects.requireNonNull(init.get());
+				VALUE.setRelease(this, v);
+				init = null;
+			}
+			return v;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+
+/**
+ * A line of a file that failed to parse.
+ *
+ * @param line   0-based line number
+ * @param offset byte offset of the first character of the line
+ * @param kind   why it failed
+ * @see MappedLongReader
+ */
+public record LineError(long line, long offset, ErrorKind kind) {}
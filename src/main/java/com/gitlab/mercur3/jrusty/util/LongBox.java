@@ -0,0 +1,194 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * An {@link AtomicBox} for a {@code long}, without boxing. {@link #empty()} starts at {@code 0}, the
+ * primitive counterpart of {@code null}.
+ *
+ * @see AtomicBox
+ * @see AdderBox
+ */
+public final class LongBox {
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(LongBox.class, "value", long.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	@SuppressWarnings("unused")
+	private long value;
+
+	private LongBox(long value) {
+		this.value = value;
+	}
+
+	/**
+	 * Create a {@code LongBox} with the inner value set to {@code 0}
+	 */
+	public static LongBox empty() {
+		return new LongBox(0L);
+	}
+
+	/**
+	 * Create a {@code LongBox} with the given default {@code value}
+	 */
+	public static LongBox withDefault(long value) {
+		return new LongBox(value);
+	}
+
+	/**
+	 * @return the value, with volatile semantics
+	 */
+	public long get() {
+		return (long) VALUE.getVolatile(this);
+	}
+
+	/**
+	 * @param value the new value, set with volatile semantics
+	 */
+	public void set(long value) {
+		VALUE.setVolatile(this, value);
+	}
+
+	/**
+	 * @see AtomicBox#getAcquire()
+	 */
+	public long getAcquire() {
+		return (long) VALUE.getAcquire(this);
+	}
+
+	/**
+	 * @see AtomicBox#setRelease(Object)
+	 */
+	public void setRelease(long value) {
+		VALUE.setRelease(this, value);
+	}
+
+	/**
+	 * @see AtomicBox#getOpaque()
+	 */
+	public long getOpaque() {
+		return (long) VALUE.getOpaque(this);
+	}
+
+	/**
+	 * @see AtomicBox#setOpaque(Object)
+	 */
+	public void setOpaque(long value) {
+		VALUE.setOpaque(this, value);
+	}
+
+	/**
+	 * @param value the new value
+	 * @return the previous value
+	 */
+	public long getAndSet(long value) {
+		return (long) VALUE.getAndSet(this, value);
+	}
+
+	/**
+	 * @param expected the value expected
+	 * @param value    the new value
+	 * @return {@code true} if the value was {@code expected} and is now {@code value}
+	 */
+	public boolean compareAndSet(long expected, long value) {
+		return VALUE.compareAndSet(this, expected, value);
+	}
+
+	/**
+	 * @see AtomicBox#weakCompareAndSet(Object, Object)
+	 */
+	public boolean weakCompareAndSet(long expected, long value) {
+		return VALUE.weakCompareAndSet(this, expected, value);
+	}
+
+	/**
+	 * @param delta the value to add
+	 * @return the value before the addition
+	 */
+	public long getAndAdd(long delta) {
+		return (long) VALUE.getAndAdd(this, delta);
+	}
+
+	/**
+	 * @param delta the value to add
+	 * @return the value after the addition
+	 */
+	public long addAndGet(long delta) {
+		return (long) VALUE.getAndAdd(this, delta) + delta;
+	}
+
+	/**
+	 * @return the value after incrementing it
+	 */
+	public long incrementAndGet() {
+		return addAndGet(1);
+	}
+
+	/**
+	 * @return the value after decrementing it
+	 */
+	public long decrementAndGet() {
+		return addAndGet(-1);
+	}
+
+	/**
+	 * @param f the update, possibly called several times under contention
+	 * @return the value before the update
+	 */
+	public long getAndUpdate(LongUnaryOperator f) {
+		long prev = get();
+		while (true) {
+			long witness = compareAndExchange(prev, f.applyAsLong(prev));
+			if (witness == prev) {
+				return prev;
+			}
+			prev = witness;
+		}
+	}
+
+	/**
+	 * @param f the update, possibly called several times under contention
+	 * @return the value after the update
+	 */
+	public long updateAndGet(LongUnaryOperator f) {
+		long prev = get();
+		while (true) {
+			long next = f.applyAsLong(prev);
+			long witness = compareAndExchange(prev, next);
+			if (witness == prev) {
+				return next;
+			}
+			prev = witness;
+		}
+	}
+
+	/**
+	 * @param x the second argument of {@code f}
+	 * @param f combines the current value with {@code x}, possibly called several times
+	 * @return the value after the update
+	 */
+	public long accumulateAndGet(long x, LongBinaryOperator f) {
+		return updateAndGet(prev -> f.applyAsLong(prev, x));
+	}
+
+	@Override
+	public String toString() {
+		return "LongBox[" + get() + "]";
+	}
+
+	/// PRIVATE
+
+	private long compareAndExchange(long expected, long value) {
+		return (long) VALUE.compareAndExchange(this, expected, value);
+	}
+}
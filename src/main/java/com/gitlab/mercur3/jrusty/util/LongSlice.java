@@ -0,0 +1,168 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.iter.LongIter;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Representation of Rust's {@code &mut [i64]}: a fixed-length window into a {@code long[]},
+ * usually from {@link LongVec#slice(int, int)}. Nothing is copied; writes go to the underlying
+ * array.
+ *
+ * @see LongVec
+ */
+public final class LongSlice {
+	private final long[] array;
+	private final int offset;
+	private final int len;
+
+	LongSlice(long[] array, int offset, int len) {
+		this.array = array;
+		this.offset = offset;
+		this.len = len;
+	}
+
+	/**
+	 * @return a view of the whole of {@code array}
+	 */
+	public static LongSlice of(long[] array) {
+		return new LongSlice(array, 0, array.length);
+	}
+
+	/**
+	 * @return the number of elements
+	 */
+	public int len() {
+		return len;
+	}
+
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	/**
+	 * @return <code>Ok(element)</code>, or <code>Err(NOT_FOUND)</code> if {@code index} is out
+	 * of {@code [0, len())}. Neither allocates.
+	 */
+	public LongResult<ErrorKind> get(int index) {
+		if (index >= 0 && index < len) {
+			return LongResult.ok(array[offset + index]);
+		}
+		return LongResult.errKind(ErrorKind.NOT_FOUND);
+	}
+
+	/**
+	 * The fast path of {@link #get(int)}: no check against {@link #len()}, only the array bounds
+	 * check of the JVM, so an index past the end reads the elements after the slice.
+	 */
+	public long getUnchecked(int index) {
+		return array[offset + index];
+	}
+
+	/**
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if {@code index} is out of {@code [0, len())}
+	 */
+	public long set(int index, long value) {
+		Objects.checkIndex(index, len);
+		var old = array[offset + index];
+		array[offset + index] = value;
+		return old;
+	}
+
+	/**
+	 * @return a view of {@code [from, to)} of this slice, sharing its array
+	 * @throws IndexOutOfBoundsException if the range is out of {@code [0, len()]}
+	 */
+	public LongSlice slice(int from, int to) {
+		Objects.checkFromToIndex(from, to, len);
+		return new LongSlice(array, offset + from, to - from);
+	}
+
+	/**
+	 * Sorts the elements in ascending order, in place.
+	 */
+	public void sort() {
+		Arrays.sort(array, offset, offset + len);
+	}
+
+	/**
+	 * Searches a sorted slice, like Rust's {@code binary_search}.
+	 *
+	 * @return <code>Ok(index)</code> of a matching element, or <code>Err(index)</code> where
+	 * {@code value} could be inserted keeping the order. Unspecified if not sorted.
+	 */
+	public IntResult<Integer> binarySearch(long value) {
+		int i = Arrays.binarySearch(array, offset, offset + len, value);
+		if (i >= 0) {
+			return IntResult.ok(i - offset);
+		}
+		return IntResult.err(-(i + 1) - offset);
+	}
+
+	/**
+	 * @return an {@code LongIter} over the elements, without copying them
+	 */
+	public LongIter iter() {
+		return LongIter.from(array, offset, offset + len);
+	}
+
+	/**
+	 * @return a new array holding the elements
+	 */
+	public long[] toArray() {
+		return Arrays.copyOfRange(array, offset, offset + len);
+	}
+
+	/**
+	 * 2 slices are equal if they hold the same elements, wherever they are.
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof LongSlice other) {
+			return Arrays.equals(
+					array, offset, offset + len,
+					other.array, other.offset, other.offset + other.len
+			);
+		}
+		return false;
+	}
+
+	/**
+	 * @return the same hash as {@link Arrays#hashCode(long[])} of {@link #toArray()}
+	 */
+	@Override
+	public int hashCode() {
+		int h = 1;
+		for (int i = offset, end = offset + len; i < end; i++) {
+			h = 31 * h + Long.hashCode(array[i]);
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder(2 + len * 3).append('[');
+		for (int i = 0; i < len; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(array[offset + i]);
+		}
+		return sb.append(']').toString();
+	}
+
+	/// PACKAGE
+
+	long[] array() {
+		return array;
+	}
+
+	int offset() {
+		return offset;
+	}
+}
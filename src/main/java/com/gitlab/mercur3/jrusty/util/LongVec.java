@@ -0,0 +1,367 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.iter.LongIter;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Representation of Rust's {@code Vec<i64>}: a growable array of unboxed {@code long}s. Where an
+ * {@code ArrayList<Long>} costs a reference plus a {@code Long} object per element, this costs
+ * {@value #BYTES} bytes per element of capacity, and the GC sees a single array.
+ *
+ * {@snippet :
+ * var column = LongVec.withCapacity(lines.size());
+ * var report = column.extendParsed(lines);   // no object per cell
+ * column.sort();
+ * column.get(0);                             // Ok(smallest) or Err(NOT_FOUND) if empty
+ * }
+ *
+ * <p>
+ * Capacity grows by half when full. {@link #withCapacity(int)} and {@link #reserve(int)} avoid the
+ * copies when the size is known, {@link #shrinkToFit()} releases the slack afterwards.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe.
+ * </p>
+ *
+ * @see LongSlice
+ * @see <a href="https://doc.rust-lang.org/std/vec/struct.Vec.html"><code>std::vec::Vec</code></a>
+ */
+public final class LongVec {
+	static final int BYTES = Long.BYTES;
+	/** Some VMs reserve header words in arrays, see {@code jdk.internal.util.ArraysSupport} */
+	private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+	private static final long[] EMPTY = {};
+
+	private long[] data;
+	private int len;
+
+	private LongVec(long[] data, int len) {
+		this.data = data;
+		this.len = len;
+	}
+
+	/**
+	 * @return an empty {@code LongVec}; it does not allocate until the first push
+	 */
+	public static LongVec empty() {
+		return new LongVec(EMPTY, 0);
+	}
+
+	/**
+	 * @param capacity the number of elements that fit before the first reallocation
+	 * @return an empty {@code LongVec}
+	 * @throws IllegalArgumentException if {@code capacity < 0}
+	 */
+	public static LongVec withCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Error: capacity must be >= 0, was " + capacity);
+		}
+		return new LongVec(capacity == 0 ? EMPTY : new long[capacity], 0);
+	}
+
+	/**
+	 * @param values the elements, copied
+	 * @return a {@code LongVec} holding {@code values}
+	 */
+	public static LongVec of(long... values) {
+		return new LongVec(values.clone(), values.length);
+	}
+
+	/// CAPACITY
+
+	/**
+	 * @return the number of elements
+	 */
+	public int len() {
+		return len;
+	}
+
+	public boolean isEmpty() {
+		return len == 0;
+	}
+
+	/**
+	 * @return the number of elements that fit without reallocating
+	 */
+	public int capacity() {
+		return data.length;
+	}
+
+	/**
+	 * Makes room for at least {@code additional} more elements.
+	 *
+	 * @throws IllegalArgumentException if {@code additional < 0}
+	 * @throws OutOfMemoryError         if the capacity would exceed the maximum array length
+	 */
+	public void reserve(int additional) {
+		if (additional < 0) {
+			throw new IllegalArgumentException("Error: additional must be >= 0, was " + additional);
+		}
+		if (additional > data.length - len) {
+			grow(additional);
+		}
+	}
+
+	/**
+	 * Reallocates to exactly {@link #len()} elements.
+	 */
+	public void shrinkToFit() {
+		if (len < data.length) {
+			data = len == 0 ? EMPTY : Arrays.copyOf(data, len);
+		}
+	}
+
+	/// ACCESS
+
+	/**
+	 * @return <code>Ok(element)</code>, or <code>Err(NOT_FOUND)</code> if {@code index} is out
+	 * of {@code [0, len())}. Neither allocates.
+	 */
+	public LongResult<ErrorKind> get(int index) {
+		if (index >= 0 && index < len) {
+			return LongResult.ok(data[index]);
+		}
+		return LongResult.errKind(ErrorKind.NOT_FOUND);
+	}
+
+	/**
+	 * The fast path of {@link #get(int)}: no check against {@link #len()}, only the array bounds
+	 * check of the JVM. An index in {@code [len(), capacity())} returns a stale or {@code 0}
+	 * value instead of failing.
+	 *
+	 * @throws ArrayIndexOutOfBoundsException if {@code index} is out of {@code [0, capacity())}
+	 */
+	public long getUnchecked(int index) {
+		return data[index];
+	}
+
+	/**
+	 * @return the previous element
+	 * @throws IndexOutOfBoundsException if {@code index} is out of {@code [0, len())}
+	 */
+	public long set(int index, long value) {
+		Objects.checkIndex(index, len);
+		var old = data[index];
+		data[index] = value;
+		return old;
+	}
+
+	/// MODIFICATION
+
+	public void push(long value) {
+		if (len == data.length) {
+			grow(1);
+		}
+		data[len++] = value;
+	}
+
+	/**
+	 * @return <code>Ok(last element)</code>, removing it, or <code>Err(NOT_FOUND)</code> if empty
+	 */
+	public LongResult<ErrorKind> pop() {
+		if (len == 0) {
+			return LongResult.errKind(ErrorKind.NOT_FOUND);
+		}
+		return LongResult.ok(data[--len]);
+	}
+
+	/**
+	 * Keeps the first {@code newLen} elements; does nothing if there are not more. The capacity
+	 * is unchanged.
+	 *
+	 * @throws IllegalArgumentException if {@code newLen < 0}
+	 */
+	public void truncate(int newLen) {
+		if (newLen < 0) {
+			throw new IllegalArgumentException("Error: length must be >= 0, was " + newLen);
+		}
+		len = Math.min(len, newLen);
+	}
+
+	/**
+	 * Removes every element. The capacity is unchanged.
+	 */
+	public void clear() {
+		len = 0;
+	}
+
+	/**
+	 * @param values appended in order
+	 */
+	public void extend(long[] values) {
+		extend(values, 0, values.length);
+	}
+
+	/**
+	 * @param values appended in order from index {@code from}, inclusive, to {@code to},
+	 *               exclusive
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public void extend(long[] values, int from, int to) {
+		Objects.checkFromToIndex(from, to, values.length);
+		int n = to - from;
+		reserve(n);
+		System.arraycopy(values, from, data, len, n);
+		len += n;
+	}
+
+	/**
+	 * @param values appended in order; may be a slice of this {@code LongVec}
+	 */
+	public void extend(LongSlice values) {
+		extend(values.array(), values.offset(), values.offset() + values.len());
+	}
+
+	/**
+	 * Parses every cell of {@code column} straight into this {@code LongVec}, the same way as
+	 * {@link ColumnParser#parseLongs(List)}. A cell that fails is appended as {@code 0}.
+	 *
+	 * @param column the cells
+	 * @return the failed cells, with indices relative to {@code column}
+	 */
+	public ParseReport extendParsed(List<? extends CharSequence> column) {
+		return extendParsed(column, null);
+	}
+
+	/**
+	 * Like {@link #extendParsed(List)}, but parses chunks of {@code column} in parallel on
+	 * {@code pool}.
+	 *
+	 * @param column the cells
+	 * @param pool   the pool the chunks are parsed on
+	 * @return the failed cells, with indices relative to {@code column}
+	 */
+	public ParseReport extendParsed(List<? extends CharSequence> column, ForkJoinPool pool) {
+		int n = column.size();
+		reserve(n);
+		// truncate() and pop() leave stale values behind, failed cells must read as 0
+		Arrays.fill(data, len, len + n, 0);
+		var report = ColumnParser.parseLongsInto(column, data, len, pool);
+		len += n;
+		return report;
+	}
+
+	/**
+	 * Parses {@code s[start..end)} with {@link FromString#parseLongPrimitive(CharSequence, int, int)}
+	 * and appends the value if it parsed.
+	 *
+	 * @return the result of the parse; nothing is appended if it is an <code>Err</code>
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public LongResult<ErrorKind> pushParsed(CharSequence s, int start, int end) {
+		var res = FromString.parseLongPrimitive(s, start, end);
+		if (res.isOk()) {
+			push(res.unwrap());
+		}
+		return res;
+	}
+
+	/// SLICES
+
+	/**
+	 * @return a view of every element
+	 * @see #slice(int, int)
+	 */
+	public LongSlice asSlice() {
+		return new LongSlice(data, 0, len);
+	}
+
+	/**
+	 * A view of {@code [from, to)} that shares this {@code LongVec}'s array: writes through either
+	 * are seen by both, and nothing is copied. A push that reallocates detaches the vector from
+	 * the slices taken before, which keep seeing the old array.
+	 *
+	 * @throws IndexOutOfBoundsException if the range is out of {@code [0, len()]}
+	 */
+	public LongSlice slice(int from, int to) {
+		Objects.checkFromToIndex(from, to, len);
+		return new LongSlice(data, from, to - from);
+	}
+
+	/// ALGORITHMS
+
+	/**
+	 * Sorts the elements in ascending order.
+	 *
+	 * @see Arrays#sort(long[], int, int)
+	 */
+	public void sort() {
+		Arrays.sort(data, 0, len);
+	}
+
+	/**
+	 * Like {@link #sort()}, on the common pool for large vectors.
+	 *
+	 * @see Arrays#parallelSort(long[], int, int)
+	 */
+	public void parallelSort() {
+		Arrays.parallelSort(data, 0, len);
+	}
+
+	/**
+	 * Searches a sorted {@code LongVec}, like Rust's {@code binary_search}.
+	 *
+	 * @return <code>Ok(index)</code> of a matching element, or <code>Err(index)</code> where
+	 * {@code value} could be inserted keeping the order. Unspecified if not sorted.
+	 */
+	public IntResult<Integer> binarySearch(long value) {
+		return asSlice().binarySearch(value);
+	}
+
+	/**
+	 * @return an {@code LongIter} over the elements, without copying them
+	 */
+	public LongIter iter() {
+		return LongIter.from(data, 0, len);
+	}
+
+	/**
+	 * @return a new array holding the elements
+	 */
+	public long[] toArray() {
+		return Arrays.copyOf(data, len);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o instanceof LongVec other) {
+			return Arrays.equals(data, 0, len, other.data, 0, other.len);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return asSlice().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return asSlice().toString();
+	}
+
+	/// PRIVATE
+
+	private void grow(int additional) {
+		int min = len + additional;
+		if (min < 0 || min > MAX_CAPACITY) {
+			throw new OutOfMemoryError(
+					"Required array length " + len + " + " + additional + " is too large"
+			);
+		}
+		int old = data.length;
+		int capacity = old + Math.max(old >> 1, 8);
+		if (capacity < 0 || capacity > MAX_CAPACITY) {
+			capacity = MAX_CAPACITY;
+		}
+		data = Arrays.copyOf(data, Math.max(capacity, min));
+	}
+}
@@ -0,0 +1,512 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.io.IoErrors;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reads a newline delimited file of base 10 {@code long}s by memory mapping it and scanning the
+ * mapped bytes directly, without creating a {@code String} per line. A trailing {@code '\r'} is
+ * ignored, and an empty line is a {@code FORMAT_ERROR}.
+ *
+ * <ul>
+ *     <li>{@link #cursor()} walks the file one line at a time, mapping a bounded window of it.</li>
+ *     <li>{@link #readAll(ForkJoinPool)} splits the file at line boundaries and parses the parts
+ *     in parallel.</li>
+ * </ul>
+ *
+ * {@snippet :
+ * try (var reader = MappedLongReader.open(path).expect("cannot open")) {
+ *     var cursor = reader.cursor();
+ *     while (cursor.next()) {
+ *         if (cursor.isOk()) {
+ *             sum += cursor.value();
+ *         }
+ *     }
+ * }
+ * }
+ *
+ * <p>
+ * Mapped regions are released by the garbage collector, not by {@link #close()}.
+ * </p>
+ */
+public final class MappedLongReader implements AutoCloseable {
+	/** Bytes mapped at once by a {@code Cursor}, and the largest part of {@code readAll} */
+	static final int WINDOW = 1 << 26;
+	/** {@code readAll} does not split parts smaller than this */
+	private static final long MIN_PART = 1 << 20;
+
+	private final FileChannel channel;
+	private final long size;
+	private final int window;
+
+	private MappedLongReader(FileChannel channel, long size, int window) {
+		this.channel = channel;
+		this.size = size;
+		this.window = window;
+	}
+
+	/**
+	 * @param path the file
+	 * @return the reader, <code>NOT_FOUND</code>, <code>PERMISSION_DENIED</code> or
+	 * <code>IO_ERROR</code>
+	 */
+	public static Result<MappedLongReader, ErrorKind> open(Path path) {
+		return open(path, WINDOW);
+	}
+
+	static Result<MappedLongReader, ErrorKind> open(Path path, int window) {
+		try {
+			var channel = FileChannel.open(path, StandardOpenOption.READ);
+			return new Ok<>(new MappedLongReader(channel, channel.size(), window));
+		}
+		catch (IOException e) {
+			return Result.errKind(IoErrors.kind(e));
+		}
+	}
+
+	/**
+	 * @return the size of the file in bytes
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * @return a new cursor positioned before the first line
+	 */
+	public Cursor cursor() {
+		return new Cursor();
+	}
+
+	/**
+	 * Parses the whole file in parallel: the file is split into parts at line boundaries, the
+	 * lines of every part are counted, then every part is parsed straight into its slice of the
+	 * output.
+	 *
+	 * @param pool the pool the parts are parsed on
+	 * @return one value per line, {@code 0} for the lines listed in the errors;
+	 * <code>IO_ERROR</code> if the file cannot be read or <code>OVERFLOW</code> if it has more
+	 * lines than fit in an array
+	 */
+	public Result<ParsedLines, ErrorKind> readAll(ForkJoinPool pool) {
+		try {
+			var parts = split(pool.getParallelism());
+			invokeAll(pool, parts, Part::count);
+
+			long total = 0;
+			for (var part : parts) {
+				part.firstLine = total;
+				total += part.lines;
+			}
+			if (total > Integer.MAX_VALUE - 8) {
+				return Result.errKind(ErrorKind.OVERFLOW);
+			}
+
+			var values = new long[(int) total];
+			invokeAll(pool, parts, part -> part.parse(values));
+
+			var errors = new ArrayList<LineError>();
+			for (var part : parts) {
+				errors.addAll(part.errors);
+			}
+			return new Ok<>(new ParsedLines(values, errors));
+		}
+		catch (IOException e) {
+			return Result.errKind(IoErrors.kind(e));
+		}
+	}
+
+	/**
+	 * Closes the file. Already mapped regions stay readable until they are garbage collected.
+	 */
+	@Override
+	public void close() {
+		try {
+			channel.close();
+		}
+		catch (IOException ignored) {
+			// nothing left to release
+		}
+	}
+
+	/**
+	 * The values of a file, one per line.
+	 *
+	 * @param values the parsed lines, {@code 0} for failed ones
+	 * @param errors the failed lines, in file order
+	 */
+	public record ParsedLines(long[] values, List<LineError> errors) {}
+
+	/**
+	 * Walks the lines of the file, holding at most one mapped window at a time.
+	 */
+	public final class Cursor {
+		private ByteBuffer buf;
+		private long bufStart;
+		private int pos;
+
+		private long line = -1;
+		private long offset;
+		private long value;
+		private ErrorKind error;
+		private boolean done;
+
+		private Cursor() {}
+
+		/**
+		 * Moves to the next line. A failure to map the file ends the walk with one last
+		 * <code>IO_ERROR</code> line.
+		 *
+		 * @return {@code false} if there are no more lines
+		 */
+		public boolean next() {
+			if (done) {
+				return false;
+			}
+			long start = position();
+			if (start >= size) {
+				done = true;
+				return false;
+			}
+			line++;
+			offset = start;
+
+			if (buf == null || pos >= buf.limit()) {
+				if (!map(start)) {
+					return true;
+				}
+			}
+			int nl = indexOfNewline(buf, pos);
+			if (nl < 0 && !windowReachesEnd()) {
+				// the line crosses the end of the window, move the window to its start
+				if (!map(start)) {
+					return true;
+				}
+				nl = indexOfNewline(buf, pos);
+				if (nl < 0 && !windowReachesEnd()) {
+					// longer than a window, certainly not a number
+					error = ErrorKind.FORMAT_ERROR;
+					skipLine();
+					return true;
+				}
+			}
+
+			int end = nl < 0 ? buf.limit() : nl;
+			parse(buf, pos, end);
+			pos = nl < 0 ? end : nl + 1;
+			return true;
+		}
+
+		/**
+		 * @return {@code true} if the current line is a valid {@code long}
+		 */
+		public boolean isOk() {
+			return error == null;
+		}
+
+		/**
+		 * @return the value of the current line, {@code 0} if it failed
+		 */
+		public long value() {
+			return value;
+		}
+
+		/**
+		 * @return why the current line failed, {@code null} if it did not
+		 */
+		public ErrorKind error() {
+			return error;
+		}
+
+		/**
+		 * @return the current line as a {@code LineError}, {@code null} if it did not fail
+		 */
+		public LineError lineError() {
+			return error == null ? null : new LineError(line, offset, error);
+		}
+
+		/**
+		 * @return the 0-based number of the current line
+		 */
+		public long line() {
+			return line;
+		}
+
+		/**
+		 * @return the byte offset of the first character of the current line
+		 */
+		public long offset() {
+			return offset;
+		}
+
+		/// PRIVATE
+
+		private long position() {
+			return buf == null ? 0 : bufStart + pos;
+		}
+
+		private boolean windowReachesEnd() {
+			return bufStart + buf.limit() >= size;
+		}
+
+		private boolean map(long start) {
+			try {
+				buf = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(window, size - start));
+				bufStart = start;
+				pos = 0;
+				return true;
+			}
+			catch (IOException e) {
+				value = 0;
+				error = ErrorKind.IO_ERROR;
+				done = true;
+				return false;
+			}
+		}
+
+		private void skipLine() {
+			value = 0;
+			while (!windowReachesEnd()) {
+				if (!map(bufStart + buf.limit())) {
+					return;
+				}
+				int nl = indexOfNewline(buf, 0);
+				if (nl >= 0) {
+					pos = nl + 1;
+					return;
+				}
+			}
+			pos = buf.limit();
+		}
+
+		private void parse(ByteBuffer b, int start, int end) {
+			if (end > start && b.get(end - 1) == '\r') {
+				end--;
+			}
+			value = Digits.scanLong(b, start, end, 10);
+			error = null;
+			if (value == Long.MIN_VALUE) {
+				error = Digits.longError(b, start, end, 10);
+				if (error != null) {
+					value = 0;
+				}
+			}
+		}
+	}
+
+	/// PRIVATE
+
+	@FunctionalInterface
+	private interface PartTask {
+		void run(Part part) throws IOException;
+	}
+
+	/**
+	 * A range of whole lines {@code [start, end)} of the file.
+	 */
+	private final class Part {
+		final long start;
+		final long end;
+		/** A single line longer than a window, certainly not a number, and never mapped */
+		final boolean tooLong;
+		int lines;
+		long firstLine;
+		final List<LineError> errors = new ArrayList<>();
+
+		Part(long start, long end, boolean tooLong) {
+			this.start = start;
+			this.end = end;
+			this.tooLong = tooLong;
+		}
+
+		void count() throws IOException {
+			if (tooLong) {
+				lines = 1;
+				return;
+			}
+			var b = map();
+			int n = 0;
+			for (int i = 0, limit = b.limit(); i < limit; i++) {
+				if (b.get(i) == '\n') {
+					n++;
+				}
+			}
+			if (b.limit() > 0 && b.get(b.limit() - 1) != '\n') {
+				n++;
+			}
+			lines = n;
+		}
+
+		void parse(long[] values) throws IOException {
+			if (tooLong) {
+				// like the cursor, which does not map it either
+				errors.add(new LineError(firstLine, start, ErrorKind.FORMAT_ERROR));
+				values[(int) firstLine] = 0;
+				return;
+			}
+			var b = map();
+			int pos = 0;
+			int limit = b.limit();
+			for (int k = 0; k < lines; k++) {
+				int nl = indexOfNewline(b, pos);
+				int lineEnd = nl < 0 ? limit : nl;
+				int stop = lineEnd > pos && b.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+				long value = Digits.scanLong(b, pos, stop, 10);
+				if (value == Long.MIN_VALUE) {
+					var err = Digits.longError(b, pos, stop, 10);
+					if (err != null) {
+						errors.add(new LineError(firstLine + k, start + pos, err));
+						value = 0;
+					}
+				}
+				values[(int) (firstLine + k)] = value;
+				pos = lineEnd + 1;
+			}
+		}
+
+		private MappedByteBuffer map() throws IOException {
+			return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		}
+	}
+
+	/**
+	 * Splits the file into about {@code 4 * parallelism} parts of whole lines, each at most
+	 * {@code window} plus the rest of its last line. A line longer than {@code window} gets a part
+	 * of its own, which is never mapped: it could exceed what a single mapping holds.
+	 */
+	private List<Part> split(int parallelism) throws IOException {
+		long target = Math.max(MIN_PART, size / (4L * parallelism));
+		target = Math.min(target, window);
+
+		var parts = new ArrayList<Part>();
+		long start = 0;
+		while (start < size) {
+			long end = start + target >= size ? size : nextLineStart(start + target);
+			// where the last line starts, only looked up when it may be longer than a window
+			long last = end - start > window ? lineStartBefore(start, start + target) : end;
+			if (end - last > window) {
+				if (last > start) {
+					parts.add(new Part(start, last, false));
+				}
+				parts.add(new Part(last, end, true));
+			}
+			else {
+				parts.add(new Part(start, end, false));
+			}
+			start = end;
+		}
+		return parts;
+	}
+
+	/**
+	 * @return the offset following the first {@code '\n'} at or after {@code from}, or the size
+	 * of the file
+	 */
+	private long nextLineStart(long from) throws IOException {
+		var chunk = ByteBuffer.allocate(8192);
+		long at = from;
+		while (at < size) {
+			chunk.clear();
+			int n = channel.read(chunk, at);
+			if (n <= 0) {
+				break;
+			}
+			int nl = indexOfNewline(chunk, 0, n);
+			if (nl >= 0) {
+				return at + nl + 1;
+			}
+			at += n;
+		}
+		return size;
+	}
+
+	/**
+	 * @return the offset following the last {@code '\n'} in {@code [from, to)}, or {@code from}
+	 */
+	private long lineStartBefore(long from, long to) throws IOException {
+		var chunk = ByteBuffer.allocate(8192);
+		long at = to;
+		while (at > from) {
+			int n = (int) Math.min(chunk.capacity(), at - from);
+			chunk.clear().limit(n);
+			while (chunk.hasRemaining()) {
+				if (channel.read(chunk, at - n + chunk.position()) < 0) {
+					throw new EOFException();
+				}
+			}
+			for (int i = n - 1; i >= 0; i--) {
+				if (chunk.get(i) == '\n') {
+					return at - n + i + 1;
+				}
+			}
+			at -= n;
+		}
+		return from;
+	}
+
+	/**
+	 * Runs {@code task} on every part, rethrowing the first failure as it was thrown.
+	 */
+	private static void invokeAll(ForkJoinPool pool, List<Part> parts, PartTask task)
+			throws IOException {
+		var tasks = new ArrayList<Callable<Void>>(parts.size());
+		for (var part : parts) {
+			tasks.add(() -> {
+				task.run(part);
+				return null;
+			});
+		}
+		for (var future : pool.invokeAll(tasks)) {
+			try {
+				future.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			catch (ExecutionException e) {
+				var cause = e.getCause();
+				if (cause instanceof IOException io) {
+					throw io;
+				}
+				if (cause instanceof RuntimeException r) {
+					throw r;
+				}
+				if (cause instanceof Error err) {
+					throw err;
+				}
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
+	private static int indexOfNewline(ByteBuffer b, int from) {
+		return indexOfNewline(b, from, b.limit());
+	}
+
+	private static int indexOfNewline(ByteBuffer b, int from, int limit) {
+		for (int i = from; i < limit; i++) {
+			if (b.get(i) == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
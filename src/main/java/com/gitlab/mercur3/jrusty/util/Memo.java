@@ -0,0 +1,356 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, concurrent cache in front of a {@code Function<K, Result<V, E>>}. <code>Ok</code>
+ * and <code>Err</code> results have their own time to live, so a <code>NOT_FOUND</code> can be
+ * remembered for a few seconds while a hit is kept for an hour.
+ *
+ * {@snippet :
+ * var users = Memo.of(repository::findUser, 10_000, Duration.ofHours(1), Duration.ofSeconds(5));
+ *
+ * Result<User, ErrorKind> user = users.get(id);   // computed once, then served from the cache
+ * }
+ *
+ * <h2>Loading</h2>
+ * Concurrent misses on the same key compute it once: the first caller runs the function, the
+ * others wait for its result. A result whose time to live is zero is handed to those waiters and
+ * then dropped. An exception thrown by the function reaches every waiter and nothing is cached.
+ *
+ * <h2>Eviction</h2>
+ * Past {@code maximumSize} entries, the least recently used ones are evicted, approximated with
+ * the CLOCK algorithm: a hit only sets a flag on its entry, so reads never take a lock, and
+ * inserting sweeps a hand over the entries, evicting the first one not used since the previous
+ * sweep. Expired entries are dropped when they are next read or swept.
+ *
+ * @param <K> the type of the keys, with sound {@code equals} and {@code hashCode}
+ * @param <V> the type of the <code>Ok</code> values
+ * @param <E> the type of the <code>Err</code> values
+ */
+public final class Memo<K, V, E> implements Function<K, Result<V, E>> {
+	private static final long FOREVER = Long.MAX_VALUE;
+	/** The CLOCK starts this small and doubles up to the maximum size as entries come in */
+	private static final int INITIAL_RING = 16;
+
+	private final Function<K, Result<V, E>> f;
+	private final long okTtl;
+	private final long errTtl;
+	private final LongSupplier clock;
+	private final int maximumSize;
+	private final ConcurrentHashMap<K, Entry<K, V, E>> map;
+
+	/** Guards the fields of the CLOCK below */
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private Entry<K, V, E>[] ring;
+	/** The slots filled so far, the hand only sweeps once all {@code maximumSize} are */
+	private int filled;
+	private int hand;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder expirations = new LongAdder();
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	Memo(Function<K, Result<V, E>> f, int maximumSize, long okTtl, long errTtl, LongSupplier clock) {
+		this.f = f;
+		this.okTtl = okTtl;
+		this.errTtl = errTtl;
+		this.clock = clock;
+		this.maximumSize = maximumSize;
+		this.map = new ConcurrentHashMap<>(Math.min(maximumSize, 1 << 16));
+		this.ring = new Entry[Math.min(maximumSize, INITIAL_RING)];
+	}
+
+	/**
+	 * @param f           the function to cache; must not return {@code null}
+	 * @param maximumSize the number of entries kept at most
+	 * @return a cache keeping every result until it is evicted
+	 * @throws IllegalArgumentException if {@code maximumSize < 1}
+	 */
+	public static <K, V, E> Memo<K, V, E> of(Function<K, Result<V, E>> f, int maximumSize) {
+		return create(f, maximumSize, FOREVER, FOREVER);
+	}
+
+	/**
+	 * @param f           the function to cache; must not return {@code null}
+	 * @param maximumSize the number of entries kept at most
+	 * @param okTtl       how long an <code>Ok</code> is kept
+	 * @param errTtl      how long an <code>Err</code> is kept; {@link Duration#ZERO} to only share
+	 *                    it between concurrent callers
+	 * @return a cache
+	 * @throws IllegalArgumentException if {@code maximumSize < 1} or a duration is negative
+	 */
+	public static <K, V, E> Memo<K, V, E> of(
+			Function<K, Result<V, E>> f,
+			int maximumSize,
+			Duration okTtl,
+			Duration errTtl
+	) {
+		return create(f, maximumSize, nanos(okTtl), nanos(errTtl));
+	}
+
+	/**
+	 * The hit, miss, eviction and expiration counts since the cache was created.
+	 *
+	 * @param hits        lookups answered from the cache, including those that waited for a
+	 *                    concurrent load
+	 * @param misses      lookups that ran the function
+	 * @param evictions   entries dropped to stay within the maximum size
+	 * @param expirations entries dropped because their time to live had passed
+	 */
+	public record Stats(long hits, long misses, long evictions, long expirations) {
+		/**
+		 * @return {@code hits / (hits + misses)}, {@code 1.0} if there was no lookup
+		 */
+		public double hitRate() {
+			long total = hits + misses;
+			return total == 0 ? 1.0 : (double) hits / total;
+		}
+	}
+
+	/**
+	 * @param key the key
+	 * @return the cached result for {@code key}, computing it first if needed
+	 * @throws NullPointerException  if {@code key} is {@code null} or the function returns
+	 *                               {@code null}
+	 * @throws IllegalStateException if the function looks up the key it is computing
+	 */
+	public Result<V, E> get(K key) {
+		Objects.requireNonNull(key);
+		while (true) {
+			var entry = map.get(key);
+			if (entry == null) {
+				var fresh = new Entry<K, V, E>(key);
+				entry = map.putIfAbsent(key, fresh);
+				if (entry == null) {
+					misses.increment();
+					return load(fresh);
+				}
+			}
+			if (isExpired(entry)) {
+				remove(entry, expirations);
+				continue;
+			}
+			hits.increment();
+			entry.referenced = true;
+			return entry.await();
+		}
+	}
+
+	/**
+	 * Same as {@link #get(Object)}.
+	 */
+	@Override
+	public Result<V, E> apply(K key) {
+		return get(key);
+	}
+
+	/**
+	 * Looks {@code key} up without computing it, nor waiting for a load in progress. Not counted
+	 * in the {@link #stats()}.
+	 *
+	 * @return <code>Some(cached result)</code>, or <code>None</code> if there is none yet
+	 */
+	public Option<Result<V, E>> getIfPresent(K key) {
+		var entry = map.get(Objects.requireNonNull(key));
+		if (entry == null || !entry.future.isDone() || isExpired(entry)) {
+			return Option.none();
+		}
+		entry.referenced = true;
+		return Option.ofNullable(entry.future.getNow(null));
+	}
+
+	/**
+	 * Drops the entry of {@code key}. A load in progress still completes for its waiters.
+	 */
+	public void invalidate(K key) {
+		var entry = map.remove(Objects.requireNonNull(key));
+		if (entry != null) {
+			entry.removed = true;
+		}
+	}
+
+	/**
+	 * Drops every entry.
+	 */
+	public void invalidateAll() {
+		for (var key : map.keySet()) {
+			invalidate(key);
+		}
+	}
+
+	/**
+	 * @return the number of entries, including those expired but not dropped yet
+	 */
+	public int size() {
+		return map.size();
+	}
+
+	/**
+	 * @return a snapshot of the counters
+	 */
+	public Stats stats() {
+		return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+	}
+
+	/// PRIVATE
+
+	private static final class Entry<K, V, E> {
+		final K key;
+		final CompletableFuture<Result<V, E>> future = new CompletableFuture<>();
+		final Thread loader = Thread.currentThread();
+		/** {@link #FOREVER} while loading */
+		volatile long expiresAt = FOREVER;
+		/** Set on every hit, cleared by the CLOCK hand */
+		volatile boolean referenced;
+		/** No longer in the map, its slot of the CLOCK can be reused */
+		volatile boolean removed;
+
+		Entry(K key) {
+			this.key = key;
+		}
+
+		Result<V, E> await() {
+			if (!future.isDone() && loader == Thread.currentThread()) {
+				throw new IllegalStateException("Trying to access a =Memo= key from its own computation");
+			}
+			try {
+				return future.join();
+			}
+			catch (CompletionException e) {
+				throw propagate(e.getCause());
+			}
+		}
+	}
+
+	private static <K, V, E> Memo<K, V, E> create(
+			Function<K, Result<V, E>> f,
+			int maximumSize,
+			long okTtl,
+			long errTtl
+	) {
+		Objects.requireNonNull(f);
+		if (maximumSize < 1) {
+			throw new IllegalArgumentException("Error: maximumSize must be >= 1, was " + maximumSize);
+		}
+		return new Memo<>(f, maximumSize, okTtl, errTtl, System::nanoTime);
+	}
+
+	private static long nanos(Duration ttl) {
+		if (ttl.isNegative()) {
+			throw new IllegalArgumentException("Error: time to live must be >= 0, was " + ttl);
+		}
+		try {
+			return ttl.toNanos();
+		}
+		catch (ArithmeticException e) {
+			return FOREVER;
+		}
+	}
+
+	private Result<V, E> load(Entry<K, V, E> entry) {
+		admit(entry);
+		Result<V, E> res;
+		try {
+			res = Objects.requireNonNull(f.apply(entry.key));
+		}
+		catch (RuntimeException | Error e) {
+			remove(entry, null);
+			entry.future.completeExceptionally(e);
+			throw e;
+		}
+
+		long ttl = res.isOk() ? okTtl : errTtl;
+		if (ttl == 0) {
+			remove(entry, null);
+		}
+		else if (ttl != FOREVER) {
+			long now = clock.getAsLong();
+			entry.expiresAt = now + ttl < now ? FOREVER : now + ttl;
+		}
+		entry.future.complete(res);
+		return res;
+	}
+
+	private boolean isExpired(Entry<K, V, E> entry) {
+		long expiresAt = entry.expiresAt;
+		return expiresAt != FOREVER && clock.getAsLong() - expiresAt >= 0;
+	}
+
+	/**
+	 * @param counter counts the removal if it was not removed yet, may be {@code null}
+	 */
+	private void remove(Entry<K, V, E> entry, LongAdder counter) {
+		if (map.remove(entry.key, entry)) {
+			entry.removed = true;
+			if (counter != null) {
+				counter.increment();
+			}
+		}
+	}
+
+	/**
+	 * Gives {@code entry} a slot of the CLOCK. Until {@code maximumSize} slots are filled it takes
+	 * the next one, growing the ring when needed. Then the hand sweeps until a slot is removed,
+	 * expired or not referenced since the last sweep. Two turns at most: the first one clears
+	 * every flag.
+	 */
+	private void admit(Entry<K, V, E> entry) {
+		evictionLock.lock();
+		try {
+			if (filled < maximumSize) {
+				if (filled == ring.length) {
+					ring = Arrays.copyOf(ring, (int) Math.min(2L * ring.length, maximumSize));
+				}
+				ring[filled++] = entry;
+				return;
+			}
+			while (true) {
+				var current = ring[hand];
+				if (current.removed) {
+					break;
+				}
+				if (isExpired(current)) {
+					remove(current, expirations);
+					break;
+				}
+				if (!current.referenced) {
+					// a load in progress still completes for its waiters, it is just not kept
+					remove(current, evictions);
+					break;
+				}
+				current.referenced = false;
+				hand = hand + 1 == ring.length ? 0 : hand + 1;
+			}
+			ring[hand] = entry;
+			hand = hand + 1 == ring.length ? 0 : hand + 1;
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private static RuntimeException propagate(Throwable cause) {
+		if (cause instanceof RuntimeException e) {
+			return e;
+		}
+		if (cause instanceof Error e) {
+			throw e;
+		}
+		return new CompletionException(cause);
+	}
+}
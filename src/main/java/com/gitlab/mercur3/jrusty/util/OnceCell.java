@@ -0,0 +1,138 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Representation of Rust's {@code std::cell::OnceCell}: a slot written at most once, for a value
+ * computed lazily by a single thread. Use {@link OnceLock} when several threads may initialize
+ * it.
+ *
+ * {@snippet :
+ * private final OnceCell<Pattern> pattern = OnceCell.empty();
+ *
+ * Pattern pattern() {
+ *     return pattern.getOrInit(() -> Pattern.compile(spec));
+ * }
+ * }
+ *
+ * @param <T> the type of the value
+ * @see OnceLock
+ * @see <a href="https://doc.rust-lang.org/std/cell/struct.OnceCell.html"><code>std::cell::OnceCell</code></a>
+ */
+public final class OnceCell<T> {
+	private T value;
+	private boolean initializing;
+
+	private OnceCell() {}
+
+	/**
+	 * Create an uninitialized {@code OnceCell}
+	 */
+	public static <T> OnceCell<T> empty() {
+		return new OnceCell<>();
+	}
+
+	/**
+	 * @return <code>Some(value)</code> if initialized, <code>None</code> otherwise
+	 */
+	public Option<T> get() {
+		return Option.ofNullable(value);
+	}
+
+	/**
+	 * @param value the value
+	 * @return <code>Ok(UNIT)</code> if the cell was empty, <code>Err(value)</code> giving
+	 * {@code value} back if it was not
+	 * @throws NullPointerException  if {@code value} is {@code null}
+	 * @throws IllegalStateException if called from an initializer of the same cell
+	 */
+	public Result<Empty, T> set(T value) {
+		Objects.requireNonNull(value);
+		if (this.value != null) {
+			return new Err<>(value);
+		}
+		if (initializing) {
+			// the initializer would overwrite the value on return
+			throw new IllegalStateException("Trying to set a =OnceCell= from its own initializer");
+		}
+		this.value = value;
+		return Result.okUnit();
+	}
+
+	/**
+	 * @param f computes the value if the cell is empty
+	 * @return the value of the cell
+	 * @throws NullPointerException  if {@code f} returns {@code null}
+	 * @throws IllegalStateException if {@code f} initializes the same cell
+	 */
+	public T getOrInit(Supplier<T> f) {
+		var v = value;
+		if (v != null) {
+			return v;
+		}
+		enter();
+		try {
+			v = Objects.requireNonNull(f.get());
+		}
+		finally {
+			initializing = false;
+		}
+		value = v;
+		return v;
+	}
+
+	/**
+	 * Like {@link #getOrInit(Supplier)}, but {@code f} may fail. An <code>Err</code> leaves the
+	 * cell empty, and the next call tries again.
+	 *
+	 * @param f computes the value if the cell is empty
+	 * @return <code>Ok(value of the cell)</code> or the <code>Err</code> of {@code f}
+	 * @throws NullPointerException  if {@code f} returns {@code null}
+	 * @throws IllegalStateException if {@code f} initializes the same cell
+	 */
+	public <E> Result<T, E> getOrTryInit(Supplier<Result<T, E>> f) {
+		var v = value;
+		if (v != null) {
+			return new Ok<>(v);
+		}
+		enter();
+		Result<T, E> res;
+		try {
+			res = Objects.requireNonNull(f.get());
+		}
+		finally {
+			initializing = false;
+		}
+		if (res.isOk()) {
+			value = res.unwrap();
+		}
+		return res;
+	}
+
+	/**
+	 * Empties the cell.
+	 *
+	 * @return <code>Some(previous value)</code>, or <code>None</code> if it was empty
+	 */
+	public Option<T> take() {
+		var v = value;
+		value = null;
+		return Option.ofNullable(v);
+	}
+
+	/// PRIVATE
+
+	private void enter() {
+		if (initializing) {
+			throw new IllegalStateException("Trying to initialize a =OnceCell= from its own initializer");
+		}
+		initializing = true;
+	}
+}
@@ -0,0 +1,180 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Representation of Rust's {@code std::sync::OnceLock}: a slot written at most once, safely
+ * shared between threads. It replaces hand-written double-checked locking.
+ *
+ * {@snippet :
+ * private static final OnceLock<Map<String, Rate>> RATES = OnceLock.empty();
+ *
+ * static Map<String, Rate> rates() {
+ *     return RATES.getOrInit(Rates::load);
+ * }
+ * }
+ *
+ * <h2>Cost</h2>
+ * Once initialized, a read is a single acquire load of the value, a plain load on x86, and no
+ * lock is touched. Until then, callers serialize on a {@link ReentrantLock}: only one of them
+ * runs its initializer, the others wait for it and return its value. The lock parks virtual
+ * threads without pinning their carrier, unlike {@code synchronized}, so thousands of them can
+ * race to initialize the same lock.
+ *
+ * <h2>Failures</h2>
+ * An initializer that throws or returns an <code>Err</code> leaves the lock empty, and the next
+ * caller runs its own initializer. Nothing is poisoned.
+ *
+ * @param <T> the type of the value
+ * @see OnceCell
+ * @see LazyLock
+ * @see <a href="https://doc.rust-lang.org/std/sync/struct.OnceLock.html"><code>std::sync::OnceLock</code></a>
+ */
+public final class OnceLock<T> {
+	private static final VarHandle VALUE;
+
+	static {
+		try {
+			VALUE = MethodHandles.lookup().findVarHandle(OnceLock.class, "value", Object.class);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+	@SuppressWarnings("unused")
+	private T value;
+
+	private OnceLock() {}
+
+	/**
+	 * Create an uninitialized {@code OnceLock}
+	 */
+	public static <T> OnceLock<T> empty() {
+		return new OnceLock<>();
+	}
+
+	/**
+	 * @return <code>Some(value)</code> if initialized, <code>None</code> otherwise. Does not wait
+	 * for an initialization in progress.
+	 */
+	public Option<T> get() {
+		return Option.ofNullable(acquire());
+	}
+
+	/**
+	 * Waits for an initialization in progress, if any.
+	 *
+	 * @param value the value
+	 * @return <code>Ok(UNIT)</code> if the lock was empty, <code>Err(value)</code> giving
+	 * {@code value} back if it was not
+	 * @throws NullPointerException  if {@code value} is {@code null}
+	 * @throws IllegalStateException if called from an initializer of the same lock
+	 */
+	public Result<Empty, T> set(T value) {
+		Objects.requireNonNull(value);
+		if (acquire() != null) {
+			return new Err<>(value);
+		}
+		enter();
+		try {
+			if (acquire() != null) {
+				return new Err<>(value);
+			}
+			VALUE.setRelease(this, value);
+			return Result.okUnit();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @param f computes the value if the lock is empty; at most one {@code f} runs at a time
+	 * @return the value of the lock
+	 * @throws NullPointerException  if {@code f} returns {@code null}
+	 * @throws IllegalStateException if {@code f} initializes the same lock
+	 */
+	public T getOrInit(Supplier<T> f) {
+		var v = acquire();
+		if (v != null) {
+			return v;
+		}
+		return initSlow(f);
+	}
+
+	/**
+	 * Like {@link #getOrInit(Supplier)}, but {@code f} may fail. An <code>Err</code> leaves the
+	 * lock empty, and the next caller tries again.
+	 *
+	 * @param f computes the value if the lock is empty; at most one {@code f} runs at a time
+	 * @return <code>Ok(value of the lock)</code> or the <code>Err</code> of {@code f}
+	 * @throws NullPointerException  if {@code f} returns {@code null}
+	 * @throws IllegalStateException if {@code f} initializes the same lock
+	 */
+	public <E> Result<T, E> getOrTryInit(Supplier<Result<T, E>> f) {
+		var v = acquire();
+		if (v != null) {
+			return new Ok<>(v);
+		}
+		return tryInitSlow(f);
+	}
+
+	/// PRIVATE
+
+	@SuppressWarnings("unchecked")
+	private T acquire() {
+		return (T) VALUE.getAcquire(this);
+	}
+
+	private T initSlow(Supplier<T> f) {
+		enter();
+		try {
+			var v = acquire();
+			if (v == null) {
+				v = Objects.requireNonNull(f.get());
+				VALUE.setRelease(this, v);
+			}
+			return v;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private <E> Result<T, E> tryInitSlow(Supplier<Result<T, E>> f) {
+		enter();
+		try {
+			var v = acquire();
+			if (v != null) {
+				return new Ok<>(v);
+			}
+			var res = Objects.requireNonNull(f.get());
+			if (res.isOk()) {
+				VALUE.setRelease(this, res.unwrap());
+			}
+			return res;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void enter() {
+		if (lock.isHeldByCurrentThread()) {
+			throw new IllegalStateException("Trying to initialize a =OnceLock= from its own initializer");
+		}
+		lock.lock();
+	}
+}
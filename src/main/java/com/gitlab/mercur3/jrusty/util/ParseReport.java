@@ -0,0 +1,73 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Summary of a bulk parse: which cells failed and how many failed with each {@code ErrorKind}. It
+ * costs one bit per cell plus a counter per {@code ErrorKind}, instead of one {@code Result} per
+ * cell.
+ *
+ * @see ColumnParser
+ */
+public final class ParseReport {
+	private static final ErrorKind[] KINDS = ErrorKind.values();
+
+	private final BitSet failed;
+	private final int[] counts;
+
+	ParseReport(BitSet failed, int[] counts) {
+		this.failed = failed;
+		this.counts = counts;
+	}
+
+	/**
+	 * @return the indices of the cells that failed to parse. The set is owned by this report, do
+	 * not modify it.
+	 */
+	public BitSet failed() {
+		return failed;
+	}
+
+	/**
+	 * @return the number of cells that failed to parse
+	 */
+	public int failedCount() {
+		int sum = 0;
+		for (int c : counts) {
+			sum += c;
+		}
+		return sum;
+	}
+
+	/**
+	 * @param kind an error kind
+	 * @return the number of cells that failed with {@code kind}
+	 */
+	public int count(ErrorKind kind) {
+		return counts[kind.ordinal()];
+	}
+
+	/**
+	 * @return the non-zero counts per error kind
+	 */
+	public Map<ErrorKind, Integer> counts() {
+		var map = new EnumMap<ErrorKind, Integer>(ErrorKind.class);
+		for (var kind : KINDS) {
+			if (counts[kind.ordinal()] != 0) {
+				map.put(kind, counts[kind.ordinal()]);
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * @return {@code true} if every cell was parsed
+	 */
+	public boolean isClean() {
+		return failed.isEmpty();
+	}
+}
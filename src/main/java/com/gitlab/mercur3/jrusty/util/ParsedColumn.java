@@ -0,0 +1,12 @@
+package com.gitlab.mercur3.jrusty.util;
+
+/**
+ * A column parsed in bulk. Cells that failed to parse hold {@code 0} in {@code values} and are
+ * listed in {@code report}.
+ *
+ * @param values a primitive array, one element per cell
+ * @param report the failed cells
+ * @param <A>    {@code int[]}, {@code long[]} or {@code double[]}
+ * @see ColumnParser
+ */
+public record ParsedColumn<A>(A values, ParseReport report) {}
@@ -0,0 +1,309 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Strict UTF-8 validation and decoding, following Rust's {@code std::str::from_utf8}.
+ *
+ * {@snippet :
+ * switch (Utf8.fromUtf8(payload, 0, payload.length)) {
+ *     case Ok<String, ErrorKind> ok -> handle(ok.unwrap());
+ *     case Err<ErrorKind, String> err -> reject(Utf8.validUpTo(payload, 0, payload.length));
+ * }
+ * }
+ *
+ * <p>
+ * Where {@code new String(bytes, UTF_8)} silently replaces malformed sequences with
+ * {@code U+FFFD} and a {@code CharsetDecoder} throws, these return <code>Err(FORMAT_ERROR)</code>.
+ * Overlong encodings, surrogates ({@code U+D800} to {@code U+DFFF}), code points past
+ * {@code U+10FFFF} and sequences cut short by the end of the range are all invalid, as in RFC
+ * 3629.
+ * </p>
+ *
+ * <p>
+ * {@link #validUpTo} and {@link #isValid} allocate nothing. They skip runs of ASCII 8 bytes at a
+ * time, by checking the high bit of a whole {@code long}, and run the other bytes through a table
+ * driven automaton, one lookup and one shift per byte.
+ * </p>
+ *
+ * <p>
+ * The {@code fromUtf8} methods decode with the JDK, whose decoder is intrinsified, and only
+ * validate when the result holds a {@code U+FFFD}: the lenient decoder puts one in place of every
+ * malformed sequence, so valid text without one is accepted in a single pass.
+ * </p>
+ *
+ * @see <a href="https://doc.rust-lang.org/std/str/fn.from_utf8.html"><code>std::str::from_utf8</code></a>
+ */
+public final class Utf8 {
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(
+			long[].class,
+			ByteOrder.LITTLE_ENDIAN
+	);
+	private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+	/** What {@code new String(bytes, UTF_8)} replaces malformed sequences with */
+	private static final char REPLACEMENT = '\ufffd';
+
+	/*
+	 * The automaton has one row per byte value, packing the next state for every current state
+	 * in 6 bits: a transition is (ROWS[b] >>> state) & 63, one load and one shift. Every state is
+	 * the offset of its field in the rows.
+	 */
+	private static final int ACCEPT = 0;
+	/** Absorbing */
+	private static final int REJECT = 6;
+	/** 1, 2 or 3 continuation bytes to go */
+	private static final int NEED_1 = 12;
+	private static final int NEED_2 = 18;
+	private static final int NEED_3 = 24;
+	/** After {@code E0}, {@code A0..BF} excludes the overlong encodings */
+	private static final int AFTER_E0 = 30;
+	/** After {@code ED}, {@code 80..9F} excludes the surrogates */
+	private static final int AFTER_ED = 36;
+	/** After {@code F0}, {@code 90..BF} excludes the overlong encodings */
+	private static final int AFTER_F0 = 42;
+	/** After {@code F4}, {@code 80..8F} stops at {@code U+10FFFF} */
+	private static final int AFTER_F4 = 48;
+	private static final int STATE_MASK = 63;
+
+	private static final long[] ROWS = new long[256];
+
+	static {
+		// every transition not set below goes to REJECT
+		for (int b = 0; b < 256; b++) {
+			for (int state = ACCEPT; state <= AFTER_F4; state += 6) {
+				ROWS[b] |= (long) REJECT << state;
+			}
+		}
+		on(ACCEPT, 0x00, 0x7f, ACCEPT);
+		on(ACCEPT, 0xc2, 0xdf, NEED_1);
+		on(ACCEPT, 0xe0, 0xe0, AFTER_E0);
+		on(ACCEPT, 0xe1, 0xec, NEED_2);
+		on(ACCEPT, 0xed, 0xed, AFTER_ED);
+		on(ACCEPT, 0xee, 0xef, NEED_2);
+		on(ACCEPT, 0xf0, 0xf0, AFTER_F0);
+		on(ACCEPT, 0xf1, 0xf3, NEED_3);
+		on(ACCEPT, 0xf4, 0xf4, AFTER_F4);
+		on(NEED_1, 0x80, 0xbf, ACCEPT);
+		on(NEED_2, 0x80, 0xbf, NEED_1);
+		on(NEED_3, 0x80, 0xbf, NEED_2);
+		on(AFTER_E0, 0xa0, 0xbf, NEED_1);
+		on(AFTER_ED, 0x80, 0x9f, NEED_1);
+		on(AFTER_F0, 0x90, 0xbf, NEED_2);
+		on(AFTER_F4, 0x80, 0x8f, NEED_2);
+	}
+
+	private Utf8() {}
+
+	/**
+	 * @param bytes UTF-8 bytes
+	 * @return the decoded {@code String}, <code>Err(FORMAT_ERROR)</code> if {@code bytes} is
+	 * {@code null} or not valid UTF-8
+	 * @see #fromUtf8(byte[], int, int)
+	 */
+	public static Result<String, ErrorKind> fromUtf8(byte[] bytes) {
+		if (bytes == null) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		return fromUtf8(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Decodes {@code buf[off, off + len)}. On error, {@link #validUpTo(byte[], int, int)} tells
+	 * where the first invalid sequence starts.
+	 *
+	 * @param buf bytes
+	 * @param off first index
+	 * @param len number of bytes
+	 * @return the decoded {@code String}, <code>Err(FORMAT_ERROR)</code> if {@code buf} is
+	 * {@code null} or the range is not valid UTF-8
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static Result<String, ErrorKind> fromUtf8(byte[] buf, int off, int len) {
+		if (buf == null) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(off, len, buf.length);
+		var str = new String(buf, off, len, StandardCharsets.UTF_8);
+		// every malformed sequence was replaced, and valid text rarely holds a replacement
+		if (str.indexOf(REPLACEMENT) >= 0 && scan(buf, off, off + len) != off + len) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		return new Ok<>(str);
+	}
+
+	/**
+	 * Decodes the bytes at the absolute indices {@code [index, index + len)} of {@code buf},
+	 * without moving its position. The bytes of a direct buffer are copied to the heap once.
+	 *
+	 * @param buf   bytes
+	 * @param index first absolute index
+	 * @param len   number of bytes
+	 * @return the decoded {@code String}, <code>Err(FORMAT_ERROR)</code> if {@code buf} is
+	 * {@code null} or the range is not valid UTF-8
+	 * @throws IndexOutOfBoundsException if the range exceeds the limit of {@code buf}
+	 */
+	public static Result<String, ErrorKind> fromUtf8(ByteBuffer buf, int index, int len) {
+		if (buf == null) {
+			return Result.errKind(ErrorKind.FORMAT_ERROR);
+		}
+		Objects.checkFromIndexSize(index, len, buf.limit());
+		if (buf.hasArray()) {
+			return fromUtf8(buf.array(), buf.arrayOffset() + index, len);
+		}
+		var bytes = new byte[len];
+		buf.get(index, bytes);
+		return fromUtf8(bytes, 0, len);
+	}
+
+	/**
+	 * Validates {@code buf[off, off + len)} without allocating.
+	 *
+	 * @param buf bytes
+	 * @param off first index
+	 * @param len number of bytes
+	 * @return the length of the longest valid prefix of the range: {@code len} if it is all
+	 * valid, otherwise the offset from {@code off} of the first invalid sequence
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static int validUpTo(byte[] buf, int off, int len) {
+		Objects.checkFromIndexSize(off, len, buf.length);
+		return scan(buf, off, off + len) - off;
+	}
+
+	/**
+	 * Validates the bytes at the absolute indices {@code [index, index + len)} of {@code buf}
+	 * in place, without allocating nor moving its position.
+	 *
+	 * @param buf   bytes
+	 * @param index first absolute index
+	 * @param len   number of bytes
+	 * @return the length of the longest valid prefix of the range
+	 * @throws IndexOutOfBoundsException if the range exceeds the limit of {@code buf}
+	 * @see #validUpTo(byte[], int, int)
+	 */
+	public static int validUpTo(ByteBuffer buf, int index, int len) {
+		Objects.checkFromIndexSize(index, len, buf.limit());
+		if (buf.hasArray()) {
+			int off = buf.arrayOffset() + index;
+			return scan(buf.array(), off, off + len) - off;
+		}
+		return scan(buf, index, index + len) - index;
+	}
+
+	/**
+	 * @return whether {@code buf[off, off + len)} is valid UTF-8, without allocating
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 * @see #validUpTo(byte[], int, int)
+	 */
+	public static boolean isValid(byte[] buf, int off, int len) {
+		return validUpTo(buf, off, len) == len;
+	}
+
+	/**
+	 * @return whether the bytes at {@code [index, index + len)} of {@code buf} are valid UTF-8,
+	 * without allocating
+	 * @throws IndexOutOfBoundsException if the range exceeds the limit of {@code buf}
+	 * @see #validUpTo(ByteBuffer, int, int)
+	 */
+	public static boolean isValid(ByteBuffer buf, int index, int len) {
+		return validUpTo(buf, index, len) == len;
+	}
+
+	/// PRIVATE
+
+	/**
+	 * Sets the transition from {@code state} on the bytes {@code [first, last]} to {@code next}.
+	 */
+	private static void on(int state, int first, int last, int next) {
+		for (int b = first; b <= last; b++) {
+			ROWS[b] = ROWS[b] & ~((long) STATE_MASK << state) | (long) next << state;
+		}
+	}
+
+	/**
+	 * @return the index of the first invalid sequence of {@code buf[from, to)}, {@code to} if
+	 * there is none
+	 */
+	private static int scan(byte[] buf, int from, int to) {
+		// REJECT is absorbing, so the hot loop only looks at the final state
+		int state = ACCEPT;
+		int i = from;
+		while (i < to) {
+			int b = buf[i++];
+			if (b >= 0 && state == ACCEPT) {
+				while (i + Long.BYTES <= to && ((long) LONGS.get(buf, i) & HIGH_BITS) == 0) {
+					i += Long.BYTES;
+				}
+				continue;
+			}
+			state = (int) (ROWS[b & 0xff] >>> state) & STATE_MASK;
+		}
+		return state == ACCEPT ? to : locate(buf, from, to);
+	}
+
+	/**
+	 * @see #scan(byte[], int, int)
+	 */
+	private static int scan(ByteBuffer buf, int from, int to) {
+		int state = ACCEPT;
+		int i = from;
+		while (i < to) {
+			int b = buf.get(i++);
+			if (b >= 0 && state == ACCEPT) {
+				while (i + Long.BYTES <= to && (buf.getLong(i) & HIGH_BITS) == 0) {
+					i += Long.BYTES;
+				}
+				continue;
+			}
+			state = (int) (ROWS[b & 0xff] >>> state) & STATE_MASK;
+		}
+		return state == ACCEPT ? to : locate(buf, from, to);
+	}
+
+	/**
+	 * The slow path of {@code scan}, once it is known that {@code buf[from, to)} is invalid.
+	 *
+	 * @return the index of the first invalid sequence
+	 */
+	private static int locate(byte[] buf, int from, int to) {
+		int state = ACCEPT;
+		int start = from;
+		for (int i = from; i < to; i++) {
+			if (state == ACCEPT) {
+				start = i;
+			}
+			state = (int) (ROWS[buf[i] & 0xff] >>> state) & STATE_MASK;
+			if (state == REJECT) {
+				break;
+			}
+		}
+		return start;
+	}
+
+	/**
+	 * @see #locate(byte[], int, int)
+	 */
+	private static int locate(ByteBuffer buf, int from, int to) {
+		int state = ACCEPT;
+		int start = from;
+		for (int i = from; i < to; i++) {
+			if (state == ACCEPT) {
+				start = i;
+			}
+			state = (int) (ROWS[buf.get(i) & 0xff] >>> state) & STATE_MASK;
+			if (state == REJECT) {
+				break;
+			}
+		}
+		return start;
+	}
+}
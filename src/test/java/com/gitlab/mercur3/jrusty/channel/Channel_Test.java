@@ -0,0 +1,265 @@
+package com.gitlab.mercur3.jrusty.channel;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Channel_Test {
+	private static final List<Supplier<Tuple2<Sender<Integer>, Receiver<Integer>>>> FLAVORS = List.of(
+			() -> Channel.spsc(4),
+			() -> Channel.mpsc(4),
+			() -> Channel.bounded(4),
+			() -> Channel.bounded(3),
+			() -> Channel.unbounded()
+	);
+
+	@Test
+	void values_arrive_in_order() {
+		for (var flavor : FLAVORS) {
+			var channel = flavor.get();
+			var tx = channel._1();
+			var rx = channel._2();
+			for (int round = 0; round < 5; round++) {
+				for (int i = 0; i < 3; i++) {
+					assertEquals(Result.okUnit(), tx.trySend(round * 10 + i));
+				}
+				for (int i = 0; i < 3; i++) {
+					assertEquals(new Ok<>(round * 10 + i), rx.tryRecv());
+				}
+			}
+			assertEquals(Result.errKind(ErrorKind.WOULD_BLOCK), rx.tryRecv());
+			assertEquals(Result.errKind(ErrorKind.TIMED_OUT), rx.recvTimeout(Duration.ofMillis(5)));
+		}
+	}
+
+	@Test
+	void full_bounded_channels_refuse_without_waiting() {
+		var channel = Channel.<Integer>bounded(3);
+		var tx = channel._1();
+		for (int i = 0; i < 3; i++) {
+			assertTrue(tx.trySend(i).isOk());
+		}
+		assertEquals(Result.errKind(ErrorKind.WOULD_BLOCK), tx.trySend(3));
+		assertEquals(Result.errKind(ErrorKind.TIMED_OUT), tx.sendTimeout(3, Duration.ofMillis(5)));
+		assertEquals(new Ok<>(0), channel._2().recv());
+		assertTrue(tx.trySend(3).isOk());
+		assertThrows(NullPointerException.class, () -> tx.trySend(null));
+	}
+
+	@Test
+	void closing_disconnects_the_peer() throws InterruptedException {
+		var channel = Channel.<Integer>mpsc(8);
+		var tx = channel._1();
+		var rx = channel._2();
+		var tx2 = tx.duplicate();
+		tx.send(1);
+		tx.close();
+		tx2.send(2);
+
+		var blocked = new Result<?, ?>[1];
+		var receiver = Thread.ofVirtual().start(() -> {
+			rx.recv();
+			rx.recv();
+			blocked[0] = rx.recv();
+		});
+		Thread.sleep(20);
+		tx2.close();
+		receiver.join();
+		assertEquals(Result.errKind(ErrorKind.NOT_CONNECTED), blocked[0]);
+		assertThrows(IllegalStateException.class, () -> tx.send(3));
+
+		var other = Channel.<Integer>spsc(1);
+		other._1().send(1);
+		var sender = Thread.ofVirtual().start(() -> blocked[0] = other._1().send(2));
+		Thread.sleep(20);
+		other._2().close();
+		sender.join();
+		assertEquals(Result.errKind(ErrorKind.CONNECTION_REFUSED), blocked[0]);
+	}
+
+	@Test
+	void single_halves_cannot_be_duplicated() {
+		var spsc = Channel.<Integer>spsc(1);
+		assertThrows(UnsupportedOperationException.class, () -> spsc._1().duplicate());
+		assertThrows(UnsupportedOperationException.class, () -> spsc._2().duplicate());
+		assertThrows(UnsupportedOperationException.class, () -> Channel.<Integer>mpsc(1)._2().duplicate());
+		assertThrows(IllegalArgumentException.class, () -> Channel.bounded(0));
+	}
+
+	@Test
+	void blocked_receive_is_interruptible() throws InterruptedException {
+		var rx = Channel.<Integer>bounded(1)._2();
+		var res = new Result<?, ?>[1];
+		var interrupted = new boolean[1];
+		var receiver = Thread.ofVirtual().start(() -> {
+			res[0] = rx.recv();
+			interrupted[0] = Thread.currentThread().isInterrupted();
+		});
+		Thread.sleep(20);
+		receiver.interrupt();
+		receiver.join();
+		assertEquals(Result.errKind(ErrorKind.INTERRUPTED), res[0]);
+		assertTrue(interrupted[0]);
+	}
+
+	@Test
+	void no_value_is_lost_or_duplicated_under_contention() throws InterruptedException {
+		stress(Channel.spsc(16), 1, 1);
+		stress(Channel.mpsc(16), 4, 1);
+		stress(Channel.bounded(16), 4, 4);
+		stress(Channel.bounded(5), 3, 3);
+		stress(Channel.unbounded(), 4, 4);
+	}
+
+	@Test
+	void tiny_bounded_channels_do_not_lose_wake_ups() {
+		// a lost wake-up leaves a thread parked for good, with values still in flight
+		assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+			for (int round = 0; round < 20; round++) {
+				stress(Channel.bounded(1), 2, 2, Thread.ofPlatform(), 2_000);
+				stress(Channel.bounded(1), 4, 3, Thread.ofPlatform(), 2_000);
+				stress(Channel.bounded(2), 3, 4, Thread.ofVirtual(), 2_000);
+			}
+		});
+	}
+
+	@Test
+	void select_takes_whichever_is_ready() throws InterruptedException {
+		var a = Channel.<String>bounded(2);
+		var b = Channel.<String>unbounded();
+		var receivers = List.of(a._2(), b._2());
+
+		assertEquals(Result.errKind(ErrorKind.WOULD_BLOCK), Select.tryRecv(receivers));
+		b._1().send("b");
+		assertEquals(new Ok<>(new Tuple2<>(1, "b")), Select.recv(receivers));
+		assertEquals(Result.errKind(ErrorKind.TIMED_OUT), Select.recvTimeout(receivers, Duration.ofMillis(5)));
+
+		var sender = Thread.ofVirtual().start(() -> {
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException e) {
+				return;
+			}
+			a._1().send("a");
+		});
+		assertEquals(new Ok<>(new Tuple2<>(0, "a")), Select.recv(receivers));
+		sender.join();
+
+		a._1().close();
+		b._1().send("last");
+		b._1().close();
+		assertEquals(new Ok<>(new Tuple2<>(1, "last")), Select.recv(receivers));
+		assertEquals(Result.errKind(ErrorKind.NOT_CONNECTED), Select.recv(receivers));
+	}
+
+	@Test
+	void select_passes_on_a_wake_up_meant_for_another_receiver() {
+		assertTimeoutPreemptively(Duration.ofSeconds(60), () -> {
+			for (int round = 0; round < 40; round++) {
+				var a = Channel.<String>bounded(4);
+				var b = Channel.<String>bounded(4);
+				var selected = new Result<?, ?>[1];
+				var received = new Result<?, ?>[1];
+				// the select parks on both channels first, then a plain receiver queues behind it on a
+				var selector = Thread.ofPlatform().start(() -> selected[0] = Select.recv(List.of(a._2(), b._2())));
+				awaitParked(selector);
+				var rx = a._2().duplicate();
+				var receiver = Thread.ofPlatform().start(() -> received[0] = rx.recv());
+				awaitParked(receiver);
+
+				// a wakes the select, which may take b's value instead and must then wake the receiver
+				a._1().send("a");
+				b._1().send("b");
+				selector.join();
+				var taken = (Tuple2<?, ?>) selected[0].unwrap();
+				if (taken._1().equals(0)) {
+					// the receiver has nothing to wait for otherwise
+					a._1().send("again");
+				}
+				receiver.join();
+				assertTrue(received[0].isOk());
+			}
+		});
+	}
+
+	/// PRIVATE
+
+	private static void awaitParked(Thread thread) throws InterruptedException {
+		while (thread.getState() != Thread.State.WAITING) {
+			Thread.sleep(1);
+		}
+	}
+
+	private static void stress(
+			Tuple2<Sender<Integer>, Receiver<Integer>> channel,
+			int producers,
+			int consumers
+	) throws InterruptedException {
+		stress(channel, producers, consumers, Thread.ofVirtual(), 20_000);
+	}
+
+	private static void stress(
+			Tuple2<Sender<Integer>, Receiver<Integer>> channel,
+			int producers,
+			int consumers,
+			Thread.Builder builder,
+			int perProducer
+	) throws InterruptedException {
+		var sum = new AtomicLong();
+		var count = new AtomicLong();
+		var threads = new ArrayList<Thread>();
+		for (int p = 0; p < producers; p++) {
+			var tx = p == 0 ? channel._1() : channel._1().duplicate();
+			threads.add(builder.start(() -> {
+				try (tx) {
+					for (int i = 1; i <= perProducer; i++) {
+						assertTrue(tx.send(i).isOk());
+					}
+				}
+			}));
+		}
+		var consumerThreads = new ArrayList<Thread>();
+		for (int c = 0; c < consumers; c++) {
+			var rx = c == 0 ? channel._2() : channel._2().duplicate();
+			consumerThreads.add(builder.start(() -> {
+				int last = 0;
+				while (true) {
+					var res = rx.recv();
+					if (res.isErr()) {
+						assertEquals(ErrorKind.NOT_CONNECTED, res.unwrapErr());
+						return;
+					}
+					int v = res.unwrap();
+					if (producers == 1 && consumers == 1) {
+						assertEquals(last + 1, v);
+						last = v;
+					}
+					sum.addAndGet(v);
+					count.incrementAndGet();
+				}
+			}));
+		}
+		for (var thread : threads) {
+			thread.join();
+		}
+		for (var thread : consumerThreads) {
+			thread.join();
+		}
+		assertEquals((long) producers * perProducer, count.get());
+		assertEquals((long) producers * perProducer * (perProducer + 1) / 2, sum.get());
+	}
+}
@@ -0,0 +1,140 @@
+package com.gitlab.mercur3.jrusty.io;
+
+import com.gitlab.mercur3.jrusty.result.Empty;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.ReadOnlyFileSystemException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Fs_Test {
+	@TempDir
+	Path dir;
+
+	@Test
+	void write_then_read() {
+		var path = dir.resolve("a.bin");
+		assertEquals(Result.okUnit(), Fs.write(path, new byte[]{1, 2, 3}));
+		assertArrayEquals(new byte[]{1, 2, 3}, Fs.read(path).unwrap());
+
+		assertEquals(Result.<ErrorKind>okUnit(), Fs.write(path, "héllo"));
+		assertEquals(new Ok<>("héllo"), Fs.readToString(path));
+		assertEquals(6, Fs.read(path).unwrap().length);
+	}
+
+	@Test
+	void large_files_are_mapped() {
+		var bytes = new byte[(int) Fs.MAP_THRESHOLD + 17];
+		new Random(1).nextBytes(bytes);
+		var path = dir.resolve("large.bin");
+		Fs.write(path, bytes).unwrap();
+		assertArrayEquals(bytes, Fs.read(path).unwrap());
+		assertEquals(bytes.length, Fs.map(path).unwrap().remaining());
+
+		var text = "ab\n".repeat((int) Fs.MAP_THRESHOLD);
+		Fs.write(path, text).unwrap();
+		assertEquals(text, Fs.readToString(path).unwrap());
+	}
+
+	@Test
+	void the_reported_size_is_only_a_hint() throws IOException {
+		// like every file of /proc, reports a size of 0 but has contents
+		var status = Path.of("/proc/self/status");
+		assumeTrue(Files.isReadable(status) && Files.size(status) == 0);
+		var text = Fs.readToString(status).unwrap();
+		assertTrue(text.startsWith("Name:"), text);
+		assertTrue(Fs.read(status).unwrap().length > 0);
+	}
+
+	@Test
+	void errors_are_mapped_to_kinds() {
+		var missing = dir.resolve("missing");
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), Fs.read(missing));
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), Fs.readToString(missing));
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), Fs.metadata(missing));
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), Fs.readDir(missing));
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), Fs.copy(missing, dir.resolve("b")));
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), Fs.write(missing.resolve("child"), new byte[0]));
+	}
+
+	@Test
+	void invalid_utf8_is_a_format_error() {
+		var path = dir.resolve("bad.txt");
+		Fs.write(path, new byte[]{'a', (byte) 0xC3}).unwrap();
+		assertEquals(Result.errKind(ErrorKind.FORMAT_ERROR), Fs.readToString(path));
+	}
+
+	@Test
+	void readDir_of_a_file_is_invalid_input() {
+		var path = dir.resolve("file");
+		Fs.write(path, new byte[0]).unwrap();
+		assertEquals(Result.errKind(ErrorKind.INVALID_INPUT), Fs.readDir(path));
+	}
+
+	@Test
+	void copy_truncates_and_counts() {
+		var from = dir.resolve("from");
+		var to = dir.resolve("to");
+		Fs.write(from, "abc").unwrap();
+		Fs.write(to, "much longer").unwrap();
+		assertEquals(new Ok<>(3L), Fs.copy(from, to));
+		assertEquals("abc", Fs.readToString(to).unwrap());
+	}
+
+	@Test
+	void copy_onto_itself_leaves_the_file_untouched() throws IOException {
+		var path = dir.resolve("same");
+		Fs.write(path, "abc").unwrap();
+		assertEquals(new Ok<>(3L), Fs.copy(path, path));
+		assertEquals(new Ok<>(3L), Fs.copy(path, dir.resolve(".").resolve("same")));
+		var link = Files.createSymbolicLink(dir.resolve("link"), path);
+		assertEquals(new Ok<>(3L), Fs.copy(link, path));
+		assertEquals("abc", Fs.readToString(path).unwrap());
+	}
+
+	@Test
+	void metadata_and_readDir() throws IOException {
+		Files.createDirectory(dir.resolve("sub"));
+		Fs.write(dir.resolve("f"), new byte[5]).unwrap();
+
+		var file = Fs.metadata(dir.resolve("f")).unwrap();
+		assertEquals(5, file.len());
+		assertTrue(file.isFile());
+		assertFalse(file.isDir());
+		assertTrue(Fs.metadata(dir.resolve("sub")).unwrap().isDir());
+
+		assertEquals(
+				Set.of(dir.resolve("sub"), dir.resolve("f")),
+				new HashSet<>(Fs.readDir(dir).unwrap())
+		);
+	}
+
+	@Test
+	void IoErrors_kinds() {
+		assertEquals(ErrorKind.NOT_FOUND, IoErrors.kind(new FileNotFoundException()));
+		assertEquals(ErrorKind.PERMISSION_DENIED, IoErrors.kind(new AccessDeniedException("f")));
+		assertEquals(ErrorKind.ALREADY_EXISTS, IoErrors.kind(new FileAlreadyExistsException("f")));
+		assertEquals(ErrorKind.FORMAT_ERROR, IoErrors.kind(new MalformedInputException(1)));
+		assertEquals(ErrorKind.IO_ERROR, IoErrors.kind(new IOException()));
+		assertEquals(ErrorKind.READONLY, IoErrors.kind(new ReadOnlyFileSystemException()));
+		assertEquals(ErrorKind.PERMISSION_DENIED, IoErrors.kind(new SecurityException()));
+	}
+}
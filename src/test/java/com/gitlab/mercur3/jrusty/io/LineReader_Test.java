@@ -0,0 +1,80 @@
+package com.gitlab.mercur3.jrusty.io;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class LineReader_Test {
+	@TempDir
+	Path dir;
+
+	private static List<String> lines(LineReader reader) {
+		var lines = new ArrayList<String>();
+		while (reader.next().unwrap()) {
+			lines.add(reader.line().toString());
+		}
+		return lines;
+	}
+
+	@Test
+	void splits_like_rust() {
+		assertEquals(List.of("a", "b", "", "c"), lines(LineReader.of(new StringReader("a\r\nb\n\nc"))));
+		assertEquals(List.of("a"), lines(LineReader.of(new StringReader("a\n"))));
+		assertEquals(List.of("a\r"), lines(LineReader.of(new StringReader("a\r"))));
+		assertEquals(List.of(), lines(LineReader.of(new StringReader(""))));
+		assertEquals(List.of(""), lines(LineReader.of(new StringReader("\n"))));
+	}
+
+	@Test
+	void lines_longer_than_the_buffer_grow_it() {
+		var text = "0123456789\r\nab\n" + "x".repeat(100);
+		assertEquals(
+				List.of("0123456789", "ab", "x".repeat(100)),
+				lines(LineReader.of(new StringReader(text), 3))
+		);
+		assertThrows(IllegalArgumentException.class, () -> LineReader.of(new StringReader(""), 0));
+	}
+
+	@Test
+	void line_is_a_reused_view() {
+		var reader = LineReader.of(new StringReader("12\n345"));
+		assertTrue(reader.next().unwrap());
+		var line = reader.line();
+		assertEquals(2, line.length());
+		assertEquals('2', line.charAt(1));
+		assertEquals("2", line.subSequence(1, 2).toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> line.charAt(2));
+		assertTrue(reader.next().unwrap());
+		assertSame(line, reader.line());
+		assertEquals("345", line.toString());
+		assertEquals(Result.okBoolean(false), reader.next());
+		assertEquals(Result.okBoolean(false), reader.next());
+	}
+
+	@Test
+	void files() {
+		var path = dir.resolve("lines.txt");
+		Fs.write(path, "1\n2\n").unwrap();
+		try (var reader = LineReader.open(path).unwrap()) {
+			assertEquals(List.of("1", "2"), lines(reader));
+		}
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), LineReader.open(dir.resolve("missing")));
+
+		Fs.write(path, new byte[]{'a', '\n', (byte) 0xFF, '\n'}).unwrap();
+		try (var reader = LineReader.open(path).unwrap()) {
+			assertEquals(Result.errKind(ErrorKind.FORMAT_ERROR), reader.next());
+			assertEquals(Result.okBoolean(false), reader.next());
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package com.gitlab.mercur3.jrusty.iter;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IntIter_Test {
+	@Test
+	void sources() {
+		assertArrayEquals(new int[]{0, 1, 2}, IntIter.range(0, 3).toArray());
+		assertArrayEquals(new int[0], IntIter.range(3, 0).toArray());
+		assertArrayEquals(new int[]{2, 3}, IntIter.from(new int[]{1, 2, 3, 4}, 1, 3).toArray());
+		assertArrayEquals(new long[]{5, 6}, LongIter.of(5, 6).toArray());
+		assertThrows(IndexOutOfBoundsException.class, () -> IntIter.from(new int[1], 0, 2));
+		assertThrows(NoSuchElementException.class, () -> IntIter.empty().nextInt());
+	}
+
+	@Test
+	void adapters() {
+		assertArrayEquals(
+				new int[]{0, 4, 16},
+				IntIter.range(0, 5).filter(x -> x % 2 == 0).map(x -> x * x).toArray()
+		);
+		assertArrayEquals(new int[]{2, 3}, IntIter.range(0, 10).skip(2).take(2).toArray());
+		assertArrayEquals(new int[]{1, 2, 3}, IntIter.of(1).chain(IntIter.of(2, 3)).toArray());
+		assertEquals(List.of("0", "1"), IntIter.range(0, 2).mapToObj(Integer::toString).toList());
+		assertEquals(List.of(7L), LongIter.of(7).boxed().toList());
+	}
+
+	@Test
+	void large_toArray_grows() {
+		assertEquals(1000, IntIter.range(0, 1000).toArray().length);
+		assertEquals(999, LongIter.range(0, 1000).toArray()[999]);
+	}
+
+	@Test
+	void terminals() {
+		assertEquals(45, IntIter.range(0, 10).sum());
+		assertEquals(10, IntIter.range(0, 10).count());
+		assertEquals(24, IntIter.range(1, 5).fold(1, (a, b) -> a * b));
+		assertEquals(Integer.MIN_VALUE, IntIter.of(Integer.MAX_VALUE, 1).sum());
+		assertEquals(3_000_000_000L, LongIter.of(1_000_000_000L, 2_000_000_000L).sum());
+	}
+
+	@Test
+	void tryFold_short_circuits() {
+		IntIter source = IntIter.range(0, 10);
+		IntResult<ErrorKind> res = source.tryFold(
+				0,
+				(acc, x) -> x < 3 ? IntResult.ok(acc + x) : IntResult.errKind(ErrorKind.OVERFLOW)
+		);
+		assertEquals(IntResult.errKind(ErrorKind.OVERFLOW), res);
+		assertEquals(4, source.nextInt());
+
+		LongResult<ErrorKind> ok = LongIter.range(0, 4).tryFold(0, (acc, x) -> LongResult.ok(acc + x));
+		assertEquals(6, ok.unwrap());
+	}
+}
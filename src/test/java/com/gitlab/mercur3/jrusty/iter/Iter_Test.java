@@ -0,0 +1,149 @@
+package com.gitlab.mercur3.jrusty.iter;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import com.gitlab.mercur3.jrusty.util.FromString;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Iter_Test {
+	@Test
+	void next_and_fused() {
+		var iter = Iter.of(1, 2);
+		assertEquals(Option.some(1), iter.next());
+		assertEquals(2, iter.nextOrNull());
+		assertEquals(Option.none(), iter.next());
+		assertNull(iter.nextOrNull());
+		assertNull(Iter.empty().nextOrNull());
+	}
+
+	@Test
+	void sources() {
+		assertEquals(List.of(1, 2, 3), Iter.from(List.of(1, 2, 3)).toList());
+		assertEquals(List.of(1), Iter.from(Set.of(1)).toList());
+		assertEquals(List.of("a"), Iter.from(List.of("a").iterator()).toList());
+		assertThrows(NullPointerException.class, () -> Iter.from(java.util.Arrays.asList(1, null)).toList());
+
+		var values = new Integer[]{1, 2};
+		var iter = Iter.of(values);
+		values[0] = 9;
+		assertEquals(List.of(1, 2), iter.toList());
+		assertThrows(NullPointerException.class, () -> Iter.of(1, null));
+	}
+
+	@Test
+	void map_filter_filterMap() {
+		assertEquals(
+				List.of(4, 16),
+				Iter.of(1, 2, 3, 4).filter(x -> x % 2 == 0).map(x -> x * x).toList()
+		);
+		assertEquals(
+				List.of(1, 3),
+				Iter.of("1", "x", "3").filterMap(s -> Option.fromOptional(FromString.parseInt(s).ok())).toList()
+		);
+	}
+
+	@Test
+	void take_and_skip() {
+		assertEquals(List.of(1, 2), Iter.of(1, 2, 3).take(2).toList());
+		assertEquals(List.of(1, 2, 3), Iter.of(1, 2, 3).take(10).toList());
+		assertEquals(List.of(), Iter.of(1, 2, 3).take(0).toList());
+		assertEquals(List.of(3), Iter.of(1, 2, 3).skip(2).toList());
+		assertEquals(List.of(), Iter.of(1, 2, 3).skip(5).toList());
+		assertEquals(List.of(2, 3), Iter.of(1, 2, 3, 4).skip(1).take(2).toList());
+		assertThrows(IllegalArgumentException.class, () -> Iter.of(1).take(-1));
+		assertThrows(IllegalArgumentException.class, () -> Iter.of(1).skip(-1));
+	}
+
+	@Test
+	void take_does_not_pull_past_its_limit() {
+		var source = Iter.of(1, 2, 3);
+		assertEquals(List.of(1), source.take(1).toList());
+		assertEquals(2, source.nextOrNull());
+	}
+
+	@Test
+	void chain_zip_enumerate() {
+		assertEquals(List.of(1, 2, 3), Iter.of(1).chain(Iter.of(2, 3)).toList());
+		assertEquals(
+				List.of(new Tuple2<>(1, "a"), new Tuple2<>(2, "b")),
+				Iter.of(1, 2, 3).zip(Iter.of("a", "b")).toList()
+		);
+		assertEquals(
+				List.of(new Tuple2<>(0L, "a"), new Tuple2<>(1L, "b")),
+				Iter.of("a", "b").enumerate().toList()
+		);
+	}
+
+	@Test
+	void zip_does_not_pull_the_second_when_the_first_is_exhausted() {
+		var second = Iter.of("a", "b");
+		assertEquals(1, Iter.of(1).zip(second).count());
+		assertEquals("b", second.nextOrNull());
+	}
+
+	@Test
+	void chunks_and_windows() {
+		assertEquals(
+				List.of(List.of(1, 2), List.of(3, 4), List.of(5)),
+				Iter.of(1, 2, 3, 4, 5).chunks(2).toList()
+		);
+		assertEquals(
+				List.of(List.of(1, 2, 3), List.of(2, 3, 4)),
+				Iter.of(1, 2, 3, 4).windows(3).toList()
+		);
+		assertEquals(List.of(), Iter.of(1, 2).windows(3).toList());
+		var chunk = Iter.of(1).chunks(1).nextOrNull();
+		assertThrows(UnsupportedOperationException.class, () -> chunk.add(2));
+		assertThrows(IllegalArgumentException.class, () -> Iter.of(1).chunks(0));
+		assertThrows(IllegalArgumentException.class, () -> Iter.of(1).windows(0));
+	}
+
+	@Test
+	void fold_collect_count() {
+		assertEquals(10, Iter.of(1, 2, 3, 4).fold(0, Integer::sum));
+		assertEquals("a,b", Iter.of("a", "b").collect(Collectors.joining(",")));
+		assertEquals(3, Iter.of(1, 2, 3).count());
+		assertEquals(6, Iter.of("a", "bb", "ccc").mapToInt(String::length).sum());
+		assertEquals(6L, Iter.of("a", "bb", "ccc").mapToLong(String::length).sum());
+	}
+
+	@Test
+	void tryFold_short_circuits() {
+		Result<Integer, ErrorKind> ok = Iter.of("1", "2")
+				.tryFold(0, (acc, s) -> FromString.parseInt(s).map(x -> acc + x));
+		assertEquals(new Ok<>(3), ok);
+
+		var source = Iter.of("1", "x", "3");
+		Result<Integer, ErrorKind> err = source
+				.tryFold(0, (acc, s) -> FromString.parseInt(s).map(x -> acc + x));
+		assertTrue(err.isErr());
+		assertEquals("3", source.nextOrNull());
+	}
+
+	@Test
+	void for_each_loop() {
+		var seen = new ArrayList<Integer>();
+		for (var x : Iter.of(1, 2).map(x -> x + 1)) {
+			seen.add(x);
+		}
+		assertEquals(List.of(2, 3), seen);
+	}
+
+	@Test
+	void map_rejects_null() {
+		assertThrows(NullPointerException.class, () -> Iter.of(1).map(x -> null).toList());
+	}
+}
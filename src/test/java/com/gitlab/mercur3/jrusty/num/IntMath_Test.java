@@ -0,0 +1,159 @@
+package com.gitlab.mercur3.jrusty.num;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IntMath_Test {
+	private static final IntResult<ErrorKind> INT_OVERFLOW = IntResult.errKind(ErrorKind.OVERFLOW);
+	private static final LongResult<ErrorKind> LONG_OVERFLOW = LongResult.errKind(ErrorKind.OVERFLOW);
+
+	@Test
+	void checked() {
+		assertEquals(IntResult.ok(3), IntMath.checkedAdd(1, 2));
+		assertEquals(INT_OVERFLOW, IntMath.checkedAdd(Integer.MAX_VALUE, 1));
+		assertEquals(INT_OVERFLOW, IntMath.checkedSub(Integer.MIN_VALUE, 1));
+		assertEquals(IntResult.ok(Integer.MIN_VALUE), IntMath.checkedSub(-1, Integer.MAX_VALUE));
+		assertEquals(INT_OVERFLOW, IntMath.checkedSub(0, Integer.MIN_VALUE));
+		assertEquals(INT_OVERFLOW, IntMath.checkedMul(1 << 16, 1 << 15));
+		assertEquals(IntResult.ok(Integer.MIN_VALUE), IntMath.checkedMul(1 << 16, -(1 << 15)));
+		assertEquals(IntResult.errKind(ErrorKind.INVALID_INPUT), IntMath.checkedDiv(1, 0));
+		assertEquals(INT_OVERFLOW, IntMath.checkedDiv(Integer.MIN_VALUE, -1));
+		assertEquals(IntResult.ok(-3), IntMath.checkedDiv(7, -2));
+		assertEquals(INT_OVERFLOW, IntMath.checkedNeg(Integer.MIN_VALUE));
+		assertEquals(IntResult.ok(Integer.MIN_VALUE), IntMath.checkedShl(1, 31));
+		assertEquals(INT_OVERFLOW, IntMath.checkedShl(1, 32));
+		assertEquals(INT_OVERFLOW, IntMath.checkedShr(1, -1));
+		assertEquals(IntResult.ok(-1), IntMath.checkedShr(-8, 3));
+
+		assertEquals(LongResult.ok(Long.MIN_VALUE), LongMath.checkedMul(1L << 32, -(1L << 31)));
+		assertEquals(LONG_OVERFLOW, LongMath.checkedMul(1L << 32, 1L << 31));
+		assertEquals(LONG_OVERFLOW, LongMath.checkedMul(Long.MIN_VALUE, -1));
+		assertEquals(LONG_OVERFLOW, LongMath.checkedAdd(Long.MAX_VALUE, 1));
+		assertEquals(LONG_OVERFLOW, LongMath.checkedShl(1, 64));
+	}
+
+	@Test
+	void checkedPow() {
+		assertEquals(IntResult.ok(1), IntMath.checkedPow(0, 0));
+		assertEquals(IntResult.ok(1024), IntMath.checkedPow(2, 10));
+		assertEquals(IntResult.ok(Integer.MIN_VALUE), IntMath.checkedPow(-2, 31));
+		assertEquals(INT_OVERFLOW, IntMath.checkedPow(2, 31));
+		assertEquals(IntResult.ok(1), IntMath.checkedPow(-1, Integer.MAX_VALUE - 1));
+		assertEquals(IntResult.errKind(ErrorKind.INVALID_INPUT), IntMath.checkedPow(2, -1));
+		assertEquals(LongResult.ok(1_000_000_000_000_000_000L), LongMath.checkedPow(10, 18));
+		assertEquals(LONG_OVERFLOW, LongMath.checkedPow(10, 19));
+		// squaring the base past the last bit of exp must not count as an overflow
+		assertEquals(IntResult.ok(46340 * 46340), IntMath.checkedPow(46340, 2));
+	}
+
+	@Test
+	void wrapping_saturating_overflowing() {
+		assertEquals(Integer.MIN_VALUE, IntMath.wrappingAdd(Integer.MAX_VALUE, 1));
+		assertEquals(Integer.MIN_VALUE, IntMath.wrappingNeg(Integer.MIN_VALUE));
+		assertEquals(Integer.MIN_VALUE, IntMath.wrappingDiv(Integer.MIN_VALUE, -1));
+		assertEquals(2, IntMath.wrappingShl(1, 33));
+		assertEquals(0, IntMath.wrappingPow(2, 32));
+		assertThrows(ArithmeticException.class, () -> IntMath.wrappingDiv(1, 0));
+
+		assertEquals(Integer.MAX_VALUE, IntMath.saturatingAdd(Integer.MAX_VALUE, 1));
+		assertEquals(Integer.MIN_VALUE, IntMath.saturatingAdd(Integer.MIN_VALUE, -1));
+		assertEquals(Integer.MIN_VALUE, IntMath.saturatingSub(Integer.MIN_VALUE, 1));
+		assertEquals(Integer.MAX_VALUE, IntMath.saturatingSub(0, Integer.MIN_VALUE));
+		assertEquals(Integer.MAX_VALUE, IntMath.saturatingMul(-70000, -70000));
+		assertEquals(Integer.MIN_VALUE, IntMath.saturatingMul(70000, -70000));
+		assertEquals(Integer.MAX_VALUE, IntMath.saturatingDiv(Integer.MIN_VALUE, -1));
+		assertEquals(Integer.MAX_VALUE, IntMath.saturatingNeg(Integer.MIN_VALUE));
+		assertEquals(Integer.MIN_VALUE, IntMath.saturatingPow(-3, 41));
+		assertEquals(Integer.MAX_VALUE, IntMath.saturatingPow(-3, 40));
+		assertEquals(Long.MAX_VALUE, LongMath.saturatingMul(Long.MIN_VALUE, -1));
+
+		assertEquals(new IntMath.Overflowing(Integer.MIN_VALUE, true), IntMath.overflowingAdd(Integer.MAX_VALUE, 1));
+		assertEquals(new IntMath.Overflowing(5, false), IntMath.overflowingSub(7, 2));
+		assertEquals(new IntMath.Overflowing(0, true), IntMath.overflowingMul(1 << 16, 1 << 16));
+		assertEquals(new IntMath.Overflowing(Integer.MIN_VALUE, true), IntMath.overflowingNeg(Integer.MIN_VALUE));
+		assertEquals(new IntMath.Overflowing(Integer.MIN_VALUE, true), IntMath.overflowingDiv(Integer.MIN_VALUE, -1));
+		assertEquals(new IntMath.Overflowing(2, true), IntMath.overflowingShl(1, 33));
+		assertEquals(new LongMath.Overflowing(0, true), LongMath.overflowingPow(2, 64));
+		assertThrows(IllegalArgumentException.class, () -> LongMath.overflowingPow(2, -1));
+	}
+
+	@Test
+	void mul_matches_BigInteger() {
+		var random = new Random(42);
+		var min = BigInteger.valueOf(Long.MIN_VALUE);
+		var max = BigInteger.valueOf(Long.MAX_VALUE);
+		for (int i = 0; i < 10_000; i++) {
+			long a = random.nextLong() >> random.nextInt(64);
+			long b = random.nextLong() >> random.nextInt(64);
+			var exact = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b));
+			boolean fits = exact.compareTo(min) >= 0 && exact.compareTo(max) <= 0;
+			assertEquals(fits, LongMath.checkedMul(a, b).isOk(), a + " * " + b);
+
+			int x = (int) a;
+			int y = (int) b;
+			assertEquals((long) x * y == x * y, IntMath.checkedMul(x, y).isOk(), x + " * " + y);
+		}
+	}
+
+	@Test
+	void checkedSum() {
+		assertEquals(3L * Integer.MAX_VALUE, IntMath.sum(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE}));
+		assertEquals(INT_OVERFLOW, IntMath.checkedSum(new int[]{Integer.MAX_VALUE, 1}));
+		assertEquals(IntResult.ok(Integer.MAX_VALUE), IntMath.checkedSum(new int[]{Integer.MAX_VALUE, 1, -1}));
+		assertEquals(IntResult.ok(1), IntMath.checkedSum(new int[]{5, 1, 5}, 1, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> IntMath.checkedSum(new int[1], 0, 2));
+
+		assertEquals(LONG_OVERFLOW, LongMath.checkedSum(new long[]{Long.MAX_VALUE, 1}));
+		assertEquals(LONG_OVERFLOW, LongMath.checkedSum(new long[]{Long.MIN_VALUE, -1}));
+		assertEquals(LongResult.ok(Long.MAX_VALUE), LongMath.checkedSum(new long[]{Long.MAX_VALUE, 1, -1}));
+		assertEquals(LongResult.ok(Long.MIN_VALUE), LongMath.checkedSum(new long[]{Long.MIN_VALUE}));
+		assertEquals(LongResult.ok(0), LongMath.checkedSum(new long[0]));
+
+		var random = new Random(7);
+		var min = BigInteger.valueOf(Long.MIN_VALUE);
+		var max = BigInteger.valueOf(Long.MAX_VALUE);
+		for (int i = 0; i < 1000; i++) {
+			var values = new long[random.nextInt(8)];
+			var exact = BigInteger.ZERO;
+			for (int k = 0; k < values.length; k++) {
+				values[k] = random.nextLong() >> random.nextInt(4);
+				exact = exact.add(BigInteger.valueOf(values[k]));
+			}
+			var res = LongMath.checkedSum(values);
+			if (exact.compareTo(min) >= 0 && exact.compareTo(max) <= 0) {
+				assertEquals(LongResult.ok(exact.longValueExact()), res);
+			}
+			else {
+				assertEquals(LONG_OVERFLOW, res);
+			}
+		}
+	}
+
+	@Test
+	void elementwise() {
+		var a = new int[]{1, Integer.MAX_VALUE, 3};
+		var b = new int[]{1, 1, 3};
+		var out = new int[3];
+		assertEquals(Result.errKind(ErrorKind.OVERFLOW), IntMath.checkedAdd(a, b, out));
+		assertArrayEquals(new int[]{2, Integer.MIN_VALUE, 6}, out);
+		assertEquals(Result.okUnit(), IntMath.checkedSub(a, b, out));
+		assertArrayEquals(new int[]{0, Integer.MAX_VALUE - 1, 0}, out);
+		assertTrue(IntMath.checkedMul(a, b, a).isOk());
+		assertThrows(IllegalArgumentException.class, () -> IntMath.checkedAdd(a, b, new int[2]));
+
+		var x = new long[]{Long.MIN_VALUE, 2};
+		assertTrue(LongMath.checkedSub(x, new long[]{1, 1}, new long[2]).isErr());
+		assertTrue(LongMath.checkedMul(x, new long[]{1, Long.MAX_VALUE}, x).isErr());
+	}
+}
@@ -1,5 +1,10 @@
 package com.gitlab.mercur3.jrusty.option;
 
+import com.gitlab.mercur3.jrusty.panic.UnwrapException;
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.util.Box;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
@@ -29,4 +34,88 @@ class Option_Test {
 		Optional<String> y = Optional.empty();
 		assertEquals(Option.mapOrElse(y, () -> 2 * k, String::length), 42);
 	}
-}
\ No newline at end of file
+
+	@Test
+	void some_path_works() {
+		var x = Option.some("alpha");
+
+		assertTrue(x.isSome());
+		assertFalse(x.isNone());
+		assertTrue(x.isSomeAnd(s -> s.length() == 5));
+		assertEquals("alpha", x.unwrap());
+		assertEquals("alpha", x.expect("oops"));
+		assertEquals("alpha", x.unwrapOr("beta"));
+		assertEquals("alpha", x.unwrapOrElse(() -> "beta"));
+		assertEquals(Option.some(5), x.map(String::length));
+		assertEquals(5, x.mapOr(42, String::length));
+		assertEquals(5, x.mapOrElse(() -> 42, String::length));
+		assertEquals(Option.some('a'), x.andThen(s -> Option.some(s.charAt(0))));
+		assertSame(x, x.filter(s -> s.startsWith("a")));
+		assertSame(Option.none(), x.filter(String::isEmpty));
+		assertSame(x, x.or(Option.some("beta")));
+		assertSame(x, x.orElse(() -> Option.some("beta")));
+		assertEquals(Option.some(new Tuple2<>("alpha", 1)), x.zip(Option.some(1)));
+		assertEquals(new Ok<>("alpha"), x.okOr(1));
+		assertEquals(new Ok<>("alpha"), x.okOrElse(() -> 1));
+		assertEquals("alpha", x.iter().next());
+		assertEquals(Optional.of("alpha"), x.toOptional());
+	}
+
+	@Test
+	void none_path_works() {
+		Option<String> x = Option.none();
+
+		assertFalse(x.isSome());
+		assertTrue(x.isNone());
+		assertFalse(x.isSomeAnd(s -> true));
+		assertThrowsExactly(UnwrapException.class, x::unwrap);
+		assertThrowsExactly(UnwrapException.class, () -> x.expect("oops"));
+		assertEquals("beta", x.unwrapOr("beta"));
+		assertEquals("beta", x.unwrapOrElse(() -> "beta"));
+		assertSame(x, x.map(String::length));
+		assertEquals(42, x.mapOr(42, String::length));
+		assertEquals(42, x.mapOrElse(() -> 42, String::length));
+		assertSame(x, x.andThen(s -> Option.some(s.charAt(0))));
+		assertSame(x, x.filter(s -> true));
+		assertEquals(Option.some("beta"), x.or(Option.some("beta")));
+		assertEquals(Option.some("beta"), x.orElse(() -> Option.some("beta")));
+		assertSame(x, x.zip(Option.some(1)));
+		assertSame(x, Option.some(1).zip(x));
+		assertEquals(new Err<>(1), x.okOr(1));
+		assertEquals(new Err<>(1), x.okOrElse(() -> 1));
+		assertFalse(x.iter().hasNext());
+		assertEquals(Optional.empty(), x.toOptional());
+	}
+
+	@Test
+	void conversions() {
+		assertSame(Option.none(), Option.ofNullable(null));
+		assertSame(Option.none(), Option.fromOptional(Optional.empty()));
+		assertEquals(Option.some(1), Option.fromOptional(Optional.of(1)));
+		assertThrows(NullPointerException.class, () -> Option.some(null));
+
+		assertEquals(Option.some(1), new Ok<Integer, String>(1).okOption());
+		assertSame(Option.none(), new Ok<Integer, String>(1).errOption());
+		assertSame(Option.none(), new Err<String, Integer>("e").okOption());
+		assertEquals(Option.some("e"), new Err<String, Integer>("e").errOption());
+	}
+
+	@Test
+	void take_leaves_none_behind() {
+		var slot = Box.withDefault(Option.some(1));
+
+		assertEquals(Option.some(1), Option.take(slot));
+		assertSame(Option.none(), slot.value);
+		assertSame(Option.none(), Option.take(slot));
+	}
+
+	@Test
+	void pattern_matching_works() {
+		Option<String> some = Option.some("alpha");
+		var out = switch (some) {
+			case Some<String> s -> s.unwrap();
+			case None<String> n -> "gamma";
+		};
+		assertEquals("alpha", out);
+	}
+}
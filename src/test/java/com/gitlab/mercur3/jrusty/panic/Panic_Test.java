@@ -0,0 +1,117 @@
+package com.gitlab.mercur3.jrusty.panic;
+
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Panic_Test {
+	private final BacktracePolicy global = Panic.backtrace();
+
+	@AfterEach
+	void restore() {
+		Panic.setBacktrace(global);
+		Panic.setThreadBacktrace(null);
+		Panic.setHook(null);
+	}
+
+	@Test
+	void backtrace_follows_the_policy() {
+		Panic.setBacktrace(BacktracePolicy.ON);
+		assertNotEquals(0, new UnreachableException().getStackTrace().length);
+
+		Panic.setBacktrace(BacktracePolicy.OFF);
+		assertEquals(0, new UnreachableException().getStackTrace().length);
+		assertEquals(0, new UnimplementedException().getStackTrace().length);
+		Result<Integer, String> err = new Err<>("bad");
+		var e = assertThrows(UnwrapException.class, err::unwrap);
+		assertEquals(0, e.getStackTrace().length);
+		assertEquals("Trying to access value from a result that is error", e.getMessage());
+	}
+
+	@Test
+	void thread_policy_wins_over_the_global_one() throws InterruptedException {
+		Panic.setBacktrace(BacktracePolicy.ON);
+		assertNull(Panic.setThreadBacktrace(BacktracePolicy.OFF));
+		assertEquals(0, new UnreachableException().getStackTrace().length);
+
+		var other = new int[1];
+		var thread = Thread.ofVirtual().start(() -> other[0] = new UnreachableException().getStackTrace().length);
+		thread.join();
+		assertNotEquals(0, other[0]);
+
+		assertEquals(BacktracePolicy.OFF, Panic.setThreadBacktrace(null));
+		assertNotEquals(0, new UnreachableException().getStackTrace().length);
+	}
+
+	@Test
+	void sampled_policy_captures_some() {
+		Panic.setBacktrace(BacktracePolicy.sampled(4));
+		int captured = 0;
+		for (int i = 0; i < 4_000; i++) {
+			if (new UnreachableException().getStackTrace().length != 0) {
+				captured++;
+			}
+		}
+		assertTrue(captured > 500 && captured < 1_500, "captured " + captured);
+	}
+
+	@Test
+	void policy_parsing() {
+		assertEquals(BacktracePolicy.OFF, BacktracePolicy.parse("0"));
+		assertEquals(BacktracePolicy.ON, BacktracePolicy.parse(" full "));
+		assertEquals(BacktracePolicy.sampled(100), BacktracePolicy.parse("sampled:100"));
+		assertEquals("sampled:100", BacktracePolicy.parse("sampled:100").toString());
+		assertSame(BacktracePolicy.ON, BacktracePolicy.sampled(1));
+		assertNull(BacktracePolicy.parse("sampled:0"));
+		assertNull(BacktracePolicy.parse("sampled:x"));
+		assertNull(BacktracePolicy.parse("yes"));
+		assertNull(BacktracePolicy.parse(null));
+		assertThrows(IllegalArgumentException.class, () -> BacktracePolicy.sampled(0));
+	}
+
+	@Test
+	void hook_sees_every_panic() {
+		var seen = new ArrayList<PanicKind>();
+		Panic.setHook((kind, panic) -> {
+			seen.add(kind);
+			if (kind == PanicKind.UNREACHABLE) {
+				throw new IllegalArgumentException("hook failed");
+			}
+		});
+
+		var unreachable = new UnreachableException();
+		new UnimplementedException("later");
+		Result<Integer, String> ok = new Ok<>(1);
+		assertThrows(UnwrapException.class, ok::unwrapErr);
+
+		assertEquals(
+				List.of(PanicKind.UNREACHABLE, PanicKind.UNIMPLEMENTED, PanicKind.UNWRAP),
+				seen
+		);
+		assertEquals("hook failed", unreachable.getSuppressed()[0].getMessage());
+	}
+
+	@Test
+	void panics_are_counted_by_kind() {
+		long unwraps = Panic.count(PanicKind.UNWRAP);
+		long unreachables = Panic.count(PanicKind.UNREACHABLE);
+		Result<Integer, String> err = new Err<>("bad");
+		for (int i = 0; i < 3; i++) {
+			assertThrows(UnwrapException.class, () -> err.expect("oops"));
+		}
+		new UnreachableException();
+
+		assertEquals(unwraps + 3, Panic.count(PanicKind.UNWRAP));
+		assertEquals(unreachables + 1, Panic.counts().get(PanicKind.UNREACHABLE));
+	}
+}
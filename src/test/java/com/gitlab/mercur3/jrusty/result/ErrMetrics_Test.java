@@ -0,0 +1,79 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import com.gitlab.mercur3.jrusty.util.FromString;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ErrMetrics_Test {
+	@AfterEach
+	void restore() {
+		ErrMetrics.setCounting(false);
+		ErrMetrics.setEvents(false);
+		ErrMetrics.setEventSampling(1);
+		ErrMetrics.reset();
+	}
+
+	@Test
+	void counts_errors_by_kind() {
+		ErrMetrics.reset();
+		ErrMetrics.setCounting(true);
+
+		new Err<>(ErrorKind.FORMAT_ERROR);
+		FromString.parseInt("x");
+		FromString.parseIntPrimitive("99999999999");
+		LongResult.err(ErrorKind.IO_ERROR);
+		new Err<>("not a kind");
+		// conversions are not new errors
+		IntResult.fromResult(Result.<Integer>errKind(ErrorKind.NOT_FOUND)).toResult();
+
+		var counts = ErrMetrics.snapshot();
+		assertEquals(2, counts.get(ErrorKind.FORMAT_ERROR));
+		assertEquals(1, counts.get(ErrorKind.OVERFLOW));
+		assertEquals(1, counts.get(ErrorKind.IO_ERROR));
+		assertEquals(1, counts.get(ErrorKind.NOT_FOUND));
+		assertEquals(0, ErrMetrics.count(ErrorKind.TIMED_OUT));
+
+		ErrMetrics.setCounting(false);
+		FromString.parseInt("x");
+		assertEquals(2, ErrMetrics.count(ErrorKind.FORMAT_ERROR));
+	}
+
+	@Test
+	void emits_flight_recorder_events(@TempDir Path dir) throws IOException {
+		var file = dir.resolve("errs.jfr");
+		try (var recording = new Recording()) {
+			recording.enable(ErrEvent.NAME);
+			recording.start();
+			FromString.parseLong("x");
+			ErrMetrics.setEvents(true);
+			// the call site is the first class outside of jrusty, here the JDK's
+			Optional.of("y").map(FromString::parseLong);
+			recording.stop();
+			recording.dump(file);
+		}
+
+		var events = RecordingFile.readAllEvents(file).stream()
+				.filter(e -> e.getEventType().getName().equals(ErrEvent.NAME))
+				.toList();
+		assertEquals(1, events.size());
+		assertEquals("FORMAT_ERROR", events.get(0).getString("kind"));
+		assertEquals(Optional.class.getName(), events.get(0).getClass("callSite").getName());
+	}
+
+	@Test
+	void rejects_invalid_sampling() {
+		assertThrows(IllegalArgumentException.class, () -> ErrMetrics.setEventSampling(0));
+	}
+}
@@ -0,0 +1,81 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import com.gitlab.mercur3.jrusty.panic.UnwrapException;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IntResult_Test {
+	private static final String ERROR_MESSAGE = "An error has occurred";
+
+	@Test
+	void ok_path_works() {
+		IntResult<String> x = IntResult.ok(21);
+
+		assertTrue(x.isOk());
+		assertFalse(x.isErr());
+		assertEquals(21, x.unwrap());
+		assertEquals(21, x.expect(ERROR_MESSAGE));
+		assertThrowsExactly(UnwrapException.class, x::unwrapErr);
+		assertThrowsExactly(UnwrapException.class, () -> x.expectErr(ERROR_MESSAGE));
+		assertEquals(IntResult.ok(42), x.map(v -> v * 2));
+		assertEquals(new Ok<>("21"), x.mapToObj(String::valueOf));
+		assertSame(x, x.mapErr(String::length));
+		assertEquals(22, x.mapOr(-1, v -> v + 1));
+		assertEquals(22, x.mapOrElse(String::length, v -> v + 1));
+		assertEquals(21, x.unwrapOr(-1));
+		assertEquals(21, x.unwrapOrElse(String::length));
+	}
+
+	@Test
+	void err_path_works() {
+		IntResult<String> x = IntResult.err(ERROR_MESSAGE);
+
+		assertFalse(x.isOk());
+		assertTrue(x.isErr());
+		assertThrowsExactly(UnwrapException.class, x::unwrap);
+		assertThrowsExactly(UnwrapException.class, () -> x.expect(ERROR_MESSAGE));
+		assertEquals(ERROR_MESSAGE, x.unwrapErr());
+		assertSame(x, x.map(v -> v * 2));
+		assertEquals(new Err<>(ERROR_MESSAGE), x.mapToObj(String::valueOf));
+		assertEquals(IntResult.err(ERROR_MESSAGE.length()), x.mapErr(String::length));
+		assertEquals(-1, x.mapOr(-1, v -> v + 1));
+		assertEquals(ERROR_MESSAGE.length(), x.mapOrElse(String::length, v -> v + 1));
+		assertEquals(-1, x.unwrapOr(-1));
+		assertEquals(ERROR_MESSAGE.length(), x.unwrapOrElse(String::length));
+	}
+
+	@Test
+	void null_not_allowed() {
+		assertThrows(NullPointerException.class, () -> IntResult.err(null));
+		assertThrows(NullPointerException.class, () -> LongResult.err(null));
+		assertThrows(NullPointerException.class, () -> DoubleResult.err(null));
+		assertThrows(NullPointerException.class, () -> BooleanResult.err(null));
+	}
+
+	@Test
+	void conversion_round_trips() {
+		Result<Integer, String> ok = new Ok<>(7);
+		Result<Integer, String> err = new Err<>(ERROR_MESSAGE);
+
+		assertEquals(ok, IntResult.fromResult(ok).toResult());
+		assertEquals(err, IntResult.fromResult(err).toResult());
+		assertEquals(new Ok<>(7L), LongResult.<String>ok(7L).toResult());
+		assertEquals(new Ok<>(0.5), DoubleResult.<String>ok(0.5).toResult());
+		assertEquals(new Ok<>(true), BooleanResult.<String>ok(true).toResult());
+	}
+
+	@Test
+	void equality() {
+		assertEquals(IntResult.ok(1), IntResult.ok(1));
+		assertEquals(IntResult.ok(1).hashCode(), IntResult.ok(1).hashCode());
+		assertNotEquals(IntResult.ok(1), IntResult.ok(2));
+		assertNotEquals(IntResult.ok(1), IntResult.err(1));
+		assertEquals(IntResult.err("a"), IntResult.err("a"));
+		assertEquals(DoubleResult.ok(Double.NaN), DoubleResult.ok(Double.NaN));
+		assertNotEquals(DoubleResult.ok(0.0), DoubleResult.ok(-0.0));
+	}
+}
@@ -0,0 +1,69 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ResultFuture_Test {
+	@Test
+	void combinators_compose_like_result() {
+		var res = ResultFuture.<Integer, String>spawn(() -> new Ok<>(20))
+				.map(x -> x + 1)
+				.andThen(x -> new Ok<>(x * 2))
+				.andThenAsync(x -> ResultFuture.spawn(() -> new Ok<>("v" + x)))
+				.join();
+		assertEquals(new Ok<>("v42"), res);
+
+		var err = ResultFuture.<Integer, String>spawn(() -> new Err<>("bad"))
+				.map(x -> x + 1)
+				.andThenAsync(x -> fail("must not run"))
+				.mapErr(String::length)
+				.join();
+		assertEquals(new Err<>(3), err);
+
+		var recovered = ResultFuture.completed(new Err<String, Integer>("bad"))
+				.orElse(e -> new Ok<>(e.length()))
+				.join();
+		assertEquals(new Ok<>(3), recovered);
+	}
+
+	@Test
+	void panics_are_rethrown_unwrapped() {
+		var future = ResultFuture.<Integer, String>spawn(() -> {
+			throw new IllegalStateException("boom");
+		}).map(x -> x + 1);
+		var e = assertThrows(IllegalStateException.class, future::join);
+		assertEquals("boom", e.getMessage());
+	}
+
+	@Test
+	void join_with_timeout_returns_err() throws InterruptedException {
+		var release = new CountDownLatch(1);
+		var future = ResultFuture.<Integer, ErrorKind>spawn(() -> {
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				return Result.errKind(ErrorKind.ILLEGAL_STATE);
+			}
+			return new Ok<>(1);
+		});
+		assertEquals(
+				Result.errKind(ErrorKind.TIMED_OUT),
+				future.join(Duration.ofMillis(10), ErrorKind.TIMED_OUT)
+		);
+		assertFalse(future.isDone());
+		assertThrows(NullPointerException.class, () -> future.join(null, ErrorKind.TIMED_OUT));
+		assertThrows(NullPointerException.class, () -> future.join(Duration.ZERO, null));
+
+		assertTrue(future.cancel());
+		assertThrows(CancellationException.class, future::join);
+	}
+}
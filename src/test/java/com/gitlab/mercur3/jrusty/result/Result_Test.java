@@ -1,10 +1,15 @@
 package com.gitlab.mercur3.jrusty.result;
 
 import com.gitlab.mercur3.jrusty.panic.UnreachableException;
+import com.gitlab.mercur3.jrusty.panic.UnwrapException;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,7 +48,7 @@ class Result_Test {
 		assertEquals(x.err(), Optional.empty());
 		assertEquals(x.expect(ERROR_MESSAGE), str);
 		assertThrowsExactly(
-				IllegalStateException.class,
+				UnwrapException.class,
 				() -> x.expectErr(ERROR_MESSAGE),
 				ERROR_MESSAGE
 		);
@@ -52,7 +57,7 @@ class Result_Test {
 		assertEquals(x.mapOr(-1, String::length), str.length());
 		assertEquals(x.mapOrElse((err -> -1), String::length), str.length());
 		assertEquals(x.unwrap(), str);
-		assertThrowsExactly(IllegalStateException.class, x::unwrapErr);
+		assertThrowsExactly(UnwrapException.class, x::unwrapErr);
 		assertEquals(x.unwrapOr(""), str);
 		assertEquals(x.unwrapOrElse(Result_Test::__toString), str);
 	}
@@ -144,6 +149,99 @@ class Result_Test {
 		assertEquals("gamma", out2);
 	}
 
+	@Test
+	void pass_through_side_is_not_copied() {
+		Result<String, Integer> ok = new Ok<>("alpha");
+		Result<String, Integer> err = new Err<>(1);
+
+		assertSame(err, err.map(String::length));
+		assertSame(ok, ok.mapErr(String::valueOf));
+		assertSame(err, err.andThen(x -> new Ok<>(x.length())));
+		assertSame(ok, ok.orElse(e -> new Err<>("beta")));
+		assertSame(err, err.and(new Ok<>(2)));
+		assertSame(ok, ok.or(new Err<>("beta")));
+		assertSame(ok, ok.inspect(x -> {}));
+		assertSame(err, err.inspectErr(x -> {}));
+		assertSame(err.iter(), new Err<Integer, String>(2).iter());
+	}
+
+	@Test
+	void rust_combinators_work() {
+		Result<String, Integer> ok = new Ok<>("alpha");
+		Result<String, Integer> err = new Err<>(1);
+
+		assertEquals(new Ok<>(5), ok.andThen(x -> new Ok<>(x.length())));
+		assertEquals(new Err<>(7), ok.andThen(x -> new Err<>(7)));
+		assertEquals(new Ok<>("beta"), err.orElse(e -> new Ok<>("beta")));
+		assertEquals(new Err<>("2"), err.orElse(e -> new Err<>(String.valueOf(e + 1))));
+		assertEquals(new Ok<>(2), ok.and(new Ok<>(2)));
+		assertEquals(new Ok<>("beta"), err.or(new Ok<>("beta")));
+
+		var seen = new ArrayList<Object>();
+		ok.inspect(seen::add).inspectErr(seen::add);
+		err.inspect(seen::add).inspectErr(seen::add);
+		assertEquals(List.of("alpha", 1), seen);
+
+		assertTrue(ok.isOkAnd(x -> x.startsWith("a")));
+		assertFalse(ok.isOkAnd(String::isEmpty));
+		assertFalse(err.isOkAnd(x -> true));
+		assertTrue(err.isErrAnd(e -> e == 1));
+		assertFalse(ok.isErrAnd(e -> true));
+
+		var it = ok.iter();
+		assertTrue(it.hasNext());
+		assertEquals("alpha", it.next());
+		assertFalse(it.hasNext());
+		assertFalse(err.iter().hasNext());
+	}
+
+	@Test
+	void flyweights_are_canonical_and_equal_to_fresh_instances() {
+		for (var kind : ErrorKind.values()) {
+			assertSame(Result.errKind(kind), Result.errKind(kind));
+			assertEquals(new Err<>(kind), Result.errKind(kind));
+		}
+		assertSame(Result.okBoolean(true), Result.okBoolean(true));
+		assertEquals(new Ok<>(false), Result.okBoolean(false));
+		assertEquals(new Ok<>(Empty.UNIT), Result.okUnit());
+		for (int i = Byte.MIN_VALUE; i <= Byte.MAX_VALUE; i++) {
+			assertSame(Result.okByte((byte) i), Result.okByte((byte) i));
+			assertEquals(new Ok<>((byte) i), Result.okByte((byte) i));
+			assertSame(Result.okInt(i), Result.okInt(i));
+			assertEquals(new Ok<>(i), Result.okInt(i));
+			assertSame(Result.okLong(i), Result.okLong(i));
+			assertEquals(new Ok<>((long) i), Result.okLong(i));
+		}
+		assertEquals(new Ok<>(128), Result.okInt(128));
+		assertEquals(new Ok<>(-129L), Result.okLong(-129));
+		assertThrows(NullPointerException.class, () -> Result.errKind(null));
+	}
+
+	@Test
+	void hashCode_agrees_with_equals() {
+		assertEquals(new Ok<>("a").hashCode(), new Ok<>("a").hashCode());
+		assertEquals(new Err<>(ErrorKind.NOT_FOUND).hashCode(), Result.errKind(ErrorKind.NOT_FOUND).hashCode());
+		assertEquals(new Ok<>(7).hashCode(), Result.okInt(7).hashCode());
+		assertNotEquals(new Ok<>(1).hashCode(), new Err<>(1).hashCode());
+
+		var set = new HashSet<Result<String, ErrorKind>>();
+		set.add(new Ok<>("a"));
+		set.add(Result.errKind(ErrorKind.IO_ERROR));
+		assertTrue(set.contains(new Ok<>("a")));
+		assertTrue(set.contains(new Err<>(ErrorKind.IO_ERROR)));
+	}
+
+	@Test
+	void ok_and_err_are_as_small_as_a_single_reference() {
+		final class SingleRef {
+			Object value;
+		}
+		long expected = ClassLayout.parseClass(SingleRef.class).instanceSize();
+
+		assertEquals(expected, ClassLayout.parseClass(Ok.class).instanceSize());
+		assertEquals(expected, ClassLayout.parseClass(Err.class).instanceSize());
+	}
+
 	private int strToDefaultInt(String str) {
 		return DEFAULT_ERR_INT;
 	}
@@ -0,0 +1,176 @@
+package com.gitlab.mercur3.jrusty.result;
+
+import com.gitlab.mercur3.jrusty.util.FromString;
+import com.gitlab.mercur3.jrusty.util.Tuple2;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Results_Test {
+	@Test
+	void collect_to_ok() {
+		var res = Results.collect(Stream.of("1", "2", "3").map(FromString::parseInt));
+		assertEquals(new Ok<>(List.of(1, 2, 3)), res);
+
+		assertEquals(new Ok<>(List.of()), Results.<Integer, String>collect(Stream.empty()));
+	}
+
+	@Test
+	void collect_stops_pulling_at_the_first_err() {
+		var pulled = new AtomicInteger();
+		var res = Results.collect(IntStream.range(0, 1_000)
+				.peek(i -> pulled.incrementAndGet())
+				.mapToObj(i -> i == 3 ? new Err<Integer, Integer>(i) : new Ok<Integer, Integer>(i)));
+
+		assertEquals(new Err<>(3), res);
+		assertEquals(4, pulled.get());
+	}
+
+	@Test
+	void parallel_collect_cancels_other_splits() {
+		var pulled = new AtomicInteger();
+		int size = 1_000_000;
+		Result<List<Integer>, String> res = Results.collect(IntStream.range(0, size)
+				.parallel()
+				.boxed()
+				.peek(i -> pulled.incrementAndGet())
+				.map(i -> i % 1000 == 999 ? new Err<>("bad " + i) : new Ok<>(i)));
+
+		assertTrue(res.isErr());
+		assertTrue(res.unwrapErr().startsWith("bad "));
+		assertTrue(pulled.get() < size, "pulled " + pulled.get());
+
+		Result<List<Integer>, String> ok = Results.collect(IntStream.range(0, 10_000)
+				.parallel()
+				.mapToObj(Ok::new));
+		assertEquals(IntStream.range(0, 10_000).boxed().toList(), ok.unwrap());
+	}
+
+	@Test
+	void to_list_returns_the_first_err_in_encounter_order() {
+		Result<List<Integer>, Integer> res = IntStream.range(0, 10_000)
+				.parallel()
+				.mapToObj(i -> i % 2_000 == 1_999 ? new Err<Integer, Integer>(i) : new Ok<Integer, Integer>(i))
+				.collect(Results.toList());
+		assertEquals(new Err<>(1_999), res);
+	}
+
+	@Test
+	void partitioning_keeps_both_sides() {
+		var parts = Stream.of("1", "x", "3", "y")
+				.map(FromString::parseInt)
+				.collect(Results.partitioning());
+		assertEquals(
+				new Tuple2<>(List.of(1, 3), List.of(ErrorKind.FORMAT_ERROR, ErrorKind.FORMAT_ERROR)),
+				parts
+		);
+	}
+
+	@Test
+	void traverse_stops_at_the_first_err() {
+		var calls = new AtomicInteger();
+		var res = Results.traverse(List.of("1", "x", "3"), s -> {
+			calls.incrementAndGet();
+			return FromString.parseInt(s);
+		});
+		assertSame(FromString.parseInt("x"), res);
+		assertEquals(2, calls.get());
+
+		assertEquals(new Ok<>(List.of(1, 3)), Results.traverse(List.of("1", "3"), FromString::parseInt));
+	}
+
+	@Test
+	void parallel_traverse_keeps_order() {
+		var inputs = IntStream.range(0, 1_000).mapToObj(Integer::toString).toList();
+		var res = Results.parallelTraverse(inputs, FromString::parseInt);
+		assertEquals(IntStream.range(0, 1_000).boxed().toList(), res.unwrap());
+
+		assertEquals(new Ok<>(List.of()), Results.parallelTraverse(List.<String>of(), FromString::parseInt));
+	}
+
+	@Test
+	void parallel_traverse_cancels_siblings_on_the_first_err() {
+		var started = new AtomicInteger();
+		var interrupted = new AtomicInteger();
+		var inputs = IntStream.range(0, 10).boxed().toList();
+		Result<List<Integer>, String> res = assertTimeoutPreemptively(
+				Duration.ofSeconds(10),
+				() -> Results.parallelTraverse(inputs, i -> {
+					if (i == 5) {
+						return new Err<>("bad");
+					}
+					started.incrementAndGet();
+					try {
+						Thread.sleep(Duration.ofMinutes(1));
+					}
+					catch (InterruptedException e) {
+						interrupted.incrementAndGet();
+					}
+					return new Ok<>(i);
+				})
+		);
+
+		assertEquals(new Err<>("bad"), res);
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			while (interrupted.get() < started.get()) {
+				Thread.sleep(1);
+			}
+		});
+	}
+
+	@Test
+	void parallel_traverse_respects_the_concurrency_limit() {
+		var running = new AtomicInteger();
+		var peak = new AtomicInteger();
+		var inputs = new ArrayList<Integer>();
+		for (int i = 0; i < 200; i++) {
+			inputs.add(i);
+		}
+		var res = Results.<Integer, Integer, String>parallelTraverse(inputs, i -> {
+			peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+			Thread.yield();
+			running.decrementAndGet();
+			return new Ok<>(i);
+		}, 4);
+
+		assertEquals(inputs, res.unwrap());
+		assertTrue(peak.get() <= 4, "peak " + peak.get());
+		assertThrows(IllegalArgumentException.class, () -> Results.parallelTraverse(inputs, Ok::new, 0));
+	}
+
+	@Test
+	void parallel_traverse_times_out() {
+		var res = Results.<Integer, Integer, ErrorKind>parallelTraverse(List.of(1, 2), i -> {
+			try {
+				Thread.sleep(Duration.ofMinutes(1));
+			}
+			catch (InterruptedException e) {
+				return Result.errKind(ErrorKind.ILLEGAL_STATE);
+			}
+			return new Ok<>(i);
+		}, 2, Duration.ofMillis(20), ErrorKind.TIMED_OUT);
+		assertEquals(Result.errKind(ErrorKind.TIMED_OUT), res);
+		assertThrows(
+				NullPointerException.class,
+				() -> Results.parallelTraverse(List.of(1), Ok::new, 1, Duration.ofSeconds(1), null)
+		);
+	}
+
+	@Test
+	void parallel_traverse_rethrows_panics() {
+		assertThrows(ArithmeticException.class, () -> Results.parallelTraverse(
+				List.of(1, 0),
+				i -> new Ok<Integer, String>(1 / i)
+		));
+	}
+}
@@ -0,0 +1,84 @@
+package com.gitlab.mercur3.jrusty.sync;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Mutex_Test {
+	@Test
+	void should_not_set_inner_content_to_null_with_withDefault() {
+		assertThrowsExactly(NullPointerException.class, () -> Mutex.withDefault(null));
+		try (var guard = Mutex.empty().lock()) {
+			assertNull(guard.get());
+		}
+	}
+
+	@Test
+	void guard_is_unusable_after_close() {
+		var mutex = Mutex.withDefault(1);
+		var guard = mutex.lock();
+		assertTrue(mutex.isLocked());
+		guard.set(2);
+		assertEquals(2, guard.replace(3));
+		guard.close();
+		guard.close();
+
+		assertFalse(mutex.isLocked());
+		assertThrows(IllegalStateException.class, guard::get);
+		assertEquals(3, mutex.<Integer>withLock(g -> g.get()));
+	}
+
+	@Test
+	void try_lock_returns_err_when_held() throws InterruptedException {
+		var mutex = Mutex.withDefault("x");
+		var locked = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var holder = Thread.ofVirtual().start(() -> {
+			try (var guard = mutex.lock()) {
+				assertEquals("x", guard.get());
+				locked.countDown();
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		locked.await();
+
+		assertEquals(Result.errKind(ErrorKind.WOULD_BLOCK), mutex.tryLock());
+		assertEquals(Result.errKind(ErrorKind.TIMED_OUT), mutex.tryLock(Duration.ofMillis(10)));
+
+		release.countDown();
+		holder.join();
+		var res = mutex.tryLock();
+		try (var guard = res.unwrap()) {
+			assertEquals("x", guard.get());
+		}
+	}
+
+	@Test
+	void increments_are_not_lost() throws InterruptedException {
+		var mutex = Mutex.withDefault(0);
+		var threads = new ArrayList<Thread>();
+		for (int t = 0; t < 8; t++) {
+			threads.add(Thread.ofVirtual().start(() -> {
+				for (int i = 0; i < 1_000; i++) {
+					mutex.withLock(guard -> guard.replace(guard.get() + 1));
+				}
+			}));
+		}
+		for (var thread : threads) {
+			thread.join();
+		}
+		assertEquals(8_000, mutex.<Integer>withLock(g -> g.get()));
+	}
+}
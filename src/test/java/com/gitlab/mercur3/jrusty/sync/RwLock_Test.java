@@ -0,0 +1,77 @@
+package com.gitlab.mercur3.jrusty.sync;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class RwLock_Test {
+	@Test
+	void should_not_set_inner_content_to_null_with_withDefault() {
+		assertThrowsExactly(NullPointerException.class, () -> RwLock.withDefault(null));
+		assertNull(RwLock.empty().withRead(x -> x));
+	}
+
+	@Test
+	void readers_share_and_writers_exclude() {
+		var rw = RwLock.withDefault("a");
+		try (var r1 = rw.read(); var r2 = rw.tryRead().unwrap()) {
+			assertEquals("a", r1.get());
+			assertEquals("a", r2.get());
+			assertEquals(Result.errKind(ErrorKind.WOULD_BLOCK), rw.tryWrite());
+			assertEquals(Result.errKind(ErrorKind.TIMED_OUT), rw.tryWrite(Duration.ofMillis(10)));
+			// an optimistic read still succeeds next to readers
+			assertEquals(1, rw.withRead(String::length));
+		}
+
+		var writer = rw.write();
+		writer.set("b");
+		assertEquals(Result.errKind(ErrorKind.WOULD_BLOCK), rw.tryRead());
+		assertEquals(Result.errKind(ErrorKind.TIMED_OUT), rw.tryRead(Duration.ofMillis(10)));
+		writer.close();
+		assertThrows(IllegalStateException.class, writer::get);
+
+		assertEquals("b", rw.withWrite(guard -> guard.replace("c")));
+		assertEquals("c", rw.withRead(x -> x));
+	}
+
+	@Test
+	void optimistic_reads_never_see_a_torn_pair() throws InterruptedException {
+		record Pair(int a, int b) {}
+		var rw = RwLock.withDefault(new Pair(0, 0));
+		var stop = new AtomicBoolean();
+		var writer = Thread.ofPlatform().start(() -> {
+			for (int i = 1; !stop.get(); i++) {
+				int v = i;
+				rw.withWrite(guard -> guard.replace(new Pair(v, v)));
+			}
+		});
+
+		var readers = new ArrayList<Thread>();
+		var torn = new AtomicBoolean();
+		for (int t = 0; t < 4; t++) {
+			readers.add(Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < 100_000; i++) {
+					if (rw.withRead(p -> List.of(p.a(), p.b())).stream().distinct().count() != 1) {
+						torn.set(true);
+					}
+				}
+			}));
+		}
+		for (var reader : readers) {
+			reader.join();
+		}
+		stop.set(true);
+		writer.join();
+		assertFalse(torn.get());
+	}
+}
@@ -0,0 +1,28 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AdderBox_Test {
+	@Test
+	void correct_initialization() {
+		assertEquals(0, AdderBox.empty().sum());
+		assertEquals(-3, AdderBox.withDefault(-3).sum());
+	}
+
+	@Test
+	void sums_concurrent_updates() {
+		var box = AdderBox.withDefault(10);
+		IntStream.range(0, 100_000).parallel().forEach(i -> box.increment());
+		box.add(5);
+		box.decrement();
+		assertEquals(100_014, box.sumThenReset());
+		assertEquals(0, box.sum());
+	}
+}
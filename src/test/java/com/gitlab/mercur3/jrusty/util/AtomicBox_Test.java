@@ -0,0 +1,69 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AtomicBox_Test {
+	@Test
+	void should_not_set_inner_content_to_null_with_withDefault() {
+		assertThrowsExactly(NullPointerException.class, () -> AtomicBox.withDefault(null));
+	}
+
+	@Test
+	void correct_initialization() {
+		assertEquals("lol", AtomicBox.withDefault("lol").get());
+		assertNull(AtomicBox.empty().get());
+	}
+
+	@Test
+	void access_modes() {
+		var box = AtomicBox.withDefault("a");
+		box.setRelease("b");
+		assertEquals("b", box.getAcquire());
+		box.setOpaque("c");
+		assertEquals("c", box.getOpaque());
+		assertEquals("c", box.getAndSet("d"));
+		assertEquals("d", box.get());
+		box.set(null);
+		assertNull(box.get());
+	}
+
+	@Test
+	void compare_and_set_uses_identity() {
+		var a = new String("a");
+		var box = AtomicBox.withDefault(a);
+		assertFalse(box.compareAndSet(new String("a"), "b"));
+		assertTrue(box.compareAndSet(a, "b"));
+		assertEquals("b", box.get());
+	}
+
+	@Test
+	void concurrent_updates_are_not_lost() throws InterruptedException {
+		var box = AtomicBox.<List<Integer>>withDefault(List.of());
+		var threads = new ArrayList<Thread>();
+		for (int t = 0; t < 8; t++) {
+			threads.add(Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < 1_000; i++) {
+					box.updateAndGet(list -> {
+						var next = new ArrayList<>(list);
+						next.add(1);
+						return next;
+					});
+				}
+			}));
+		}
+		for (var thread : threads) {
+			thread.join();
+		}
+		assertEquals(8_000, box.get().size());
+		assertEquals(8_000, box.getAndUpdate(list -> List.of()).size());
+		assertEquals(List.of(), box.get());
+	}
+}
@@ -0,0 +1,93 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ColumnParser_Test {
+	@Test
+	void parses_ints_and_reports_failures() {
+		var column = ColumnParser.parseInts(new String[]{"1", "x", "-3", null, "2147483648"});
+
+		assertArrayEquals(new int[]{1, 0, -3, 0, 0}, column.values());
+		assertEquals(BitSet.valueOf(new long[]{0b11010}), column.report().failed());
+		assertEquals(3, column.report().failedCount());
+		assertEquals(2, column.report().count(ErrorKind.FORMAT_ERROR));
+		assertEquals(1, column.report().count(ErrorKind.OVERFLOW));
+		assertEquals(
+				Map.of(ErrorKind.FORMAT_ERROR, 2, ErrorKind.OVERFLOW, 1),
+				column.report().counts()
+		);
+		assertFalse(column.report().isClean());
+	}
+
+	@Test
+	void parses_longs_and_doubles() {
+		var longs = ColumnParser.parseLongs(new LinkedList<>(List.of(
+				"-9223372036854775808",
+				"9223372036854775808",
+				"42"
+		)));
+		assertArrayEquals(new long[]{Long.MIN_VALUE, 0, 42}, longs.values());
+		assertEquals(1, longs.report().count(ErrorKind.OVERFLOW));
+
+		var doubles = ColumnParser.parseDoubles(List.of("1.5", "-2e3", "1.2.3"));
+		assertArrayEquals(new double[]{1.5, -2e3, 0}, doubles.values());
+		assertEquals(1, doubles.report().count(ErrorKind.FORMAT_ERROR));
+	}
+
+	@Test
+	void clean_column() {
+		var column = ColumnParser.parseInts(List.of("1", "2"));
+		assertTrue(column.report().isClean());
+		assertEquals(0, column.report().failedCount());
+		assertTrue(column.report().counts().isEmpty());
+	}
+
+	@Test
+	void parallel_matches_sequential() {
+		var rng = new Random(7);
+		var cells = new ArrayList<String>();
+		for (int i = 0; i < 10 * ColumnParser.CHUNK + 17; i++) {
+			cells.add(switch (rng.nextInt(10)) {
+				case 0 -> "bad";
+				case 1, 2 -> Long.toString(rng.nextLong());
+				default -> Integer.toString(rng.nextInt());
+			});
+		}
+
+		var pool = new ForkJoinPool(4);
+		try {
+			var seq = ColumnParser.parseLongs(cells);
+			var par = ColumnParser.parseLongs(cells, pool);
+			assertArrayEquals(seq.values(), par.values());
+			assertEquals(seq.report().failed(), par.report().failed());
+			assertEquals(seq.report().counts(), par.report().counts());
+
+			var ints = ColumnParser.parseInts(cells.toArray(String[]::new), pool);
+			var expected = cells.stream()
+					.mapToInt(c -> FromString.parseIntPrimitive(c).unwrapOr(0))
+					.toArray();
+			assertArrayEquals(expected, ints.values());
+			assertEquals(
+					cells.stream().filter(c -> FromString.parseInt(c).isErr()).count(),
+					ints.report().failedCount()
+			);
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+}
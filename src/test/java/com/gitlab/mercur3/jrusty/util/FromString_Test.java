@@ -0,0 +1,265 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.DoubleResult;
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class FromString_Test {
+	@Test
+	void parse_int_happy_path() {
+		assertEquals(new Ok<>(0), FromString.parseInt("0"));
+		assertEquals(new Ok<>(1234), FromString.parseInt("1234"));
+		assertEquals(new Ok<>(1234), FromString.parseInt("+1234"));
+		assertEquals(new Ok<>(-1234), FromString.parseInt("-1234"));
+		assertEquals(new Ok<>(Integer.MAX_VALUE), FromString.parseInt("2147483647"));
+		assertEquals(new Ok<>(Integer.MIN_VALUE), FromString.parseInt("-2147483648"));
+		assertEquals(new Ok<>(255), FromString.parseIntWithRadix("ff", 16));
+		assertEquals(new Ok<>(-5), FromString.parseIntWithRadix("-101", 2));
+	}
+
+	@Test
+	void parse_int_format_error() {
+		var err = new Err<>(ErrorKind.FORMAT_ERROR);
+		assertEquals(err, FromString.parseInt(null));
+		assertEquals(err, FromString.parseInt(""));
+		assertEquals(err, FromString.parseInt("-"));
+		assertEquals(err, FromString.parseInt("+"));
+		assertEquals(err, FromString.parseInt("12a"));
+		assertEquals(err, FromString.parseInt(" 12"));
+		assertEquals(err, FromString.parseInt("1.0"));
+		assertEquals(err, FromString.parseIntWithRadix("12", 1));
+		assertEquals(err, FromString.parseIntWithRadix("12", 37));
+		assertEquals(err, FromString.parseIntWithRadix("2", 2));
+	}
+
+	@Test
+	void parse_int_overflow() {
+		var err = new Err<>(ErrorKind.OVERFLOW);
+		assertEquals(err, FromString.parseInt("2147483648"));
+		assertEquals(err, FromString.parseInt("-2147483649"));
+		assertEquals(err, FromString.parseInt("99999999999"));
+		assertEquals(err, FromString.parseIntWithRadix("100000000", 16));
+	}
+
+	@Test
+	void parse_long() {
+		assertEquals(new Ok<>(Long.MAX_VALUE), FromString.parseLong("9223372036854775807"));
+		assertEquals(new Ok<>(Long.MIN_VALUE), FromString.parseLong("-9223372036854775808"));
+		assertEquals(new Err<>(ErrorKind.OVERFLOW), FromString.parseLong("9223372036854775808"));
+		assertEquals(new Err<>(ErrorKind.OVERFLOW), FromString.parseLong("-9223372036854775809"));
+		assertEquals(new Err<>(ErrorKind.FORMAT_ERROR), FromString.parseLong("92233720x"));
+		assertEquals(new Ok<>(-0x7fL), FromString.parseLongWithRadix("-7F", 16));
+	}
+
+	@Test
+	void parse_byte() {
+		assertEquals(new Ok<>((byte) 127), FromString.parseByte("127"));
+		assertEquals(new Ok<>((byte) -128), FromString.parseByte("-128"));
+		assertEquals(new Err<>(ErrorKind.OVERFLOW), FromString.parseByte("128"));
+		assertEquals(new Err<>(ErrorKind.OVERFLOW), FromString.parseByte("-129"));
+		assertEquals(new Err<>(ErrorKind.FORMAT_ERROR), FromString.parseByte("1_0"));
+	}
+
+	@Test
+	void primitive_variants_match_the_boxed_ones() {
+		for (var str : new String[]{"0", "-17", "2147483647", "2147483648", "x", ""}) {
+			assertEquals(FromString.parseInt(str), FromString.parseIntPrimitive(str).toResult());
+			assertEquals(FromString.parseLong(str), FromString.parseLongPrimitive(str).toResult());
+		}
+		assertEquals(IntResult.ok(42), FromString.parseIntPrimitive("42"));
+		assertEquals(LongResult.ok(-42L), FromString.parseLongPrimitive("-42"));
+		assertTrue(FromString.parseBooleanPrimitive("TRUE").unwrap());
+		assertFalse(FromString.parseBooleanPrimitive("yes").unwrap());
+	}
+
+	@Test
+	void errors_are_canonical() {
+		assertSame(FromString.parseInt("x"), FromString.parseLong("y"));
+		assertSame(FromString.parseIntPrimitive("x"), FromString.parseIntPrimitive("y"));
+		assertSame(FromString.parseByte("300"), FromString.parseInt("3000000000"));
+		assertSame(FromString.parseBoolean("true"), FromString.parseBoolean("TRUE"));
+	}
+
+	@Test
+	void parses_ranges_in_place() {
+		var line = "id=42;balance=-9223372036854775808;bad=4x";
+		var bytes = line.getBytes(StandardCharsets.US_ASCII);
+		var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+		assertEquals(new Ok<>(42), FromString.parseInt(line, 3, 5));
+		assertEquals(new Ok<>(42), FromString.parseInt(bytes, 3, 2));
+		assertEquals(new Ok<>(42), FromString.parseInt(direct, 3, 2));
+		assertEquals(new Ok<>(42), FromString.parseInt(ByteBuffer.wrap(bytes), 3, 2));
+		assertEquals(new Ok<>(Long.MIN_VALUE), FromString.parseLong(line, 14, 34));
+		assertEquals(new Ok<>(Long.MIN_VALUE), FromString.parseLong(bytes, 14, 20));
+		assertEquals(new Ok<>(Long.MIN_VALUE), FromString.parseLong(direct, 14, 20));
+		assertEquals(0, direct.position());
+
+		var err = new Err<>(ErrorKind.FORMAT_ERROR);
+		assertEquals(err, FromString.parseInt(line, 39, 41));
+		assertEquals(err, FromString.parseInt(bytes, 39, 2));
+		assertEquals(err, FromString.parseLong(direct, 39, 2));
+		assertEquals(err, FromString.parseInt(bytes, 3, 0));
+		assertEquals(new Err<>(ErrorKind.OVERFLOW), FromString.parseInt(bytes, 14, 20));
+		assertEquals(err, FromString.parseLong(bytes, 14, 21));
+		assertEquals(new Err<>(ErrorKind.OVERFLOW), FromString.parseLong(bytes, 15, 19));
+
+		// only ASCII digits are accepted from bytes
+		var arabicIndic = "\u0664\u0662".getBytes(StandardCharsets.UTF_8);
+		assertEquals(err, FromString.parseInt(arabicIndic, 0, arabicIndic.length));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> FromString.parseInt(line, 40, 50));
+		assertThrows(IndexOutOfBoundsException.class, () -> FromString.parseInt(bytes, -1, 2));
+		assertThrows(IndexOutOfBoundsException.class, () -> FromString.parseLong(direct, 40, 5));
+	}
+
+	@Test
+	void agrees_with_the_jdk() {
+		var rng = new Random(42);
+		for (int i = 0; i < 10_000; i++) {
+			int radix = Character.MIN_RADIX + rng.nextInt(Character.MAX_RADIX - 1);
+			int x = rng.nextInt();
+			long y = rng.nextLong();
+			assertEquals(new Ok<>(x), FromString.parseIntWithRadix(Integer.toString(x, radix), radix));
+			assertEquals(new Ok<>(y), FromString.parseLongWithRadix(Long.toString(y, radix), radix));
+
+			var bytes = ("[" + y + "]").getBytes(StandardCharsets.US_ASCII);
+			assertEquals(new Ok<>(y), FromString.parseLong(bytes, 1, bytes.length - 2));
+		}
+	}
+
+	@Test
+	void parse_double_happy_path() {
+		assertEquals(new Ok<>(1.5), FromString.parseDouble("1.5"));
+		assertEquals(new Ok<>(-1.5), FromString.parseDouble("-1.5"));
+		assertEquals(new Ok<>(0.5), FromString.parseDouble("+.5"));
+		assertEquals(new Ok<>(1.0), FromString.parseDouble("1."));
+		assertEquals(new Ok<>(-0.0), FromString.parseDouble("-0"));
+		assertEquals(new Ok<>(1e300), FromString.parseDouble("1E+300"));
+		assertEquals(new Ok<>(0.1), FromString.parseDouble("0.1"));
+		assertEquals(new Ok<>(0.30000000000000004), FromString.parseDouble("0.30000000000000004"));
+		assertEquals(new Ok<>(Double.MAX_VALUE), FromString.parseDouble("1.7976931348623157e308"));
+		assertEquals(new Ok<>(Double.MIN_VALUE), FromString.parseDouble("4.9e-324"));
+		assertEquals(new Ok<>(Double.MIN_NORMAL), FromString.parseDouble("2.2250738585072014E-308"));
+		assertEquals(new Ok<>(Double.POSITIVE_INFINITY), FromString.parseDouble("1e400"));
+		assertEquals(new Ok<>(-0.0), FromString.parseDouble("-1e-400"));
+		assertEquals(new Ok<>(0.0), FromString.parseDouble("0e999999999999"));
+		assertEquals(new Ok<>(Double.NEGATIVE_INFINITY), FromString.parseDouble("-inf"));
+		assertEquals(new Ok<>(Double.POSITIVE_INFINITY), FromString.parseDouble("Infinity"));
+		assertEquals(new Ok<>(Double.NaN), FromString.parseDouble("NaN"));
+		// halfway between two doubles, ties to even
+		assertEquals(new Ok<>(9007199254740992.0), FromString.parseDouble("9007199254740993"));
+		assertEquals(new Ok<>(9007199254740996.0), FromString.parseDouble("9007199254740995"));
+		// more digits than fit in a long
+		assertEquals(
+				new Ok<>(1.2345678901234567),
+				FromString.parseDouble("1.23456789012345678901234567890")
+		);
+		assertEquals(
+				new Ok<>(9007199254740994.0),
+				FromString.parseDouble("9007199254740993.0000000000000000000000001")
+		);
+	}
+
+	@Test
+	void parse_double_format_error() {
+		var err = new Err<>(ErrorKind.FORMAT_ERROR);
+		for (var str : new String[]{
+				"", "-", "+", ".", "-.", "e5", ".e5", "1e", "1e+", "1e-", "1.2.3", "1,5", " 1.5", "1.5 ",
+				"1.5d", "1.5f", "0x1p3", "in", "infinit", "nan(1)", "--1", "1e5.0", "\u0661",
+		}) {
+			assertEquals(err, FromString.parseDouble(str), str);
+			assertEquals(err, FromString.parseFloat(str), str);
+		}
+		assertEquals(err, FromString.parseDouble(null));
+		assertSame(FromString.parseDoublePrimitive("x"), FromString.parseDoublePrimitive("y"));
+	}
+
+	@Test
+	void parse_float() {
+		assertEquals(new Ok<>(1.5f), FromString.parseFloat("1.5"));
+		assertEquals(new Ok<>(0.1f), FromString.parseFloat("0.1"));
+		assertEquals(new Ok<>(Float.MAX_VALUE), FromString.parseFloat("3.4028235e38"));
+		assertEquals(new Ok<>(Float.POSITIVE_INFINITY), FromString.parseFloat("3.5e38"));
+		assertEquals(new Ok<>(Float.MIN_VALUE), FromString.parseFloat("1.4e-45"));
+		assertEquals(new Ok<>(Float.NEGATIVE_INFINITY), FromString.parseFloat("-INF"));
+		// rounding through a double would round up twice
+		assertEquals(new Ok<>(1.0000001f), FromString.parseFloat("1.00000017881393432617187499"));
+	}
+
+	@Test
+	void parses_floating_point_ranges_in_place() {
+		var line = "{\"x\":-12.5e-1,\"y\":3.25}";
+		var bytes = line.getBytes(StandardCharsets.US_ASCII);
+		var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+		assertEquals(new Ok<>(-1.25), FromString.parseDouble(line, 5, 13));
+		assertEquals(DoubleResult.ok(-1.25), FromString.parseDoublePrimitive(bytes, 5, 8));
+		assertEquals(new Ok<>(3.25), FromString.parseDouble(direct, 18, 4));
+		assertEquals(new Ok<>(3.25f), FromString.parseFloat(bytes, 18, 4));
+		assertEquals(new Ok<>(3.25f), FromString.parseFloat(direct, 18, 4));
+		assertEquals(0, direct.position());
+		assertEquals(new Err<>(ErrorKind.FORMAT_ERROR), FromString.parseDouble(line, 4, 13));
+
+		// more digits than fit in a long, decided by the JDK
+		var long_ = "x0.1000000000000000055511151231257827021181583404541015625x";
+		assertEquals(new Ok<>(0.1), FromString.parseDouble(long_, 1, long_.length() - 1));
+		var longBytes = long_.getBytes(StandardCharsets.US_ASCII);
+		assertEquals(new Ok<>(0.1), FromString.parseDouble(longBytes, 1, long_.length() - 2));
+		var wrapped = ByteBuffer.wrap(longBytes);
+		assertEquals(new Ok<>(0.1), FromString.parseDouble(wrapped, 1, long_.length() - 2));
+
+		var words = "-Infinity,NaN".getBytes(StandardCharsets.US_ASCII);
+		assertEquals(new Ok<>(Double.NEGATIVE_INFINITY), FromString.parseDouble(words, 0, 9));
+		assertEquals(new Ok<>(Float.NaN), FromString.parseFloat(words, 10, 3));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> FromString.parseDouble(line, 20, 30));
+		assertThrows(IndexOutOfBoundsException.class, () -> FromString.parseFloat(bytes, -1, 2));
+	}
+
+	@Test
+	void floating_point_agrees_with_the_jdk() {
+		var rng = new Random(42);
+		for (int i = 0; i < 100_000; i++) {
+			double d = Double.longBitsToDouble(rng.nextLong());
+			if (!Double.isNaN(d)) {
+				var str = Double.toString(d);
+				assertEquals(new Ok<>(d), FromString.parseDouble(str), str);
+			}
+			float f = Float.intBitsToFloat(rng.nextInt());
+			if (!Float.isNaN(f)) {
+				var str = Float.toString(f);
+				assertEquals(new Ok<>(f), FromString.parseFloat(str), str);
+			}
+
+			// random digits, often too many for the fast paths
+			var sb = new StringBuilder();
+			int intDigits = rng.nextInt(12);
+			for (int k = 0; k < intDigits; k++) {
+				sb.append((char) ('0' + rng.nextInt(10)));
+			}
+			sb.append('.');
+			int fracDigits = rng.nextInt(30) + (intDigits == 0 ? 1 : 0);
+			for (int k = 0; k < fracDigits; k++) {
+				sb.append((char) ('0' + rng.nextInt(10)));
+			}
+			sb.append('e').append(rng.nextInt(700) - 350);
+			var str = sb.toString();
+			assertEquals(new Ok<>(Double.parseDouble(str)), FromString.parseDouble(str), str);
+			assertEquals(new Ok<>(Float.parseFloat(str)), FromString.parseFloat(str), str);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IntBox_Test {
+	@Test
+	void correct_initialization() {
+		assertEquals(0, IntBox.empty().get());
+		assertEquals(7, IntBox.withDefault(7).get());
+		assertEquals(0L, LongBox.empty().get());
+		assertEquals(7L, LongBox.withDefault(7L).get());
+	}
+
+	@Test
+	void arithmetic() {
+		var box = IntBox.withDefault(5);
+		assertEquals(5, box.getAndAdd(2));
+		assertEquals(10, box.addAndGet(3));
+		assertEquals(11, box.incrementAndGet());
+		assertEquals(10, box.decrementAndGet());
+		assertEquals(10, box.getAndUpdate(x -> x * 2));
+		assertEquals(21, box.updateAndGet(x -> x + 1));
+		assertEquals(5, box.accumulateAndGet(5, Math::min));
+		assertFalse(box.compareAndSet(0, 1));
+		assertTrue(box.compareAndSet(5, 1));
+		assertEquals(1, box.getAcquire());
+
+		var longBox = LongBox.withDefault(Integer.MAX_VALUE);
+		assertEquals(Integer.MAX_VALUE + 1L, longBox.incrementAndGet());
+	}
+
+	@Test
+	void concurrent_increments_are_not_lost() throws InterruptedException {
+		var box = IntBox.empty();
+		var longBox = LongBox.empty();
+		var threads = new ArrayList<Thread>();
+		for (int t = 0; t < 8; t++) {
+			threads.add(Thread.ofPlatform().start(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					box.incrementAndGet();
+					longBox.updateAndGet(x -> x + 2);
+				}
+			}));
+		}
+		for (var thread : threads) {
+			thread.join();
+		}
+		assertEquals(80_000, box.get());
+		assertEquals(160_000L, longBox.get());
+	}
+}
@@ -0,0 +1,174 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.DoubleResult;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.IntResult;
+import com.gitlab.mercur3.jrusty.result.LongResult;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IntVec_Test {
+	@Test
+	void correct_initialization() {
+		var empty = IntVec.empty();
+		assertEquals(0, empty.len());
+		assertEquals(0, empty.capacity());
+		assertTrue(empty.isEmpty());
+		assertEquals(100, LongVec.withCapacity(100).capacity());
+		assertEquals(0, LongVec.withCapacity(100).len());
+		assertThrows(IllegalArgumentException.class, () -> DoubleVec.withCapacity(-1));
+
+		var values = new int[]{1, 2};
+		var vec = IntVec.of(values);
+		values[0] = 9;
+		assertArrayEquals(new int[]{1, 2}, vec.toArray());
+	}
+
+	@Test
+	void push_grows_and_shrinkToFit_releases() {
+		var vec = IntVec.empty();
+		for (int i = 0; i < 1000; i++) {
+			vec.push(i);
+		}
+		assertEquals(1000, vec.len());
+		assertTrue(vec.capacity() >= 1000);
+		assertEquals(999, vec.getUnchecked(999));
+		vec.shrinkToFit();
+		assertEquals(1000, vec.capacity());
+		vec.clear();
+		vec.shrinkToFit();
+		assertEquals(0, vec.capacity());
+	}
+
+	@Test
+	void reserve() {
+		var vec = LongVec.of(1, 2);
+		vec.reserve(100);
+		assertTrue(vec.capacity() >= 102);
+		assertThrows(IllegalArgumentException.class, () -> vec.reserve(-1));
+		assertThrows(OutOfMemoryError.class, () -> vec.reserve(Integer.MAX_VALUE));
+	}
+
+	@Test
+	void checked_access() {
+		var vec = IntVec.withCapacity(10);
+		vec.push(7);
+		assertEquals(IntResult.ok(7), vec.get(0));
+		assertEquals(IntResult.errKind(ErrorKind.NOT_FOUND), vec.get(1));
+		assertEquals(IntResult.errKind(ErrorKind.NOT_FOUND), vec.get(-1));
+		assertSame(vec.get(5), vec.get(-1));
+		assertEquals(7, vec.set(0, 8));
+		assertThrows(IndexOutOfBoundsException.class, () -> vec.set(1, 0));
+		assertEquals(IntResult.ok(8), vec.pop());
+		assertEquals(IntResult.errKind(ErrorKind.NOT_FOUND), vec.pop());
+		assertEquals(DoubleResult.ok(1.5), DoubleVec.of(1.5).get(0));
+	}
+
+	@Test
+	void extend() {
+		var vec = IntVec.of(1);
+		vec.extend(new int[]{2, 3});
+		vec.extend(new int[]{0, 4, 5, 0}, 1, 3);
+		assertEquals(IntVec.of(1, 2, 3, 4, 5), vec);
+		vec.extend(vec.slice(0, 2));
+		assertEquals("[1, 2, 3, 4, 5, 1, 2]", vec.toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> vec.extend(new int[1], 0, 2));
+		vec.truncate(2);
+		assertEquals(IntVec.of(1, 2), vec);
+		vec.truncate(10);
+		assertEquals(2, vec.len());
+	}
+
+	@Test
+	void extendParsed() {
+		var vec = IntVec.of(5, 6, 7);
+		vec.truncate(1);
+		var report = vec.extendParsed(List.of("1", "x", "99999999999"));
+		assertEquals(IntVec.of(5, 1, 0, 0), vec);
+		assertEquals(1, report.count(ErrorKind.FORMAT_ERROR));
+		assertEquals(1, report.count(ErrorKind.OVERFLOW));
+		assertEquals(2, report.failed().nextSetBit(2));
+
+		var longs = LongVec.empty();
+		longs.extendParsed(List.of("99999999999"), ForkJoinPool.commonPool());
+		assertEquals(LongVec.of(99999999999L), longs);
+
+		var doubles = DoubleVec.empty();
+		assertEquals(1, doubles.extendParsed(Arrays.asList("1.5", null)).failedCount());
+		assertEquals(DoubleVec.of(1.5, 0), doubles);
+	}
+
+	@Test
+	void pushParsed() {
+		var vec = LongVec.empty();
+		assertEquals(LongResult.ok(42), vec.pushParsed("x42y", 1, 3));
+		assertEquals(LongResult.errKind(ErrorKind.FORMAT_ERROR), vec.pushParsed("x42y", 0, 3));
+		assertEquals(LongVec.of(42), vec);
+		assertTrue(DoubleVec.empty().pushParsed("[2.5]", 1, 4).isOk());
+		assertTrue(IntVec.empty().pushParsed("2.5", 0, 3).isErr());
+	}
+
+	@Test
+	void slices_share_the_array() {
+		var vec = IntVec.of(0, 1, 2, 3, 4);
+		var slice = vec.slice(1, 4);
+		assertEquals(3, slice.len());
+		assertEquals(IntResult.ok(1), slice.get(0));
+		assertEquals(IntResult.errKind(ErrorKind.NOT_FOUND), slice.get(3));
+		slice.set(0, 10);
+		assertEquals(10, vec.getUnchecked(1));
+		assertEquals(IntSlice.of(new int[]{2, 3}), slice.slice(1, 3));
+		assertEquals(IntSlice.of(new int[]{10, 2, 3}).hashCode(), slice.hashCode());
+		assertEquals(Arrays.hashCode(new int[]{10, 2, 3}), slice.hashCode());
+		assertThrows(IndexOutOfBoundsException.class, () -> vec.slice(3, 6));
+		assertThrows(IndexOutOfBoundsException.class, () -> slice.slice(0, 4));
+		assertArrayEquals(new int[]{10, 2, 3}, slice.iter().toArray());
+	}
+
+	@Test
+	void sort_and_binarySearch() {
+		var vec = IntVec.of(5, 1, 4, 2);
+		vec.sort();
+		assertEquals(IntVec.of(1, 2, 4, 5), vec);
+		assertEquals(IntResult.ok(2), vec.binarySearch(4));
+		assertEquals(IntResult.err(2), vec.binarySearch(3));
+		assertEquals(IntResult.err(4), vec.binarySearch(9));
+
+		var slice = vec.slice(2, 4);
+		assertEquals(IntResult.ok(1), slice.binarySearch(5));
+		assertEquals(IntResult.err(0), slice.binarySearch(1));
+
+		var doubles = DoubleVec.of(3, Double.NaN, -1);
+		doubles.parallelSort();
+		assertEquals(DoubleVec.of(-1, 3, Double.NaN), doubles);
+		assertEquals(7L, LongVec.of(3, 4).iter().sum());
+	}
+
+	@Test
+	void DoubleVec_compares_NaN_and_negative_zero_like_Arrays() {
+		var vec = DoubleVec.of(0.0, Double.NaN, 1, -0.0);
+		vec.sort();
+		assertArrayEquals(new double[]{-0.0, 0.0, 1, Double.NaN}, vec.toArray());
+		assertEquals(IntResult.ok(0), vec.binarySearch(-0.0));
+		assertEquals(IntResult.ok(1), vec.binarySearch(0.0));
+		assertEquals(IntResult.ok(3), vec.binarySearch(Double.NaN));
+		assertEquals(IntResult.err(3), vec.binarySearch(Double.POSITIVE_INFINITY));
+		assertEquals(IntResult.ok(0), vec.slice(3, 4).binarySearch(Double.NaN));
+		assertEquals(IntResult.err(1), vec.slice(0, 1).binarySearch(0.0));
+
+		// by bits, unlike ==: NaN equals itself and -0.0 differs from 0.0
+		assertEquals(DoubleVec.of(Double.NaN), DoubleVec.of(Double.NaN));
+		assertEquals(DoubleVec.of(Double.NaN).hashCode(), DoubleVec.of(Double.NaN).hashCode());
+		assertEquals(vec.slice(3, 4), DoubleVec.of(Double.NaN).asSlice());
+		assertNotEquals(DoubleVec.of(0.0), DoubleVec.of(-0.0));
+		assertNotEquals(DoubleVec.of(0.0).asSlice(), DoubleVec.of(-0.0).asSlice());
+	}
+}
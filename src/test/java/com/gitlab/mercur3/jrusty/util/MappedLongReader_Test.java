@@ -0,0 +1,115 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class MappedLongReader_Test {
+	@TempDir
+	Path dir;
+
+	private Path write(String content) throws IOException {
+		return Files.writeString(dir.resolve("numbers.txt"), content);
+	}
+
+	private static List<LineError> walk(MappedLongReader reader, List<Long> values) {
+		var errors = new ArrayList<LineError>();
+		var cursor = reader.cursor();
+		while (cursor.next()) {
+			values.add(cursor.value());
+			if (!cursor.isOk()) {
+				errors.add(cursor.lineError());
+			}
+		}
+		return errors;
+	}
+
+	@Test
+	void cursor_reports_values_and_tagged_errors() throws IOException {
+		var path = write("1\r\n-2\nx\n\n99999999999999999999\n-9223372036854775808");
+
+		try (var reader = MappedLongReader.open(path).unwrap()) {
+			var values = new ArrayList<Long>();
+			var errors = walk(reader, values);
+
+			assertEquals(List.of(1L, -2L, 0L, 0L, 0L, Long.MIN_VALUE), values);
+			assertEquals(List.of(
+					new LineError(2, 6, ErrorKind.FORMAT_ERROR),
+					new LineError(3, 8, ErrorKind.FORMAT_ERROR),
+					new LineError(4, 9, ErrorKind.OVERFLOW)
+			), errors);
+		}
+	}
+
+	@Test
+	void small_windows_give_the_same_answer() throws IOException {
+		var content = new StringBuilder();
+		var rng = new Random(3);
+		for (int i = 0; i < 2000; i++) {
+			content.append(i % 97 == 0 ? "not a number at all, longer than a window" : rng.nextLong());
+			content.append('\n');
+		}
+		var path = write(content.toString());
+
+		try (var big = MappedLongReader.open(path).unwrap();
+			 var small = MappedLongReader.open(path, 32).unwrap()) {
+			var expectedValues = new ArrayList<Long>();
+			var actualValues = new ArrayList<Long>();
+			var expectedErrors = walk(big, expectedValues);
+
+			assertEquals(expectedErrors, walk(small, actualValues));
+			assertEquals(expectedValues, actualValues);
+			assertEquals(2000, actualValues.size());
+			assertEquals(21, expectedErrors.size());
+
+			var pool = new ForkJoinPool(4);
+			try {
+				var all = small.readAll(pool).unwrap();
+				assertEquals(expectedErrors, all.errors());
+				assertEquals(expectedValues, Arrays.stream(all.values()).boxed().toList());
+				assertEquals(all.values().length, big.readAll(pool).unwrap().values().length);
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+	}
+
+	@Test
+	void readAll_gives_a_line_longer_than_a_window_a_part_of_its_own() throws IOException {
+		var path = write("1\n" + "9".repeat(50) + "\n2\n");
+		try (var reader = MappedLongReader.open(path, 32).unwrap()) {
+			var values = new ArrayList<Long>();
+			var errors = walk(reader, values);
+			assertEquals(List.of(new LineError(1, 2, ErrorKind.FORMAT_ERROR)), errors);
+
+			var all = reader.readAll(ForkJoinPool.commonPool()).unwrap();
+			assertEquals(errors, all.errors());
+			assertArrayEquals(new long[]{1, 0, 2}, all.values());
+		}
+	}
+
+	@Test
+	void empty_file_and_missing_file() throws IOException {
+		try (var reader = MappedLongReader.open(write("")).unwrap()) {
+			assertFalse(reader.cursor().next());
+			assertEquals(0, reader.readAll(ForkJoinPool.commonPool()).unwrap().values().length);
+		}
+		assertEquals(new Err<>(ErrorKind.NOT_FOUND), MappedLongReader.open(dir.resolve("missing")));
+	}
+}
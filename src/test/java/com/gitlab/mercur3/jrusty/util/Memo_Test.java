@@ -0,0 +1,187 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Memo_Test {
+	private final AtomicInteger calls = new AtomicInteger();
+	private final AtomicLong now = new AtomicLong();
+
+	/** Even keys are found, odd ones are not */
+	private Result<String, ErrorKind> lookup(Integer key) {
+		calls.incrementAndGet();
+		return key % 2 == 0 ? new Ok<>("v" + key) : Result.errKind(ErrorKind.NOT_FOUND);
+	}
+
+	private Memo<Integer, String, ErrorKind> memo(int size, long okTtl, long errTtl) {
+		return new Memo<>(this::lookup, size, okTtl, errTtl, now::get);
+	}
+
+	@Test
+	void caches_Ok_and_Err() {
+		var memo = Memo.of(this::lookup, 10);
+		assertEquals(new Ok<>("v2"), memo.get(2));
+		assertEquals(new Ok<>("v2"), memo.get(2));
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), memo.apply(3));
+		assertEquals(Result.errKind(ErrorKind.NOT_FOUND), memo.get(3));
+		assertEquals(2, calls.get());
+		assertEquals(new Memo.Stats(2, 2, 0, 0), memo.stats());
+		assertEquals(0.5, memo.stats().hitRate());
+		assertEquals(2, memo.size());
+	}
+
+	@Test
+	void Ok_and_Err_expire_separately() {
+		var memo = memo(10, 100, 10);
+		memo.get(2);
+		memo.get(3);
+		now.set(10);
+		memo.get(2);
+		memo.get(3);
+		assertEquals(3, calls.get());
+		now.set(100);
+		memo.get(2);
+		assertEquals(4, calls.get());
+		assertEquals(2, memo.stats().expirations());
+	}
+
+	@Test
+	void zero_ttl_is_not_cached() {
+		var memo = Memo.of(this::lookup, 10, Duration.ofMinutes(1), Duration.ZERO);
+		memo.get(3);
+		memo.get(3);
+		assertEquals(2, calls.get());
+		assertEquals(0, memo.size());
+		assertEquals(Option.none(), memo.getIfPresent(3));
+		assertThrows(IllegalArgumentException.class, () -> Memo.of(this::lookup, 1, Duration.ofSeconds(-1), Duration.ZERO));
+		assertThrows(IllegalArgumentException.class, () -> Memo.of(this::lookup, 0));
+	}
+
+	@Test
+	void evicts_the_least_recently_used() {
+		var memo = memo(3, Long.MAX_VALUE, Long.MAX_VALUE);
+		memo.get(0);
+		memo.get(2);
+		memo.get(4);
+		memo.get(0);
+		memo.get(4);
+		memo.get(6);
+		assertEquals(3, memo.size());
+		assertEquals(1, memo.stats().evictions());
+		assertTrue(memo.getIfPresent(0).isSome());
+		assertTrue(memo.getIfPresent(4).isSome());
+		assertTrue(memo.getIfPresent(6).isSome());
+		assertEquals(Option.none(), memo.getIfPresent(2));
+
+		for (int i = 0; i < 100; i += 2) {
+			memo.get(i);
+		}
+		assertTrue(memo.size() <= 3);
+	}
+
+	@Test
+	void only_evicts_once_maximumSize_is_reached() {
+		var memo = memo(100, Long.MAX_VALUE, Long.MAX_VALUE);
+		for (int i = 0; i < 100; i++) {
+			memo.get(i);
+		}
+		assertEquals(100, memo.size());
+		assertEquals(0, memo.stats().evictions());
+		memo.get(100);
+		assertEquals(100, memo.size());
+		assertEquals(1, memo.stats().evictions());
+
+		// the CLOCK grows with the entries, it is not allocated up front
+		var unbounded = Memo.of(this::lookup, Integer.MAX_VALUE);
+		for (int i = 0; i < 1000; i++) {
+			unbounded.get(i);
+		}
+		assertEquals(1000, unbounded.size());
+		assertEquals(0, unbounded.stats().evictions());
+	}
+
+	@Test
+	void invalidate() {
+		var memo = Memo.of(this::lookup, 10);
+		memo.get(2);
+		memo.get(4);
+		memo.invalidate(2);
+		assertEquals(Option.none(), memo.getIfPresent(2));
+		assertEquals(Option.some(new Ok<>("v4")), memo.getIfPresent(4));
+		memo.invalidateAll();
+		assertEquals(0, memo.size());
+		memo.get(4);
+		assertEquals(3, calls.get());
+	}
+
+	@Test
+	void exceptions_are_not_cached() {
+		var memo = Memo.<Integer, String, ErrorKind>of(key -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new IllegalStateException("boom");
+			}
+			return new Ok<>("ok");
+		}, 10);
+		assertThrows(IllegalStateException.class, () -> memo.get(1));
+		assertEquals(new Ok<>("ok"), memo.get(1));
+		assertThrows(NullPointerException.class, () -> Memo.<Integer, String, ErrorKind>of(key -> null, 1).get(1));
+	}
+
+	@Test
+	void recursive_lookup_of_the_same_key_fails() {
+		var self = new ArrayList<Function<Integer, Result<String, ErrorKind>>>();
+		var memo = Memo.<Integer, String, ErrorKind>of(key -> self.getFirst().apply(key), 10);
+		self.add(memo);
+		assertThrows(IllegalStateException.class, () -> memo.get(1));
+	}
+
+	@Test
+	void concurrent_misses_compute_once() {
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			var release = new CountDownLatch(1);
+			var memo = Memo.<Integer, String, ErrorKind>of(key -> {
+				calls.incrementAndGet();
+				try {
+					release.await();
+				}
+				catch (InterruptedException e) {
+					return Result.errKind(ErrorKind.INTERRUPTED);
+				}
+				return new Ok<>("v" + key);
+			}, 10);
+
+			var results = new ArrayList<Future<Result<String, ErrorKind>>>();
+			try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (int i = 0; i < 100; i++) {
+					results.add(executor.submit(() -> memo.get(7)));
+				}
+				while (memo.stats().hits() + memo.stats().misses() < 100) {
+					Thread.sleep(1);
+				}
+				release.countDown();
+			}
+			for (var r : results) {
+				assertEquals(new Ok<>("v7"), r.get());
+			}
+			assertEquals(1, calls.get());
+			assertEquals(new Memo.Stats(99, 1, 0, 0), memo.stats());
+		});
+	}
+}
@@ -0,0 +1,161 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.option.Option;
+import com.gitlab.mercur3.jrusty.result.Err;
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OnceLock_Test {
+	@Test
+	void OnceCell_is_written_once() {
+		var cell = OnceCell.<String>empty();
+		assertEquals(Option.none(), cell.get());
+		assertEquals("a", cell.getOrInit(() -> "a"));
+		assertEquals("a", cell.getOrInit(() -> "b"));
+		assertEquals(new Err<>("c"), cell.set("c"));
+		assertEquals(Option.some("a"), cell.take());
+		assertEquals(Result.okUnit(), cell.set("d"));
+		assertEquals(Option.some("d"), cell.get());
+	}
+
+	@Test
+	void OnceCell_Err_does_not_poison() {
+		var cell = OnceCell.<Integer>empty();
+		assertEquals(Result.errKind(ErrorKind.IO_ERROR), cell.getOrTryInit(() -> Result.errKind(ErrorKind.IO_ERROR)));
+		assertEquals(Option.none(), cell.get());
+		assertThrows(IllegalArgumentException.class, () -> cell.getOrInit(() -> {
+			throw new IllegalArgumentException();
+		}));
+		assertEquals(new Ok<>(1), cell.<ErrorKind>getOrTryInit(() -> new Ok<>(1)));
+		assertEquals(new Ok<>(1), cell.<ErrorKind>getOrTryInit(() -> new Ok<>(2)));
+	}
+
+	@Test
+	void reentrant_initialization_fails() {
+		var cell = OnceCell.<Integer>empty();
+		assertThrows(IllegalStateException.class, () -> cell.getOrInit(() -> cell.getOrInit(() -> 1)));
+		assertEquals(2, cell.getOrInit(() -> 2));
+
+		var lock = OnceLock.<Integer>empty();
+		assertThrows(IllegalStateException.class, () -> lock.getOrInit(() -> lock.getOrInit(() -> 1)));
+		assertEquals(2, lock.getOrInit(() -> 2));
+
+		var lazy = new LazyLock<?>[1];
+		lazy[0] = LazyLock.of(() -> lazy[0].get());
+		assertThrows(IllegalStateException.class, () -> lazy[0].get());
+	}
+
+	@Test
+	void set_from_the_initializer_fails() {
+		var cell = OnceCell.<Integer>empty();
+		assertThrows(IllegalStateException.class, () -> cell.getOrInit(() -> {
+			cell.set(1);
+			return 2;
+		}));
+		assertEquals(Option.none(), cell.get());
+		assertThrows(IllegalStateException.class, () -> cell.getOrTryInit(() -> {
+			cell.set(1);
+			return new Ok<>(2);
+		}));
+		assertEquals(Result.okUnit(), cell.set(4));
+
+		var lock = OnceLock.<Integer>empty();
+		assertThrows(IllegalStateException.class, () -> lock.getOrInit(() -> {
+			lock.set(1);
+			return 2;
+		}));
+		assertEquals(Option.none(), lock.get());
+		assertThrows(IllegalStateException.class, () -> lock.getOrTryInit(() -> {
+			lock.set(1);
+			return new Ok<>(2);
+		}));
+		assertEquals(Result.okUnit(), lock.set(4));
+		assertEquals(Option.some(4), lock.get());
+	}
+
+	@Test
+	void OnceLock_Err_and_exceptions_do_not_poison() {
+		var lock = OnceLock.<String>empty();
+		assertEquals(
+				Result.errKind(ErrorKind.TIMED_OUT),
+				lock.getOrTryInit(() -> Result.errKind(ErrorKind.TIMED_OUT))
+		);
+		assertThrows(NullPointerException.class, () -> lock.getOrInit(() -> null));
+		assertEquals(Option.none(), lock.get());
+		assertEquals(new Ok<>("x"), lock.<ErrorKind>getOrTryInit(() -> new Ok<>("x")));
+		assertEquals(new Err<>("y"), lock.set("y"));
+		assertEquals("x", lock.getOrInit(() -> "z"));
+
+		var other = OnceLock.<String>empty();
+		assertEquals(Result.okUnit(), other.set("v"));
+		assertEquals(Option.some("v"), other.get());
+	}
+
+	@Test
+	void LazyLock_computes_once_and_retries_after_a_throw() {
+		var calls = new AtomicInteger();
+		var lazy = LazyLock.of(() -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new IllegalStateException("first");
+			}
+			return "value";
+		});
+		assertFalse(lazy.isInitialized());
+		assertThrows(IllegalStateException.class, lazy::get);
+		assertEquals("value", lazy.get());
+		assertEquals("value", lazy.get());
+		assertTrue(lazy.isInitialized());
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void virtual_threads_racing_initialize_once() {
+		assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+			var lock = OnceLock.<Object>empty();
+			var lazyCalls = new AtomicInteger();
+			var lazy = LazyLock.of(() -> {
+				lazyCalls.incrementAndGet();
+				return new Object();
+			});
+			var calls = new AtomicInteger();
+			var start = new CountDownLatch(1);
+			var seen = new ArrayList<java.util.concurrent.Future<Object[]>>();
+
+			try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				for (int i = 0; i < 1_000; i++) {
+					seen.add(executor.submit(() -> {
+						start.await();
+						var v = lock.getOrInit(() -> {
+							calls.incrementAndGet();
+							Thread.yield();
+							return new Object();
+						});
+						return new Object[]{v, lazy.get()};
+					}));
+				}
+				start.countDown();
+			}
+
+			var first = seen.getFirst().get();
+			for (var f : seen) {
+				assertSame(first[0], f.get()[0]);
+				assertSame(first[1], f.get()[1]);
+			}
+			assertEquals(1, calls.get());
+			assertEquals(1, lazyCalls.get());
+		});
+	}
+}
@@ -0,0 +1,104 @@
+package com.gitlab.mercur3.jrusty.util;
+
+import com.gitlab.mercur3.jrusty.result.ErrorKind;
+import com.gitlab.mercur3.jrusty.result.Ok;
+import com.gitlab.mercur3.jrusty.result.Result;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class Utf8_Test {
+	private static byte[] bytes(int... values) {
+		var out = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			out[i] = (byte) values[i];
+		}
+		return out;
+	}
+
+	@Test
+	void decodes_valid_input() {
+		var text = "plain ASCII, then é, €, 𝄞 and 中文 — long enough to take the 8 byte steps";
+		var utf8 = text.getBytes(StandardCharsets.UTF_8);
+		assertEquals(new Ok<>(text), Utf8.fromUtf8(utf8));
+		assertEquals(new Ok<>(""), Utf8.fromUtf8(new byte[0]));
+		// a valid U+FFFD is not mistaken for a replaced sequence
+		assertEquals(new Ok<>("a\ufffdb"), Utf8.fromUtf8(bytes('a', 0xef, 0xbf, 0xbd, 'b')));
+		assertEquals(new Ok<>("ASCII"), Utf8.fromUtf8(utf8, 6, 5));
+		assertEquals(utf8.length, Utf8.validUpTo(utf8, 0, utf8.length));
+
+		var direct = ByteBuffer.allocateDirect(utf8.length).put(utf8).flip();
+		assertEquals(new Ok<>(text), Utf8.fromUtf8(direct, 0, utf8.length));
+		assertTrue(Utf8.isValid(direct, 0, utf8.length));
+		assertEquals(0, direct.position());
+		assertEquals(new Ok<>(text), Utf8.fromUtf8(ByteBuffer.wrap(utf8), 0, utf8.length));
+	}
+
+	@Test
+	void reports_where_the_first_invalid_sequence_starts() {
+		var err = Result.errKind(ErrorKind.FORMAT_ERROR);
+		// lone continuation byte
+		assertEquals(err, Utf8.fromUtf8(bytes('a', 0x80)));
+		assertEquals(1, Utf8.validUpTo(bytes('a', 0x80), 0, 2));
+		// overlong encodings of '/'
+		assertEquals(0, Utf8.validUpTo(bytes(0xc0, 0xaf), 0, 2));
+		assertEquals(0, Utf8.validUpTo(bytes(0xe0, 0x80, 0xaf), 0, 3));
+		assertEquals(0, Utf8.validUpTo(bytes(0xf0, 0x80, 0x80, 0xaf), 0, 4));
+		// U+D800, a surrogate
+		assertEquals(0, Utf8.validUpTo(bytes(0xed, 0xa0, 0x80), 0, 3));
+		// U+110000, past the last code point
+		assertEquals(0, Utf8.validUpTo(bytes(0xf4, 0x90, 0x80, 0x80), 0, 4));
+		assertEquals(0, Utf8.validUpTo(bytes(0xf5, 0x80, 0x80, 0x80), 0, 4));
+		// the sequence of '€' is cut short, by a letter or by the end of the range
+		assertEquals(2, Utf8.validUpTo(bytes('a', 'b', 0xe2, 0x82, 'c'), 0, 5));
+		assertEquals(2, Utf8.validUpTo(bytes('a', 'b', 0xe2, 0x82, 0xac), 0, 4));
+		assertEquals(5, Utf8.validUpTo(bytes('a', 'b', 0xe2, 0x82, 0xac), 0, 5));
+		// relative to the start of the range, past a run of ASCII
+		assertEquals(9, Utf8.validUpTo(bytes('x', '0', '1', '2', '3', '4', '5', '6', '7', '8', 0xff), 1, 10));
+
+		assertEquals(err, Utf8.fromUtf8((byte[]) null));
+		assertEquals(err, Utf8.fromUtf8(ByteBuffer.allocateDirect(1).put((byte) 0xff), 0, 1));
+		assertFalse(Utf8.isValid(bytes(0xff), 0, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> Utf8.validUpTo(new byte[2], 1, 2));
+	}
+
+	@Test
+	void agrees_with_the_jdk_decoder() {
+		var rng = new Random(42);
+		var valid = "aé€𝄞中".getBytes(StandardCharsets.UTF_8);
+		for (int n = 0; n < 20_000; n++) {
+			// mostly valid characters, spliced with random bytes
+			var buf = new byte[rng.nextInt(40)];
+			for (int i = 0; i < buf.length; i++) {
+				buf[i] = rng.nextInt(4) == 0 ? (byte) rng.nextInt() : valid[rng.nextInt(valid.length)];
+			}
+			int expected = longestValidPrefix(buf);
+			assertEquals(expected, Utf8.validUpTo(buf, 0, buf.length));
+			assertEquals(expected, Utf8.validUpTo(ByteBuffer.allocateDirect(buf.length).put(buf), 0, buf.length));
+			var decoded = expected == buf.length
+					? new Ok<>(new String(buf, StandardCharsets.UTF_8))
+					: Result.errKind(ErrorKind.FORMAT_ERROR);
+			assertEquals(decoded, Utf8.fromUtf8(buf));
+		}
+	}
+
+	private static int longestValidPrefix(byte[] buf) {
+		for (int len = buf.length; ; len--) {
+			try {
+				StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(buf, 0, len));
+				return len;
+			}
+			catch (CharacterCodingException e) {
+				// try a shorter prefix
+			}
+		}
+	}
+}